@@ -0,0 +1,146 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.aceql.client.jdbc.util.json.ResultBuffer;
+import com.aceql.client.jdbc.util.json.ResultSetOutputStream;
+import com.aceql.client.jdbc.util.json.RowOffsetIndex;
+import com.aceql.client.jdbc.util.json.RowParser;
+import com.aceql.client.jdbc.util.json.RowValues;
+
+/**
+ * Compares the reading of all the rows of a result set with the JSON parser of
+ * the result set file and with the row tokenizer, on a result in memory and on
+ * a memory-mapped spilled result. <br>
+ * Run with the <code>jmh</code> profile:
+ * <code>mvn -Pjmh test-compile exec:exec</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RowParserBenchmark {
+
+    private static final int COLUMNS = 8;
+
+    @Param({ "100000" })
+    private int rowCount;
+
+    /** The number of columns read per row */
+    @Param({ "1", "8" })
+    private int readColumns;
+
+    private ResultBuffer memoryBuffer;
+    private RowOffsetIndex memoryIndex;
+    private ResultBuffer fileBuffer;
+    private RowOffsetIndex fileIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+	ResultBuffer.setMaxTotalMemory(Long.MAX_VALUE);
+	memoryBuffer = new ResultBuffer(Integer.MAX_VALUE);
+	ResultSetOutputStream memoryOut = new ResultSetOutputStream(memoryBuffer);
+	writeResult(memoryOut, rowCount);
+	memoryIndex = memoryOut.getRowOffsetIndex();
+
+	fileBuffer = new ResultBuffer(0);
+	ResultSetOutputStream fileOut = new ResultSetOutputStream(fileBuffer);
+	writeResult(fileOut, rowCount);
+	fileIndex = fileOut.getRowOffsetIndex();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+	memoryBuffer.delete();
+	fileBuffer.delete();
+    }
+
+    private static void writeResult(OutputStream out, int rowCount) throws IOException {
+	StringBuilder json = new StringBuilder();
+	json.append("{\n  \"status\" : \"OK\",\n  \"query_rows\" : [ ");
+	for (int i = 1; i <= rowCount; i++) {
+	    json.append(i > 1 ? ", {\n" : "{\n").append("    \"row_").append(i).append("\" : [ ");
+	    for (int j = 1; j <= COLUMNS; j++) {
+		json.append(j > 1 ? ", {\n" : "{\n").append("      \"column_").append(j).append("\" : \"");
+		json.append(j % 2 == 0 ? "customer name " + i + " caf\\u00e9" : String.valueOf(i * 31L + j));
+		json.append("\"\n    }");
+	    }
+	    json.append(" ]\n  }");
+	    if (json.length() > 64 * 1024) {
+		out.write(json.toString().getBytes(StandardCharsets.UTF_8));
+		json.setLength(0);
+	    }
+	}
+	json.append(" ],\n  \"row_count\" : ").append(rowCount).append("\n}");
+	out.write(json.toString().getBytes(StandardCharsets.UTF_8));
+	out.close();
+    }
+
+    private void readRows(RowParser rowParser, Blackhole blackhole) throws SQLException {
+	for (int rowNum = 1; rowNum <= rowCount; rowNum++) {
+	    rowParser.buildRowNum(rowNum);
+	    RowValues values = rowParser.getRowValues();
+	    for (int colIndex = 1; colIndex <= readColumns; colIndex++) {
+		blackhole.consume(values.getValue(colIndex));
+	    }
+	}
+	rowParser.close();
+    }
+
+    @Benchmark
+    public void jsonParserFile(Blackhole blackhole) throws SQLException {
+	File file = fileBuffer.getFile();
+	readRows(new RowParser(file), blackhole);
+    }
+
+    @Benchmark
+    public void tokenizerMemory(Blackhole blackhole) throws SQLException {
+	readRows(new RowParser(memoryBuffer, memoryIndex), blackhole);
+    }
+
+    @Benchmark
+    public void tokenizerMappedFile(Blackhole blackhole) throws SQLException {
+	readRows(new RowParser(fileBuffer, fileIndex), blackhole);
+    }
+
+}
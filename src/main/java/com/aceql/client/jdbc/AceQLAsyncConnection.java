@@ -0,0 +1,316 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.aceql.client.metadata.Table;
+
+/**
+ * Asynchronous view of an {@link AceQLConnection}. <br>
+ * <br>
+ * Each method submits the matching {@code AceQLConnection} call to an executor
+ * and returns at once a {@code CompletableFuture} that completes with the
+ * result, or exceptionally with the {@link AceQLException} thrown by the call.
+ * Several remote calls may thus be issued concurrently and composed:
+ *
+ * <pre>
+ * AceQLAsyncConnection async = new AceQLAsyncConnection(connection);
+ * CompletableFuture&lt;Integer&gt; update = async.executeUpdateAsync(&quot;update ...&quot;);
+ * CompletableFuture&lt;ResultSet&gt; query = async.executeQueryAsync(&quot;select ...&quot;);
+ * update.thenCombine(query, ...);
+ * </pre>
+ *
+ * The default executor runs each call on a virtual thread when the JVM
+ * provides them (Java 21+), so that a waiting call does not hold a platform
+ * thread. On older JVMs it is a shared pool of daemon threads. Any other
+ * executor may be passed to the constructor.
+ */
+public class AceQLAsyncConnection {
+
+    /** The default executor shared by all async connections. Created on first use */
+    private static ExecutorService defaultExecutor = null;
+
+    private final AceQLConnection connection;
+    private final Executor executor;
+
+    /**
+     * A call on an AceQL Connection that returns a result.
+     *
+     * @param <T> the type of the result
+     */
+    public interface ConnectionCallable<T> {
+	/**
+	 * Runs the call.
+	 *
+	 * @param connection the AceQL Connection to use
+	 * @return the result of the call
+	 * @throws Exception if any Exception occurs
+	 */
+	T call(AceQLConnection connection) throws Exception;
+    }
+
+    /**
+     * Creates an asynchronous view of an AceQL Connection that uses the default
+     * executor.
+     *
+     * @param connection the AceQL Connection to use
+     */
+    public AceQLAsyncConnection(AceQLConnection connection) {
+	this(connection, null);
+    }
+
+    /**
+     * Creates an asynchronous view of an AceQL Connection.
+     *
+     * @param connection the AceQL Connection to use
+     * @param executor   the executor that runs the calls. null for the default
+     *                   executor.
+     */
+    public AceQLAsyncConnection(AceQLConnection connection, Executor executor) {
+	if (connection == null) {
+	    throw new NullPointerException("connection is null!");
+	}
+	this.connection = connection;
+	this.executor = executor != null ? executor : getDefaultExecutor();
+    }
+
+    /**
+     * Returns the executor used when none is passed: a virtual thread per task
+     * executor if available, else a pool of daemon threads.
+     *
+     * @return the default executor
+     */
+    static synchronized ExecutorService getDefaultExecutor() {
+	if (defaultExecutor == null) {
+	    try {
+		Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		defaultExecutor = (ExecutorService) method.invoke(null);
+	    } catch (Exception e) {
+		defaultExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+		    private final AtomicInteger count = new AtomicInteger();
+
+		    @Override
+		    public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r, "AceQL-Async-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		    }
+		});
+	    }
+	}
+	return defaultExecutor;
+    }
+
+    /**
+     * Runs a call on the AceQL Connection with the executor.
+     *
+     * @param <T>      the type of the result
+     * @param callable the call to run
+     * @return the future result of the call
+     */
+    public <T> CompletableFuture<T> supplyAsync(final ConnectionCallable<T> callable) {
+	if (callable == null) {
+	    throw new NullPointerException("callable is null!");
+	}
+
+	final CompletableFuture<T> future = new CompletableFuture<T>();
+	try {
+	    executor.execute(new Runnable() {
+		@Override
+		public void run() {
+		    if (future.isDone()) {
+			return;
+		    }
+		    try {
+			future.complete(callable.call(connection));
+		    } catch (Throwable t) {
+			future.completeExceptionally(t);
+		    }
+		}
+	    });
+	} catch (RejectedExecutionException e) {
+	    future.completeExceptionally(e);
+	}
+	return future;
+    }
+
+    /**
+     * Executes a SQL query asynchronously.
+     *
+     * @param sql the SQL query
+     * @return the future ResultSet of the query
+     * @see Statement#executeQuery(String)
+     */
+    public CompletableFuture<ResultSet> executeQueryAsync(final String sql) {
+	return supplyAsync(new ConnectionCallable<ResultSet>() {
+	    @Override
+	    public ResultSet call(AceQLConnection connection) throws Exception {
+		// The Statement is not closed because it would delete the ResultSet file
+		Statement statement = connection.createStatement();
+		return statement.executeQuery(sql);
+	    }
+	});
+    }
+
+    /**
+     * Executes asynchronously a prepared query whose parameters are already set.
+     *
+     * @param preparedStatement the prepared query, created by the AceQL
+     *                          Connection
+     * @return the future ResultSet of the query
+     * @see PreparedStatement#executeQuery()
+     */
+    public CompletableFuture<ResultSet> executeQueryAsync(final PreparedStatement preparedStatement) {
+	return supplyAsync(new ConnectionCallable<ResultSet>() {
+	    @Override
+	    public ResultSet call(AceQLConnection connection) throws Exception {
+		return preparedStatement.executeQuery();
+	    }
+	});
+    }
+
+    /**
+     * Executes a SQL update asynchronously.
+     *
+     * @param sql the SQL update
+     * @return the future row count of the update
+     * @see Statement#executeUpdate(String)
+     */
+    public CompletableFuture<Integer> executeUpdateAsync(final String sql) {
+	return supplyAsync(new ConnectionCallable<Integer>() {
+	    @Override
+	    public Integer call(AceQLConnection connection) throws Exception {
+		try (Statement statement = connection.createStatement()) {
+		    return statement.executeUpdate(sql);
+		}
+	    }
+	});
+    }
+
+    /**
+     * Executes asynchronously a prepared update whose parameters are already
+     * set.
+     *
+     * @param preparedStatement the prepared update, created by the AceQL
+     *                          Connection
+     * @return the future row count of the update
+     * @see PreparedStatement#executeUpdate()
+     */
+    public CompletableFuture<Integer> executeUpdateAsync(final PreparedStatement preparedStatement) {
+	return supplyAsync(new ConnectionCallable<Integer>() {
+	    @Override
+	    public Integer call(AceQLConnection connection) throws Exception {
+		return preparedStatement.executeUpdate();
+	    }
+	});
+    }
+
+    /**
+     * Uploads a Blob/Clob asynchronously. The input stream is read by the
+     * executor and is not closed.
+     *
+     * @param blobId      the Blob/Clob Id
+     * @param inputStream the Blob/Clob content
+     * @param totalLength the length of the content, used for progress
+     * @return the future completed once the upload is done
+     */
+    public CompletableFuture<Void> blobUploadAsync(final String blobId, final InputStream inputStream,
+	    final long totalLength) {
+	return supplyAsync(new ConnectionCallable<Void>() {
+	    @Override
+	    public Void call(AceQLConnection connection) throws Exception {
+		connection.aceQLHttpApi.blobUpload(blobId, inputStream, totalLength);
+		return null;
+	    }
+	});
+    }
+
+    /**
+     * Gets asynchronously the details of a remote table.
+     *
+     * @param name the name of the table
+     * @return the future table
+     * @see com.aceql.client.metadata.RemoteDatabaseMetaData#getTable(String)
+     */
+    public CompletableFuture<Table> getTableAsync(final String name) {
+	return supplyAsync(new ConnectionCallable<Table>() {
+	    @Override
+	    public Table call(AceQLConnection connection) throws Exception {
+		return connection.getRemoteDatabaseMetaData().getTable(name);
+	    }
+	});
+    }
+
+    /**
+     * Commits the remote transaction asynchronously.
+     *
+     * @return the future completed once the commit is done
+     */
+    public CompletableFuture<Void> commitAsync() {
+	return supplyAsync(new ConnectionCallable<Void>() {
+	    @Override
+	    public Void call(AceQLConnection connection) throws Exception {
+		connection.commit();
+		return null;
+	    }
+	});
+    }
+
+    /**
+     * Rolls back the remote transaction asynchronously.
+     *
+     * @return the future completed once the rollback is done
+     */
+    public CompletableFuture<Void> rollbackAsync() {
+	return supplyAsync(new ConnectionCallable<Void>() {
+	    @Override
+	    public Void call(AceQLConnection connection) throws Exception {
+		connection.rollback();
+		return null;
+	    }
+	});
+    }
+
+    /**
+     * @return the AceQL Connection used by the calls
+     */
+    public AceQLConnection getConnection() {
+	return connection;
+    }
+
+    /**
+     * @return the executor that runs the calls
+     */
+    public Executor getExecutor() {
+	return executor;
+    }
+
+}
@@ -0,0 +1,1099 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.io.Closeable;
+import java.net.HttpURLConnection;
+import java.net.PasswordAuthentication;
+import java.net.Proxy;
+import java.net.URLConnection;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.kawanfw.driver.jdbc.abstracts.AbstractConnection;
+
+import com.aceql.client.jdbc.http.AceQLHttpApi;
+import com.aceql.client.jdbc.util.AceQLConnectionUtil;
+import com.aceql.client.metadata.JdbcDatabaseMetaData;
+import com.aceql.client.metadata.PrimaryKey;
+import com.aceql.client.metadata.RemoteDatabaseMetaData;
+import com.aceql.client.metadata.dto.TableDto;
+
+/**
+ * Provides a <code>Connection</code> implementation that enable to use a
+ * virtual JDBC Connection that is mapped to a Server JDBC
+ * <code>Connection</code> in order to access a remote SQL database through
+ * HTTP. <br>
+ * This class acts as a wrapper of AceQL HTTP APIs.
+ * <p>
+ * This <code>Connection</code> implementation supports:
+ * <ul>
+ * <li>Main JDBC data formats.</li>
+ * <li><code>Blob/Clob</code> updates with clean streaming behavior when
+ * uploading.</li>
+ * <li><code>Blob/Clob</code> reads with clean streaming behavior when
+ * downloading.</li>
+ * <li>Transaction through <code>commit</code> and <code>rollback</code> orders.
+ * </li>
+ * </ul>
+ * <p>
+ * Supplementary specific methods that are not of instance of Connection are
+ * also added.
+ *
+ * After creating the <code>AceQLConnection</code>, just use it like a regular
+ * <code>Connection</code> to execute your <code>PreparedStatement</code> and
+ * <code>Statement</code>, and to navigate through your <code>ResultSet</code>.
+ * <p>
+ * All thrown exceptions are of type {@link AceQLException}. Use
+ * {@link SQLException#getCause()} to get the original wrapped Exception.<br>
+ * <br>
+ * The AceQL error_type value is available via the
+ * {@code AceQLException#getErrorCode()} and the remote_stack value as a string
+ * is available with {@link AceQLException#getRemoteStackTrace()}
+ * <p>
+ * Example: <blockquote>
+ *
+ * <pre>
+ * // Define URL of the path to the AceQL Manager Servlet
+ * // We will use a secure SSL/TLS session. All uploads/downloads of SQL
+ * // commands &amp; data will be encrypted.
+ * String url = &quot;https://www.acme.org:9443/aceql&quot;;
+ *
+ * // The login info for strong authentication on server side.
+ * // These are *not* the username/password of the remote JDBC Driver,
+ * // but are the auth info checked by remote server
+ * // {@code DatabaseConfigurator.login(username, password)} method.
+ * String database = &quot;mydatabase&quot;;
+ * String username = &quot;MyUsername&quot;;
+ * String password = &quot;MyPassword&quot;;
+ *
+ * // Attempts to establish a connection to the remote database:
+ * Connection connection = new AceQLConnection(serverUrl, database, username, password);
+ *
+ * // We can now use our remote JDBC Connection as a regular JDBC
+ * // Connection for our queries and updates:
+ * String sql = &quot;SELECT CUSTOMER_ID, FNAME, LNAME FROM CUSTOMER &quot; + &quot;WHERE CUSTOMER_ID = ?&quot;;
+ * PreparedStatement prepStatement = connection.prepareStatement(sql);
+ * prepStatement.setInt(1, 1);
+ *
+ * ResultSet rs = prepStatement.executeQuery();
+ * while (rs.next()) {
+ *     String customerId = rs.getString(&quot;customer_id&quot;);
+ *     String fname = rs.getString(&quot;fname&quot;);
+ *     String lname = rs.getString(&quot;lname&quot;);
+ *
+ *     System.out.println(&quot;customer_id: &quot; + customerId);
+ *     System.out.println(&quot;fname      : &quot; + fname);
+ *     System.out.println(&quot;lname      : &quot; + lname);
+ *     // Etc.
+ * }
+ * </pre>
+ *
+ * </blockquote> The following dedicated <code>AceQLConnection</code> methods
+ * are specific to the software and may be accessed with a cast:
+ * <ul>
+ * <li>{@link #setCancelled(AtomicBoolean)}</li>
+ * <li>{@link #setGzipResult(boolean)}</li>
+ * <li>{@link #setProgress(AtomicInteger)}</li>
+ * </ul>
+ * <p>
+ * <br>
+ * All long Blobs update/reading that need to be run on a separated thread may
+ * be followed in Swing using a <code>JProgressBar</code>,
+ * <code>ProgressMonitor</code> or Android using a {@code ProgressDialog}
+ * <p>
+ * This is done by sharing two atomic variables that will be declared as fields:
+ * <ul>
+ * <li>An {@code AtomicInteger} that represents the Blob/Clob transfer progress
+ * between 0 and 100.</li>
+ * <li>An {@code AtomicBoolean} that says if the end user has cancelled the
+ * Blob/Clob transfer.</li>
+ * </ul>
+ * <p>
+ * The atomic variables values will be shared by AceQL download/upload processes
+ * and by the Progress Monitor used for the Progress Bar. The values are to be
+ * initialized and passed to {@code AceQLConnection} before the JDBC actions
+ * with the setters: <br>
+ * {@link AceQLConnection#setProgress(AtomicInteger)} <br>
+ * {@link AceQLConnection#setCancelled(AtomicBoolean)}
+ * <p>
+ *
+ * Example: <blockquote>
+ *
+ * <pre>
+ * // Attempts to establish a connection to the remote database:
+ * Connection connection = new AceQLConnection(url, username, password, database);
+ *
+ * // Pass the mutable &amp; sharable progress and canceled to the
+ * // underlying AceQLConnection.
+ * // - progress value will be updated by the AceQLConnection and
+ * // retrieved by progress monitors to increment the progress.
+ * // - cancelled value will be updated to true if user cancels the
+ * // task and AceQLConnection will interrupt the blob(s) transfer.
+ *
+ * ((AceQLConnection) connection).setProgress(progress);
+ * ((AceQLConnection) connection).setCancelled(cancelled);
+ *
+ * // Execute JDBC statement
+ * </pre>
+ *
+ * </blockquote> See the source code of
+ * <a href= "http://www.aceql.com/rest/soft/5.0/src/SqlProgressMonitorDemo.java"
+ * >SqlProgressMonitorDemo.java</a> that demonstrates the use of atomic
+ * variables when inserting a Blob.
+ *
+ * @author Nicolas de Pomereu
+ *
+ */
+public class AceQLConnection extends AbstractConnection implements Connection, Cloneable, Closeable {
+
+    /** The Http instance that does all Http stuff */
+    AceQLHttpApi aceQLHttpApi = null;
+
+    /** is Connection open or closed */
+    private boolean closed = false;
+
+    /** The session properties known by the client */
+    private final SessionState sessionState = new SessionState();
+
+    /** The connection to a read replica, opened by the first routed query */
+    private AceQLConnection replicaConnection = null;
+    /** The auto-commit mode set on the replica session, null before it is set */
+    private Boolean replicaAutoCommit = null;
+
+    /** The warnings reported on this connection, null if none */
+    private SQLWarning warnings = null;
+
+    /** The product name of the database, read once. Empty if unknown */
+    private String databaseProductName = null;
+    private int databaseMajorVersion = 0;
+    /** The primary key column of the tables, empty if not a single column */
+    private final Map<String, String> primaryKeys = new ConcurrentHashMap<String, String>();
+
+    /**
+     * Sets the connect timeout. This is the JVM default for connections that do
+     * not define it with {@link ConnectionOptions#setConnectTimeout(int)}.
+     *
+     * @param connectTimeout Sets a specified timeout value, in milliseconds, to be
+     *                       used when opening a communications link to the remote
+     *                       server. If the timeout expires before the connection
+     *                       can be established, a java.net.SocketTimeoutException
+     *                       is raised. A timeout of zero is interpreted as an
+     *                       infinite timeout. See
+     *                       {@link URLConnection#setConnectTimeout(int)}
+     */
+    public static void setConnectTimeout(int connectTimeout) {
+	AceQLHttpApi.setConnectTimeout(connectTimeout);
+    }
+
+    /**
+     * Sets the read timeout. This is the JVM default for connections that do
+     * not define it with {@link ConnectionOptions#setReadTimeout(int)}.
+     *
+     * @param readTimeout an <code>int</code> that specifies the read timeout value,
+     *                    in milliseconds, to be used when an http connection is
+     *                    established to the remote server. See
+     *                    {@link URLConnection#setReadTimeout(int)}
+     */
+    public static void setReadTimeout(int readTimeout) {
+	AceQLHttpApi.setReadTimeout(readTimeout);
+    }
+
+    /**
+     * Login on the AceQL server and connect to a database.
+     *
+     * @param serverUrl the URL of the AceQL server. Example:
+     *                  http://localhost:9090/aceql
+     * @param database  the server database to connect to.
+     * @param username  the login
+     * @param password  the password
+     * @throws SQLException if any I/O error occurs
+     */
+    public AceQLConnection(String serverUrl, String database, String username, char[] password) throws SQLException {
+	this(serverUrl, database, username, password, null, null);
+    }
+
+    /**
+     * Login on the AceQL server and connect to a database.
+     *
+     * @param serverUrl              the URL of the AceQL server. Example:
+     *                               http://localhost:9090/aceql
+     * @param database               the server database to connect to.
+     * @param username               the login
+     * @param password               the password
+     * @param proxy                  the proxy to use. null if none.
+     * @param passwordAuthentication the username and password holder to use for
+     *                               authenticated proxy. Null if no proxy or if
+     *                               proxy does not require authentication.
+     * @throws SQLException if any I/O error occurs
+     */
+    public AceQLConnection(String serverUrl, String database, String username, char[] password, Proxy proxy,
+	    PasswordAuthentication passwordAuthentication) throws SQLException {
+	this(serverUrl, database, username, password, proxy, passwordAuthentication, null);
+    }
+
+    /**
+     * Login on the AceQL server and connect to a database.
+     *
+     * @param serverUrl              the URL of the AceQL server. Example:
+     *                               http://localhost:9090/aceql
+     * @param database               the server database to connect to.
+     * @param username               the login
+     * @param password               the password
+     * @param proxy                  the proxy to use. null if none.
+     * @param passwordAuthentication the username and password holder to use for
+     *                               authenticated proxy. Null if no proxy or if
+     *                               proxy does not require authentication.
+     * @param connectionOptions      the connection options. null for defaults.
+     * @throws SQLException if any I/O error occurs
+     */
+    public AceQLConnection(String serverUrl, String database, String username, char[] password, Proxy proxy,
+	    PasswordAuthentication passwordAuthentication, ConnectionOptions connectionOptions) throws SQLException {
+
+	try {
+	    if (serverUrl == null) {
+		throw new NullPointerException("serverUrl is null!");
+	    }
+	    if (database == null) {
+		throw new NullPointerException("database is null!");
+	    }
+	    if (username == null) {
+		throw new NullPointerException("username is null!");
+	    }
+	    if (password == null) {
+		throw new NullPointerException("password is null!");
+	    }
+
+	    aceQLHttpApi = new AceQLHttpApi(serverUrl, database, username, password, null, proxy, passwordAuthentication,
+		    connectionOptions);
+
+	} catch (Exception e) {
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+
+    }
+
+    /**
+     * Connect to a database using an AceQL existing Session ID instead of a
+     * password.
+     *
+     * @param serverUrl the URL of the AceQL server. Example:
+     *                  http://localhost:9090/aceql
+     * @param database  the server database to connect to
+     * @param username  the login
+     * @param sessionId the existing AceQL Session ID
+     * @throws SQLException if any I/O error occurs
+     */
+    public AceQLConnection(String serverUrl, String database, String username, String sessionId) throws SQLException {
+	this(serverUrl, database, username, sessionId, null, null);
+    }
+
+    /**
+     * Connect to a database using an AceQL existing Session ID instead of a
+     * password.
+     *
+     * @param serverUrl              the URL of the AceQL server. Example:
+     *                               http://localhost:9090/aceql
+     * @param database               the server database to connect to
+     * @param username               the login
+     * @param sessionId              the existing AceQL Session ID
+     * @param proxy                  the proxy to use. null if none.
+     * @param passwordAuthentication the username and password holder to use for
+     *                               authenticated proxy. Null if no proxy or if
+     *                               proxy does not require authentication.
+     * @throws SQLException if any I/O error occurs
+     */
+    public AceQLConnection(String serverUrl, String database, String username, String sessionId, Proxy proxy,
+	    PasswordAuthentication passwordAuthentication) throws SQLException {
+	this(serverUrl, database, username, sessionId, proxy, passwordAuthentication, null);
+    }
+
+    /**
+     * Connect to a database using an AceQL existing Session ID instead of a
+     * password.
+     *
+     * @param serverUrl              the URL of the AceQL server. Example:
+     *                               http://localhost:9090/aceql
+     * @param database               the server database to connect to
+     * @param username               the login
+     * @param sessionId              the existing AceQL Session ID
+     * @param proxy                  the proxy to use. null if none.
+     * @param passwordAuthentication the username and password holder to use for
+     *                               authenticated proxy. Null if no proxy or if
+     *                               proxy does not require authentication.
+     * @param connectionOptions      the connection options. null for defaults.
+     * @throws SQLException if any I/O error occurs
+     */
+    public AceQLConnection(String serverUrl, String database, String username, String sessionId, Proxy proxy,
+	    PasswordAuthentication passwordAuthentication, ConnectionOptions connectionOptions) throws SQLException {
+
+	try {
+	    if (serverUrl == null) {
+		throw new NullPointerException("serverUrl is null!");
+	    }
+	    if (database == null) {
+		throw new NullPointerException("database is null!");
+	    }
+	    if (username == null) {
+		throw new NullPointerException("username is null!");
+	    }
+	    if (sessionId == null) {
+		throw new NullPointerException("sessionId is null!");
+	    }
+
+	    aceQLHttpApi = new AceQLHttpApi(serverUrl, database, username, null, sessionId, proxy, passwordAuthentication,
+		    connectionOptions);
+
+	} catch (Exception e) {
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+
+    }
+
+    /**
+     * Private constructor for Clone
+     *
+     * @param aceQLHttpApi the AceQL http Api Clone
+     */
+    private AceQLConnection(AceQLHttpApi aceQLHttpApi) {
+	this.aceQLHttpApi = aceQLHttpApi;
+    }
+
+    /**
+     * Returns a RemoteDatabaseMetaData instance in order to retrieve metadata info.
+     * @return a RemoteDatabaseMetaData instance in order to retrieve metadata info.
+     */
+    public RemoteDatabaseMetaData getRemoteDatabaseMetaData() {
+	RemoteDatabaseMetaData remoteDatabaseMetaData = new RemoteDatabaseMetaData(this);
+	return remoteDatabaseMetaData;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection#close()
+     */
+    @Override
+    public void close() {
+	this.closed = true;
+	try {
+	    AceQLConnection replica = getOpenedReplicaConnection();
+	    if (replica != null) {
+		replica.close();
+	    }
+	    aceQLHttpApi.close();
+	} catch (AceQLException e) {
+	    // Because close() can not throw an Exception, we wrap the
+	    // AceQLException with a RuntimeException
+	    throw new RuntimeException(e.getMessage(), e);
+	}
+    }
+
+    public void logout() {
+	try {
+	    AceQLConnection replica = getOpenedReplicaConnection();
+	    if (replica != null) {
+		replica.logout();
+	    }
+	    aceQLHttpApi.logout();
+	} catch (AceQLException e) {
+	    // Because close() can not throw an Exception, we wrap the
+	    // AceQLException with a RuntimeException
+	    throw new RuntimeException(e.getMessage(), e);
+	}
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection#commit()
+     */
+    @Override
+    public void commit() throws SQLException {
+	aceQLHttpApi.commit();
+
+	AceQLConnection replica = getReplicaInTransaction();
+	if (replica != null) {
+	    replica.commit();
+	}
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection#rollback()
+     */
+    @Override
+    public void rollback() throws SQLException {
+	aceQLHttpApi.rollback();
+
+	AceQLConnection replica = getReplicaInTransaction();
+	if (replica != null) {
+	    replica.rollback();
+	}
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection#setHoldability(int)
+     */
+    @Override
+    public void setTransactionIsolation(int level) throws SQLException {
+	String levelStr = AceQLConnectionUtil.getTransactionIsolationAsString(level);
+	if (isLocalSessionState() && sessionState.getTransactionIsolation() != null
+		&& sessionState.getTransactionIsolation() == level) {
+	    return;
+	}
+
+	sessionState.setTransactionIsolation(null);
+	aceQLHttpApi.setTransactionIsolation(levelStr);
+	sessionState.setTransactionIsolation(level);
+
+	AceQLConnection replica = getOpenedReplicaConnection();
+	if (replica != null) {
+	    replica.setTransactionIsolation(level);
+	}
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection#setHoldability(int)
+     */
+    @Override
+    public void setHoldability(int holdability) throws SQLException {
+	String holdabilityStr = AceQLConnectionUtil.getHoldabilityAsString(holdability);
+	if (isLocalSessionState() && sessionState.getHoldability() != null
+		&& sessionState.getHoldability() == holdability) {
+	    return;
+	}
+
+	sessionState.setHoldability(null);
+	aceQLHttpApi.setHoldability(holdabilityStr);
+	sessionState.setHoldability(holdability);
+
+	AceQLConnection replica = getOpenedReplicaConnection();
+	if (replica != null) {
+	    replica.setHoldability(holdability);
+	}
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection#setAutoCommit(boolean)
+     */
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+	if (isLocalSessionState() && sessionState.getAutoCommit() != null
+		&& sessionState.getAutoCommit() == autoCommit) {
+	    return;
+	}
+
+	sessionState.setAutoCommit(null);
+	aceQLHttpApi.setAutoCommit(autoCommit);
+	sessionState.setAutoCommit(autoCommit);
+
+	// Ends at once the read-only transaction running on the replica
+	AceQLConnection replica = getReplicaInTransaction();
+	if (replica != null && autoCommit) {
+	    replica.setAutoCommit(true);
+	    setReplicaAutoCommit(replica, true);
+	}
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection#isReadOnly()
+     */
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+	Boolean autoCommit = isLocalSessionState() ? sessionState.getAutoCommit() : null;
+	if (autoCommit == null) {
+	    autoCommit = aceQLHttpApi.getAutoCommit();
+	    sessionState.setAutoCommit(autoCommit);
+	}
+	return autoCommit;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * org.kawanfw.driver.jdbc.abstracts.AbstractConnection#setReadOnly(boolean)
+     */
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+	if (isLocalSessionState() && sessionState.getReadOnly() != null && sessionState.getReadOnly() == readOnly) {
+	    return;
+	}
+
+	sessionState.setReadOnly(null);
+	aceQLHttpApi.setReadOnly(readOnly);
+	sessionState.setReadOnly(readOnly);
+
+	// The next queries of the transaction run on the primary server: the
+	// read-only transaction on the replica is ended at once
+	AceQLConnection replicaInTransaction = getReplicaInTransaction();
+	if (replicaInTransaction != null && !readOnly) {
+	    replicaInTransaction.setAutoCommit(true);
+	    setReplicaAutoCommit(replicaInTransaction, true);
+	}
+
+	AceQLConnection replica = getOpenedReplicaConnection();
+	if (replica != null) {
+	    replica.setReadOnly(readOnly);
+	}
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection#isReadOnly()
+     */
+    @Override
+    public boolean isReadOnly() throws SQLException {
+	Boolean readOnly = isLocalSessionState() ? sessionState.getReadOnly() : null;
+	if (readOnly == null) {
+	    readOnly = aceQLHttpApi.isReadOnly();
+	    sessionState.setReadOnly(readOnly);
+	}
+	return readOnly;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection#getHoldability()
+     */
+    @Override
+    public int getHoldability() throws SQLException {
+	Integer holdability = isLocalSessionState() ? sessionState.getHoldability() : null;
+	if (holdability == null) {
+	    String result = aceQLHttpApi.getHoldability();
+	    holdability = AceQLConnectionUtil.getHoldability(result);
+	    sessionState.setHoldability(holdability);
+	}
+	return holdability;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection#getTransactionIsolation()
+     */
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+	Integer level = isLocalSessionState() ? sessionState.getTransactionIsolation() : null;
+	if (level == null) {
+	    String result = aceQLHttpApi.getTransactionIsolation();
+	    level = AceQLConnectionUtil.getTransactionIsolation(result);
+	    sessionState.setTransactionIsolation(level);
+	}
+	return level;
+    }
+
+    /**
+     * Forgets the session properties known by the client, so that the next
+     * {@link #getAutoCommit()}, {@link #isReadOnly()}, {@link #getHoldability()}
+     * and {@link #getTransactionIsolation()} calls fetch them from the server.
+     * <br>
+     * To be called after a session property has been changed by a SQL statement
+     * instead of a setter of this connection.
+     *
+     * @see ConnectionOptions#setLocalSessionState(boolean)
+     */
+    public void resyncSessionState() {
+	sessionState.clear();
+    }
+
+    /**
+     * Says if the session properties are tracked by the client.
+     */
+    private boolean isLocalSessionState() {
+	ConnectionOptions connectionOptions = aceQLHttpApi.getConnectionOptions();
+	return connectionOptions != null && connectionOptions.isLocalSessionState();
+    }
+
+    /**
+     * @return the size above which a downloaded result set is spilled to a file
+     */
+    int getResultMemoryThreshold() {
+	ConnectionOptions connectionOptions = aceQLHttpApi.getConnectionOptions();
+	return connectionOptions != null ? connectionOptions.getResultMemoryThreshold()
+		: new ConnectionOptions().getResultMemoryThreshold();
+    }
+
+    /**
+     * @return true if the queries with a fetch size are executed in pages
+     */
+    boolean isPagedExecution() {
+	ConnectionOptions connectionOptions = aceQLHttpApi.getConnectionOptions();
+	return connectionOptions != null && connectionOptions.isPagedExecution();
+    }
+
+    /**
+     * Returns the dialect that rewrites a query to read a page of its rows. The
+     * product name and version of the database are read once, from its
+     * metadata. <br>
+     * With keyset paging, the query is paged after its last key only if it is
+     * ordered by the primary key of the table it reads. Otherwise, it is paged
+     * by offset.
+     *
+     * @param sql the SQL query
+     * @return the dialect, or null if the query can not be rewritten
+     */
+    SqlPaging getSqlPaging(String sql) {
+	if (!SqlPaging.isPageable(sql)) {
+	    return null;
+	}
+
+	ConnectionOptions connectionOptions = aceQLHttpApi.getConnectionOptions();
+	boolean keyset = false;
+	if (connectionOptions != null && connectionOptions.isKeysetPaging()) {
+	    String keyTable = SqlPaging.getKeyTable(sql);
+	    keyset = keyTable != null && isPrimaryKey(keyTable, SqlPaging.getKeyColumn(sql));
+	}
+	return getSqlPaging(keyset);
+    }
+
+    private synchronized SqlPaging getSqlPaging(boolean keyset) {
+	if (databaseProductName == null) {
+	    try {
+		JdbcDatabaseMetaData jdbcDatabaseMetaData = aceQLHttpApi.getDbMetadata().getJdbcDatabaseMetaData();
+		if (jdbcDatabaseMetaData != null) {
+		    databaseProductName = jdbcDatabaseMetaData.getDatabaseProductName();
+		    databaseMajorVersion = jdbcDatabaseMetaData.getDatabaseMajorVersion();
+		}
+	    } catch (SQLException e) {
+		aceQLHttpApi.trace("No database metadata: " + e.getMessage());
+	    }
+	    if (databaseProductName == null) {
+		databaseProductName = "";
+	    }
+	}
+	return SqlPaging.forProduct(databaseProductName, databaseMajorVersion, keyset);
+    }
+
+    /**
+     * Says if a column is, on its own, the primary key of a table. The primary
+     * keys are read once per table, from the remote metadata.
+     *
+     * @param table  the name of the table
+     * @param column the name of the column
+     * @return true if the column is the primary key of the table
+     */
+    private boolean isPrimaryKey(String table, String column) {
+	String key = table.toLowerCase(Locale.ENGLISH);
+	String primaryKey = primaryKeys.get(key);
+	if (primaryKey == null) {
+	    primaryKey = "";
+	    try {
+		TableDto tableDto = aceQLHttpApi.getTable(table);
+		List<PrimaryKey> tablePrimaryKeys = tableDto != null && tableDto.getTable() != null
+			? tableDto.getTable().getPrimaryKeys()
+			: null;
+		if (tablePrimaryKeys != null && tablePrimaryKeys.size() == 1
+			&& tablePrimaryKeys.get(0).getColumnName() != null) {
+		    primaryKey = tablePrimaryKeys.get(0).getColumnName();
+		}
+	    } catch (SQLException e) {
+		aceQLHttpApi.trace("No primary key for " + table + ": " + e.getMessage());
+	    }
+	    primaryKeys.put(key, primaryKey);
+	}
+	return primaryKey.equalsIgnoreCase(column);
+    }
+
+    /**
+     * Returns the Http instance that executes a read query. If read replicas are
+     * set, this is a replica when the connection is read-only or in auto-commit
+     * mode. Otherwise, and if no replica can be reached, this is the primary
+     * server.
+     *
+     * @return the Http instance that executes a read query
+     * @throws SQLException if the session properties can not be read
+     */
+    AceQLHttpApi getQueryApi() throws SQLException {
+	AceQLConnection replica = getReplicaConnection();
+	return replica == null ? aceQLHttpApi : replica.aceQLHttpApi;
+    }
+
+    private synchronized AceQLConnection getReplicaConnection() throws SQLException {
+	ConnectionOptions connectionOptions = aceQLHttpApi.getConnectionOptions();
+	AceQLConnectionFactory readReplicas = connectionOptions == null ? null : connectionOptions.getReadReplicas();
+	if (readReplicas == null) {
+	    return null;
+	}
+
+	// The queries of a read-write transaction must see its updates. The
+	// properties are those set by this connection, or fetched once.
+	Boolean autoCommit = sessionState.getAutoCommit();
+	if (autoCommit == null) {
+	    autoCommit = getAutoCommit();
+	}
+	if (!autoCommit) {
+	    Boolean readOnly = sessionState.getReadOnly();
+	    if (readOnly == null) {
+		readOnly = isReadOnly();
+	    }
+	    if (!readOnly) {
+		return null;
+	    }
+	}
+
+	if (replicaConnection == null) {
+	    AceQLConnection replica = null;
+	    try {
+		replica = readReplicas.getConnection();
+		copySessionState(replica);
+	    } catch (SQLException e) {
+		aceQLHttpApi.trace("No read replica available: " + e.getMessage());
+		if (replica != null) {
+		    replica.close();
+		}
+		return null;
+	    }
+	    replicaConnection = replica;
+	    replicaAutoCommit = null;
+	}
+
+	// A read-only transaction runs entirely on the replica
+	if (replicaAutoCommit == null || replicaAutoCommit != autoCommit) {
+	    replicaConnection.setAutoCommit(autoCommit);
+	    replicaAutoCommit = autoCommit;
+	}
+	return replicaConnection;
+    }
+
+    /**
+     * Sets on a new replica session the session properties known for this
+     * connection. The properties not known are those of the server defaults.
+     */
+    private void copySessionState(AceQLConnection replica) throws SQLException {
+	if (sessionState.getReadOnly() != null) {
+	    replica.setReadOnly(sessionState.getReadOnly());
+	}
+	if (sessionState.getTransactionIsolation() != null) {
+	    replica.setTransactionIsolation(sessionState.getTransactionIsolation());
+	}
+	if (sessionState.getHoldability() != null) {
+	    replica.setHoldability(sessionState.getHoldability());
+	}
+    }
+
+    private synchronized AceQLConnection getOpenedReplicaConnection() {
+	return replicaConnection;
+    }
+
+    /**
+     * @return the replica connection if a read-only transaction runs on it, else
+     *         null
+     */
+    private synchronized AceQLConnection getReplicaInTransaction() {
+	return Boolean.FALSE.equals(replicaAutoCommit) ? replicaConnection : null;
+    }
+
+    /**
+     * Records the auto-commit mode set on the replica session, unless the
+     * replica connection was replaced meanwhile.
+     */
+    private synchronized void setReplicaAutoCommit(AceQLConnection replica, boolean autoCommit) {
+	if (replicaConnection == replica) {
+	    replicaAutoCommit = autoCommit;
+	}
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection##createStatement()
+     */
+    @Override
+    public Statement createStatement() throws SQLException {
+	AceQLStatement aceQLStatement = new AceQLStatement(this);
+	return aceQLStatement;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractConnection#prepareStatement
+     * (java.lang.String)
+     */
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+	AceQLPreparedStatement aceQLPreparedStatement = new AceQLPreparedStatement(this, sql);
+	return aceQLPreparedStatement;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * org.kawanfw.driver.jdbc.abstracts.AbstractConnection#prepareCall(java.lang.
+     * String)
+     */
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+	AceQLCallableStatement aceQLCallableStatement = new AceQLCallableStatement(this, sql);
+	return aceQLCallableStatement;
+    }
+
+    /**
+     * Creates a statement. The rows of the
+     * <code>ResultSet.TYPE_FORWARD_ONLY</code> result sets are parsed from the
+     * HTTP response when {@link ResultSet#next()} is called: the first row is
+     * available before the end of the download and nothing is written on the
+     * local disk. The other result sets, like those of
+     * {@link #createStatement()}, are scrollable and are downloaded into a
+     * local file. <code>ResultSet.TYPE_SCROLL_SENSITIVE</code> is downgraded
+     * to <code>ResultSet.TYPE_SCROLL_INSENSITIVE</code> with a
+     * {@link SQLWarning} on this connection.
+     *
+     * @param resultSetType        a result set type
+     * @param resultSetConcurrency must be <code>ResultSet.CONCUR_READ_ONLY</code>
+     * @return a new statement
+     * @throws SQLException if the result set type is invalid or if the result
+     *                      sets can not be read only
+     */
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+	checkResultSetConcurrency(resultSetConcurrency);
+	AceQLStatement aceQLStatement = new AceQLStatement(this, checkResultSetType(resultSetType));
+	return aceQLStatement;
+    }
+
+    /**
+     * Creates a prepared statement. The rows of the
+     * <code>ResultSet.TYPE_FORWARD_ONLY</code> result sets are parsed from the
+     * HTTP response, as with {@link #createStatement(int, int)}.
+     *
+     * @param sql                  the SQL statement, that may contain '?' IN
+     *                             parameter placeholders
+     * @param resultSetType        a result set type
+     * @param resultSetConcurrency must be <code>ResultSet.CONCUR_READ_ONLY</code>
+     * @return a new prepared statement
+     * @throws SQLException if the result set type is invalid or if the result
+     *                      sets can not be read only
+     */
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+	    throws SQLException {
+	checkResultSetConcurrency(resultSetConcurrency);
+	AceQLPreparedStatement aceQLPreparedStatement = new AceQLPreparedStatement(this, sql,
+		checkResultSetType(resultSetType));
+	return aceQLPreparedStatement;
+    }
+
+    /**
+     * Returns the result set type used for a requested type.
+     */
+    private int checkResultSetType(int resultSetType) throws SQLException {
+	if (resultSetType == ResultSet.TYPE_SCROLL_SENSITIVE) {
+	    // The downloaded rows do not see the later changes
+	    addWarning(new SQLWarning(
+		    "ResultSet.TYPE_SCROLL_SENSITIVE is not supported: ResultSet.TYPE_SCROLL_INSENSITIVE is used."));
+	    return ResultSet.TYPE_SCROLL_INSENSITIVE;
+	}
+	if (resultSetType != ResultSet.TYPE_FORWARD_ONLY && resultSetType != ResultSet.TYPE_SCROLL_INSENSITIVE) {
+	    throw new SQLException("Invalid result set type: " + resultSetType);
+	}
+	return resultSetType;
+    }
+
+    private synchronized void addWarning(SQLWarning warning) {
+	if (warnings == null) {
+	    warnings = warning;
+	} else {
+	    warnings.setNextWarning(warning);
+	}
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection#getWarnings()
+     */
+    @Override
+    public synchronized SQLWarning getWarnings() throws SQLException {
+	return warnings;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection#clearWarnings()
+     */
+    @Override
+    public synchronized void clearWarnings() throws SQLException {
+	warnings = null;
+    }
+
+    private static void checkResultSetConcurrency(int resultSetConcurrency) throws SQLException {
+	if (resultSetConcurrency != ResultSet.CONCUR_READ_ONLY) {
+	    throw new SQLFeatureNotSupportedException("Only ResultSet.CONCUR_READ_ONLY is supported.");
+	}
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#clone()
+     */
+    @Override
+    public Connection clone() {
+	AceQLHttpApi aceQLHttpApi = this.aceQLHttpApi.clone();
+	AceQLConnection aceQLConnection = new AceQLConnection(aceQLHttpApi);
+	return aceQLConnection;
+    }
+
+    // //////////////////////////////////////////////////////////////
+    // / AceQLConnection methods //
+    // /////////////////////////////////////////////////////////////
+
+    /**
+     * Returns the SDK current Version.
+     *
+     * @return the SDK current Version
+     */
+    public String getClientVersion() {
+	return aceQLHttpApi.getClientVersion();
+    }
+
+
+
+    /**
+     * Returns the server product version
+     *
+     * @return the server product version
+     *
+     * @throws AceQLException if any Exception occurs
+     */
+    public String getServerVersion() throws AceQLException {
+	return aceQLHttpApi.getServerVersion();
+    }
+
+    /**
+     * Says if trace is on
+     *
+     * @return true if trace is on
+     */
+    public boolean isTraceOn() {
+	return aceQLHttpApi.isTraceOn();
+    }
+
+    /**
+     * Sets the trace on/off
+     *
+     * @param traceOn if true, trace will be on
+     */
+    public void setTraceOn(boolean traceOn) {
+	aceQLHttpApi.setTraceOn(traceOn);
+    }
+
+    /**
+     * Define if SQL result sets are returned compressed with the GZIP file format
+     * before download. Defaults to true.
+     *
+     * @param gzipResult if true, sets are compressed before download
+     */
+    public void setGzipResult(boolean gzipResult) {
+	aceQLHttpApi.setGzipResult(gzipResult);
+    }
+
+    /**
+     * Returns the cancelled value set by the progress indicator
+     *
+     * @return the cancelled value set by the progress indicator
+     */
+    public AtomicBoolean getCancelled() {
+	return aceQLHttpApi.getCancelled();
+    }
+
+    /**
+     * Sets the sharable canceled variable that will be used by the progress
+     * indicator to notify this instance that the user has cancelled the current
+     * Blob/Clob upload or download.
+     *
+     * @param cancelled the Sharable canceled variable that will be used by the
+     *                  progress indicator to notify this instance that the end user
+     *                  has cancelled the current Blob/Clob upload or download
+     *
+     */
+    public void setCancelled(AtomicBoolean cancelled) {
+	aceQLHttpApi.setCancelled(cancelled);
+    }
+
+    /**
+     * Returns the sharable progress variable that will store Blob/Clob upload or
+     * download progress between 0 and 100
+     *
+     * @return the sharable progress variable that will store Blob/Clob upload or
+     *         download progress between 0 and 100
+     *
+     */
+    public AtomicInteger getProgress() {
+	return aceQLHttpApi.getProgress();
+    }
+
+    /**
+     * Sets the sharable progress variable that will store Blob/Clob upload or
+     * download progress between 0 and 100. Will be used by progress indicators to
+     * show the progress.
+     *
+     * @param progress the sharable progress variable
+     */
+    public void setProgress(AtomicInteger progress) {
+	aceQLHttpApi.setProgress(progress);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.Connection#close()
+     */
+    @Override
+    public boolean isClosed() throws SQLException {
+	return closed;
+    }
+
+}
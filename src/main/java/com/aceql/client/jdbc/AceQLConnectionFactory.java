@@ -0,0 +1,449 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.PasswordAuthentication;
+import java.net.Proxy;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.aceql.client.jdbc.http.HttpTransport;
+import com.aceql.client.jdbc.http.PooledHttpTransport;
+import com.aceql.client.jdbc.http.TransportRequest;
+import com.aceql.client.jdbc.http.TransportResponse;
+
+/**
+ * Creates {@link AceQLConnection} instances on several AceQL servers that serve
+ * the same databases, without load balancer in front of them. <br>
+ * <br>
+ * Each new connection is opened on the server with the best score: the moving
+ * average of the latency of its requests, multiplied by its number of requests
+ * in progress. A connection then stays on its server, where its session lives.
+ * <br>
+ * A server that can not be reached is ejected: it gets no new connections, and
+ * is probed in the background until it answers again. If the chosen server can
+ * not be reached at login, the connection is opened on the next one.
+ * <p>
+ * Example: <blockquote>
+ *
+ * <pre>
+ * AceQLConnectionFactory factory = new AceQLConnectionFactory(
+ * 	Arrays.asList(&quot;https://node1:9443/aceql&quot;, &quot;https://node2:9443/aceql&quot;), database, username,
+ * 	password);
+ * Connection connection = factory.getConnection();
+ * </pre>
+ *
+ * </blockquote>
+ */
+public class AceQLConnectionFactory {
+
+    /** The weight of a new latency in the moving average */
+    private static final double EWMA_ALPHA = 0.3;
+
+    /** The timer shared by all factories for probes. Created on first use */
+    private static ScheduledThreadPoolExecutor scheduler = null;
+
+    private final List<Endpoint> endpoints;
+    private final String database;
+    private final String username;
+    private final char[] password;
+    private final Proxy proxy;
+    private final PasswordAuthentication passwordAuthentication;
+
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final ScheduledFuture<?> probeFuture;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a factory with a probe of the ejected servers every 5 seconds.
+     *
+     * @param serverUrls the URLs of the AceQL servers. Example:
+     *                   http://node1:9090/aceql
+     * @param database   the server database to connect to.
+     * @param username   the login
+     * @param password   the password
+     */
+    public AceQLConnectionFactory(List<String> serverUrls, String database, String username, char[] password) {
+	this(serverUrls, database, username, password, null, null, null, 5000);
+    }
+
+    /**
+     * Creates a factory.
+     *
+     * @param serverUrls             the URLs of the AceQL servers. Example:
+     *                               http://node1:9090/aceql
+     * @param database               the server database to connect to.
+     * @param username               the login
+     * @param password               the password
+     * @param proxy                  the proxy to use. null if none.
+     * @param passwordAuthentication the username and password holder to use for
+     *                               authenticated proxy. Null if no proxy or if
+     *                               proxy does not require authentication.
+     * @param connectionOptions      the connection options. null for defaults.
+     * @param probeInterval          the delay in milliseconds between two probes
+     *                               of an ejected server
+     */
+    public AceQLConnectionFactory(List<String> serverUrls, String database, String username, char[] password,
+	    Proxy proxy, PasswordAuthentication passwordAuthentication, ConnectionOptions connectionOptions,
+	    long probeInterval) {
+	if (serverUrls == null || serverUrls.isEmpty()) {
+	    throw new IllegalArgumentException("serverUrls is null or empty!");
+	}
+	if (database == null) {
+	    throw new NullPointerException("database is null!");
+	}
+	if (username == null) {
+	    throw new NullPointerException("username is null!");
+	}
+	if (password == null) {
+	    throw new NullPointerException("password is null!");
+	}
+
+	this.database = database;
+	this.username = username;
+	this.password = password;
+	this.proxy = proxy;
+	this.passwordAuthentication = passwordAuthentication;
+
+	List<Endpoint> endpoints = new ArrayList<Endpoint>();
+	for (String serverUrl : serverUrls) {
+	    endpoints.add(new Endpoint(serverUrl, proxy, passwordAuthentication, connectionOptions));
+	}
+	this.endpoints = Collections.unmodifiableList(endpoints);
+
+	probeFuture = getScheduler().scheduleWithFixedDelay(new Runnable() {
+	    @Override
+	    public void run() {
+		probeEjectedEndpoints();
+	    }
+	}, probeInterval, probeInterval, TimeUnit.MILLISECONDS);
+    }
+
+    private static synchronized ScheduledThreadPoolExecutor getScheduler() {
+	if (scheduler == null) {
+	    scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable r) {
+		    Thread thread = new Thread(r, "AceQL-Probe");
+		    thread.setDaemon(true);
+		    return thread;
+		}
+	    });
+	    scheduler.setRemoveOnCancelPolicy(true);
+	}
+	return scheduler;
+    }
+
+    /**
+     * Logs in on the AceQL server with the best score and connects to the
+     * database. If the server can not be reached, it is ejected and the next
+     * server is tried.
+     *
+     * @return the connection
+     * @throws SQLException if all servers are unreachable, or if the login is
+     *                      refused
+     */
+    public AceQLConnection getConnection() throws SQLException {
+	if (closed) {
+	    throw new SQLException("Connection factory is closed.");
+	}
+
+	List<Endpoint> tried = new ArrayList<Endpoint>();
+	AceQLException lastException = null;
+
+	Endpoint endpoint;
+	while ((endpoint = chooseEndpoint(tried)) != null) {
+	    tried.add(endpoint);
+	    try {
+		return new AceQLConnection(endpoint.serverUrl, database, username, password, proxy,
+			passwordAuthentication, endpoint.connectionOptions);
+	    } catch (AceQLException e) {
+		if (!isConnectFailure(e.getCause())) {
+		    throw e;
+		}
+		endpoint.eject();
+		lastException = e;
+	    }
+	}
+
+	if (lastException != null) {
+	    throw lastException;
+	}
+	throw new AceQLException("No AceQL server available: all servers are ejected.", 0, null, null, 0);
+    }
+
+    /**
+     * Chooses the endpoint with the lowest score among those not ejected and
+     * not already tried. Equal scores are taken in turn. If all endpoints are
+     * ejected, the ejected ones are tried anyway.
+     */
+    private Endpoint chooseEndpoint(List<Endpoint> tried) {
+	Endpoint best = chooseEndpoint(tried, false);
+	if (best == null && tried.isEmpty()) {
+	    best = chooseEndpoint(tried, true);
+	}
+	return best;
+    }
+
+    private Endpoint chooseEndpoint(List<Endpoint> tried, boolean includeEjected) {
+	int start = Math.abs(nextIndex.getAndIncrement() % endpoints.size());
+
+	Endpoint best = null;
+	double bestScore = Double.MAX_VALUE;
+	for (int i = 0; i < endpoints.size(); i++) {
+	    Endpoint endpoint = endpoints.get((start + i) % endpoints.size());
+	    if (tried.contains(endpoint) || (endpoint.isEjected() && !includeEjected)) {
+		continue;
+	    }
+	    double score = endpoint.getScore();
+	    if (score < bestScore) {
+		best = endpoint;
+		bestScore = score;
+	    }
+	}
+	return best;
+    }
+
+    /**
+     * Says if an exception means that the server could not be reached.
+     */
+    static boolean isConnectFailure(Throwable cause) {
+	return cause instanceof ConnectException || cause instanceof NoRouteToHostException
+		|| cause instanceof UnknownHostException
+		|| (cause instanceof SocketTimeoutException && cause.getMessage() != null
+			&& cause.getMessage().toLowerCase().contains("connect"));
+    }
+
+    /**
+     * Sends a GET request to each ejected server, and puts back those that
+     * answer.
+     */
+    private void probeEjectedEndpoints() {
+	for (Endpoint endpoint : endpoints) {
+	    if (closed) {
+		return;
+	    }
+	    if (endpoint.isEjected()) {
+		endpoint.probe();
+	    }
+	}
+    }
+
+    /**
+     * @return the servers of this factory, with their current state
+     */
+    public List<Endpoint> getEndpoints() {
+	return endpoints;
+    }
+
+    /**
+     * Stops the background probes. The connections already created are not
+     * closed.
+     */
+    public void close() {
+	closed = true;
+	probeFuture.cancel(false);
+    }
+
+    @Override
+    public String toString() {
+	return "AceQLConnectionFactory [endpoints=" + endpoints + ", database=" + database + ", username="
+		+ username + "]";
+    }
+
+    /**
+     * An AceQL server of a factory and the statistics of its requests.
+     */
+    public static class Endpoint {
+
+	private final String serverUrl;
+	private final Proxy proxy;
+	private final PasswordAuthentication passwordAuthentication;
+	private final ConnectionOptions connectionOptions;
+	private final HttpTransport transport;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	/** The moving average of the latency in milliseconds. 0 if unknown */
+	private double latency = 0;
+	private volatile boolean ejected = false;
+	private volatile long ejections = 0;
+
+	Endpoint(String serverUrl, Proxy proxy, PasswordAuthentication passwordAuthentication,
+		ConnectionOptions connectionOptions) {
+	    this.serverUrl = serverUrl;
+	    this.proxy = proxy;
+	    this.passwordAuthentication = passwordAuthentication;
+
+	    // The requests of the endpoint are measured by its own transport
+	    this.connectionOptions = connectionOptions == null ? new ConnectionOptions() : connectionOptions.copy();
+	    this.connectionOptions.setReadReplicas(null);
+	    HttpTransport baseTransport = this.connectionOptions.getHttpTransport() != null
+		    ? this.connectionOptions.getHttpTransport()
+		    : PooledHttpTransport.getDefault();
+	    this.transport = new MeasuringTransport(baseTransport);
+	    this.connectionOptions.setHttpTransport(transport);
+	}
+
+	/**
+	 * @return the URL of the AceQL server
+	 */
+	public String getServerUrl() {
+	    return serverUrl;
+	}
+
+	/**
+	 * @return the moving average of the request latency in milliseconds, 0 if
+	 *         unknown
+	 */
+	public synchronized double getLatency() {
+	    return latency;
+	}
+
+	/**
+	 * @return the number of requests in progress
+	 */
+	public int getInFlight() {
+	    return inFlight.get();
+	}
+
+	/**
+	 * @return true if the server is ejected because it could not be reached
+	 */
+	public boolean isEjected() {
+	    return ejected;
+	}
+
+	/**
+	 * @return the number of times the server has been ejected
+	 */
+	public long getEjections() {
+	    return ejections;
+	}
+
+	/**
+	 * Returns the score of the endpoint: the lowest is the best. An endpoint
+	 * without known latency is tried first.
+	 */
+	synchronized double getScore() {
+	    return latency * (inFlight.get() + 1);
+	}
+
+	synchronized void recordLatency(long sample) {
+	    latency = latency == 0 ? Math.max(sample, 1) : EWMA_ALPHA * sample + (1 - EWMA_ALPHA) * latency;
+	}
+
+	void eject() {
+	    if (!ejected) {
+		ejected = true;
+		ejections++;
+	    }
+	}
+
+	/**
+	 * Puts back the endpoint if its server answers.
+	 */
+	void probe() {
+	    try {
+		TransportRequest request = new TransportRequest("GET", new URL(serverUrl));
+		int timeout = connectionOptions.getConnectTimeout() > 0 ? connectionOptions.getConnectTimeout()
+			: 10000;
+		request.setConnectTimeout(timeout);
+		request.setReadTimeout(timeout);
+		request.setRequestTimeout(timeout);
+		request.setProxy(proxy);
+		request.setProxyAuthentication(passwordAuthentication);
+		request.setTlsConfiguration(connectionOptions.getTlsConfiguration());
+
+		// Any HTTP answer means the server is back
+		transport.execute(request).close();
+
+		// The latency before the ejection is outdated: the server is tried
+		// first to measure it again
+		synchronized (this) {
+		    latency = 0;
+		}
+		ejected = false;
+	    } catch (IOException e) {
+		// Still unreachable
+	    }
+	}
+
+	@Override
+	public String toString() {
+	    return "Endpoint [serverUrl=" + serverUrl + ", latency=" + getLatency() + ", inFlight=" + inFlight
+		    + ", ejected=" + ejected + "]";
+	}
+
+	/**
+	 * Measures the latency of the requests until the response headers, and
+	 * ejects the endpoint if its server can not be reached.
+	 */
+	private class MeasuringTransport implements HttpTransport {
+
+	    private final HttpTransport transport;
+
+	    MeasuringTransport(HttpTransport transport) {
+		this.transport = transport;
+	    }
+
+	    @Override
+	    public TransportResponse execute(TransportRequest request) throws IOException {
+		long begin = System.currentTimeMillis();
+		inFlight.incrementAndGet();
+		try {
+		    TransportResponse response = transport.execute(request);
+		    recordLatency(System.currentTimeMillis() - begin);
+		    return response;
+		} catch (IOException e) {
+		    if (isConnectFailure(e)) {
+			eject();
+		    }
+		    throw e;
+		} finally {
+		    inFlight.decrementAndGet();
+		}
+	    }
+
+	    @Override
+	    public void close() {
+		transport.close();
+	    }
+
+	    @Override
+	    public String toString() {
+		return "MeasuringTransport [transport=" + transport + "]";
+	    }
+	}
+    }
+
+}
@@ -0,0 +1,627 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.io.File;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement;
+import org.kawanfw.driver.util.FrameworkFileUtil;
+
+import com.aceql.client.jdbc.http.AceQLHttpApi;
+import com.aceql.client.jdbc.util.AceQLTypes;
+import com.aceql.client.jdbc.util.json.PrepStatementParametersBuilder;
+import com.aceql.client.jdbc.util.json.SqlParameter;
+import com.aceql.client.jdbc.util.json.StreamResultAnalyzer;
+
+/**
+ * @author Nicolas de Pomereu
+ *
+ */
+class AceQLPreparedStatement extends AbstractPreparedStatement implements PreparedStatement {
+
+    private static boolean DEBUG = false;
+
+    private AceQLConnection aceQLConnection = null;
+    private String sql = null;
+
+    private List<InputStream> localInputStreams = new ArrayList<InputStream>();
+    private List<String> localBlobIds = new ArrayList<String>();
+    private List<Long> localLengths = new ArrayList<Long>();
+    /**
+     * The result set of the last query, closed when the statement is executed
+     * again or closed. null if none
+     */
+    private AceQLResultSet currentResultSet = null;
+
+    /** The type of the result sets: only forward only ones are not spooled */
+    private int resultSetType = ResultSet.TYPE_SCROLL_INSENSITIVE;
+
+    /**
+     * The number of rows per page if the connection executes the queries in
+     * pages, 0 for none
+     */
+    private int fetchSize = 0;
+    /** The maximum number of rows of the result sets, 0 for no limit */
+    private int maxRows = 0;
+
+    /** The Http instance that does all Http stuff */
+    private AceQLHttpApi aceQLHttpApi = null;
+
+    protected PrepStatementParametersBuilder builder = new PrepStatementParametersBuilder();
+
+    /** is set to true if CallableStatement */
+    protected boolean isStoredProcedure = false;
+
+    /**
+     * Constructor
+     *
+     * @param aceQLConnection
+     *            the Connection to the the remote database
+     * @param sql
+     *            an SQL statement that may contain one or more '?' IN parameter
+     *            placeholders
+     */
+    public AceQLPreparedStatement(AceQLConnection aceQLConnection, String sql) throws SQLException {
+	super(sql);
+	this.aceQLConnection = aceQLConnection;
+	this.aceQLHttpApi = aceQLConnection.aceQLHttpApi;
+	this.sql = sql;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param aceQLConnection
+     *            the Connection to the the remote database
+     * @param sql
+     *            an SQL statement that may contain one or more '?' IN parameter
+     *            placeholders
+     * @param resultSetType
+     *            the type of the result sets. The rows of a
+     *            <code>ResultSet.TYPE_FORWARD_ONLY</code> result set are read
+     *            from the HTTP response, without being downloaded first.
+     */
+    AceQLPreparedStatement(AceQLConnection aceQLConnection, String sql, int resultSetType) throws SQLException {
+	this(aceQLConnection, sql);
+	this.resultSetType = resultSetType;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setNull(int,
+     * int)
+     */
+    @Override
+    public void setNull(int parameterIndex, int sqlType) throws SQLException {
+	builder.setInParameter(parameterIndex, AceQLTypes.TYPE_NULL + sqlType, null);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setBoolean
+     * (int, boolean)
+     */
+    @Override
+    public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+	// builder.setParameter(parameterIndex, AceQLTypes.BIT, new
+	// Boolean(x).toString());
+	builder.setInParameter(parameterIndex, AceQLTypes.BIT, "" + x);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setShort(int,
+     * short)
+     */
+    @Override
+    public void setShort(int parameterIndex, short x) throws SQLException {
+	// builder.setParameter(parameterIndex, AceQLTypes.TINYINT, new
+	// Short(x).toString());
+	builder.setInParameter(parameterIndex, AceQLTypes.TINYINT, "" + x);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setInt(int,
+     * int)
+     */
+    @Override
+    public void setInt(int parameterIndex, int x) throws SQLException {
+	// builder.setParameter(parameterIndex, AceQLTypes.INTEGER, new
+	// Integer(x).toString());
+	builder.setInParameter(parameterIndex, AceQLTypes.INTEGER, "" + x);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setLong(int,
+     * long)
+     */
+    @Override
+    public void setLong(int parameterIndex, long x) throws SQLException {
+	// builder.setParameter(parameterIndex, AceQLTypes.BIGINT, new
+	// Long(x).toString());
+	builder.setInParameter(parameterIndex, AceQLTypes.BIGINT, "" + x);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setFloat(int,
+     * float)
+     */
+    @Override
+    public void setFloat(int parameterIndex, float x) throws SQLException {
+	// builder.setParameter(parameterIndex, AceQLTypes.REAL, new
+	// Float(x).toString());
+	builder.setInParameter(parameterIndex, AceQLTypes.REAL, "" + x);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setDouble
+     * (int, double)
+     */
+    @Override
+    public void setDouble(int parameterIndex, double x) throws SQLException {
+	// builder.setParameter(parameterIndex, AceQLTypes.DOUBLE_PRECISION, new
+	// Double(x).toString());
+	builder.setInParameter(parameterIndex, AceQLTypes.DOUBLE_PRECISION, "" + x);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setBigDecimal
+     * (int, java.math.BigDecimal)
+     */
+    @Override
+    public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+
+	String strValue = null;
+	if (x != null) {
+	    strValue = x.toString();
+	}
+
+	//builder.setInParameter(parameterIndex, AceQLTypes.DOUBLE_PRECISION, x.toString());
+	builder.setInParameter(parameterIndex, AceQLTypes.DOUBLE_PRECISION, strValue);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setString
+     * (int, java.lang.String)
+     */
+    @Override
+    public void setString(int parameterIndex, String x) throws SQLException {
+	builder.setInParameter(parameterIndex, AceQLTypes.VARCHAR, x);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setDate(int,
+     * java.sql.Date)
+     */
+    @Override
+    public void setDate(int parameterIndex, Date x) throws SQLException {
+
+	String strValue = null;
+	if (x != null) {
+	    strValue = "" + x.getTime();
+	}
+
+	//builder.setInParameter(parameterIndex, AceQLTypes.DATE, "" + x.getTime());
+	builder.setInParameter(parameterIndex, AceQLTypes.DATE, strValue);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setTime(int,
+     * java.sql.Time)
+     */
+    @Override
+    public void setTime(int parameterIndex, Time x) throws SQLException {
+	String strValue = null;
+	if (x != null) {
+	    strValue = "" + x.getTime();
+	}
+	//builder.setInParameter(parameterIndex, AceQLTypes.TIME, "" + x.getTime());
+	builder.setInParameter(parameterIndex, AceQLTypes.TIME, strValue);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setTimestamp
+     * (int, java.sql.Timestamp)
+     */
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+	String strValue = null;
+	if (x != null) {
+	    strValue = "" + x.getTime();
+	}
+	//builder.setInParameter(parameterIndex, AceQLTypes.TIMESTAMP, "" + x.getTime());
+	builder.setInParameter(parameterIndex, AceQLTypes.TIMESTAMP, strValue);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setArray(int,
+     * java.sql.Array)
+     */
+
+    // @Override
+    // public void setArray(int iParam, Array x) throws SQLException {
+    // // TODO Auto-generated method stub
+    // super.setArray(iParam, x);
+    // }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#setURL(int,
+     * java.net.URL)
+     */
+    @Override
+    public void setURL(int parameterIndex, URL x) throws SQLException {
+	String strValue = null;
+	if (x != null) {
+	    strValue = x.toString();
+	}
+	//builder.setInParameter(parameterIndex, AceQLTypes.URL, x.toString());
+	builder.setInParameter(parameterIndex, AceQLTypes.URL, strValue);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#
+     * setBinaryStream( int, java.io.InputStream, int)
+     */
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+	setBinaryStream(parameterIndex, x, (long) length);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#
+     * setBinaryStream( int, java.io.InputStream)
+     */
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream inputStream) throws SQLException {
+	setBinaryStream(parameterIndex, inputStream, (long) 0);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#
+     * setBinaryStream (int, java.io.InputStream, long)
+     */
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+
+	if (inputStream != null) {
+
+	    String blobId = buildBlobIdFile().getName();
+	    builder.setInParameter(parameterIndex, AceQLTypes.BLOB, blobId);
+
+	    localInputStreams.add(inputStream);
+	    localBlobIds.add(blobId);
+	    localLengths.add(length);
+	} else {
+	    builder.setInParameter(parameterIndex, AceQLTypes.BLOB, null);
+	}
+    }
+
+    private static File buildBlobIdFile() {
+	File file = new File(FrameworkFileUtil.getKawansoftTempDir() + File.separator + "pc-blob-out-"
+		+ FrameworkFileUtil.getUniqueId() + ".txt");
+	return file;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#executeUpdate ()
+     */
+    @Override
+    public int executeUpdate() throws SQLException {
+	closeCurrentResultSet();
+
+	long totalLength = 0;
+	for (Long length : localLengths) {
+	    totalLength += length;
+	}
+
+	for (int i = 0; i < localInputStreams.size(); i++) {
+
+	    InputStream in = localInputStreams.get(i);
+	    String blobId = localBlobIds.get(i);
+	    aceQLHttpApi.blobUpload(blobId, in, totalLength);
+	}
+
+	boolean isPreparedStatement = true;
+
+	Map<String, String> statementParameters = builder.getHttpFormattedStatementParameters();
+	Map<Integer, SqlParameter> callableOutParameters = builder.getCallableOutParameters();
+	return aceQLHttpApi.executeUpdate(sql, isPreparedStatement, isStoredProcedure, statementParameters,
+		callableOutParameters);
+
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractPreparedStatement#executeQuery
+     * ()
+     */
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+	closeCurrentResultSet();
+
+	AceQLHttpApi aceQLHttpApi = getQueryApi();
+	Map<String, String> statementParameters = builder.getHttpFormattedStatementParameters();
+
+	// The query is executed in pages if the database and the query allow it.
+	// The OUT parameters of stored procedures are read from the spooled result.
+	boolean paged = fetchSize > 0 && aceQLConnection.isPagedExecution();
+	SqlPaging sqlPaging = paged && !isStoredProcedure ? aceQLConnection.getSqlPaging(sql) : null;
+
+	AceQLResultSet aceQLResultSet;
+	if (paged && sqlPaging != null) {
+	    PagedQuery pagedQuery = new PagedQuery(aceQLHttpApi, sqlPaging, sql, true, statementParameters,
+		    aceQLConnection.getResultMemoryThreshold(), fetchSize, maxRows);
+	    try {
+		aceQLResultSet = new AceQLResultSet(pagedQuery, this, aceQLHttpApi);
+	    } catch (SQLException e) {
+		pagedQuery.close();
+		throw e;
+	    }
+	} else {
+	    if (resultSetType == ResultSet.TYPE_FORWARD_ONLY && !isStoredProcedure) {
+		AceQLRowStream rowStream = new AceQLRowStream(aceQLHttpApi, sql, true, isStoredProcedure,
+			statementParameters);
+		try {
+		    aceQLResultSet = new AceQLResultSet(rowStream, this, aceQLHttpApi);
+		} catch (SQLException e) {
+		    rowStream.close();
+		    throw e;
+		}
+	    } else {
+		// Small results are kept in memory, larger ones are spilled to a
+		// file. The download stops at maxRows, except for stored procedures
+		// whose OUT parameters follow the rows.
+		SpooledResult spooledResult = SpooledResult.download(aceQLHttpApi, sql, true,
+			isStoredProcedure, statementParameters, aceQLConnection.getResultMemoryThreshold(),
+			isStoredProcedure ? 0 : maxRows);
+		try {
+		    if (isStoredProcedure) {
+			Map<Integer, SqlParameter> callableOutParameters = builder.getCallableOutParameters();
+			debug("callableOutParameters: " + callableOutParameters);
+			updateOutParameters(spooledResult.getStreamResultAnalyzer(), callableOutParameters);
+		    }
+
+		    aceQLResultSet = new AceQLResultSet(spooledResult.getResultBuffer(), this,
+			    spooledResult.getRowCount(), aceQLHttpApi, spooledResult.getRowOffsetIndex());
+		} catch (SQLException e) {
+		    spooledResult.getResultBuffer().delete();
+		    throw e;
+		}
+	    }
+	}
+
+	aceQLResultSet.setMaxRows(maxRows);
+	this.currentResultSet = aceQLResultSet;
+	return aceQLResultSet;
+    }
+
+    /**
+     * Closes the result set of the last query, as required before the
+     * statement is executed again. This releases its HTTP connection, stops
+     * its prefetch and deletes its rows.
+     */
+    private void closeCurrentResultSet() {
+	if (currentResultSet != null) {
+	    currentResultSet.close();
+	    currentResultSet = null;
+	}
+    }
+
+    private void updateOutParameters(StreamResultAnalyzer streamResultAnalyzer,
+	    Map<Integer, SqlParameter> callableOutParameters) throws SQLException {
+	// Immediate return in case no parameters
+	if (callableOutParameters == null || callableOutParameters.isEmpty()) {
+	    return;
+	}
+
+	Map<Integer, String> parametersOutPerIndexAfterExecute = streamResultAnalyzer.getParametersOutPerIndex();
+
+	debug("parametersOutPerIndexAfterExecute: " + parametersOutPerIndexAfterExecute);
+
+	// Immediate return in case no parameters. This can not happen if
+	// callableOutParameters is not empty
+	if (parametersOutPerIndexAfterExecute == null || parametersOutPerIndexAfterExecute.isEmpty()) {
+	    throw new AceQLException("No stored procedure out parameters returned by AceQL Server", 4, null, null,
+		    HttpURLConnection.HTTP_OK);
+	}
+
+	for (Integer key : callableOutParameters.keySet()) {
+	    if (parametersOutPerIndexAfterExecute.containsKey(key)) {
+		SqlParameter sqlParameter = callableOutParameters.get(key);
+		SqlParameter sqlParameterNew = new SqlParameter(key, sqlParameter.getParameterType(),
+			parametersOutPerIndexAfterExecute.get(key));
+		// Put back new value
+		callableOutParameters.put(key, sqlParameterNew);
+	    }
+	}
+
+	debug("callableOutParameters after execute: " + callableOutParameters);
+
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#getConnection()
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+	return this.aceQLConnection;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#close()
+     */
+    @Override
+    public void close() throws SQLException {
+	closeCurrentResultSet();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#setFetchSize(int)
+     */
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+	if (rows < 0) {
+	    throw new SQLException("Invalid fetch size: " + rows);
+	}
+	this.fetchSize = rows;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#getFetchSize()
+     */
+    @Override
+    public int getFetchSize() throws SQLException {
+	return fetchSize;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#setMaxRows(int)
+     */
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+	if (max < 0) {
+	    throw new SQLException("Invalid max rows: " + max);
+	}
+	this.maxRows = max;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#getMaxRows()
+     */
+    @Override
+    public int getMaxRows() throws SQLException {
+	return maxRows;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#getResultSetType()
+     */
+    @Override
+    public int getResultSetType() throws SQLException {
+	return resultSetType;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#
+     * getResultSetConcurrency()
+     */
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+	return ResultSet.CONCUR_READ_ONLY;
+    }
+
+    /**
+     * @return the SQL statement with its '?' IN parameter placeholders
+     */
+    String getSql() {
+	return sql;
+    }
+
+    /**
+     * @return the Http instance of the Connection
+     */
+    AceQLHttpApi getAceQLHttpApi() {
+	return aceQLHttpApi;
+    }
+
+    /**
+     * @return the Http instance that executes the query: stored procedures stay
+     *         on the primary server, other queries may be routed to a read
+     *         replica
+     */
+    AceQLHttpApi getQueryApi() throws SQLException {
+	return isStoredProcedure ? aceQLHttpApi : aceQLConnection.getQueryApi();
+    }
+
+    private void debug(String s) {
+	if (DEBUG) {
+	    System.out.println(new java.util.Date() + " " + s);
+	}
+    }
+
+}
@@ -0,0 +1,1184 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.                                 
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.                                
+ *                                                                               
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. 
+ */
+package com.aceql.client.jdbc;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.io.IOUtils;
+import org.kawanfw.driver.jdbc.abstracts.AbstractResultSet;
+
+import com.aceql.client.jdbc.http.AceQLHttpApi;
+import com.aceql.client.jdbc.util.AceQLResultSetUtil;
+import com.aceql.client.jdbc.util.AceQLTypes;
+import com.aceql.client.jdbc.util.json.ColumnIndex;
+import com.aceql.client.jdbc.util.json.ResultBuffer;
+import com.aceql.client.jdbc.util.json.RowOffsetIndex;
+import com.aceql.client.jdbc.util.json.RowParser;
+import com.aceql.client.jdbc.util.json.RowValues;
+
+/**
+ * Class that allows to built a {@code ResultSet} from a JSON file or JSON
+ * String returned by an /execute_query call.
+ * 
+ * @author Nicolas de Pomereu
+ *
+ */
+class AceQLResultSet extends AbstractResultSet implements ResultSet, Closeable {
+
+    public boolean DEBUG = false;
+
+    /**
+     * The file containing the result set returned by an /execute_query call. null
+     * if the result set is kept in memory
+     */
+    public File jsonFile = null;
+
+    private int rowCount = 0;
+    private int currentRowNum = 0;
+
+    /** The values of the current row, reused by the parser for the next rows */
+    private RowValues rowValues;
+
+    private boolean isClosed = false;
+
+    private Statement statement = null;
+
+    private RowParser rowParser;
+    private ResultBuffer resultBuffer = null;
+    private RowOffsetIndex rowOffsetIndex = null;
+
+    /** The rows read from the HTTP response, for a forward only result set */
+    private AceQLRowStream rowStream = null;
+    private ColumnIndex columnIndex = null;
+
+    /** The pages of a query executed in pages, read forward only */
+    private PagedQuery pagedQuery = null;
+    /** The number of rows before the current page */
+    private int pageOffset = 0;
+    private int pageRowCount = 0;
+
+    /** The maximum number of rows read, 0 for no limit */
+    private int maxRows = 0;
+
+    /** The SQL types of the columns, read on first getObject() */
+    private List<String> columnTypes = null;
+    private boolean columnTypesRead = false;
+
+    private AceQLHttpApi aceQLHttpApi = null;
+
+    /** Says if the last accessed value was null */
+    private boolean wasNull = false;
+
+    /** The number of rows decoded ahead on a worker thread. 0 for none */
+    private int prefetchRows = 0;
+    private RowPrefetcher prefetcher = null;
+
+    /**
+     * Constructor.
+     * 
+     * @param jsonFile
+     *            A file containing the result set returned by an /execute_query
+     *            call
+     * @param statement
+     *            the calling Statement
+     * @param rowCount the numbers of row in the Json result set file
+     * @throws SQLException
+     *             if file is null or does no exist
+     */
+    public AceQLResultSet(File jsonFile, Statement statement, int rowCount)
+	    throws SQLException {
+	this(checkJsonFile(jsonFile), statement, rowCount, null, null);
+    }
+
+    private static ResultBuffer checkJsonFile(File jsonFile) throws SQLException {
+	if (jsonFile == null) {
+	    throw new SQLException("jsonFile is null!");
+	}
+
+	if (!jsonFile.exists()) {
+	    throw new SQLException(new FileNotFoundException(
+		    "jsonFile does not exist: " + jsonFile));
+	}
+	return ResultBuffer.wrap(jsonFile);
+    }
+
+    /**
+     * Constructor of a result set returned by a given server.
+     *
+     * @param resultBuffer the result set returned by an /execute_query call, in
+     *                     memory or in a file
+     * @param statement    the calling Statement
+     * @param rowCount     the numbers of row in the Json result set
+     * @param aceQLHttpApi the Http instance of the server that executed the
+     *                     query, used to download the Blobs. null for the
+     *                     statement connection.
+     * @param rowOffsetIndex the offsets of the rows, built while the result
+     *                       was written. null if the rows are searched by
+     *                       parsing the result.
+     * @throws SQLException if the result does no exist
+     */
+    AceQLResultSet(ResultBuffer resultBuffer, Statement statement, int rowCount, AceQLHttpApi aceQLHttpApi,
+	    RowOffsetIndex rowOffsetIndex) throws SQLException {
+
+	this.resultBuffer = resultBuffer;
+	this.jsonFile = resultBuffer.getFile();
+	this.statement = statement;
+
+	if (aceQLHttpApi == null) {
+	    AceQLConnection aceQLConnection = (AceQLConnection) this
+		    .getStatement().getConnection();
+	    aceQLHttpApi = aceQLConnection.aceQLHttpApi;
+	}
+	this.aceQLHttpApi = aceQLHttpApi;
+
+	this.rowOffsetIndex = rowOffsetIndex;
+	this.rowParser = new RowParser(resultBuffer, rowOffsetIndex);
+	this.prefetchRows = getPrefetchRows(aceQLHttpApi);
+
+	long begin = System.currentTimeMillis();
+	debug(new java.util.Date() + " Begin getRowCount");
+
+	this.rowCount = rowCount;
+
+	long end = System.currentTimeMillis();
+	debug(new java.util.Date() + " End getRowCount: " + rowCount);
+	debug("Elapsed = " + (end - begin));
+    }
+
+    /**
+     * Constructor of a forward only result set, whose rows are parsed from the
+     * HTTP response while it is read. Nothing is written on the local disk.
+     *
+     * @param rowStream    the stream of the rows of the query
+     * @param statement    the calling Statement
+     * @param aceQLHttpApi the Http instance of the server that executed the
+     *                     query, used to download the Blobs
+     * @throws SQLException if the result set can not be created
+     */
+    AceQLResultSet(AceQLRowStream rowStream, Statement statement, AceQLHttpApi aceQLHttpApi)
+	    throws SQLException {
+	this.rowStream = rowStream;
+	this.statement = statement;
+	this.aceQLHttpApi = aceQLHttpApi;
+	this.prefetchRows = getPrefetchRows(aceQLHttpApi);
+
+	// Known at the end of the rows
+	this.rowCount = -1;
+    }
+
+    /**
+     * Constructor of a forward only result set, whose rows are downloaded in
+     * pages.
+     *
+     * @param pagedQuery   the pages of the query
+     * @param statement    the calling Statement
+     * @param aceQLHttpApi the Http instance of the server that executed the
+     *                     query, used to download the Blobs
+     * @throws SQLException if the result set can not be created
+     */
+    AceQLResultSet(PagedQuery pagedQuery, Statement statement, AceQLHttpApi aceQLHttpApi)
+	    throws SQLException {
+	this.pagedQuery = pagedQuery;
+	this.statement = statement;
+	this.aceQLHttpApi = aceQLHttpApi;
+
+	// Known at the end of the rows
+	this.rowCount = -1;
+    }
+
+    /**
+     * Sets the maximum number of rows read: the next rows are silently
+     * dropped.
+     *
+     * @param maxRows the maximum number of rows, 0 for no limit
+     */
+    void setMaxRows(int maxRows) {
+	this.maxRows = maxRows;
+	if (maxRows > 0 && rowStream == null && pagedQuery == null && rowCount > maxRows) {
+	    rowCount = maxRows;
+	}
+    }
+
+    private static int getPrefetchRows(AceQLHttpApi aceQLHttpApi) {
+	ConnectionOptions connectionOptions = aceQLHttpApi != null
+		? aceQLHttpApi.getConnectionOptions()
+		: null;
+	return connectionOptions != null ? connectionOptions.getPrefetchRows()
+		: 0;
+    }
+
+    /**
+     * @param row
+     * @return
+     * @throws SQLException
+     * @see java.sql.ResultSet#absolute(int)
+     */
+    @Override
+    public boolean absolute(int row) throws SQLException {
+
+	if (isClosed) {
+	    throw new SQLException("ResultSet is closed.");
+	}
+
+	checkScrollable();
+	stopPrefetch();
+
+	if (row < 0 || row > rowCount) {
+	    return false;
+	}
+
+	// An indexed row is read at its offset, others are searched from the
+	// start of the file
+	if (!rowParser.isIndexed(row)) {
+	    rowParser.resetParser();
+	}
+
+	currentRowNum = row;
+	if (row == 0) {
+	    rowValues = null;
+	    return false;
+	}
+
+	rowParser.buildRowNum(row);
+	rowValues = rowParser.getRowValues();
+	return true;
+
+    }
+
+    /**
+     * @return
+     * @throws SQLException
+     * @see java.sql.ResultSet#previous()
+     */
+    @Override
+    public boolean previous() throws SQLException {
+	if (isClosed) {
+	    throw new SQLException("ResultSet is closed.");
+	}
+
+	checkScrollable();
+	stopPrefetch();
+
+	if (currentRowNum <= 1) {
+	    return false;
+	}
+
+	currentRowNum--;
+	if (!rowParser.isIndexed(currentRowNum)) {
+	    rowParser.resetParser();
+	}
+	rowParser.buildRowNum(currentRowNum);
+
+	rowValues = rowParser.getRowValues();
+
+	debug("");
+	debug("" + rowValues);
+
+	return true;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+
+	if (isClosed) {
+	    throw new SQLException("ResltSetWrapper is closed.");
+	}
+
+	if (prefetchRows > 0 && prefetcher == null) {
+	    startPrefetch();
+	}
+
+	if (prefetcher != null) {
+	    return nextPrefetchedRow();
+	}
+
+	if (pagedQuery != null) {
+	    return nextPagedRow();
+	}
+
+	if (rowStream != null) {
+	    return nextStreamRow();
+	}
+
+	if (currentRowNum == rowCount) {
+	    return false;
+	}
+
+	currentRowNum++;
+	rowParser.buildRowNum(currentRowNum);
+
+	rowValues = rowParser.getRowValues();
+
+	debug("");
+	debug("rowValues: " + rowValues);
+
+	return true;
+
+    }
+
+    /**
+     * Reads the next row from the HTTP response.
+     */
+    private boolean nextStreamRow() throws SQLException {
+	if (isMaxRowsReached() || !rowStream.nextRow()) {
+	    rowCount = getStreamRowCount();
+	    rowValues = null;
+	    return false;
+	}
+
+	currentRowNum = rowStream.getRowNum();
+
+	if (columnIndex == null) {
+	    columnIndex = new ColumnIndex(rowStream.getColumnNames());
+	}
+
+	rowValues = rowStream.getRowValues();
+
+	// The values are read: the rest of the download is not needed
+	if (isMaxRowsReached()) {
+	    rowStream.close();
+	}
+
+	debug("");
+	debug("rowValues: " + rowValues);
+	return true;
+    }
+
+    private boolean isMaxRowsReached() {
+	return maxRows > 0 && currentRowNum >= maxRows;
+    }
+
+    /**
+     * @return the number of rows of a forward only result set, once its rows
+     *         are all read
+     */
+    private int getStreamRowCount() {
+	int streamRowCount = rowStream.getRowCount();
+	return streamRowCount >= 0 ? streamRowCount : currentRowNum;
+    }
+
+    /**
+     * Reads the next row of the current page, and downloads the next page at
+     * its end.
+     */
+    private boolean nextPagedRow() throws SQLException {
+	while (resultBuffer == null || currentRowNum - pageOffset == pageRowCount) {
+	    if (!nextPage()) {
+		rowCount = currentRowNum;
+		rowValues = null;
+		return false;
+	    }
+	}
+
+	currentRowNum++;
+	rowParser.buildRowNum(currentRowNum - pageOffset);
+	rowValues = rowParser.getRowValues();
+
+	debug("");
+	debug("rowValues: " + rowValues);
+	return true;
+    }
+
+    private boolean nextPage() throws SQLException {
+	deletePage();
+	SpooledResult page = pagedQuery.nextPage();
+	if (page == null) {
+	    return false;
+	}
+
+	pageOffset = currentRowNum;
+	pageRowCount = page.getRowCount();
+	resultBuffer = page.getResultBuffer();
+	rowOffsetIndex = page.getRowOffsetIndex();
+	rowParser = new RowParser(resultBuffer, rowOffsetIndex);
+	return true;
+    }
+
+    private void deletePage() {
+	if (resultBuffer == null) {
+	    return;
+	}
+	rowParser.close();
+	resultBuffer.delete();
+	resultBuffer = null;
+	rowParser = null;
+    }
+
+    /**
+     * Starts the worker that decodes the next rows.
+     */
+    private void startPrefetch() {
+	RowPrefetcher.RowSource rowSource;
+	if (rowStream != null) {
+	    rowSource = new RowPrefetcher.RowSource() {
+		@Override
+		public int nextRow(RowPrefetcher.Slot slot) throws SQLException {
+		    if ((maxRows > 0 && rowStream.getRowNum() >= maxRows) || !rowStream.nextRow()) {
+			return 0;
+		    }
+		    RowPrefetcher.copy(rowStream.getRowValues(), slot.getArrayRowValues());
+		    int rowNum = rowStream.getRowNum();
+		    // The rest of the download is not needed
+		    if (maxRows > 0 && rowNum >= maxRows) {
+			rowStream.close();
+		    }
+		    return rowNum;
+		}
+	    };
+	} else {
+	    final int firstRowNum = currentRowNum + 1;
+	    rowSource = new RowPrefetcher.RowSource() {
+		private int rowNum = firstRowNum;
+
+		@Override
+		public int nextRow(RowPrefetcher.Slot slot) throws SQLException {
+		    if (rowNum > rowCount) {
+			return 0;
+		    }
+		    // The tokens of the row are read from the bytes of the result
+		    if (!rowParser.tokenizeRow(rowNum, slot.getRowTokenizer())) {
+			rowParser.buildRowNum(rowNum);
+			RowPrefetcher.copy(rowParser.getRowValues(), slot.getArrayRowValues());
+		    }
+		    return rowNum++;
+		}
+	    };
+	}
+	prefetcher = new RowPrefetcher(rowSource, prefetchRows);
+    }
+
+    /**
+     * Stops the prefetch before the result set is scrolled: the rows are then
+     * decoded by the calling thread.
+     */
+    private void stopPrefetch() throws SQLException {
+	prefetchRows = 0;
+	if (prefetcher == null) {
+	    return;
+	}
+	prefetcher.close();
+	prefetcher = null;
+
+	// The worker moved the parser ahead
+	rowParser.resetParser();
+	if (currentRowNum > 0) {
+	    rowParser.buildRowNum(currentRowNum);
+	    rowValues = rowParser.getRowValues();
+	}
+    }
+
+    /**
+     * Reads the next row decoded by the worker.
+     */
+    private boolean nextPrefetchedRow() throws SQLException {
+	RowValues values = prefetcher.next();
+	if (values == null) {
+	    if (rowStream != null) {
+		rowCount = getStreamRowCount();
+		rowValues = null;
+	    }
+	    return false;
+	}
+
+	currentRowNum = prefetcher.getRowNum();
+	if (rowStream != null && columnIndex == null) {
+	    columnIndex = new ColumnIndex(rowStream.getColumnNames());
+	}
+	rowValues = values;
+
+	debug("");
+	debug("rowValues: " + rowValues);
+	return true;
+    }
+
+    /**
+     * Decodes all the rows into column vectors, concurrently. The position of
+     * the result set is not changed.
+     *
+     * @param pool the pool that decodes the ranges of rows
+     * @return the rows, per column
+     * @throws SQLException if the result set is closed or forward only, or if
+     *                      the rows can not be read
+     */
+    ColumnarTable toColumnarTable(ForkJoinPool pool) throws SQLException {
+	if (isClosed) {
+	    throw new SQLException("ResultSet is closed.");
+	}
+	checkScrollable();
+	return new ColumnarDecoder(resultBuffer, rowOffsetIndex, rowCount).decode(pool);
+    }
+
+    private void checkScrollable() throws SQLException {
+	if (rowStream != null || pagedQuery != null) {
+	    throw new SQLException("ResultSet is TYPE_FORWARD_ONLY.");
+	}
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.ResultSet#getType()
+     */
+    @Override
+    public int getType() throws SQLException {
+	return rowStream != null || pagedQuery != null ? ResultSet.TYPE_FORWARD_ONLY
+		: ResultSet.TYPE_SCROLL_INSENSITIVE;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.ResultSet#getConcurrency()
+     */
+    @Override
+    public int getConcurrency() throws SQLException {
+	return ResultSet.CONCUR_READ_ONLY;
+    }
+
+    /**
+     * @return
+     * @throws SQLException
+     * @see java.sql.ResultSet#first()
+     */
+    @Override
+    public boolean first() throws SQLException {
+	return absolute(1);
+    }
+
+    /**
+     * @return
+     * @throws SQLException
+     * @see java.sql.ResultSet#last()
+     */
+    @Override
+    public boolean last() throws SQLException {
+	return absolute(rowCount);
+    }
+
+    private InputStream getInputStream(String blobId) throws SQLException {
+
+	// long length = aceQLHttpApi.getBlobLength(blobId);
+	// AceQLConnection aceQLConnection =
+	// (AceQLConnection)this.getStatement().getConnection();
+	// blobDownload(blobId, file, aceQLConnection.getProgress(),
+	// aceQLConnection.getCancelled(), length);
+
+	InputStream in = aceQLHttpApi.blobDownload(blobId);
+	return in;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractResultSet#getStatement()
+     */
+    @Override
+    public Statement getStatement() throws SQLException {
+	return this.statement;
+    }
+
+    private String getStringValue(int index) throws SQLException {
+
+	if (isClosed) {
+	    throw new SQLException("ResultSet is closed.");
+	}
+
+	if (rowValues == null) {
+	    throw new SQLException("No current row.");
+	}
+
+	String value = rowValues.getValue(index);
+
+	if (value == null) {
+	    throw new SQLException("Invalid column index: " + index);
+	}
+
+	wasNull = false;
+	if (value.equalsIgnoreCase("NULL")) {
+	    wasNull = true;
+	}
+
+	return value;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.sql.ResultSet#findColumn(java.lang.String)
+     */
+    @Override
+    public int findColumn(String columnLabel) throws SQLException {
+
+	if (isClosed) {
+	    throw new SQLException("ResultSet is closed.");
+	}
+
+	if (rowValues == null) {
+	    throw new SQLException("No current row.");
+	}
+
+	ColumnIndex columnIndex = rowStream != null ? this.columnIndex
+		: rowParser.getColumnIndex();
+	int index = columnIndex != null ? columnIndex.indexOf(columnLabel) : -1;
+	if (index < 0) {
+	    throw new SQLException("Invalid column name: " + columnLabel);
+	}
+	return index;
+    }
+
+    /**
+     * Checks the column index of the current row and says if its value is SQL
+     * <code>NULL</code>. The typed getters then read the value without
+     * building a {@code String}.
+     *
+     * @return true if the value is SQL <code>NULL</code>
+     */
+    private boolean isNullValue(int index) throws SQLException {
+
+	if (isClosed) {
+	    throw new SQLException("ResultSet is closed.");
+	}
+
+	if (rowValues == null) {
+	    throw new SQLException("No current row.");
+	}
+
+	if (index < 1 || index > rowValues.getColumnCount()) {
+	    throw new SQLException("Invalid column index: " + index);
+	}
+
+	wasNull = rowValues.isNull(index);
+	return wasNull;
+    }
+
+    private long getLongValue(int index, String typeName, long minValue,
+	    long maxValue) throws SQLException {
+	try {
+	    long value = rowValues.getLong(index);
+	    if (value >= minValue && value <= maxValue) {
+		return value;
+	    }
+	} catch (NumberFormatException e) {
+	    // Reported below
+	}
+	throw new SQLException(
+		"Not " + typeName + " value: " + rowValues.getValue(index));
+    }
+
+    private long getMillis(int index, String typeName) throws SQLException {
+	return getLongValue(index, typeName, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reports whether the last column read had a value of SQL <code>NULL</code>
+     * . Note that you must first call one of the getter methods on a column to
+     * try to read its value and then call the method <code>wasNull</code> to
+     * see if the value read was SQL <code>NULL</code>.
+     * 
+     * @return <code>true</code> if the last column value read was SQL
+     *         <code>NULL</code> and <code>false</code> otherwise
+     * @exception SQLException
+     *                if a database access error occurs
+     */
+    @Override
+    public boolean wasNull() throws SQLException {
+	;
+	return wasNull;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * org.kawanfw.driver.jdbc.abstracts.AbstractResultSet#getBinaryStream(int)
+     */
+    @Override
+    public InputStream getBinaryStream(int columnIndex) throws SQLException {
+	String value = getString(columnIndex);
+
+	if (value == null) {
+	    return null;
+	}
+	return getInputStream(value);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * org.kawanfw.driver.jdbc.abstracts.AbstractResultSet#getBinaryStream(java.
+     * lang.String)
+     */
+    @Override
+    public InputStream getBinaryStream(String columnName) throws SQLException {
+	return getBinaryStream(findColumn(columnName));
+    }
+
+    @Override
+    public String getString(String columnLabel) throws SQLException {
+	return getString(findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(String columnLabel) throws SQLException {
+	return getInt(findColumn(columnLabel));
+    }
+
+    @Override
+    public long getLong(String columnLabel) throws SQLException {
+	return getLong(findColumn(columnLabel));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+	return getBigDecimal(findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(String columnLabel) throws SQLException {
+	return getDate(findColumn(columnLabel));
+    }
+
+    @Override
+    public Time getTime(String columnLabel) throws SQLException {
+	return getTime(findColumn(columnLabel));
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel) throws SQLException {
+	return getTimestamp(findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(String columnLabel) throws SQLException {
+	return getBoolean(findColumn(columnLabel));
+    }
+
+    @Override
+    public byte getByte(String columnLabel) throws SQLException {
+	return getByte(findColumn(columnLabel));
+    }
+
+    @Override
+    public short getShort(String columnLabel) throws SQLException {
+	return getShort(findColumn(columnLabel));
+    }
+
+    @Override
+    public float getFloat(String columnLabel) throws SQLException {
+	return getFloat(findColumn(columnLabel));
+    }
+
+    @Override
+    public double getDouble(String columnLabel) throws SQLException {
+	return getDouble(findColumn(columnLabel));
+    }
+
+    @Override
+    public byte[] getBytes(String columnLabel) throws SQLException {
+	return getBytes(findColumn(columnLabel));
+    }
+
+    @Override
+    public Object getObject(String columnLabel) throws SQLException {
+	return getObject(findColumn(columnLabel));
+    }
+
+    @Override
+    public <T> T getObject(String columnLabel, Class<T> type)
+	    throws SQLException {
+	return getObject(findColumn(columnLabel), type);
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException {
+	String value = getStringValue(columnIndex);
+	if (value == null || value.equals("NULL")) {
+	    return null;
+	}
+	return value;
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException {
+	if (isNullValue(columnIndex)) {
+	    return 0;
+	}
+	return (int) getLongValue(columnIndex, "an Integer", Integer.MIN_VALUE,
+		Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException {
+	if (isNullValue(columnIndex)) {
+	    return 0;
+	}
+	return getLongValue(columnIndex, "a Long", Long.MIN_VALUE,
+		Long.MAX_VALUE);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+	String value = getStringValue(columnIndex);
+
+	if (value == null || value.equals("NULL")) {
+	    return null;
+	}
+	return AceQLResultSetUtil.getBigDecimalValue(value);
+    }
+
+    @Override
+    public Date getDate(int columnIndex) throws SQLException {
+	if (isNullValue(columnIndex)) {
+	    return null;
+	}
+	return new Date(getMillis(columnIndex, "a Date"));
+    }
+
+    @Override
+    public Time getTime(int columnIndex) throws SQLException {
+	if (isNullValue(columnIndex)) {
+	    return null;
+	}
+	return new Time(getMillis(columnIndex, "a Time"));
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex) throws SQLException {
+	if (isNullValue(columnIndex)) {
+	    return null;
+	}
+	return new Timestamp(getMillis(columnIndex, "a Timestamp"));
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) throws SQLException {
+	if (isNullValue(columnIndex)) {
+	    return false;
+	}
+	return rowValues.getBoolean(columnIndex);
+    }
+
+    @Override
+    public byte getByte(int columnIndex) throws SQLException {
+	if (isNullValue(columnIndex)) {
+	    return 0;
+	}
+	return (byte) getLongValue(columnIndex, "a Byte", Byte.MIN_VALUE,
+		Byte.MAX_VALUE);
+    }
+
+    @Override
+    public short getShort(int columnIndex) throws SQLException {
+	if (isNullValue(columnIndex)) {
+	    return 0;
+	}
+	return (short) getLongValue(columnIndex, "a Short", Short.MIN_VALUE,
+		Short.MAX_VALUE);
+    }
+
+    @Override
+    public float getFloat(int columnIndex) throws SQLException {
+	if (isNullValue(columnIndex)) {
+	    return 0;
+	}
+	try {
+	    return rowValues.getFloat(columnIndex);
+	} catch (NumberFormatException e) {
+	    throw new SQLException(
+		    "Not a Float value: " + rowValues.getValue(columnIndex));
+	}
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException {
+	if (isNullValue(columnIndex)) {
+	    return 0;
+	}
+	try {
+	    return rowValues.getDouble(columnIndex);
+	} catch (NumberFormatException e) {
+	    throw new SQLException(
+		    "Not a Double value: " + rowValues.getValue(columnIndex));
+	}
+    }
+
+    /**
+     * Returns the content of a Blob column, downloaded from the server.
+     */
+    @Override
+    public byte[] getBytes(int columnIndex) throws SQLException {
+	InputStream in = getBinaryStream(columnIndex);
+	if (in == null) {
+	    return null;
+	}
+
+	try {
+	    return IOUtils.toByteArray(in);
+	} catch (IOException e) {
+	    throw new SQLException(e);
+	} finally {
+	    try {
+		in.close();
+	    } catch (Exception ignore) {
+		// ignore
+	    }
+	}
+    }
+
+    /**
+     * Returns the value as the Java type of the SQL type of the column:
+     * {@code Integer}, {@code Long}, {@code Float}, {@code Double},
+     * {@code BigDecimal}, {@code Boolean}, {@code Date}, {@code Time} or
+     * {@code Timestamp}, decoded from the value without an intermediate
+     * {@code String} where the row allows it. Other types, and all columns if
+     * the server did not send the SQL types, are returned as a
+     * {@code String}: use {@link #getObject(int, Class)} to get another type.
+     */
+    @Override
+    public Object getObject(int columnIndex) throws SQLException {
+	if (isNullValue(columnIndex)) {
+	    return null;
+	}
+
+	String typeName = getColumnTypeName(columnIndex);
+	if (typeName == null) {
+	    return getString(columnIndex);
+	}
+
+	switch (typeName.toUpperCase(Locale.ENGLISH)) {
+	case AceQLTypes.TINYINT:
+	case AceQLTypes.SMALLINT:
+	case AceQLTypes.INTEGER:
+	    return getInt(columnIndex);
+	case AceQLTypes.BIGINT:
+	    return getLong(columnIndex);
+	case AceQLTypes.REAL:
+	    return getFloat(columnIndex);
+	case AceQLTypes.FLOAT:
+	case AceQLTypes.DOUBLE_PRECISION:
+	case "DOUBLE":
+	    return getDouble(columnIndex);
+	case AceQLTypes.DECIMAL:
+	case AceQLTypes.NUMERIC:
+	    return getBigDecimal(columnIndex);
+	case AceQLTypes.BIT:
+	case "BOOLEAN":
+	    return getBoolean(columnIndex);
+	case AceQLTypes.DATE:
+	    return getDate(columnIndex);
+	case AceQLTypes.TIME:
+	    return getTime(columnIndex);
+	case AceQLTypes.TIMESTAMP:
+	    return getTimestamp(columnIndex);
+	default:
+	    return getString(columnIndex);
+	}
+    }
+
+    /**
+     * Returns the SQL type of a column, sent by the server before the rows.
+     *
+     * @return the type name, or null if not known
+     */
+    private String getColumnTypeName(int columnIndex) throws SQLException {
+	if (!columnTypesRead) {
+	    if (rowStream != null) {
+		columnTypes = rowStream.getColumnTypes();
+	    } else if (resultBuffer != null) {
+		columnTypes = ColumnarDecoder.readHeader(resultBuffer).get("column_types");
+	    }
+	    columnTypesRead = true;
+	}
+	if (columnTypes == null || columnIndex < 1 || columnIndex > columnTypes.size()) {
+	    return null;
+	}
+	return columnTypes.get(columnIndex - 1);
+    }
+
+    /**
+     * Returns the value converted to a type. Supported types are the
+     * {@code String}, the primitive wrappers, {@code BigDecimal},
+     * {@code byte[]}, the {@code java.sql} date types, {@code java.util.Date},
+     * and {@code LocalDate}, {@code LocalTime}, {@code LocalDateTime},
+     * {@code Instant} and {@code OffsetDateTime}, in the default time zone.
+     */
+    @Override
+    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+
+	if (type == null) {
+	    throw new SQLException("type is null!");
+	}
+
+	if (isNullValue(columnIndex)) {
+	    return null;
+	}
+
+	Object value;
+	if (type == String.class) {
+	    value = getString(columnIndex);
+	} else if (type == Integer.class) {
+	    value = getInt(columnIndex);
+	} else if (type == Long.class) {
+	    value = getLong(columnIndex);
+	} else if (type == Short.class) {
+	    value = getShort(columnIndex);
+	} else if (type == Byte.class) {
+	    value = getByte(columnIndex);
+	} else if (type == Double.class) {
+	    value = getDouble(columnIndex);
+	} else if (type == Float.class) {
+	    value = getFloat(columnIndex);
+	} else if (type == Boolean.class) {
+	    value = getBoolean(columnIndex);
+	} else if (type == BigDecimal.class) {
+	    value = getBigDecimal(columnIndex);
+	} else if (type == byte[].class) {
+	    value = getBytes(columnIndex);
+	} else if (type == Date.class) {
+	    value = getDate(columnIndex);
+	} else if (type == Time.class) {
+	    value = getTime(columnIndex);
+	} else if (type == Timestamp.class) {
+	    value = getTimestamp(columnIndex);
+	} else if (type == java.util.Date.class) {
+	    value = new java.util.Date(getMillis(columnIndex, "a Date"));
+	} else if (type == Instant.class) {
+	    value = Instant.ofEpochMilli(getMillis(columnIndex, "an Instant"));
+	} else if (type == LocalDate.class) {
+	    value = getZonedDateTime(columnIndex, "a LocalDate").toLocalDate();
+	} else if (type == LocalTime.class) {
+	    value = getZonedDateTime(columnIndex, "a LocalTime").toLocalTime();
+	} else if (type == LocalDateTime.class) {
+	    value = getZonedDateTime(columnIndex, "a LocalDateTime")
+		    .toLocalDateTime();
+	} else if (type == OffsetDateTime.class) {
+	    value = getZonedDateTime(columnIndex, "an OffsetDateTime")
+		    .toOffsetDateTime();
+	} else {
+	    throw new SQLFeatureNotSupportedException(
+		    "Unsupported type: " + type.getName());
+	}
+
+	return type.cast(value);
+    }
+
+    private ZonedDateTime getZonedDateTime(int index, String typeName)
+	    throws SQLException {
+	return Instant.ofEpochMilli(getMillis(index, typeName))
+		.atZone(ZoneId.systemDefault());
+    }
+
+    /**
+     * @return
+     * @throws SQLException
+     * @see java.sql.ResultSet#isClosed()
+     */
+    @Override
+    public boolean isClosed() throws SQLException {
+	return isClosed;
+    }
+
+    @Override
+    public void close() {
+	isClosed = true;
+
+	if (prefetcher != null) {
+	    prefetcher.cancel();
+	}
+
+	if (rowStream != null) {
+	    // Aborts the download if the last row is not read. This also ends
+	    // a worker blocked on the download.
+	    rowStream.close();
+	}
+
+	// The worker must not read the result once it is deleted
+	if (prefetcher != null) {
+	    prefetcher.awaitTermination();
+	    prefetcher = null;
+	}
+
+	if (rowStream != null) {
+	    return;
+	}
+
+	if (pagedQuery != null) {
+	    pagedQuery.close();
+	    deletePage();
+	    return;
+	}
+
+	rowParser.close();
+
+	if (!DEBUG) {
+	    resultBuffer.delete();
+	}
+    }
+
+    /**
+     * Says if trace is on
+     * 
+     * @return true if trace is on
+     */
+    public boolean isTraceOn() {
+	return rowParser != null && rowParser.isTraceOn();
+    }
+
+    /**
+     * Sets the trace on/off
+     * 
+     * @param traceOn
+     *            if true, trace will be on
+     */
+    public void setTraceOn(boolean traceOn) {
+	if (rowParser != null) {
+	    rowParser.setTraceOn(traceOn);
+	}
+    }
+
+    private void debug(String s) {
+	if (DEBUG) {
+	    System.out.println(new java.util.Date() + " " + s);
+	}
+    }
+
+}
@@ -0,0 +1,282 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.input.CountingInputStream;
+
+import com.aceql.client.jdbc.http.AceQLHttpApi;
+import com.aceql.client.jdbc.http.TransportResponse;
+import com.aceql.client.jdbc.util.json.RowStreamParser;
+import com.aceql.client.jdbc.util.json.RowValues;
+
+/**
+ * Forward only stream of the rows of a query, read while the result is
+ * downloaded. <br>
+ * <br>
+ * Unlike {@link java.sql.Statement#executeQuery(String)}, which downloads the whole
+ * result into a local file before the first row can be read, the rows are
+ * parsed from the HTTP response one at a time when {@link #next()} is called.
+ * The network is thus read only as fast as the rows are consumed, and memory
+ * use does not depend on the result size:
+ *
+ * <pre>
+ * try (AceQLRowStream rowStream = new AceQLRowStream(connection, &quot;select * from orderlog&quot;)) {
+ *     Row row;
+ *     while ((row = rowStream.next()) != null) {
+ * 	process(row);
+ *     }
+ * }
+ * </pre>
+ *
+ * Closing the stream before the last row aborts the HTTP download. A stream may
+ * be closed from another thread.
+ */
+public class AceQLRowStream implements Closeable {
+
+    private final AceQLHttpApi aceQLHttpApi;
+    private final TransportResponse response;
+    private final RowStreamParser rowStreamParser;
+    /** Counts the bytes received, before decompression */
+    private CountingInputStream countingIn = null;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Executes a SQL query and opens the stream of its rows.
+     *
+     * @param connection the AceQL Connection
+     * @param sql        the SQL query
+     * @throws SQLException if the query fails
+     */
+    public AceQLRowStream(Connection connection, String sql) throws SQLException {
+	this(getAceQLHttpApi(connection), sql, false, false, null);
+    }
+
+    /**
+     * Executes a prepared query whose parameters are already set and opens the
+     * stream of its rows.
+     *
+     * @param preparedStatement the prepared query, created by an AceQL
+     *                          Connection
+     * @throws SQLException if the query fails
+     */
+    public AceQLRowStream(PreparedStatement preparedStatement) throws SQLException {
+	this(getAceQLPreparedStatement(preparedStatement));
+    }
+
+    private AceQLRowStream(AceQLPreparedStatement preparedStatement) throws SQLException {
+	this(preparedStatement.getQueryApi(), preparedStatement.getSql(), true,
+		preparedStatement.isStoredProcedure, preparedStatement.builder.getHttpFormattedStatementParameters());
+    }
+
+    AceQLRowStream(AceQLHttpApi aceQLHttpApi, String sql, boolean isPreparedStatement, boolean isStoredProcedure,
+	    Map<String, String> statementParameters) throws SQLException {
+
+	this.aceQLHttpApi = aceQLHttpApi;
+	this.response = aceQLHttpApi.executeQueryResponse(sql, isPreparedStatement, isStoredProcedure,
+		statementParameters);
+
+	int httpStatusCode = response.getStatusCode();
+
+	try {
+	    InputStream in = response.getBody();
+	    if (in == null) {
+		throw new AceQLException(getHttpFailureMessage(response), 0, null, null, httpStatusCode);
+	    }
+
+	    countingIn = new CountingInputStream(in);
+	    InputStream inFinal = AceQLStatement.getFinalInputStream(countingIn, aceQLHttpApi.isGzipResult());
+	    this.rowStreamParser = new RowStreamParser(new InputStreamReader(inFinal, "UTF-8"));
+
+	    boolean statusOk;
+	    try {
+		statusOk = rowStreamParser.isStatusOk();
+	    } catch (SQLException e) {
+		throw new AceQLException(getHttpFailureMessage(response), 0, e, null, httpStatusCode);
+	    }
+
+	    if (!statusOk) {
+		throw new AceQLException(rowStreamParser.getErrorMessage(), rowStreamParser.getErrorId(), null,
+			rowStreamParser.getStackTrace(), httpStatusCode);
+	    }
+	} catch (Exception e) {
+	    response.abort();
+	    if (countingIn != null) {
+		QueryMetrics.record(aceQLHttpApi, countingIn.getByteCount(), true);
+	    }
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, httpStatusCode);
+	    }
+	}
+    }
+
+    private static String getHttpFailureMessage(TransportResponse response) {
+	if (response.getStatusCode() != HttpURLConnection.HTTP_OK) {
+	    return "HTTP FAILURE " + response.getStatusCode() + " (" + response.getStatusMessage() + ")";
+	}
+	return "Unknown error.";
+    }
+
+    private static AceQLHttpApi getAceQLHttpApi(Connection connection) throws SQLException {
+	if (connection == null) {
+	    throw new NullPointerException("connection is null!");
+	}
+	if (!(connection instanceof AceQLConnection)) {
+	    throw new SQLException("connection is not an AceQLConnection: " + connection.getClass().getName());
+	}
+	return ((AceQLConnection) connection).getQueryApi();
+    }
+
+    private static AceQLPreparedStatement getAceQLPreparedStatement(PreparedStatement preparedStatement)
+	    throws SQLException {
+	if (preparedStatement == null) {
+	    throw new NullPointerException("preparedStatement is null!");
+	}
+	if (!(preparedStatement instanceof AceQLPreparedStatement)) {
+	    throw new SQLException(
+		    "preparedStatement is not created by an AceQLConnection: " + preparedStatement.getClass().getName());
+	}
+	return (AceQLPreparedStatement) preparedStatement;
+    }
+
+    /**
+     * Reads the next row. Blocks until the row is received.
+     *
+     * @return the next row, or null if there are no more rows or if the stream
+     *         was closed
+     * @throws SQLException if the download fails
+     */
+    public Row next() throws SQLException {
+	if (!nextRow()) {
+	    return null;
+	}
+	return new Row(rowStreamParser.getRowNum(), rowStreamParser.getColumnNames(), rowStreamParser.getValues());
+    }
+
+    /**
+     * Reads the next row without building a {@code Row}: the values are then
+     * available with {@link #getRowValues()}.
+     *
+     * @return false if there are no more rows or if the stream was closed
+     * @throws SQLException if the download fails
+     */
+    boolean nextRow() throws SQLException {
+	if (closed) {
+	    return false;
+	}
+
+	try {
+	    if (!rowStreamParser.nextRow()) {
+		close();
+		return false;
+	    }
+	} catch (SQLException e) {
+	    if (closed) {
+		return false;
+	    }
+	    close();
+	    throw new AceQLException(e.getMessage(), 0, e.getCause() != null ? e.getCause() : e, null,
+		    response.getStatusCode());
+	}
+	return true;
+    }
+
+    /**
+     * @return the values of the row read by {@link #nextRow()}, reused for the
+     *         next rows
+     */
+    RowValues getRowValues() {
+	return rowStreamParser.getRowValues();
+    }
+
+    /**
+     * @return the column names, or null before the first row
+     */
+    List<String> getColumnNames() {
+	return rowStreamParser.getColumnNames();
+    }
+
+    /**
+     * @return the SQL types of the columns, or null if the server did not send
+     *         them
+     */
+    List<String> getColumnTypes() {
+	return rowStreamParser.getColumnTypes();
+    }
+
+    /**
+     * @return the number of the current row, starting at 1
+     */
+    int getRowNum() {
+	return rowStreamParser.getRowNum();
+    }
+
+    /**
+     * Returns the number of rows of the result, known once the last row is read.
+     *
+     * @return the number of rows, or -1 if the last row is not read yet
+     */
+    public int getRowCount() {
+	return rowStreamParser.getRowCount();
+    }
+
+    /**
+     * @return true if the stream is closed
+     */
+    public boolean isClosed() {
+	return closed;
+    }
+
+    /**
+     * Closes the stream. If the last row is not read, the HTTP download is
+     * aborted and the network connection is not reused. The bytes received are
+     * recorded in the {@link QueryMetrics} of the connection options.
+     */
+    @Override
+    public void close() {
+	synchronized (this) {
+	    if (closed) {
+		return;
+	    }
+	    closed = true;
+	}
+
+	boolean aborted = !rowStreamParser.isEndOfRows();
+	if (aborted) {
+	    response.abort();
+	} else {
+	    response.close();
+	}
+	rowStreamParser.close();
+	QueryMetrics.record(aceQLHttpApi, countingIn.getByteCount(), aborted);
+    }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.                                 
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.                                
+ *                                                                               
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. 
+ */
+package com.aceql.client.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.kawanfw.driver.jdbc.abstracts.AbstractStatement;
+
+import com.aceql.client.jdbc.http.AceQLHttpApi;
+
+/**
+ * @author Nicolas de Pomereu
+ *
+ */
+class AceQLStatement extends AbstractStatement implements Statement {
+
+    private AceQLConnection aceQLConnection = null;
+
+    /** The Http instance that does all Http stuff */
+    private AceQLHttpApi aceQLHttpApi = null;
+
+    /**
+     * The result set of the last query, closed when the statement is executed
+     * again or closed. null if none
+     */
+    private AceQLResultSet currentResultSet = null;
+
+    /** The type of the result sets: only forward only ones are not spooled */
+    private int resultSetType = ResultSet.TYPE_SCROLL_INSENSITIVE;
+
+    /**
+     * The number of rows per page if the connection executes the queries in
+     * pages, 0 for none
+     */
+    private int fetchSize = 0;
+    /** The maximum number of rows of the result sets, 0 for no limit */
+    private int maxRows = 0;
+
+    /**
+     * Constructor
+     * 
+     * @param aceQLConnection
+     */
+    public AceQLStatement(AceQLConnection aceQLConnection) {
+	this.aceQLConnection = aceQLConnection;
+	this.aceQLHttpApi = aceQLConnection.aceQLHttpApi;
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param aceQLConnection
+     * @param resultSetType
+     *            the type of the result sets. The rows of a
+     *            <code>ResultSet.TYPE_FORWARD_ONLY</code> result set are read
+     *            from the HTTP response, without being downloaded first.
+     */
+    AceQLStatement(AceQLConnection aceQLConnection, int resultSetType) {
+	this(aceQLConnection);
+	this.resultSetType = resultSetType;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * org.kawanfw.driver.jdbc.abstracts.AbstractStatement#executeUpdate(java.
+     * lang.String)
+     */
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+	closeCurrentResultSet();
+
+	boolean isPreparedStatement = false;
+	boolean isStoredProcedure = false;
+	Map<String, String> statementParameters = null;
+	return aceQLHttpApi.executeUpdate(sql, isPreparedStatement,
+		isStoredProcedure, statementParameters, null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * org.kawanfw.driver.jdbc.abstracts.AbstractStatement#executeQuery(java.
+     * lang.String)
+     */
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+	closeCurrentResultSet();
+
+	// Queries outside of a transaction may be routed to a read replica
+	AceQLHttpApi aceQLHttpApi = aceQLConnection.getQueryApi();
+
+	// The query is executed in pages if the database and the query allow it
+	boolean paged = fetchSize > 0 && aceQLConnection.isPagedExecution();
+	SqlPaging sqlPaging = paged ? aceQLConnection.getSqlPaging(sql) : null;
+
+	AceQLResultSet aceQLResultSet;
+	if (paged && sqlPaging != null) {
+	    PagedQuery pagedQuery = new PagedQuery(aceQLHttpApi, sqlPaging, sql, false, null,
+		    aceQLConnection.getResultMemoryThreshold(), fetchSize, maxRows);
+	    try {
+		aceQLResultSet = new AceQLResultSet(pagedQuery, this, aceQLHttpApi);
+	    } catch (SQLException e) {
+		pagedQuery.close();
+		throw e;
+	    }
+	} else {
+	    if (resultSetType == ResultSet.TYPE_FORWARD_ONLY) {
+		AceQLRowStream rowStream = new AceQLRowStream(aceQLHttpApi, sql, false, false, null);
+		try {
+		    aceQLResultSet = new AceQLResultSet(rowStream, this, aceQLHttpApi);
+		} catch (SQLException e) {
+		    rowStream.close();
+		    throw e;
+		}
+	    } else {
+		// Small results are kept in memory, larger ones are spilled to a
+		// file. The download stops at maxRows.
+		SpooledResult spooledResult = SpooledResult.download(aceQLHttpApi, sql, false, false, null,
+			aceQLConnection.getResultMemoryThreshold(), maxRows);
+		try {
+		    aceQLResultSet = new AceQLResultSet(spooledResult.getResultBuffer(), this,
+			    spooledResult.getRowCount(), aceQLHttpApi, spooledResult.getRowOffsetIndex());
+		} catch (SQLException e) {
+		    spooledResult.getResultBuffer().delete();
+		    throw e;
+		}
+	    }
+	}
+
+	aceQLResultSet.setMaxRows(maxRows);
+	this.currentResultSet = aceQLResultSet;
+	return aceQLResultSet;
+    }
+
+    /**
+     * Closes the result set of the last query, as required before the
+     * statement is executed again. This releases its HTTP connection, stops
+     * its prefetch and deletes its rows.
+     */
+    private void closeCurrentResultSet() {
+	if (currentResultSet != null) {
+	    currentResultSet.close();
+	    currentResultSet = null;
+	}
+    }
+
+    public static InputStream getFinalInputStream(InputStream in,
+	    boolean gzipResult) throws IOException {
+
+	InputStream inFinal = null;
+	if (!gzipResult) {
+	    inFinal = in;
+	} else {
+	    inFinal = new GZIPInputStream(in);
+	}
+	return inFinal;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#close()
+     */
+    @Override
+    public void close() throws SQLException {
+	closeCurrentResultSet();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#setFetchSize(int)
+     */
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+	if (rows < 0) {
+	    throw new SQLException("Invalid fetch size: " + rows);
+	}
+	this.fetchSize = rows;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#getFetchSize()
+     */
+    @Override
+    public int getFetchSize() throws SQLException {
+	return fetchSize;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#setMaxRows(int)
+     */
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+	if (max < 0) {
+	    throw new SQLException("Invalid max rows: " + max);
+	}
+	this.maxRows = max;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#getMaxRows()
+     */
+    @Override
+    public int getMaxRows() throws SQLException {
+	return maxRows;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#getResultSetType()
+     */
+    @Override
+    public int getResultSetType() throws SQLException {
+	return resultSetType;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#
+     * getResultSetConcurrency()
+     */
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+	return ResultSet.CONCUR_READ_ONLY;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.kawanfw.driver.jdbc.abstracts.AbstractStatement#getConnection()
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+	return this.aceQLConnection;
+    }
+
+}
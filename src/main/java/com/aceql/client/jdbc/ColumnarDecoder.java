@@ -0,0 +1,460 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+
+import com.aceql.client.jdbc.ColumnarTable.ColumnType;
+import com.aceql.client.jdbc.util.AceQLTypes;
+import com.aceql.client.jdbc.util.json.ColumnIndex;
+import com.aceql.client.jdbc.util.json.ResultBuffer;
+import com.aceql.client.jdbc.util.json.RowOffsetIndex;
+import com.aceql.client.jdbc.util.json.RowParser;
+import com.aceql.client.jdbc.util.json.RowValues;
+
+/**
+ * Decodes a downloaded result set into a {@link ColumnarTable}. <br>
+ * The rows are split in ranges, decoded concurrently on a ForkJoin pool
+ * directly into the vectors of the table: each range has its own parser and
+ * writes its own slice of the vectors. The ranges are a multiple of 64 rows,
+ * so that two ranges never write the same word of a null bitmap. <br>
+ * The storage of a column is given by the "column_types" sent by the server,
+ * or guessed from the first row. A column that holds a value that does not
+ * fit is widened, from {@code LONG} to {@code DOUBLE} to {@code STRING}, and
+ * decoded again.
+ */
+class ColumnarDecoder {
+
+    /** The number of rows decoded by a task */
+    static final int RANGE_ROWS = 64 * 256;
+
+    private final ResultBuffer resultBuffer;
+    private final RowOffsetIndex rowOffsetIndex;
+    private final int rowCount;
+
+    private ColumnType[] columnTypes;
+    private long[][] longs;
+    private double[][] doubles;
+    private int[][] codes;
+    private String[][] dictionaries;
+    private long[][] nulls;
+
+    /**
+     * Constructor.
+     *
+     * @param resultBuffer   the downloaded result set
+     * @param rowOffsetIndex the offsets of the rows. null if the rows are
+     *                       searched by parsing the result: they are then
+     *                       decoded by a single task.
+     * @param rowCount       the number of rows
+     */
+    ColumnarDecoder(ResultBuffer resultBuffer, RowOffsetIndex rowOffsetIndex, int rowCount) {
+	this.resultBuffer = resultBuffer;
+	this.rowOffsetIndex = rowOffsetIndex;
+	this.rowCount = rowCount;
+    }
+
+    /**
+     * Decodes all the rows.
+     *
+     * @param pool the pool that decodes the ranges of rows
+     * @return the rows, per column
+     * @throws SQLException if the result can not be read
+     */
+    ColumnarTable decode(ForkJoinPool pool) throws SQLException {
+
+	Map<String, List<String>> header = readHeader(resultBuffer);
+	List<String> typeNames = header.get("column_types");
+
+	ColumnIndex columnIndex;
+	if (rowCount == 0) {
+	    List<String> columnNames = header.get("column_names");
+	    columnIndex = new ColumnIndex(columnNames != null ? columnNames : new ArrayList<String>());
+	} else {
+	    RowParser rowParser = new RowParser(resultBuffer, rowOffsetIndex);
+	    try {
+		rowParser.buildRowNum(1);
+		columnIndex = rowParser.getColumnIndex();
+		if (typeNames == null || typeNames.size() != columnIndex.getColumnCount()) {
+		    columnTypes = guessColumnTypes(rowParser.getRowValues());
+		}
+	    } finally {
+		rowParser.close();
+	    }
+	}
+
+	int columnCount = columnIndex.getColumnCount();
+	if (columnTypes == null) {
+	    columnTypes = new ColumnType[columnCount];
+	    for (int i = 0; i < columnCount; i++) {
+		columnTypes[i] = typeNames != null && typeNames.size() == columnCount
+			? getColumnType(typeNames.get(i))
+			: ColumnType.STRING;
+	    }
+	}
+
+	longs = new long[columnCount][];
+	doubles = new double[columnCount][];
+	codes = new int[columnCount][];
+	dictionaries = new String[columnCount][];
+	nulls = new long[columnCount][];
+
+	boolean[] columns = new boolean[columnCount];
+	for (int i = 0; i < columnCount; i++) {
+	    nulls[i] = new long[(rowCount + 63) >>> 6];
+	    allocate(i);
+	    columns[i] = true;
+	}
+
+	// A column is decoded at most three times: as LONG, DOUBLE and STRING
+	while (decodeRanges(pool, columns)) {
+	    for (int i = 0; i < columnCount; i++) {
+		if (columns[i]) {
+		    columnTypes[i] = columnTypes[i] == ColumnType.LONG ? ColumnType.DOUBLE : ColumnType.STRING;
+		    allocate(i);
+		}
+	    }
+	}
+
+	return new ColumnarTable(columnIndex, rowCount, columnTypes, longs, doubles, codes, dictionaries, nulls);
+    }
+
+    /**
+     * Returns the storage of a column, per its SQL type.
+     *
+     * @param typeName the SQL type sent by the server
+     * @return the storage of the column
+     */
+    static ColumnType getColumnType(String typeName) {
+	if (typeName == null) {
+	    return ColumnType.STRING;
+	}
+	String type = typeName.toUpperCase(Locale.ENGLISH);
+	if (type.equals(AceQLTypes.TINYINT) || type.equals(AceQLTypes.SMALLINT) || type.equals(AceQLTypes.INTEGER)
+		|| type.equals(AceQLTypes.BIGINT) || type.equals(AceQLTypes.DATE) || type.equals(AceQLTypes.TIME)
+		|| type.equals(AceQLTypes.TIMESTAMP)) {
+	    return ColumnType.LONG;
+	}
+	if (type.equals(AceQLTypes.REAL) || type.equals(AceQLTypes.FLOAT) || type.equals("DOUBLE")
+		|| type.equals(AceQLTypes.DOUBLE_PRECISION)) {
+	    return ColumnType.DOUBLE;
+	}
+	// DECIMAL and NUMERIC values would lose digits in a double
+	return ColumnType.STRING;
+    }
+
+    private static ColumnType[] guessColumnTypes(RowValues rowValues) {
+	ColumnType[] columnTypes = new ColumnType[rowValues.getColumnCount()];
+	for (int i = 0; i < columnTypes.length; i++) {
+	    columnTypes[i] = ColumnType.STRING;
+	    if (rowValues.isNull(i + 1)) {
+		columnTypes[i] = ColumnType.LONG;
+		continue;
+	    }
+	    try {
+		rowValues.getLong(i + 1);
+		columnTypes[i] = ColumnType.LONG;
+	    } catch (NumberFormatException e) {
+		try {
+		    rowValues.getDouble(i + 1);
+		    columnTypes[i] = ColumnType.DOUBLE;
+		} catch (NumberFormatException e2) {
+		    // A STRING
+		}
+	    }
+	}
+	return columnTypes;
+    }
+
+    private void allocate(int i) {
+	longs[i] = columnTypes[i] == ColumnType.LONG ? new long[rowCount] : null;
+	doubles[i] = columnTypes[i] == ColumnType.DOUBLE ? new double[rowCount] : null;
+	codes[i] = columnTypes[i] == ColumnType.STRING ? new int[rowCount] : null;
+	dictionaries[i] = null;
+    }
+
+    /**
+     * Decodes the passed columns of all the rows.
+     *
+     * @param pool    the pool that decodes the ranges
+     * @param columns the columns to decode. On return, the columns to widen.
+     * @return true if a column must be widened
+     */
+    private boolean decodeRanges(ForkJoinPool pool, boolean[] columns) throws SQLException {
+
+	// The rows are read at their offset only if all are indexed in a
+	// buffer that can be mapped
+	boolean parallel = rowOffsetIndex != null && rowOffsetIndex.contains(rowCount)
+		&& resultBuffer.length() <= Integer.MAX_VALUE;
+	if (parallel) {
+	    try {
+		// Maps the file once, for all the tasks
+		resultBuffer.getByteBuffer();
+	    } catch (IOException e) {
+		throw new SQLException(e);
+	    }
+	}
+
+	int rangeRows = parallel ? RANGE_ROWS : Math.max(rowCount, 1);
+	final List<RangeTask> tasks = new ArrayList<RangeTask>();
+	for (int from = 0; from < rowCount; from += rangeRows) {
+	    tasks.add(new RangeTask(from, Math.min(from + rangeRows, rowCount), columns));
+	}
+
+	pool.invoke(new RecursiveAction() {
+	    private static final long serialVersionUID = 1L;
+
+	    @Override
+	    protected void compute() {
+		invokeAll(tasks);
+	    }
+	});
+
+	for (RangeTask task : tasks) {
+	    if (task.failure != null) {
+		throw task.failure;
+	    }
+	}
+
+	mergeDictionaries(tasks, columns);
+
+	boolean widen = false;
+	for (int i = 0; i < columns.length; i++) {
+	    columns[i] = false;
+	    for (RangeTask task : tasks) {
+		columns[i] |= task.unfit[i];
+	    }
+	    widen |= columns[i];
+	}
+	return widen;
+    }
+
+    /**
+     * Builds the dictionary of the STRING columns from the dictionaries of the
+     * ranges, and replaces the codes of the ranges by the codes of the
+     * dictionary.
+     */
+    private void mergeDictionaries(List<RangeTask> tasks, boolean[] columns) {
+	for (int i = 0; i < columns.length; i++) {
+	    if (!columns[i] || columnTypes[i] != ColumnType.STRING) {
+		continue;
+	    }
+
+	    Dictionary dictionary = new Dictionary();
+	    for (RangeTask task : tasks) {
+		List<String> values = task.dictionaries[i].values;
+		int[] remap = new int[values.size()];
+		for (int code = 0; code < remap.length; code++) {
+		    remap[code] = dictionary.add(values.get(code));
+		}
+		int[] columnCodes = codes[i];
+		for (int row = task.from; row < task.to; row++) {
+		    if (columnCodes[row] >= 0) {
+			columnCodes[row] = remap[columnCodes[row]];
+		    }
+		}
+	    }
+	    dictionaries[i] = dictionary.values.toArray(new String[dictionary.values.size()]);
+	}
+    }
+
+    /**
+     * Reads the "column_types" and "column_names" arrays that precede the rows.
+     *
+     * @param resultBuffer the downloaded result
+     * @return the arrays per name. Empty if the server did not send them.
+     * @throws SQLException if the result can not be read
+     */
+    static Map<String, List<String>> readHeader(ResultBuffer resultBuffer) throws SQLException {
+	Map<String, List<String>> header = new HashMap<String, List<String>>();
+	Reader reader = null;
+	try {
+	    reader = new InputStreamReader(resultBuffer.openInputStream(), "UTF-8");
+	    JsonParser parser = Json.createParser(reader);
+
+	    int depth = 0;
+	    String key = null;
+	    List<String> array = null;
+	    while (parser.hasNext()) {
+		JsonParser.Event event = parser.next();
+		switch (event) {
+		case START_OBJECT:
+		case START_ARRAY:
+		    depth++;
+		    if (depth == 2 && ("column_types".equals(key) || "column_names".equals(key))) {
+			array = new ArrayList<String>();
+			header.put(key, array);
+		    }
+		    break;
+		case END_OBJECT:
+		case END_ARRAY:
+		    depth--;
+		    array = null;
+		    break;
+		case KEY_NAME:
+		    if (depth == 1) {
+			key = parser.getString();
+			if (key.equals("query_rows")) {
+			    return header;
+			}
+		    }
+		    break;
+		case VALUE_STRING:
+		    if (array != null) {
+			array.add(parser.getString());
+		    }
+		    break;
+		default:
+		    break;
+		}
+	    }
+	    return header;
+	} catch (Exception e) {
+	    throw new SQLException(e);
+	} finally {
+	    if (reader != null) {
+		try {
+		    reader.close();
+		} catch (Exception ignore) {
+		    // ignore
+		}
+	    }
+	}
+    }
+
+    /**
+     * The distinct values of a column, in the order of their first row.
+     */
+    private static final class Dictionary {
+	private final Map<String, Integer> codes = new HashMap<String, Integer>();
+	private final List<String> values = new ArrayList<String>();
+
+	int add(String value) {
+	    Integer code = codes.get(value);
+	    if (code == null) {
+		code = values.size();
+		codes.put(value, code);
+		values.add(value);
+	    }
+	    return code;
+	}
+    }
+
+    /**
+     * Decodes a range of rows into the vectors. The codes of the STRING
+     * columns are the codes of the dictionary of the range.
+     */
+    private final class RangeTask extends RecursiveAction {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int from;
+	private final int to;
+	private final boolean[] columns;
+
+	/** The columns holding a value that does not fit their storage */
+	private final boolean[] unfit;
+	private final Dictionary[] dictionaries;
+	private SQLException failure = null;
+
+	RangeTask(int from, int to, boolean[] columns) {
+	    this.from = from;
+	    this.to = to;
+	    this.columns = columns.clone();
+	    this.unfit = new boolean[columns.length];
+	    this.dictionaries = new Dictionary[columns.length];
+	    for (int i = 0; i < columns.length; i++) {
+		if (columns[i] && columnTypes[i] == ColumnType.STRING) {
+		    dictionaries[i] = new Dictionary();
+		}
+	    }
+	}
+
+	@Override
+	protected void compute() {
+	    RowParser rowParser = null;
+	    try {
+		rowParser = new RowParser(resultBuffer, rowOffsetIndex);
+		for (int row = from; row < to; row++) {
+		    rowParser.buildRowNum(row + 1);
+		    decodeRow(row, rowParser.getRowValues());
+		}
+	    } catch (SQLException e) {
+		failure = e;
+	    } catch (RuntimeException e) {
+		failure = new SQLException(e);
+	    } finally {
+		if (rowParser != null) {
+		    rowParser.close();
+		}
+	    }
+	}
+
+	private void decodeRow(int row, RowValues rowValues) throws SQLException {
+	    if (rowValues == null || rowValues.getColumnCount() != columns.length) {
+		throw new SQLException("Invalid row " + (row + 1) + ": expected " + columns.length + " columns.");
+	    }
+
+	    for (int i = 0; i < columns.length; i++) {
+		if (!columns[i] || unfit[i]) {
+		    continue;
+		}
+
+		int colIndex = i + 1;
+		if (rowValues.isNull(colIndex)) {
+		    nulls[i][row >>> 6] |= 1L << (row & 63);
+		    if (codes[i] != null) {
+			codes[i][row] = -1;
+		    }
+		    continue;
+		}
+
+		try {
+		    switch (columnTypes[i]) {
+		    case LONG:
+			longs[i][row] = rowValues.getLong(colIndex);
+			break;
+		    case DOUBLE:
+			doubles[i][row] = rowValues.getDouble(colIndex);
+			break;
+		    default:
+			codes[i][row] = dictionaries[i].add(rowValues.getValue(colIndex));
+			break;
+		    }
+		} catch (NumberFormatException e) {
+		    unfit[i] = true;
+		}
+	    }
+	}
+    }
+
+}
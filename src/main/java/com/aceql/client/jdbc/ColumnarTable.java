@@ -0,0 +1,338 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ForkJoinPool;
+
+import com.aceql.client.jdbc.util.json.ColumnIndex;
+
+/**
+ * A query result decoded at once into column vectors, for analytics. <br>
+ * Each column is stored in a primitive array, of one of the
+ * {@link ColumnType}s:
+ * <ul>
+ * <li>{@code LONG}: a <code>long[]</code>, for the integer, date and time
+ * columns. The dates and times are the epoch milliseconds sent by the
+ * server.</li>
+ * <li>{@code DOUBLE}: a <code>double[]</code>, for the floating point
+ * columns.</li>
+ * <li>{@code STRING}: a dictionary of the distinct values, and an
+ * <code>int[]</code> of the dictionary codes, for the other columns. The
+ * <code>DECIMAL</code> and <code>NUMERIC</code> values are thus kept
+ * exact.</li>
+ * </ul>
+ * The SQL <code>NULL</code> values are stored in a bitmap per column: their
+ * value in the vector is 0, or the code -1. <br>
+ * The rows are numbered from 0, like the vectors, and the columns from 1,
+ * like in JDBC. The vectors are returned without copy and must not be
+ * modified. <br>
+ * <br>
+ * Example:
+ *
+ * <pre>
+ * ResultSet rs = statement.executeQuery("select * from orderlog");
+ * ColumnarTable table = ColumnarTable.of(rs);
+ * long[] quantities = table.getLongs(table.findColumn("quantity"));
+ * </pre>
+ */
+public final class ColumnarTable {
+
+    /**
+     * The storage of a column.
+     */
+    public enum ColumnType {
+	LONG, DOUBLE, STRING
+    }
+
+    private final ColumnIndex columnIndex;
+    private final int rowCount;
+    private final ColumnType[] columnTypes;
+    private final long[][] longs;
+    private final double[][] doubles;
+    private final int[][] codes;
+    private final String[][] dictionaries;
+    private final long[][] nulls;
+
+    ColumnarTable(ColumnIndex columnIndex, int rowCount, ColumnType[] columnTypes, long[][] longs,
+	    double[][] doubles, int[][] codes, String[][] dictionaries, long[][] nulls) {
+	this.columnIndex = columnIndex;
+	this.rowCount = rowCount;
+	this.columnTypes = columnTypes;
+	this.longs = longs;
+	this.doubles = doubles;
+	this.codes = codes;
+	this.dictionaries = dictionaries;
+	this.nulls = nulls;
+    }
+
+    /**
+     * Decodes all the rows of a result set, on the common ForkJoin pool. The
+     * position of the result set is not changed.
+     *
+     * @param resultSet a scrollable result set of an AceQL connection
+     * @return the rows of the result set, per column
+     * @throws SQLException if the result set is not a scrollable AceQL result
+     *                      set, or if the rows can not be read
+     */
+    public static ColumnarTable of(ResultSet resultSet) throws SQLException {
+	return of(resultSet, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decodes all the rows of a result set. The position of the result set is
+     * not changed.
+     *
+     * @param resultSet a scrollable result set of an AceQL connection
+     * @param pool      the pool that decodes the rows
+     * @return the rows of the result set, per column
+     * @throws SQLException if the result set is not a scrollable AceQL result
+     *                      set, or if the rows can not be read
+     */
+    public static ColumnarTable of(ResultSet resultSet, ForkJoinPool pool) throws SQLException {
+	if (!(resultSet instanceof AceQLResultSet)) {
+	    throw new SQLException("Not an AceQL result set: " + resultSet);
+	}
+	return ((AceQLResultSet) resultSet).toColumnarTable(pool);
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int getRowCount() {
+	return rowCount;
+    }
+
+    /**
+     * @return the number of columns
+     */
+    public int getColumnCount() {
+	return columnTypes.length;
+    }
+
+    /**
+     * @param column the column index, starting at 1
+     * @return the name of the column
+     */
+    public String getColumnName(int column) {
+	checkColumn(column);
+	return columnIndex.getColumnName(column);
+    }
+
+    /**
+     * Returns the index of a column. The name is case insensitive.
+     *
+     * @param columnName the name of the column
+     * @return the column index, starting at 1
+     * @throws IllegalArgumentException if the column does not exist
+     */
+    public int findColumn(String columnName) {
+	int column = columnIndex.indexOf(columnName);
+	if (column < 1) {
+	    throw new IllegalArgumentException("Invalid column name: " + columnName);
+	}
+	return column;
+    }
+
+    /**
+     * @param column the column index, starting at 1
+     * @return the storage of the column
+     */
+    public ColumnType getColumnType(int column) {
+	checkColumn(column);
+	return columnTypes[column - 1];
+    }
+
+    /**
+     * Returns the values of a {@code LONG} column.
+     *
+     * @param column the column index, starting at 1
+     * @return the values, per row. Not a copy.
+     */
+    public long[] getLongs(int column) {
+	checkColumnType(column, ColumnType.LONG);
+	return longs[column - 1];
+    }
+
+    /**
+     * Returns the values of a {@code DOUBLE} column.
+     *
+     * @param column the column index, starting at 1
+     * @return the values, per row. Not a copy.
+     */
+    public double[] getDoubles(int column) {
+	checkColumnType(column, ColumnType.DOUBLE);
+	return doubles[column - 1];
+    }
+
+    /**
+     * Returns the dictionary codes of a {@code STRING} column.
+     *
+     * @param column the column index, starting at 1
+     * @return the index of the value in {@link #getDictionary(int)}, per row.
+     *         -1 for the <code>NULL</code> values. Not a copy.
+     */
+    public int[] getCodes(int column) {
+	checkColumnType(column, ColumnType.STRING);
+	return codes[column - 1];
+    }
+
+    /**
+     * Returns the distinct values of a {@code STRING} column, in the order of
+     * their first row.
+     *
+     * @param column the column index, starting at 1
+     * @return the distinct values. Not a copy.
+     */
+    public String[] getDictionary(int column) {
+	checkColumnType(column, ColumnType.STRING);
+	return dictionaries[column - 1];
+    }
+
+    /**
+     * Says if a value is SQL <code>NULL</code>.
+     *
+     * @param row    the row, starting at 0
+     * @param column the column index, starting at 1
+     * @return true if the value is SQL <code>NULL</code>
+     */
+    public boolean isNull(int row, int column) {
+	checkColumn(column);
+	checkRow(row);
+	return (nulls[column - 1][row >>> 6] & (1L << (row & 63))) != 0;
+    }
+
+    /**
+     * @param column the column index, starting at 1
+     * @return the number of SQL <code>NULL</code> values of the column
+     */
+    public int getNullCount(int column) {
+	checkColumn(column);
+	int count = 0;
+	for (long word : nulls[column - 1]) {
+	    count += Long.bitCount(word);
+	}
+	return count;
+    }
+
+    /**
+     * Returns a value of a {@code LONG} column.
+     *
+     * @param row    the row, starting at 0
+     * @param column the column index, starting at 1
+     * @return the value, 0 if the value is SQL <code>NULL</code>
+     */
+    public long getLong(int row, int column) {
+	checkRow(row);
+	return getLongs(column)[row];
+    }
+
+    /**
+     * Returns a value of a {@code LONG} or {@code DOUBLE} column.
+     *
+     * @param row    the row, starting at 0
+     * @param column the column index, starting at 1
+     * @return the value, 0 if the value is SQL <code>NULL</code>
+     */
+    public double getDouble(int row, int column) {
+	checkRow(row);
+	if (getColumnType(column) == ColumnType.LONG) {
+	    return longs[column - 1][row];
+	}
+	return getDoubles(column)[row];
+    }
+
+    /**
+     * Returns a value of any column, as a String.
+     *
+     * @param row    the row, starting at 0
+     * @param column the column index, starting at 1
+     * @return the value, null if the value is SQL <code>NULL</code>
+     */
+    public String getString(int row, int column) {
+	if (isNull(row, column)) {
+	    return null;
+	}
+	switch (columnTypes[column - 1]) {
+	case LONG:
+	    return Long.toString(longs[column - 1][row]);
+	case DOUBLE:
+	    return Double.toString(doubles[column - 1][row]);
+	default:
+	    return dictionaries[column - 1][codes[column - 1][row]];
+	}
+    }
+
+    /**
+     * Returns the memory used by the vectors, the null bitmaps and the
+     * dictionaries. The Strings are counted with 2 bytes per char, the
+     * actual size may be smaller.
+     *
+     * @return the approximate size in bytes
+     */
+    public long getMemoryFootprint() {
+	final long arrayHeader = 16;
+	final long stringHeader = 24 + arrayHeader;
+
+	long size = 0;
+	for (int i = 0; i < columnTypes.length; i++) {
+	    size += arrayHeader + 8L * nulls[i].length;
+	    switch (columnTypes[i]) {
+	    case LONG:
+	    case DOUBLE:
+		size += arrayHeader + 8L * rowCount;
+		break;
+	    default:
+		size += arrayHeader + 4L * rowCount;
+		size += arrayHeader + 4L * dictionaries[i].length;
+		for (String value : dictionaries[i]) {
+		    size += stringHeader + 2L * value.length();
+		}
+		break;
+	    }
+	}
+	return size;
+    }
+
+    private void checkColumn(int column) {
+	if (column < 1 || column > columnTypes.length) {
+	    throw new IndexOutOfBoundsException("Invalid column index: " + column);
+	}
+    }
+
+    private void checkRow(int row) {
+	if (row < 0 || row >= rowCount) {
+	    throw new IndexOutOfBoundsException("Invalid row: " + row);
+	}
+    }
+
+    private void checkColumnType(int column, ColumnType columnType) {
+	if (getColumnType(column) != columnType) {
+	    throw new IllegalStateException(
+		    "Column " + column + " is " + columnTypes[column - 1] + ", not " + columnType + ".");
+	}
+    }
+
+    @Override
+    public String toString() {
+	return "ColumnarTable [rowCount=" + rowCount + ", columnCount=" + columnTypes.length + "]";
+    }
+
+}
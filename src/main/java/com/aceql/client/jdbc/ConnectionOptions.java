@@ -0,0 +1,504 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import com.aceql.client.jdbc.http.HedgingPolicy;
+import com.aceql.client.jdbc.http.HttpTransport;
+import com.aceql.client.jdbc.http.PooledHttpTransport;
+import com.aceql.client.jdbc.http.TlsConfiguration;
+
+/**
+ * Options of an {@link AceQLConnection} that are not defined by the JDBC API.
+ * <br>
+ * The options are passed to the {@code AceQLConnection} constructor and are
+ * shared by the connections created with {@link AceQLConnection#clone()}.
+ * <p>
+ * Example: <blockquote>
+ *
+ * <pre>
+ * ConnectionOptions connectionOptions = new ConnectionOptions();
+ * connectionOptions.setHttpTransport(new PooledHttpTransport(50, 10, 30000));
+ *
+ * Connection connection = new AceQLConnection(serverUrl, database, username, password, null, null,
+ * 	connectionOptions);
+ * </pre>
+ *
+ * </blockquote>
+ */
+public class ConnectionOptions {
+
+    /** The transport in use. null means the shared default pool */
+    private HttpTransport httpTransport = null;
+
+    /** null means the HttpsURLConnection defaults */
+    private TlsConfiguration tlsConfiguration = null;
+
+    /** -1 means the JVM default set with AceQLConnection.setConnectTimeout */
+    private int connectTimeout = -1;
+    /** -1 means the JVM default set with AceQLConnection.setReadTimeout */
+    private int readTimeout = -1;
+    private int requestTimeout = 0;
+
+    /** null means request bodies are not compressed */
+    private String requestCompression = null;
+    private int requestCompressionThreshold = 4096;
+
+    /** null means idempotent calls are neither hedged nor retried */
+    private HedgingPolicy hedgingPolicy = null;
+
+    /** If true, session property getters are answered by the client */
+    private boolean localSessionState = false;
+
+    /** The size above which a downloaded result is spilled to a file */
+    private int resultMemoryThreshold = 1024 * 1024;
+
+    /** The number of rows decoded ahead on a worker thread. 0 for none */
+    private int prefetchRows = 0;
+
+    /** If true, the queries with a fetch size are executed in pages */
+    private boolean pagedExecution = false;
+
+    /** If true, the pages are read after the key of the last row read */
+    private boolean keysetPaging = false;
+
+    /** null means the downloads of the query results are not counted */
+    private QueryMetrics queryMetrics = null;
+
+    /** null means all statements are sent to the connection server */
+    private AceQLConnectionFactory readReplicas = null;
+
+    /**
+     * Returns the transport that executes the HTTP requests.
+     *
+     * @return the transport that executes the HTTP requests. null means
+     *         {@link PooledHttpTransport#getDefault()}.
+     */
+    public HttpTransport getHttpTransport() {
+	return httpTransport;
+    }
+
+    /**
+     * Sets the transport that executes the HTTP requests. Defaults to
+     * {@link PooledHttpTransport#getDefault()}, a keep-alive connection pool
+     * shared by all connections of the JVM. <br>
+     * Use {@link com.aceql.client.jdbc.http.UrlConnectionTransport} to get back
+     * the {@code HttpURLConnection} behavior of previous versions. On Java 11+,
+     * use {@code com.aceql.client.jdbc.http.Http2Transport} to share a single
+     * multiplexed HTTP/2 connection per server.
+     *
+     * @param httpTransport the transport that executes the HTTP requests. null
+     *                      means the shared default pool.
+     */
+    public void setHttpTransport(HttpTransport httpTransport) {
+	this.httpTransport = httpTransport;
+    }
+
+    /**
+     * Returns the TLS configuration of the https connections.
+     *
+     * @return the TLS configuration, null if the {@code HttpsURLConnection}
+     *         defaults are used
+     */
+    public TlsConfiguration getTlsConfiguration() {
+	return tlsConfiguration;
+    }
+
+    /**
+     * Sets the TLS configuration of the https connections: SSL context, TLS
+     * session cache, enabled protocols and cipher suites. Defaults to null: the
+     * JVM-wide {@code HttpsURLConnection} defaults are used. <br>
+     * The TLS sessions are cached per configuration, so connections sharing a
+     * configuration resume each other's sessions. The number of handshakes is
+     * available with {@link TlsConfiguration#getHandshakes()}.
+     *
+     * @param tlsConfiguration the TLS configuration, null for the defaults
+     */
+    public void setTlsConfiguration(TlsConfiguration tlsConfiguration) {
+	this.tlsConfiguration = tlsConfiguration;
+    }
+
+    /**
+     * Returns the connect timeout.
+     *
+     * @return the connect timeout in milliseconds, or -1 if the JVM default set
+     *         with {@link AceQLConnection#setConnectTimeout(int)} is used
+     */
+    public int getConnectTimeout() {
+	return connectTimeout;
+    }
+
+    /**
+     * Sets the connect timeout of this connection, which overrides the JVM default
+     * set with {@link AceQLConnection#setConnectTimeout(int)}.
+     *
+     * @param connectTimeout the max time in milliseconds to open a communications
+     *                       link to the remote server, including the TLS
+     *                       handshake and the wait for a pooled connection. A
+     *                       timeout of zero is interpreted as an infinite
+     *                       timeout. -1 means the JVM default.
+     */
+    public void setConnectTimeout(int connectTimeout) {
+	this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Returns the read timeout.
+     *
+     * @return the read timeout in milliseconds, or -1 if the JVM default set with
+     *         {@link AceQLConnection#setReadTimeout(int)} is used
+     */
+    public int getReadTimeout() {
+	return readTimeout;
+    }
+
+    /**
+     * Sets the read timeout of this connection, which overrides the JVM default
+     * set with {@link AceQLConnection#setReadTimeout(int)}.
+     *
+     * @param readTimeout the max time in milliseconds to wait for data from the
+     *                    remote server. A timeout of zero is interpreted as an
+     *                    infinite timeout. -1 means the JVM default.
+     */
+    public void setReadTimeout(int readTimeout) {
+	this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Returns the request timeout.
+     *
+     * @return the request timeout in milliseconds. 0 means infinite.
+     */
+    public int getRequestTimeout() {
+	return requestTimeout;
+    }
+
+    /**
+     * Sets the total time allowed to each HTTP request of this connection, from
+     * the connection to the server until the response is fully read. On expiry
+     * the request is aborted and a {@code SocketTimeoutException} is raised.
+     * Defaults to 0.
+     *
+     * @param requestTimeout the request timeout in milliseconds. A timeout of
+     *                       zero is interpreted as an infinite timeout.
+     */
+    public void setRequestTimeout(int requestTimeout) {
+	this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Returns the content coding used to compress the request bodies.
+     *
+     * @return "gzip", "deflate", or null if request bodies are not compressed
+     */
+    public String getRequestCompression() {
+	return requestCompression;
+    }
+
+    /**
+     * Sets the content coding used to compress the bodies of the SQL requests
+     * and of the other POST requests whose parameters are larger than the
+     * compression threshold. Defaults to null: no compression. <br>
+     * The AceQL server, or a reverse proxy in front of it, must accept
+     * compressed request bodies. If the server answers a compressed request
+     * with <code>415 Unsupported Media Type</code>, the request is sent again
+     * uncompressed, and the connection stops compressing its requests.
+     *
+     * @param requestCompression "gzip", "deflate", or null for no compression
+     * @throws IllegalArgumentException if the content coding is not supported
+     */
+    public void setRequestCompression(String requestCompression) {
+	if (requestCompression != null && !requestCompression.equals("gzip")
+		&& !requestCompression.equals("deflate")) {
+	    throw new IllegalArgumentException("Unsupported request compression: " + requestCompression);
+	}
+	this.requestCompression = requestCompression;
+    }
+
+    /**
+     * Returns the size above which request bodies are compressed.
+     *
+     * @return the size in bytes of the uncompressed body above which it is
+     *         compressed
+     */
+    public int getRequestCompressionThreshold() {
+	return requestCompressionThreshold;
+    }
+
+    /**
+     * Sets the size above which request bodies are compressed, if a request
+     * compression is set. Smaller bodies are sent as is, because compression
+     * does not pay off on them. Defaults to 4096.
+     *
+     * @param requestCompressionThreshold the size in bytes of the uncompressed
+     *                                    body above which it is compressed
+     */
+    public void setRequestCompressionThreshold(int requestCompressionThreshold) {
+	this.requestCompressionThreshold = requestCompressionThreshold;
+    }
+
+    /**
+     * Returns the policy of the idempotent calls.
+     *
+     * @return the policy of the idempotent calls, null if they are neither
+     *         hedged nor retried
+     */
+    public HedgingPolicy getHedgingPolicy() {
+	return hedgingPolicy;
+    }
+
+    /**
+     * Sets the policy that hedges and retries the idempotent calls, such as the
+     * getters, the metadata calls and the Blob downloads. Defaults to null: each
+     * call is sent once. <br>
+     * Calls that modify the server state are never hedged nor retried. The
+     * request timeout applies to each attempt.
+     *
+     * @param hedgingPolicy the policy of the idempotent calls, null for none
+     */
+    public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+	this.hedgingPolicy = hedgingPolicy;
+    }
+
+    /**
+     * Says if the session properties are tracked by the client.
+     *
+     * @return true if the session properties are tracked by the client
+     */
+    public boolean isLocalSessionState() {
+	return localSessionState;
+    }
+
+    /**
+     * Sets if the session properties (auto-commit, read-only, holdability and
+     * transaction isolation) are tracked by the client. Defaults to false. <br>
+     * When true, the values set by the connection, or fetched once from the
+     * server, are returned by the getters without a server call, and a setter
+     * call is skipped if the value is unchanged. The values may then be stale
+     * if a session property is changed on the server: use
+     * {@link AceQLConnection#resyncSessionState()} after changing a session
+     * property with a SQL statement.
+     *
+     * @param localSessionState if false, each getter and setter calls the
+     *                          server
+     */
+    public void setLocalSessionState(boolean localSessionState) {
+	this.localSessionState = localSessionState;
+    }
+
+    /**
+     * Returns the size above which a downloaded result set is spilled to a
+     * file.
+     *
+     * @return the size in bytes of the JSON result set
+     */
+    public int getResultMemoryThreshold() {
+	return resultMemoryThreshold;
+    }
+
+    /**
+     * Sets the size above which a downloaded result set is spilled to a file
+     * in the KawanSoft temp directory. Smaller result sets are kept in memory,
+     * as long as the result sets in memory of the JVM do not exceed
+     * {@link com.aceql.client.jdbc.util.json.ResultBuffer#setMaxTotalMemory(long)}.
+     * Defaults to 1 MB. <br>
+     * Forward only result sets are never downloaded first: see
+     * {@link AceQLConnection#createStatement(int, int)}.
+     *
+     * @param resultMemoryThreshold the size in bytes of the JSON result set. 0
+     *                              to always use a file.
+     */
+    public void setResultMemoryThreshold(int resultMemoryThreshold) {
+	this.resultMemoryThreshold = resultMemoryThreshold;
+    }
+
+    /**
+     * Returns the number of rows decoded ahead of the current row.
+     *
+     * @return the number of rows, 0 if the rows are decoded by
+     *         {@code ResultSet.next()}
+     */
+    public int getPrefetchRows() {
+	return prefetchRows;
+    }
+
+    /**
+     * Sets the number of rows that a result set decodes ahead on a worker
+     * thread, while the application processes the current row. This overlaps
+     * the parsing of the rows with the application work on multi-core hosts.
+     * Defaults to 0: the rows are decoded by {@code ResultSet.next()}. <br>
+     * The prefetch stops when the result set is scrolled with
+     * {@code absolute()}, {@code previous()}, {@code first()} or
+     * {@code last()}, and its worker is stopped by {@code ResultSet.close()}.
+     * <br>
+     * The prefetched rows of a spooled result are tokenized in place, and
+     * their typed getters read the bytes without a {@code String}. The rows of
+     * a {@code TYPE_FORWARD_ONLY} result that is streamed are read once from
+     * the HTTP response: they are prefetched as decoded {@code String} values.
+     *
+     * @param prefetchRows the number of rows, 0 to decode the rows in
+     *                     {@code ResultSet.next()}
+     */
+    public void setPrefetchRows(int prefetchRows) {
+	this.prefetchRows = prefetchRows;
+    }
+
+    /**
+     * Says if the queries with a fetch size are executed in pages.
+     *
+     * @return true if the queries are executed in pages
+     */
+    public boolean isPagedExecution() {
+	return pagedExecution;
+    }
+
+    /**
+     * Sets if the queries of the statements whose fetch size is set with
+     * {@code Statement.setFetchSize()} are executed in pages of fetch size
+     * rows. Defaults to false. <br>
+     * Each page is a query rewritten with <code>LIMIT/OFFSET</code> or
+     * <code>OFFSET/FETCH</code>, per the product name and version of the
+     * remote database. The next page is downloaded while the current one is
+     * read, so that the memory used depends on the page size instead of the
+     * result size. <br>
+     * The result sets of the paged queries are
+     * <code>TYPE_FORWARD_ONLY</code>. The pages are separate queries: only the
+     * queries with a top level <code>ORDER BY</code> are paged, the rows should
+     * be ordered by a unique key, and rows changed between two pages may be
+     * skipped or read twice. The unordered queries, the queries that already
+     * limit their rows and the queries of unsupported databases are executed
+     * at once.
+     *
+     * @param pagedExecution if true, the queries with a fetch size are
+     *                       executed in pages
+     */
+    public void setPagedExecution(boolean pagedExecution) {
+	this.pagedExecution = pagedExecution;
+    }
+
+    /**
+     * Says if the paged queries are read after the key of the last row read.
+     *
+     * @return true if the pages are read after a key
+     */
+    public boolean isKeysetPaging() {
+	return keysetPaging;
+    }
+
+    /**
+     * Sets if the pages of the queries ordered by a single column, executed
+     * with {@link #setPagedExecution(boolean)}, are read after the key of the
+     * last row read instead of an offset. Defaults to false. <br>
+     * The database then seeks the next page with the index of the column,
+     * instead of reading and skipping the rows of the previous pages. The
+     * column must be the numeric primary key of the table, and in the select
+     * list. Other queries are paged with an offset.
+     *
+     * @param keysetPaging if true, the pages are read after a key
+     */
+    public void setKeysetPaging(boolean keysetPaging) {
+	this.keysetPaging = keysetPaging;
+    }
+
+    /**
+     * Returns the counters of the query result downloads.
+     *
+     * @return the counters, null if the downloads are not counted
+     */
+    public QueryMetrics getQueryMetrics() {
+	return queryMetrics;
+    }
+
+    /**
+     * Sets the counters of the query result downloads: number of downloads,
+     * number of downloads aborted because the rows were no longer read, and
+     * bytes received. The same instance may be shared by several connections.
+     * Defaults to null.
+     *
+     * @param queryMetrics the counters, null to not count the downloads
+     */
+    public void setQueryMetrics(QueryMetrics queryMetrics) {
+	this.queryMetrics = queryMetrics;
+    }
+
+    /**
+     * Returns the replica servers of the read queries.
+     *
+     * @return the factory of the replica connections, null if all statements are
+     *         sent to the connection server
+     */
+    public AceQLConnectionFactory getReadReplicas() {
+	return readReplicas;
+    }
+
+    /**
+     * Sets the replica servers that execute the read queries, to offload the
+     * primary server. Defaults to null: all statements are sent to the
+     * connection server. <br>
+     * A query is sent to a replica if the connection is read-only, or if it is
+     * in auto-commit mode. Updates, stored procedures and the queries of a
+     * transaction stay on the primary server. A read-only transaction runs
+     * entirely on one replica. <br>
+     * Each connection opens its replica connection on first use, with the
+     * routing of the factory, and closes it with its own
+     * {@link AceQLConnection#close()}. If no replica can be reached, the
+     * queries are sent to the primary server.
+     *
+     * @param readReplicas the factory of the replica connections, null for none
+     */
+    public void setReadReplicas(AceQLConnectionFactory readReplicas) {
+	this.readReplicas = readReplicas;
+    }
+
+    /**
+     * Returns a copy of these options.
+     *
+     * @return a copy of these options
+     */
+    ConnectionOptions copy() {
+	ConnectionOptions copy = new ConnectionOptions();
+	copy.httpTransport = httpTransport;
+	copy.tlsConfiguration = tlsConfiguration;
+	copy.connectTimeout = connectTimeout;
+	copy.readTimeout = readTimeout;
+	copy.requestTimeout = requestTimeout;
+	copy.requestCompression = requestCompression;
+	copy.requestCompressionThreshold = requestCompressionThreshold;
+	copy.hedgingPolicy = hedgingPolicy;
+	copy.localSessionState = localSessionState;
+	copy.resultMemoryThreshold = resultMemoryThreshold;
+	copy.prefetchRows = prefetchRows;
+	copy.pagedExecution = pagedExecution;
+	copy.keysetPaging = keysetPaging;
+	copy.queryMetrics = queryMetrics;
+	copy.readReplicas = readReplicas;
+	return copy;
+    }
+
+    @Override
+    public String toString() {
+	return "ConnectionOptions [httpTransport=" + httpTransport + ", tlsConfiguration=" + tlsConfiguration
+		+ ", connectTimeout=" + connectTimeout
+		+ ", readTimeout=" + readTimeout + ", requestTimeout=" + requestTimeout + ", requestCompression="
+		+ requestCompression + ", requestCompressionThreshold=" + requestCompressionThreshold
+		+ ", hedgingPolicy=" + hedgingPolicy + ", localSessionState=" + localSessionState
+		+ ", resultMemoryThreshold=" + resultMemoryThreshold + ", prefetchRows=" + prefetchRows
+		+ ", pagedExecution=" + pagedExecution + ", keysetPaging=" + keysetPaging + ", queryMetrics=" + queryMetrics + ", readReplicas=" + readReplicas + "]";
+    }
+
+}
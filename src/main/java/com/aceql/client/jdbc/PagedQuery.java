@@ -0,0 +1,310 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import com.aceql.client.jdbc.http.AceQLHttpApi;
+import com.aceql.client.jdbc.util.AceQLTypes;
+import com.aceql.client.jdbc.util.json.RowParser;
+import com.aceql.client.jdbc.util.json.RowValues;
+
+/**
+ * A query executed in pages: each page is a query rewritten with
+ * {@link SqlPaging}, downloaded in its own {@link SpooledResult}. <br>
+ * The next page is downloaded on a worker thread while the rows of the
+ * current one are read, so that at most two pages are held at once. <br>
+ * With keyset paging, a page is read after the key of the last row of the
+ * previous page, if the key is a number. The key is sent as the last parameter
+ * of the query of the page. Otherwise, a page is read after its offset: the
+ * text values of a result are trimmed, so a text key could not be sent back
+ * as read by the database.
+ */
+class PagedQuery {
+
+    private final AceQLHttpApi aceQLHttpApi;
+    private final SqlPaging sqlPaging;
+    private final String sql;
+    private final boolean isPreparedStatement;
+    private final Map<String, String> statementParameters;
+    private final int memoryThreshold;
+    private final int pageSize;
+    private final int maxRows;
+
+    /** The column that orders the rows, null for offset paging */
+    private final String keyColumn;
+    /** The parameters of the next keyset page, null to read after the offset */
+    private Map<String, String> keyParameters = null;
+
+    /** The number of rows before the next page to download */
+    private long offset = 0;
+    /** The maximum number of rows of the page being downloaded */
+    private int limit = 0;
+    private Future<SpooledResult> nextPage = null;
+    private boolean ended = false;
+
+    /** The download of the next page, aborted by {@link #close()} */
+    private SpooledResult.Download download = null;
+
+    /** The downloaded page, not yet taken by {@link #nextPage()} */
+    private SpooledResult downloaded = null;
+    private boolean closed = false;
+    private final Object lock = new Object();
+
+    /**
+     * Constructor. The first page is downloaded at once, so that a failure of
+     * the query is thrown here.
+     *
+     * @param aceQLHttpApi        the Http instance of the server that executes
+     *                            the pages
+     * @param sqlPaging           the dialect of the database. If keyset, the
+     *                            query is ordered by the primary key of the
+     *                            table it reads
+     * @param sql                 the SQL query, accepted by
+     *                            {@link SqlPaging#isPageable(String)}
+     * @param isPreparedStatement if true, the query has parameters
+     * @param statementParameters the parameters, null if none
+     * @param memoryThreshold     the size in bytes above which a page is
+     *                            spilled to a file
+     * @param pageSize            the number of rows per page
+     * @param maxRows             the maximum number of rows of the query, 0 for
+     *                            no limit
+     * @throws SQLException if the first page can not be downloaded
+     */
+    PagedQuery(AceQLHttpApi aceQLHttpApi, SqlPaging sqlPaging, String sql, boolean isPreparedStatement,
+	    Map<String, String> statementParameters, int memoryThreshold, int pageSize, int maxRows)
+	    throws SQLException {
+	this.aceQLHttpApi = aceQLHttpApi;
+	this.sqlPaging = sqlPaging;
+	this.sql = sql;
+	this.isPreparedStatement = isPreparedStatement;
+	this.statementParameters = statementParameters;
+	this.memoryThreshold = memoryThreshold;
+	this.pageSize = pageSize;
+	this.maxRows = maxRows;
+	this.keyColumn = sqlPaging.isKeyset() ? SqlPaging.getKeyColumn(sql) : null;
+
+	limit = getNextLimit();
+	FutureTask<SpooledResult> firstPage = new FutureTask<SpooledResult>(newDownload(0, limit));
+	firstPage.run();
+	nextPage = firstPage;
+	await(firstPage);
+    }
+
+    private int getNextLimit() {
+	if (maxRows <= 0) {
+	    return pageSize;
+	}
+	return (int) Math.min(pageSize, maxRows - offset);
+    }
+
+    private Callable<SpooledResult> newDownload(final long offset, final int limit) {
+	final String pageSql;
+	final Map<String, String> pageParameters;
+	if (keyParameters != null) {
+	    pageSql = sqlPaging.getKeysetPageSql(sql, limit);
+	    pageParameters = keyParameters;
+	} else {
+	    pageSql = sqlPaging.getPageSql(sql, offset, limit);
+	    pageParameters = statementParameters;
+	}
+	final boolean pagePrepared = isPreparedStatement || keyParameters != null;
+	final SpooledResult.Download pageDownload = new SpooledResult.Download();
+	synchronized (lock) {
+	    download = pageDownload;
+	}
+	return new Callable<SpooledResult>() {
+	    @Override
+	    public SpooledResult call() throws Exception {
+		aceQLHttpApi.trace("page: " + pageSql);
+		SpooledResult page = SpooledResult.download(aceQLHttpApi, pageSql, pagePrepared, false,
+			pageParameters, memoryThreshold, 0, pageDownload);
+		synchronized (lock) {
+		    if (closed) {
+			page.delete();
+		    } else {
+			downloaded = page;
+		    }
+		}
+		return page;
+	    }
+	};
+    }
+
+    /**
+     * Waits for a download, and throws its failure.
+     */
+    private static void await(Future<SpooledResult> future) throws SQLException {
+	try {
+	    future.get();
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	    throw new SQLException("Interrupted while waiting for the next page.", e);
+	} catch (ExecutionException e) {
+	    Throwable cause = e.getCause();
+	    if (cause instanceof SQLException) {
+		throw (SQLException) cause;
+	    }
+	    throw new SQLException(cause);
+	}
+    }
+
+    /**
+     * Returns the next page, and starts the download of the following one.
+     * The caller deletes the page once read.
+     *
+     * @return the next page, or null if there are no more pages
+     * @throws SQLException if the page can not be downloaded
+     */
+    SpooledResult nextPage() throws SQLException {
+	if (ended) {
+	    return null;
+	}
+
+	await(nextPage);
+	SpooledResult page;
+	synchronized (lock) {
+	    page = downloaded;
+	    downloaded = null;
+	}
+	if (page == null) {
+	    // Closed
+	    ended = true;
+	    return null;
+	}
+
+	// A page shorter than its limit is the last one
+	offset += page.getRowCount();
+	int pageLimit = limit;
+	limit = getNextLimit();
+	if (page.getRowCount() < pageLimit || limit <= 0) {
+	    ended = true;
+	    nextPage = null;
+	} else {
+	    if (keyColumn != null) {
+		keyParameters = getKeyParameters(page);
+	    }
+	    FutureTask<SpooledResult> task = new FutureTask<SpooledResult>(newDownload(offset, limit));
+	    AceQLAsyncConnection.getDefaultExecutor().execute(task);
+	    nextPage = task;
+	}
+	return page;
+    }
+
+    /**
+     * Returns the parameters of the query of the page after a page: the
+     * parameters of the query, followed by the key of the last row of the
+     * page.
+     *
+     * @return the parameters, or null if the key is null or is not a number
+     */
+    private Map<String, String> getKeyParameters(SpooledResult page) throws SQLException {
+	Map<String, List<String>> header = ColumnarDecoder.readHeader(page.getResultBuffer());
+	List<String> columnNames = header.get("column_names");
+	List<String> columnTypes = header.get("column_types");
+	if (columnNames == null || columnTypes == null || columnNames.size() != columnTypes.size()) {
+	    return null;
+	}
+
+	int colIndex = 0;
+	for (int i = 0; i < columnNames.size(); i++) {
+	    if (columnNames.get(i).equalsIgnoreCase(keyColumn)) {
+		colIndex = i + 1;
+		break;
+	    }
+	}
+	if (colIndex == 0) {
+	    return null;
+	}
+
+	String value;
+	RowParser rowParser = new RowParser(page.getResultBuffer(), page.getRowOffsetIndex());
+	try {
+	    rowParser.buildRowNum(page.getRowCount());
+	    RowValues rowValues = rowParser.getRowValues();
+	    if (rowValues == null || rowValues.isNull(colIndex)) {
+		return null;
+	    }
+	    value = rowValues.getValue(colIndex);
+	} finally {
+	    rowParser.close();
+	}
+
+	String parameterType;
+	String columnType = columnTypes.get(colIndex - 1).toUpperCase(Locale.ENGLISH);
+	switch (columnType) {
+	case AceQLTypes.TINYINT:
+	case AceQLTypes.SMALLINT:
+	case AceQLTypes.INTEGER:
+	case AceQLTypes.BIGINT:
+	case AceQLTypes.DECIMAL:
+	case AceQLTypes.NUMERIC:
+	    parameterType = columnType;
+	    break;
+	default:
+	    return null;
+	}
+
+	// The key follows the parameters of the query, in the outer query
+	Map<String, String> parameters = new HashMap<String, String>();
+	int parameterCount = 0;
+	if (statementParameters != null) {
+	    parameters.putAll(statementParameters);
+	    for (String name : statementParameters.keySet()) {
+		if (name.startsWith("param_type_")) {
+		    int index = Integer.parseInt(name.substring("param_type_".length()));
+		    parameterCount = Math.max(parameterCount, index);
+		}
+	    }
+	}
+	parameters.put("param_type_" + (parameterCount + 1), parameterType);
+	parameters.put("param_value_" + (parameterCount + 1), value);
+	return parameters;
+    }
+
+    /**
+     * Stops the pages. A page not yet requested is not downloaded, and the
+     * download of a page being received is aborted.
+     */
+    void close() {
+	ended = true;
+	if (nextPage != null) {
+	    nextPage.cancel(false);
+	}
+	synchronized (lock) {
+	    closed = true;
+	    if (download != null) {
+		download.abort();
+	    }
+	    if (downloaded != null) {
+		downloaded.delete();
+		downloaded = null;
+	    }
+	}
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.aceql.client.jdbc.http.AceQLHttpApi;
+
+/**
+ * Counts the query results downloaded by the connections that share it. <br>
+ * A download is aborted when the rows are no longer needed: a forward only
+ * result set closed before its last row, a paged result set closed while
+ * its next page is downloaded, or a result set that reached the
+ * <code>Statement.setMaxRows()</code> limit. The bytes received are the
+ * bytes read from the network, compressed if the results are compressed.
+ * <p>
+ * Example: <blockquote>
+ *
+ * <pre>
+ * QueryMetrics queryMetrics = new QueryMetrics();
+ *
+ * ConnectionOptions connectionOptions = new ConnectionOptions();
+ * connectionOptions.setQueryMetrics(queryMetrics);
+ * </pre>
+ *
+ * </blockquote>
+ */
+public class QueryMetrics {
+
+    private final AtomicLong downloads = new AtomicLong();
+    private final AtomicLong abortedDownloads = new AtomicLong();
+    private final AtomicLong receivedBytes = new AtomicLong();
+    private final AtomicLong abortedReceivedBytes = new AtomicLong();
+
+    /**
+     * Records a download of the connection, if its options have query
+     * metrics.
+     *
+     * @param aceQLHttpApi  the Http instance that downloaded the result
+     * @param receivedBytes the bytes read from the network
+     * @param aborted       if true, the download was stopped before the end
+     *                      of the result
+     */
+    static void record(AceQLHttpApi aceQLHttpApi, long receivedBytes, boolean aborted) {
+	ConnectionOptions connectionOptions = aceQLHttpApi.getConnectionOptions();
+	QueryMetrics queryMetrics = connectionOptions != null ? connectionOptions.getQueryMetrics() : null;
+	if (queryMetrics != null) {
+	    queryMetrics.record(receivedBytes, aborted);
+	}
+    }
+
+    void record(long bytes, boolean aborted) {
+	downloads.incrementAndGet();
+	receivedBytes.addAndGet(bytes);
+	if (aborted) {
+	    abortedDownloads.incrementAndGet();
+	    abortedReceivedBytes.addAndGet(bytes);
+	}
+    }
+
+    /**
+     * @return the number of query results downloaded, fully or not
+     */
+    public long getDownloads() {
+	return downloads.get();
+    }
+
+    /**
+     * @return the number of downloads stopped before the end of the result
+     */
+    public long getAbortedDownloads() {
+	return abortedDownloads.get();
+    }
+
+    /**
+     * @return the bytes received by all the downloads
+     */
+    public long getReceivedBytes() {
+	return receivedBytes.get();
+    }
+
+    /**
+     * @return the bytes received by the aborted downloads, before they were
+     *         stopped
+     */
+    public long getAbortedReceivedBytes() {
+	return abortedReceivedBytes.get();
+    }
+
+    @Override
+    public String toString() {
+	return "QueryMetrics [downloads=" + downloads + ", abortedDownloads=" + abortedDownloads
+		+ ", receivedBytes=" + receivedBytes + ", abortedReceivedBytes=" + abortedReceivedBytes + "]";
+    }
+
+}
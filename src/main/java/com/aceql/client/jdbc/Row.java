@@ -0,0 +1,135 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.util.List;
+
+/**
+ * A row of a query result read with {@link AceQLRowStream}. <br>
+ * The values are the strings sent by the AceQL server; SQL <code>NULL</code>
+ * values are returned as <code>null</code>. A row is immutable and may be kept
+ * after the stream is closed.
+ */
+public final class Row {
+
+    private final int rowNum;
+    private final List<String> columnNames;
+    private final String[] values;
+
+    /**
+     * Constructor.
+     *
+     * @param rowNum      the row number, starting at 1
+     * @param columnNames the unmodifiable column names, shared by all rows of
+     *                    the result
+     * @param values      the column values, as sent by the server
+     */
+    public Row(int rowNum, List<String> columnNames, String[] values) {
+	if (columnNames == null) {
+	    throw new NullPointerException("columnNames is null!");
+	}
+	if (values == null) {
+	    throw new NullPointerException("values is null!");
+	}
+	this.rowNum = rowNum;
+	this.columnNames = columnNames;
+	this.values = values;
+    }
+
+    /**
+     * @return the row number, starting at 1
+     */
+    public int getRowNum() {
+	return rowNum;
+    }
+
+    /**
+     * @return the number of columns
+     */
+    public int getColumnCount() {
+	return values.length;
+    }
+
+    /**
+     * @return the column names, in column order
+     */
+    public List<String> getColumnNames() {
+	return columnNames;
+    }
+
+    /**
+     * Returns the name of a column.
+     *
+     * @param columnIndex the first column is 1, the second is 2, ...
+     * @return the column name
+     */
+    public String getColumnName(int columnIndex) {
+	checkIndex(columnIndex);
+	return columnNames.get(columnIndex - 1);
+    }
+
+    /**
+     * Returns the value of a column.
+     *
+     * @param columnIndex the first column is 1, the second is 2, ...
+     * @return the column value, or null if the value is SQL <code>NULL</code>
+     */
+    public String getString(int columnIndex) {
+	checkIndex(columnIndex);
+	String value = values[columnIndex - 1];
+	if (value == null || value.equals("NULL")) {
+	    return null;
+	}
+	return value;
+    }
+
+    /**
+     * Returns the value of a column. If several columns have the same name, the
+     * first one is used.
+     *
+     * @param columnLabel the column name
+     * @return the column value, or null if the value is SQL <code>NULL</code>
+     */
+    public String getString(String columnLabel) {
+	int index = columnNames.indexOf(columnLabel);
+	if (index < 0) {
+	    throw new IllegalArgumentException("Invalid column name: " + columnLabel);
+	}
+	return getString(index + 1);
+    }
+
+    private void checkIndex(int columnIndex) {
+	if (columnIndex < 1 || columnIndex > values.length) {
+	    throw new IndexOutOfBoundsException("Invalid column index: " + columnIndex);
+	}
+    }
+
+    @Override
+    public String toString() {
+	StringBuilder builder = new StringBuilder("Row [rowNum=" + rowNum + ", ");
+	for (int i = 0; i < values.length; i++) {
+	    if (i > 0) {
+		builder.append(", ");
+	    }
+	    builder.append(columnNames.get(i)).append("=").append(values[i]);
+	}
+	return builder.append("]").toString();
+    }
+
+}
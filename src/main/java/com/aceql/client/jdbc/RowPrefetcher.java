@@ -0,0 +1,255 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+import com.aceql.client.jdbc.util.json.ArrayRowValues;
+import com.aceql.client.jdbc.util.json.RowTokenizer;
+import com.aceql.client.jdbc.util.json.RowValues;
+
+/**
+ * Decodes the next rows of a result set on a worker thread, while the
+ * application processes the current row. <br>
+ * The rows are decoded into a ring of slots: the worker fills up to
+ * <code>depth</code> slots ahead of the row being read, then waits for the
+ * application to release one. The slots are reused, so reading a result
+ * allocates nothing per row beyond the values. <br>
+ * A slot holds either the tokens of a row, read from the bytes of the result
+ * by the typed getters, or the decoded {@code String} values of a row that
+ * can not be tokenized in place.
+ */
+class RowPrefetcher {
+
+    /**
+     * The rows to decode. Only called by the worker thread.
+     */
+    interface RowSource {
+
+	/**
+	 * Reads the next row.
+	 *
+	 * @param slot the slot that receives the values of the row
+	 * @return the number of the row read, or 0 if there are no more rows
+	 * @throws SQLException if the row can not be read
+	 */
+	int nextRow(Slot slot) throws SQLException;
+    }
+
+    /**
+     * The values of a prefetched row.
+     */
+    static final class Slot {
+	private final ArrayRowValues arrayRowValues = new ArrayRowValues();
+	private RowTokenizer rowTokenizer = null;
+	private RowValues rowValues = null;
+	private int rowNum = 0;
+
+	/**
+	 * @return the cleared values that receive the decoded values of the row
+	 */
+	ArrayRowValues getArrayRowValues() {
+	    arrayRowValues.clear();
+	    rowValues = arrayRowValues;
+	    return arrayRowValues;
+	}
+
+	/**
+	 * @return the tokenizer that receives the tokens of the row
+	 */
+	RowTokenizer getRowTokenizer() {
+	    if (rowTokenizer == null) {
+		rowTokenizer = new RowTokenizer();
+	    }
+	    rowValues = rowTokenizer;
+	    return rowTokenizer;
+	}
+    }
+
+    /** The marker of the end of the rows */
+    private final Slot endOfRows = new Slot();
+
+    private final RowSource rowSource;
+    private final BlockingQueue<Slot> freeSlots;
+    private final BlockingQueue<Slot> filledSlots;
+
+    /** The slot of the current row, held by the application */
+    private Slot current = null;
+    private boolean ended = false;
+
+    private volatile boolean closed = false;
+    private volatile SQLException failure = null;
+
+    private final Object lock = new Object();
+    private Thread worker = null;
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    /**
+     * Constructor. The worker starts at once.
+     *
+     * @param rowSource the rows to decode
+     * @param depth     the number of rows decoded ahead of the current one
+     */
+    RowPrefetcher(RowSource rowSource, int depth) {
+	this.rowSource = rowSource;
+
+	// The current slot is held by the application, and the end marker
+	// needs room in the queue
+	this.freeSlots = new ArrayBlockingQueue<Slot>(depth + 1);
+	this.filledSlots = new ArrayBlockingQueue<Slot>(depth + 2);
+	for (int i = 0; i < depth + 1; i++) {
+	    freeSlots.add(new Slot());
+	}
+
+	AceQLAsyncConnection.getDefaultExecutor().execute(new Runnable() {
+	    @Override
+	    public void run() {
+		decodeRows();
+	    }
+	});
+    }
+
+    /**
+     * Copies the values of a row to a slot.
+     *
+     * @param rowValues the values of the row
+     * @param slot      the slot, cleared
+     */
+    static void copy(RowValues rowValues, ArrayRowValues slot) {
+	for (int i = 1; i <= rowValues.getColumnCount(); i++) {
+	    slot.add(rowValues.getValue(i));
+	}
+    }
+
+    private void decodeRows() {
+	synchronized (lock) {
+	    worker = Thread.currentThread();
+	}
+
+	try {
+	    while (!closed) {
+		Slot slot = freeSlots.take();
+		slot.rowNum = rowSource.nextRow(slot);
+		if (slot.rowNum == 0) {
+		    break;
+		}
+		filledSlots.put(slot);
+	    }
+	} catch (InterruptedException e) {
+	    // Closed
+	} catch (SQLException e) {
+	    failure = e;
+	} catch (RuntimeException e) {
+	    failure = new SQLException(e);
+	} finally {
+	    filledSlots.offer(endOfRows);
+	    synchronized (lock) {
+		worker = null;
+		// The pool thread must not keep the interrupt of close()
+		Thread.interrupted();
+	    }
+	    terminated.countDown();
+	}
+    }
+
+    /**
+     * Moves to the next row. The values of the previous row are released.
+     *
+     * @return the values of the next row, or null if there are no more rows
+     * @throws SQLException if the worker failed to read the row
+     */
+    RowValues next() throws SQLException {
+	if (current != null) {
+	    freeSlots.offer(current);
+	    current = null;
+	}
+	if (ended) {
+	    return null;
+	}
+
+	Slot slot;
+	try {
+	    slot = filledSlots.take();
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	    throw new SQLException("Interrupted while waiting for the next row.", e);
+	}
+
+	if (slot == endOfRows) {
+	    ended = true;
+	    if (failure != null) {
+		throw failure;
+	    }
+	    return null;
+	}
+
+	current = slot;
+	return slot.rowValues;
+    }
+
+    /**
+     * @return the number of the current row, starting at 1
+     */
+    int getRowNum() {
+	return current != null ? current.rowNum : 0;
+    }
+
+    /**
+     * Asks the worker to stop. The worker stops at once if it waits for a free
+     * slot, else after the row it reads.
+     */
+    void cancel() {
+	synchronized (lock) {
+	    closed = true;
+	    if (worker != null) {
+		worker.interrupt();
+	    }
+	}
+    }
+
+    /**
+     * Waits until the worker no longer reads the row source.
+     */
+    void awaitTermination() {
+	boolean interrupted = false;
+	while (true) {
+	    try {
+		terminated.await();
+		break;
+	    } catch (InterruptedException e) {
+		interrupted = true;
+	    }
+	}
+	if (interrupted) {
+	    Thread.currentThread().interrupt();
+	}
+    }
+
+    /**
+     * Stops the worker, and waits until it no longer reads the row source.
+     */
+    void close() {
+	cancel();
+	awaitTermination();
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+/**
+ * The session properties of an {@link AceQLConnection} known by the client:
+ * the values it has set, or fetched once from the server. <br>
+ * A null value means unknown: the next getter call fetches it from the server.
+ */
+class SessionState {
+
+    private volatile Boolean autoCommit = null;
+    private volatile Boolean readOnly = null;
+    private volatile Integer holdability = null;
+    private volatile Integer transactionIsolation = null;
+
+    Boolean getAutoCommit() {
+	return autoCommit;
+    }
+
+    void setAutoCommit(Boolean autoCommit) {
+	this.autoCommit = autoCommit;
+    }
+
+    Boolean getReadOnly() {
+	return readOnly;
+    }
+
+    void setReadOnly(Boolean readOnly) {
+	this.readOnly = readOnly;
+    }
+
+    Integer getHoldability() {
+	return holdability;
+    }
+
+    void setHoldability(Integer holdability) {
+	this.holdability = holdability;
+    }
+
+    Integer getTransactionIsolation() {
+	return transactionIsolation;
+    }
+
+    void setTransactionIsolation(Integer transactionIsolation) {
+	this.transactionIsolation = transactionIsolation;
+    }
+
+    /**
+     * Forgets all values, so that they are fetched again from the server.
+     */
+    void clear() {
+	autoCommit = null;
+	readOnly = null;
+	holdability = null;
+	transactionIsolation = null;
+    }
+
+    @Override
+    public String toString() {
+	return "SessionState [autoCommit=" + autoCommit + ", readOnly=" + readOnly + ", holdability=" + holdability
+		+ ", transactionIsolation=" + transactionIsolation + "]";
+    }
+
+}
@@ -0,0 +1,276 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import org.apache.commons.io.input.CountingInputStream;
+
+import com.aceql.client.jdbc.http.AceQLHttpApi;
+import com.aceql.client.jdbc.http.TransportResponse;
+import com.aceql.client.jdbc.util.json.ResultBuffer;
+import com.aceql.client.jdbc.util.json.ResultSetOutputStream;
+import com.aceql.client.jdbc.util.json.RowOffsetIndex;
+import com.aceql.client.jdbc.util.json.StreamResultAnalyzer;
+
+/**
+ * The result of an /execute_query call, downloaded in a {@link ResultBuffer}.
+ * <br>
+ * The status, the row count and the row offsets are read while the result is
+ * written. With a maximum number of rows, the download is aborted once the
+ * rows beyond the maximum start to be received. A download may also be
+ * aborted by another thread through its {@link Download}.
+ */
+class SpooledResult {
+
+    private final ResultBuffer resultBuffer;
+    private final StreamResultAnalyzer streamResultAnalyzer;
+    private final RowOffsetIndex rowOffsetIndex;
+    private final int rowCount;
+
+    /**
+     * A download in progress, that another thread may abort.
+     */
+    static final class Download {
+	private TransportResponse response = null;
+	private boolean aborted = false;
+
+	private synchronized void setResponse(TransportResponse response) {
+	    this.response = response;
+	    if (aborted) {
+		response.abort();
+	    }
+	}
+
+	/**
+	 * Forgets the response once read or closed.
+	 */
+	private synchronized void end() {
+	    response = null;
+	}
+
+	/**
+	 * Aborts the download: the response is released without reading the
+	 * rest of its body. A response not yet received is released on
+	 * receipt.
+	 */
+	synchronized void abort() {
+	    aborted = true;
+	    if (response != null) {
+		response.abort();
+	    }
+	}
+
+	/**
+	 * @return true if the download was aborted
+	 */
+	synchronized boolean isAborted() {
+	    return aborted;
+	}
+    }
+
+    private SpooledResult(ResultBuffer resultBuffer, StreamResultAnalyzer streamResultAnalyzer,
+	    RowOffsetIndex rowOffsetIndex, int rowCount) {
+	this.resultBuffer = resultBuffer;
+	this.streamResultAnalyzer = streamResultAnalyzer;
+	this.rowOffsetIndex = rowOffsetIndex;
+	this.rowCount = rowCount;
+    }
+
+    /**
+     * Executes a query and downloads its result.
+     *
+     * @param aceQLHttpApi        the Http instance of the server that executes
+     *                            the query
+     * @param sql                 the SQL query
+     * @param isPreparedStatement if true, the query has parameters
+     * @param isStoredProcedure   if true, the query calls a stored procedure
+     * @param statementParameters the parameters, null if none
+     * @param memoryThreshold     the size in bytes above which the result is
+     *                            spilled to a file
+     * @param maxRows             the number of rows to download, 0 for all
+     * @return the downloaded result
+     * @throws AceQLException if the query fails. The result is then deleted.
+     */
+    static SpooledResult download(AceQLHttpApi aceQLHttpApi, String sql, boolean isPreparedStatement,
+	    boolean isStoredProcedure, Map<String, String> statementParameters, int memoryThreshold,
+	    int maxRows) throws AceQLException {
+	return download(aceQLHttpApi, sql, isPreparedStatement, isStoredProcedure, statementParameters,
+		memoryThreshold, maxRows, null);
+    }
+
+    /**
+     * Executes a query and downloads its result, unless the download is
+     * aborted.
+     *
+     * @param aceQLHttpApi        the Http instance of the server that executes
+     *                            the query
+     * @param sql                 the SQL query
+     * @param isPreparedStatement if true, the query has parameters
+     * @param isStoredProcedure   if true, the query calls a stored procedure
+     * @param statementParameters the parameters, null if none
+     * @param memoryThreshold     the size in bytes above which the result is
+     *                            spilled to a file
+     * @param maxRows             the number of rows to download, 0 for all
+     * @param download            the handle that aborts the download, null if
+     *                            none
+     * @return the downloaded result
+     * @throws AceQLException if the query fails or if the download is aborted.
+     *                        The result is then deleted.
+     */
+    static SpooledResult download(AceQLHttpApi aceQLHttpApi, String sql, boolean isPreparedStatement,
+	    boolean isStoredProcedure, Map<String, String> statementParameters, int memoryThreshold,
+	    int maxRows, Download download) throws AceQLException {
+
+	// Small results are kept in memory, larger ones are spilled to a file
+	ResultBuffer resultBuffer = new ResultBuffer(memoryThreshold);
+
+	try {
+	    aceQLHttpApi.trace("gzipResult: " + aceQLHttpApi.isGzipResult());
+
+	    // The status is read from this call's response: the connection may
+	    // be shared by other threads
+	    int httpStatusCode;
+	    String httpStatusMessage;
+	    ResultSetOutputStream resultSetOutputStream;
+	    boolean truncated = false;
+	    try (TransportResponse response = aceQLHttpApi.executeQueryResponse(sql, isPreparedStatement,
+		    isStoredProcedure, statementParameters);
+		    ResultSetOutputStream out = new ResultSetOutputStream(resultBuffer);) {
+
+		if (download != null) {
+		    download.setResponse(response);
+		}
+		httpStatusCode = response.getStatusCode();
+		httpStatusMessage = response.getStatusMessage();
+		resultSetOutputStream = out;
+
+		InputStream in = response.getBody();
+		if (in != null) {
+		    // Counts the bytes received, before decompression
+		    CountingInputStream countingIn = new CountingInputStream(in);
+		    try {
+			truncated = copy(AceQLStatement.getFinalInputStream(countingIn, aceQLHttpApi.isGzipResult()),
+				out, maxRows);
+		    } finally {
+			if (truncated) {
+			    response.abort();
+			}
+			QueryMetrics.record(aceQLHttpApi, countingIn.getByteCount(),
+				truncated || (download != null && download.isAborted()));
+		    }
+		}
+	    }
+	    if (download != null && download.isAborted()) {
+		throw new AceQLException("Download aborted.", 0, null, null, httpStatusCode);
+	    }
+	    aceQLHttpApi.trace("result: " + resultBuffer + (truncated ? " truncated at " + maxRows + " rows" : ""));
+
+	    StreamResultAnalyzer streamResultAnalyzer = new StreamResultAnalyzer(resultBuffer, httpStatusCode,
+		    httpStatusMessage, resultSetOutputStream);
+
+	    if (truncated) {
+		// The rows follow the status, which is thus already read
+		if (!"OK".equals(resultSetOutputStream.getValue("status"))) {
+		    throw new AceQLException("Unknown error.", 0, null, null, httpStatusCode);
+		}
+		return new SpooledResult(resultBuffer, streamResultAnalyzer, resultSetOutputStream.getRowOffsetIndex(),
+			maxRows);
+	    }
+
+	    if (!streamResultAnalyzer.isStatusOk()) {
+		throw new AceQLException(streamResultAnalyzer.getErrorMessage(), streamResultAnalyzer.getErrorId(),
+			null, streamResultAnalyzer.getStackTrace(), httpStatusCode);
+	    }
+
+	    return new SpooledResult(resultBuffer, streamResultAnalyzer, resultSetOutputStream.getRowOffsetIndex(),
+		    streamResultAnalyzer.getRowCount());
+
+	} catch (Exception e) {
+	    resultBuffer.delete();
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	} finally {
+	    if (download != null) {
+		download.end();
+	    }
+	}
+    }
+
+    /**
+     * Copies the result, until the row after the maximum number of rows is
+     * started: the maximum row is then complete.
+     *
+     * @return true if the copy was stopped before the end of the result
+     */
+    private static boolean copy(InputStream in, ResultSetOutputStream out, int maxRows) throws IOException {
+	byte[] buffer = new byte[8192];
+	int n;
+	while ((n = in.read(buffer)) != -1) {
+	    out.write(buffer, 0, n);
+	    if (maxRows > 0 && out.getRowOffsetIndex().size() > maxRows) {
+		return true;
+	    }
+	}
+	return false;
+    }
+
+    /**
+     * @return the downloaded result
+     */
+    ResultBuffer getResultBuffer() {
+	return resultBuffer;
+    }
+
+    /**
+     * @return the analyzer of the status and of the OUT parameters
+     */
+    StreamResultAnalyzer getStreamResultAnalyzer() {
+	return streamResultAnalyzer;
+    }
+
+    /**
+     * @return the offsets of the rows
+     */
+    RowOffsetIndex getRowOffsetIndex() {
+	return rowOffsetIndex;
+    }
+
+    /**
+     * @return the number of rows
+     */
+    int getRowCount() {
+	return rowCount;
+    }
+
+    /**
+     * Releases the memory, or deletes the file, of the result.
+     */
+    void delete() {
+	resultBuffer.delete();
+    }
+
+}
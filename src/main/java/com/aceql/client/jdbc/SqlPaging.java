@@ -0,0 +1,317 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites a query to read a page of its rows, in the SQL dialect of the
+ * remote database. <br>
+ * Two dialects are supported:
+ * <ul>
+ * <li><code>LIMIT n OFFSET m</code>: MySQL, MariaDB, PostgreSQL, H2, HSQLDB
+ * and SQLite.</li>
+ * <li><code>OFFSET m ROWS FETCH NEXT n ROWS ONLY</code>: Oracle 12c and
+ * later, SQL Server 2012 and later, DB2 and Derby.</li>
+ * </ul>
+ * Only the queries that start with <code>SELECT</code> or <code>WITH</code>,
+ * that end with a top level <code>ORDER BY</code> and that do not already
+ * limit their rows are rewritten: the pages of an unordered query are not
+ * reproducible. <br>
+ * With keyset paging, the pages after the first one are read after the key
+ * of the last row read instead of an offset, when the query reads a single
+ * table and is ordered by its primary key: the key is unique and not null, so
+ * that no row is skipped. The key is sent as a parameter of the query.
+ */
+final class SqlPaging {
+
+    private static final Pattern LIMITED_QUERY = Pattern
+	    .compile("\\b(limit|offset|fetch|top|rownum|for\\s+update|into)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ORDER_BY = Pattern.compile("\\border\\s+by\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern KEY_COLUMN = Pattern
+	    .compile("^(?:[a-z_$][\\w$]*\\.)*([a-z_$][\\w$]*|\"[^\"]+\")(?:\\s+(asc|desc))?$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SINGLE_TABLE = Pattern.compile(
+	    "^select\\s+(.+?)\\s+from\\s+((?:[a-z_$][\\w$]*\\.)*[a-z_$][\\w$]*)(?:\\s+(?:as\\s+)?[a-z_$][\\w$]*)?(?:\\s+where\\s+.*)?$",
+	    Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern JOINED_QUERY = Pattern.compile(
+	    "\\b(distinct|join|group\\s+by|having|union|intersect|except|minus|connect\\s+by)\\b",
+	    Pattern.CASE_INSENSITIVE);
+    private static final Pattern SELECT_ITEM = Pattern
+	    .compile("^(?:[a-z_$][\\w$]*\\.)*([a-z_$][\\w$]*|\\*)$", Pattern.CASE_INSENSITIVE);
+
+    private final boolean offsetFetch;
+    private final boolean keyset;
+
+    private SqlPaging(boolean offsetFetch, boolean keyset) {
+	this.offsetFetch = offsetFetch;
+	this.keyset = keyset;
+    }
+
+    /**
+     * Returns the dialect of a database.
+     *
+     * @param databaseProductName  the product name of the database, as returned
+     *                             by its JDBC metadata
+     * @param databaseMajorVersion the major version of the database, 0 if
+     *                             unknown
+     * @param keyset               if true, the query is paged after the key
+     *                             of the last row read: it must be ordered by
+     *                             the primary key of the table it reads, see
+     *                             {@link #getKeyTable(String)}
+     * @return the dialect, or null if the database is not supported
+     */
+    static SqlPaging forProduct(String databaseProductName, int databaseMajorVersion, boolean keyset) {
+	if (databaseProductName == null) {
+	    return null;
+	}
+
+	String product = databaseProductName.toLowerCase(Locale.ENGLISH);
+	if (product.contains("mysql") || product.contains("mariadb") || product.contains("postgresql")
+		|| product.equals("h2") || product.startsWith("hsql") || product.contains("sqlite")) {
+	    return new SqlPaging(false, keyset);
+	}
+	if (product.contains("db2") || product.contains("derby")) {
+	    return new SqlPaging(true, keyset);
+	}
+	// OFFSET/FETCH is rejected before Oracle 12c and SQL Server 2012
+	if (product.contains("oracle") && databaseMajorVersion >= 12) {
+	    return new SqlPaging(true, keyset);
+	}
+	if (product.contains("sql server") && databaseMajorVersion >= 11) {
+	    return new SqlPaging(true, keyset);
+	}
+	return null;
+    }
+
+    /**
+     * @return true if the query is paged after the key of the last row read
+     */
+    boolean isKeyset() {
+	return keyset;
+    }
+
+    /**
+     * Says if a query may be rewritten.
+     *
+     * @param sql the SQL query
+     * @return true if the query is an ordered <code>SELECT</code> that does not
+     *         limit its rows
+     */
+    static boolean isPageable(String sql) {
+	if (sql == null) {
+	    return false;
+	}
+	String topLevel = new ParsedQuery(sql).topLevel.toLowerCase(Locale.ENGLISH);
+	if (!topLevel.startsWith("select") && !topLevel.startsWith("with")) {
+	    return false;
+	}
+	return !LIMITED_QUERY.matcher(topLevel).find() && ORDER_BY.matcher(topLevel).find();
+    }
+
+    /**
+     * Rewrites a query to read a page of its rows.
+     *
+     * @param sql    the SQL query, accepted by {@link #isPageable(String)}
+     * @param offset the number of rows before the page
+     * @param limit  the maximum number of rows of the page
+     * @return the query of the page
+     */
+    String getPageSql(String sql, long offset, int limit) {
+	return new ParsedQuery(sql).query + getLimitClause(offset, limit);
+    }
+
+    private String getLimitClause(long offset, int limit) {
+	if (!offsetFetch) {
+	    return " LIMIT " + limit + " OFFSET " + offset;
+	}
+	return " OFFSET " + offset + " ROWS FETCH NEXT " + limit + " ROWS ONLY";
+    }
+
+    /**
+     * Returns the column that orders a query, if it is a single column.
+     *
+     * @param sql the SQL query, accepted by {@link #isPageable(String)}
+     * @return the name of the column in the rows, or null if the query is not
+     *         ordered by a single column
+     */
+    static String getKeyColumn(String sql) {
+	Matcher matcher = getKeyMatcher(new ParsedQuery(sql));
+	if (matcher == null) {
+	    return null;
+	}
+	String column = matcher.group(1);
+	return column.startsWith("\"") ? column.substring(1, column.length() - 1) : column;
+    }
+
+    /**
+     * Returns the table read by a query ordered by a single column. The query
+     * must read a single table, without <code>DISTINCT</code>, join, grouping
+     * or set operation, and must select the column without renaming it. Only
+     * then may the rows be read after a key when the column is the primary key
+     * of the table.
+     *
+     * @param sql the SQL query, accepted by {@link #isPageable(String)}
+     * @return the name of the table, without its schema, or null if the query
+     *         does not read a single table or is not ordered by a single column
+     */
+    static String getKeyTable(String sql) {
+	ParsedQuery parsedQuery = new ParsedQuery(sql);
+	String keyColumn = getKeyColumn(sql);
+	if (keyColumn == null) {
+	    return null;
+	}
+
+	String topLevel = parsedQuery.topLevel.substring(0, parsedQuery.orderByStart);
+	Matcher matcher = SINGLE_TABLE.matcher(topLevel.trim());
+	if (!matcher.matches() || JOINED_QUERY.matcher(topLevel).find()) {
+	    return null;
+	}
+
+	// Parenthesized parts of the select list are blank in the top level text
+	boolean selected = false;
+	for (String item : matcher.group(1).split(",")) {
+	    Matcher itemMatcher = SELECT_ITEM.matcher(item.trim());
+	    if (itemMatcher.matches()) {
+		String column = itemMatcher.group(1);
+		selected |= column.equals("*") || column.equalsIgnoreCase(keyColumn);
+	    } else if (item.trim().toLowerCase(Locale.ENGLISH).endsWith(keyColumn.toLowerCase(Locale.ENGLISH))) {
+		// An expression renamed as the key column
+		return null;
+	    }
+	}
+	if (!selected) {
+	    return null;
+	}
+
+	String table = matcher.group(2);
+	return table.substring(table.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Rewrites a query ordered by a single column to read the rows after a
+     * key. The query is wrapped in a subquery, without its
+     * <code>ORDER BY</code>, and the key is its last parameter.
+     *
+     * @param sql   the SQL query, accepted by {@link #getKeyColumn(String)}
+     * @param limit the maximum number of rows of the page
+     * @return the query of the page
+     */
+    String getKeysetPageSql(String sql, int limit) {
+	ParsedQuery parsedQuery = new ParsedQuery(sql);
+	Matcher matcher = getKeyMatcher(parsedQuery);
+	if (matcher == null) {
+	    throw new IllegalArgumentException("Query is not ordered by a single column: " + sql);
+	}
+
+	String column = matcher.group(1);
+	boolean descending = "desc".equalsIgnoreCase(matcher.group(2));
+	return "SELECT * FROM (" + parsedQuery.query.substring(0, parsedQuery.orderByStart).trim()
+		+ ") aceql_page WHERE " + column + (descending ? " < ?" : " > ?") + " ORDER BY "
+		+ column + (descending ? " DESC" : "") + getLimitClause(0, limit);
+    }
+
+    private static Matcher getKeyMatcher(ParsedQuery parsedQuery) {
+	if (parsedQuery.orderByStart < 0) {
+	    return null;
+	}
+	String orderBy = parsedQuery.query.substring(parsedQuery.orderByEnd).trim();
+	Matcher matcher = KEY_COLUMN.matcher(orderBy);
+	return matcher.matches() ? matcher : null;
+    }
+
+    /**
+     * A query without its trailing comments and semicolons, and its top level
+     * text: the same query with its literals, comments and parenthesized parts
+     * replaced by spaces.
+     */
+    private static final class ParsedQuery {
+	private final String query;
+	private final String topLevel;
+	/** The bounds of the last top level ORDER BY, -1 if none */
+	private int orderByStart = -1;
+	private int orderByEnd = -1;
+
+	private ParsedQuery(String sql) {
+	    int length = sql.length();
+	    StringBuilder buffer = new StringBuilder(length);
+	    int depth = 0;
+	    int end = 0;
+
+	    int i = 0;
+	    while (i < length) {
+		char c = sql.charAt(i);
+		char next = i + 1 < length ? sql.charAt(i + 1) : 0;
+
+		int skipped;
+		if (c == '\'' || c == '"' || c == '`') {
+		    skipped = Math.min(length, indexOf(sql, c, i + 1) + 1);
+		    end = skipped;
+		} else if (c == '-' && next == '-') {
+		    skipped = indexOf(sql, '\n', i + 2);
+		} else if (c == '/' && next == '*') {
+		    int close = sql.indexOf("*/", i + 2);
+		    skipped = close < 0 ? length : close + 2;
+		} else {
+		    if (c == '(') {
+			depth++;
+		    }
+		    buffer.append(depth == 0 ? c : ' ');
+		    if (c == ')') {
+			depth = Math.max(0, depth - 1);
+		    }
+		    if (!Character.isWhitespace(c) && c != ';') {
+			end = i + 1;
+		    }
+		    i++;
+		    continue;
+		}
+
+		while (i < skipped) {
+		    buffer.append(' ');
+		    i++;
+		}
+	    }
+
+	    String text = sql.substring(0, end);
+	    int start = 0;
+	    while (start < end && Character.isWhitespace(text.charAt(start))) {
+		start++;
+	    }
+	    this.query = text.substring(start);
+	    this.topLevel = buffer.substring(start, end);
+
+	    Matcher matcher = ORDER_BY.matcher(topLevel);
+	    while (matcher.find()) {
+		orderByStart = matcher.start();
+		orderByEnd = matcher.end();
+	    }
+	}
+
+	/**
+	 * @return the index of a character, the length of the text if absent
+	 */
+	private static int indexOf(String sql, char c, int from) {
+	    int index = sql.indexOf(c, from);
+	    return index < 0 ? sql.length() : index;
+	}
+    }
+
+}
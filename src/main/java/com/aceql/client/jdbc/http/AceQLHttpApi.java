@@ -0,0 +1,1408 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.Authenticator;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.PasswordAuthentication;
+import java.net.ProtocolException;
+import java.net.Proxy;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
+import org.kawanfw.sql.version.VersionValues;
+
+import com.aceql.client.jdbc.AceQLException;
+import com.aceql.client.jdbc.ConnectionOptions;
+import com.aceql.client.jdbc.util.UserLoginStore;
+import com.aceql.client.jdbc.util.json.SqlParameter;
+import com.aceql.client.metadata.dto.JdbcDatabaseMetaDataDto;
+import com.aceql.client.metadata.dto.TableDto;
+import com.aceql.client.metadata.dto.TableNamesDto;
+import com.aceql.client.metadata.util.GsonWsUtil;
+
+/**
+ * @author Nicolas de Pomereu
+ *
+ *         AceQL Rest wrapper for AceQL http/REST apis that take care of all
+ *         http calls and operations.
+ *
+ *         All Exceptions are trapped with a {#link AceQLException} that allows
+ *         to retrieve the detail of the Exceptions
+ */
+public class AceQLHttpApi {
+
+    public static boolean DEBUG = false;
+
+    private boolean TRACE_ON = false;
+
+    // private values
+    private String serverUrl;
+    private String username;
+    private char[] password;
+    private String sessionId;
+    private String database;
+
+    /** Proxy to use with HttpUrlConnection */
+    private Proxy proxy = null;
+    /** For authenticated proxy */
+    private PasswordAuthentication passwordAuthentication = null;
+
+    private static int connectTimeout = 0;
+    private static int readTimeout = 0;
+
+    /** Always true and can not be changed */
+    private final boolean prettyPrinting = true;
+
+    private boolean gzipResult = true;
+
+    private String url = null;
+
+    /**
+     * Status of the last response, for the deprecated status getters only. The
+     * status of each call is carried by its own response.
+     */
+    private volatile int lastHttpStatusCode = HttpURLConnection.HTTP_OK;
+    private volatile String lastHttpStatusMessage;
+
+    private AtomicBoolean cancelled;
+    private AtomicInteger progress;
+
+    /** The connection options. null for defaults */
+    private ConnectionOptions connectionOptions = null;
+
+    /** The transport that executes the HTTP requests */
+    private HttpTransport httpTransport = null;
+
+    /** Set once the server refused a compressed request body */
+    private volatile boolean requestCompressionRefused = false;
+
+    /**
+     * Sets the read timeout. This is the JVM default for connections that do
+     * not define it with {@link ConnectionOptions#setReadTimeout(int)}.
+     *
+     * @param readTimeout an <code>int</code> that specifies the read timeout value,
+     *                    in milliseconds, to be used when an http connection is
+     *                    established to the remote server. See
+     *                    {@link URLConnection#setReadTimeout(int)}
+     */
+    public static void setReadTimeout(int readTimeout) {
+	AceQLHttpApi.readTimeout = readTimeout;
+    }
+
+    /**
+     * Sets the connect timeout. This is the JVM default for connections that do
+     * not define it with {@link ConnectionOptions#setConnectTimeout(int)}.
+     *
+     * @param connectTimeout Sets a specified timeout value, in milliseconds, to be
+     *                       used when opening a communications link to the remote
+     *                       server. If the timeout expires before the connection
+     *                       can be established, a java.net.SocketTimeoutException
+     *                       is raised. A timeout of zero is interpreted as an
+     *                       infinite timeout. See
+     *                       {@link URLConnection#setConnectTimeout(int)}
+     */
+    public static void setConnectTimeout(int connectTimeout) {
+	AceQLHttpApi.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Login on the AceQL server and connect to a database
+     *
+     * @param serverUrl              the url of the AceQL server. Example:
+     *                               http://localhost:9090/aceql
+     * @param database               the server database to connect to.
+     * @param username               the login
+     * @param password               the password
+     * @param proxy                  the proxy to use. null if none.
+     * @param passwordAuthentication the username and password holder to use for
+     *                               authenticated proxy. Null if no proxy or if
+     *                               proxy
+     * @throws AceQLException if any Exception occurs
+     * @deprecated Use {@link #AceQLHttpApi(String,String,String,char[],String,Proxy,PasswordAuthentication)} instead
+     */
+    @Deprecated
+    public AceQLHttpApi(String serverUrl, String database, String username, char[] password, Proxy proxy,
+            PasswordAuthentication passwordAuthentication) throws AceQLException {
+        	this(serverUrl, database, username, password, null, proxy, passwordAuthentication);
+            }
+
+    /**
+     * Login on the AceQL server and connect to a database
+     *
+     * @param serverUrl              the url of the AceQL server. Example:
+     *                               http://localhost:9090/aceql
+     * @param database               the server database to connect to.
+     * @param username               the login
+     * @param password               the password
+     * @param sessionId		     the session ID, if no password authentication
+     * @param proxy                  the proxy to use. null if none.
+     * @param passwordAuthentication the username and password holder to use for
+     *                               authenticated proxy. Null if no proxy or if
+     *                               proxy
+     * @throws AceQLException if any Exception occurs
+     */
+    public AceQLHttpApi(String serverUrl, String database, String username, char[] password, String sessionId,
+	    Proxy proxy, PasswordAuthentication passwordAuthentication) throws AceQLException {
+	this(serverUrl, database, username, password, sessionId, proxy, passwordAuthentication, null);
+    }
+
+    /**
+     * Login on the AceQL server and connect to a database
+     *
+     * @param serverUrl              the url of the AceQL server. Example:
+     *                               http://localhost:9090/aceql
+     * @param database               the server database to connect to.
+     * @param username               the login
+     * @param password               the password
+     * @param sessionId		     the session ID, if no password authentication
+     * @param proxy                  the proxy to use. null if none.
+     * @param passwordAuthentication the username and password holder to use for
+     *                               authenticated proxy. Null if no proxy or if
+     *                               proxy
+     * @param connectionOptions      the connection options. null for defaults.
+     * @throws AceQLException if any Exception occurs
+     */
+    public AceQLHttpApi(String serverUrl, String database, String username, char[] password, String sessionId,
+	    Proxy proxy, PasswordAuthentication passwordAuthentication, ConnectionOptions connectionOptions)
+	    throws AceQLException {
+
+	try {
+	    if (serverUrl == null) {
+		throw new NullPointerException("serverUrl is null!");
+	    }
+	    if (database == null) {
+		throw new NullPointerException("database is null!");
+	    }
+	    if (username == null) {
+		throw new NullPointerException("username is null!");
+	    }
+
+	    if (password == null && sessionId == null) {
+		throw new NullPointerException("password and sessionId are both null!");
+	    }
+
+	    this.serverUrl = serverUrl;
+	    this.username = username;
+	    this.database = database;
+	    this.password = password;
+	    this.sessionId = sessionId;
+
+	    this.proxy = proxy;
+	    this.passwordAuthentication = passwordAuthentication;
+
+	    this.connectionOptions = connectionOptions;
+	    if (connectionOptions != null && connectionOptions.getHttpTransport() != null) {
+		this.httpTransport = connectionOptions.getHttpTransport();
+	    } else {
+		this.httpTransport = PooledHttpTransport.getDefault();
+	    }
+	    if (connectionOptions != null && connectionOptions.getHedgingPolicy() != null) {
+		this.httpTransport = new HedgingHttpTransport(httpTransport, connectionOptions.getHedgingPolicy());
+	    }
+
+	    setProxyCredentials();
+
+	    /*
+	     * BEGIN OLD implementation with GET String url = serverUrl + "/database/" +
+	     * database + "/username/" + username + "/login" + "?password=" + new
+	     * String(password) + "&stateless=" + stateless;
+	     *
+	     * String result = callWithGet(url);
+	     *
+	     * trace("result: " + result); END OLD implementation with GET
+	     */
+
+
+	    UserLoginStore userLoginStore = new UserLoginStore(serverUrl, username, database);
+
+            if (sessionId != null)
+            {
+                userLoginStore.setSessionId(sessionId);
+            }
+
+	    if (userLoginStore.isAlreadyLogged()) {
+		trace("Get a new connection with get_connection");
+		sessionId = userLoginStore.getSessionId();
+
+		String theUrl = serverUrl + "/session/" + sessionId + "/get_connection";
+		ResultAnalyzer resultAnalyzer = callWithGet(theUrl, false);
+
+		if (!resultAnalyzer.isStatusOk()) {
+		    throw new AceQLException(resultAnalyzer.getErrorMessage(), resultAnalyzer.getErrorType(), null,
+			    resultAnalyzer.getStackTrace(), resultAnalyzer.getHttpStatusCode());
+		}
+
+		String connectionId = resultAnalyzer.getValue("connection_id");
+		trace("Ok. New Connection created: " + connectionId);
+
+		this.url = serverUrl + "/session/" + sessionId + "/connection/" + connectionId + "/";
+
+	    } else {
+		String url = serverUrl + "/database/" + database + "/username/" + username + "/login";
+
+		Map<String, String> parameters = new HashMap<String, String>();
+		parameters.put("password", new String(password));
+		parameters.put("client_version", VersionValues.VERSION);
+
+		ResultAnalyzer resultAnalyzer = callWithPostReturnResult(new URL(url), parameters);
+
+		if (!resultAnalyzer.isStatusOk()) {
+		    throw new AceQLException(resultAnalyzer.getErrorMessage(), resultAnalyzer.getErrorType(), null,
+			    resultAnalyzer.getStackTrace(), resultAnalyzer.getHttpStatusCode());
+		}
+
+		trace("Ok. Connected! ");
+		sessionId = resultAnalyzer.getValue("session_id");
+		String connectionId = resultAnalyzer.getValue("connection_id");
+		trace("sessionId   : " + sessionId);
+		trace("connectionId: " + connectionId);
+
+		this.url = serverUrl + "/session/" + sessionId + "/connection/" + connectionId + "/";
+
+		userLoginStore.setSessionId(sessionId);
+	    }
+
+	} catch (Exception e) {
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+
+    }
+
+    public void trace() {
+	if (TRACE_ON) {
+	    System.out.println();
+	}
+    }
+
+    public void trace(String s) {
+	if (TRACE_ON) {
+	    System.out.println(s);
+	}
+    }
+
+    private void callApiNoResult(String commandName, String commandOption) throws AceQLException {
+
+	try {
+
+	    if (commandName == null) {
+		throw new NullPointerException("commandName is null!");
+	    }
+
+	    ResultAnalyzer resultAnalyzer = callWithGet(commandName, commandOption, false);
+	    if (!resultAnalyzer.isStatusOk()) {
+		throw new AceQLException(resultAnalyzer.getErrorMessage(), resultAnalyzer.getErrorType(), null,
+			resultAnalyzer.getStackTrace(), resultAnalyzer.getHttpStatusCode());
+	    }
+
+	} catch (Exception e) {
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+    }
+
+    private String callApiWithResult(String commandName, String commandOption) throws AceQLException {
+
+	try {
+
+	    if (commandName == null) {
+		throw new NullPointerException("commandName is null!");
+	    }
+
+	    ResultAnalyzer resultAnalyzer = callWithGet(commandName, commandOption, true);
+	    if (!resultAnalyzer.isStatusOk()) {
+		throw new AceQLException(resultAnalyzer.getErrorMessage(), resultAnalyzer.getErrorType(), null,
+			resultAnalyzer.getStackTrace(), resultAnalyzer.getHttpStatusCode());
+	    }
+
+	    return resultAnalyzer.getResult();
+
+	} catch (Exception e) {
+
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+    }
+
+    private ResultAnalyzer callWithGet(String action, String actionParameter, boolean idempotent)
+	    throws IOException {
+
+	String urlWithaction = url + action;
+
+	if (actionParameter != null && !actionParameter.isEmpty()) {
+	    urlWithaction += "/" + actionParameter;
+	}
+
+	return callWithGet(urlWithaction, idempotent);
+
+    }
+
+    // HTTP/2 is available on Java 11+ with the Http2Transport class, set with
+    // ConnectionOptions.setHttpTransport()
+
+    private TransportResponse callWithGetReturnResponse(String url, boolean idempotent)
+	    throws MalformedURLException, IOException, UnsupportedEncodingException {
+
+	/*
+	 * if (httpVersion == 1) { return callWithGetInputStreamHttp11(url); } else {
+	 * return callWithGetInputStreamHttp2(url); }
+	 */
+
+	return callWithGetInputStreamHttp11(url, idempotent);
+
+    }
+
+    private TransportResponse callWithGetInputStreamHttp11(String url, boolean idempotent)
+	    throws MalformedURLException, IOException, ProtocolException {
+	URL theUrl = new URL(url);
+
+	TransportRequest request = new TransportRequest("GET", theUrl);
+	request.setIdempotent(idempotent);
+
+	trace();
+	trace("Executing request " + url);
+
+	return execute(request);
+    }
+
+    /**
+     * Executes the request with the transport of this instance. <br>
+     * The HTTP status is read from the returned response, never from this
+     * instance, so that concurrent calls do not interfere.
+     *
+     * @param request the request to execute
+     * @return the response, whose body must be closed
+     * @throws IOException if any I/O error occurs
+     */
+    private TransportResponse execute(TransportRequest request) throws IOException {
+	request.setHeader("Accept-Charset", "UTF-8");
+	request.setProxy(proxy);
+	request.setProxyAuthentication(passwordAuthentication);
+	if (connectionOptions != null) {
+	    request.setTlsConfiguration(connectionOptions.getTlsConfiguration());
+	}
+	if (connectionOptions != null && connectionOptions.getConnectTimeout() >= 0) {
+	    request.setConnectTimeout(connectionOptions.getConnectTimeout());
+	} else {
+	    request.setConnectTimeout(connectTimeout);
+	}
+
+	if (connectionOptions != null && connectionOptions.getReadTimeout() >= 0) {
+	    request.setReadTimeout(connectionOptions.getReadTimeout());
+	} else {
+	    request.setReadTimeout(readTimeout);
+	}
+
+	if (connectionOptions != null) {
+	    request.setRequestTimeout(connectionOptions.getRequestTimeout());
+	}
+
+	TransportResponse response = httpTransport.execute(request);
+
+	lastHttpStatusCode = response.getStatusCode();
+	lastHttpStatusMessage = response.getStatusMessage();
+	return response;
+    }
+
+    private ResultAnalyzer callWithGet(String url, boolean idempotent)
+	    throws MalformedURLException, IOException, ProtocolException, UnsupportedEncodingException {
+	return callWithGet(url, idempotent, false);
+    }
+
+    private ResultAnalyzer callWithGet(String url, boolean idempotent, boolean keepJsonResult)
+	    throws MalformedURLException, IOException, ProtocolException, UnsupportedEncodingException {
+
+	try (TransportResponse response = callWithGetReturnResponse(url, idempotent)) {
+	    ResultAnalyzer resultAnalyzer = newResultAnalyzer(response, keepJsonResult);
+
+	    trace("----------------------------------------");
+	    trace(resultAnalyzer.toString());
+	    trace("----------------------------------------");
+
+	    return resultAnalyzer;
+	}
+
+    }
+
+    /**
+     * Decodes the JSON result of a response. <br>
+     * The result is decoded in one pass while it is read, unless the whole JSON
+     * text is needed afterwards.
+     *
+     * @param response       the response
+     * @param keepJsonResult if true, the JSON result is also kept as a String,
+     *                       available with
+     *                       {@link ResultAnalyzer#getJsonResult()}
+     * @return the decoded result
+     * @throws IOException if any I/O error occurs
+     */
+    private ResultAnalyzer newResultAnalyzer(TransportResponse response, boolean keepJsonResult)
+	    throws IOException {
+	if (keepJsonResult || TRACE_ON) {
+	    return new ResultAnalyzer(readBody(response), response.getStatusCode(), response.getStatusMessage());
+	}
+	return new ResultAnalyzer(response.getBody(), response.getStatusCode(), response.getStatusMessage());
+    }
+
+    /**
+     * Reads the whole body of a response.
+     *
+     * @param response the response
+     * @return the body as a String, or null if the response has no body
+     * @throws IOException if any I/O error occurs
+     */
+    private static String readBody(TransportResponse response) throws IOException {
+	InputStream in = response.getBody();
+	if (in == null) {
+	    return null;
+	}
+
+	ByteArrayOutputStream out = new ByteArrayOutputStream();
+	IOUtils.copy(in, out);
+	return out.toString("UTF-8");
+    }
+
+    /*
+     * NO! Bad implementation: always call an URL private InputStream
+     * callWithPost(String action, Map<String, String> parameters) throws
+     * MalformedURLException, IOException, ProtocolException,
+     * UnsupportedEncodingException {
+     *
+     * URL theUrl = new URL(url + action); return callWithPost(theUrl, parameters);
+     * }
+     */
+
+    private InputStream callWithPost(URL theUrl, Map<String, String> parameters, boolean idempotent)
+	    throws IOException, ProtocolException, SocketTimeoutException, UnsupportedEncodingException {
+	return callWithPostReturnResponse(theUrl, parameters, idempotent).getBody();
+    }
+
+    private TransportResponse callWithPostReturnResponse(URL theUrl, Map<String, String> parameters,
+	    boolean idempotent) throws IOException, ProtocolException, SocketTimeoutException {
+
+	RequestBody body = new FormRequestBody(parameters);
+	String contentEncoding = getRequestContentEncoding(body);
+
+	TransportRequest request = new TransportRequest("POST", theUrl);
+	if (contentEncoding == null) {
+	    request.setBody(body);
+	} else {
+	    request.setBody(new CompressedRequestBody(body, contentEncoding));
+	    request.setHeader("Content-Encoding", contentEncoding);
+	}
+	request.setIdempotent(idempotent);
+
+	trace();
+	trace("Executing request: " + theUrl.toString());
+
+	if (parameters.containsKey("sql")) {
+	    trace("sql..............: " + parameters.get("sql"));
+	}
+
+	trace("parameters.......: " + parameters);
+
+	// Analyze the error after request execution
+	TransportResponse response = execute(request);
+
+	if (contentEncoding != null && response.getStatusCode() == HttpURLConnection.HTTP_UNSUPPORTED_TYPE) {
+	    // The request was not processed: send it again uncompressed, and stop
+	    // compressing the requests of this connection
+	    trace("Compressed request refused by server. Sending it uncompressed.");
+	    response.close();
+	    requestCompressionRefused = true;
+
+	    request = new TransportRequest("POST", theUrl);
+	    request.setBody(body);
+	    request.setIdempotent(idempotent);
+	    response = execute(request);
+	}
+
+	return response;
+    }
+
+    /**
+     * Returns the content coding to use for a request body.
+     *
+     * @param body the uncompressed body
+     * @return the content coding, or null if the body must not be compressed
+     */
+    private String getRequestContentEncoding(RequestBody body) {
+	if (connectionOptions == null || connectionOptions.getRequestCompression() == null
+		|| requestCompressionRefused) {
+	    return null;
+	}
+
+	long contentLength = body.getContentLength();
+	if (contentLength >= 0 && contentLength < connectionOptions.getRequestCompressionThreshold()) {
+	    return null;
+	}
+	return connectionOptions.getRequestCompression();
+    }
+
+    private void setProxyCredentials() {
+
+	if (proxy == null) {
+	    return;
+	}
+
+	// Sets the credential for authentication
+	if (passwordAuthentication != null) {
+	    final String proxyAuthUsername = passwordAuthentication.getUserName();
+	    final char[] proxyPassword = passwordAuthentication.getPassword();
+
+	    Authenticator authenticator = new Authenticator() {
+
+		@Override
+		public PasswordAuthentication getPasswordAuthentication() {
+		    return new PasswordAuthentication(proxyAuthUsername, proxyPassword);
+		}
+	    };
+
+	    if (DEBUG) {
+		System.out.println("passwordAuthentication: " + proxyAuthUsername + " " + new String(proxyPassword));
+	    }
+
+	    Authenticator.setDefault(authenticator);
+	}
+
+    }
+
+    // ////////////////////////////////////////////////////
+    // PUBLIC METHODS //
+    // ///////////////////////////////////////////////////
+
+    @Override
+    public AceQLHttpApi clone() {
+	AceQLHttpApi aceQLHttpApi;
+	try {
+	    aceQLHttpApi = new AceQLHttpApi(serverUrl, database, username, password, sessionId, proxy, passwordAuthentication,
+		    connectionOptions);
+	    aceQLHttpApi.setGzipResult(gzipResult);
+	} catch (SQLException e) {
+	    throw new IllegalStateException(e);
+	}
+	return aceQLHttpApi;
+    }
+
+    /**
+     * @return the connection options, null for defaults
+     */
+    public ConnectionOptions getConnectionOptions() {
+	return connectionOptions;
+    }
+
+    /**
+     * Says if trace is on
+     *
+     * @return true if trace is on
+     */
+    public boolean isTraceOn() {
+	return TRACE_ON;
+    }
+
+    /**
+     * Sets the trace on/off
+     *
+     * @param TRACE_ON if true, trace will be on
+     */
+    public void setTraceOn(boolean traceOn) {
+	TRACE_ON = traceOn;
+    }
+
+    /**
+     * Returns the cancelled value set by the progress indicator
+     *
+     * @return the cancelled value set by the progress indicator
+     */
+    public AtomicBoolean getCancelled() {
+	return cancelled;
+    }
+
+    /**
+     * Sets the shareable canceled variable that will be used by the progress
+     * indicator to notify this instance that the user has cancelled the current
+     * blob/clob upload or download.
+     *
+     * @param cancelled the shareable canceled variable that will be used by the
+     *                  progress indicator to notify this instance that the end user
+     *                  has cancelled the current blob/clob upload or download
+     *
+     */
+    public void setCancelled(AtomicBoolean cancelled) {
+	this.cancelled = cancelled;
+    }
+
+    /**
+     * Returns the sharable progress variable that will store blob/clob upload or
+     * download progress between 0 and 100
+     *
+     * @return the sharable progress variable that will store blob/clob upload or
+     *         download progress between 0 and 100
+     *
+     */
+    public AtomicInteger getProgress() {
+	return progress;
+    }
+
+    /**
+     * Sets the sharable progress variable that will store blob/clob upload or
+     * download progress between 0 and 100. Will be used by progress indicators to
+     * show the progress.
+     *
+     * @param progress the sharable progress variable
+     */
+    public void setProgress(AtomicInteger progress) {
+	this.progress = progress;
+    }
+
+    /**
+     * Says the query result is returned compressed with the GZIP file format.
+     *
+     * @return the gzipResult
+     */
+    public boolean isGzipResult() {
+	return gzipResult;
+    }
+
+    /**
+     * Define if result sets are compressed before download. Defaults to true.
+     *
+     * @param gzipResult if true, sets are compressed before download
+     */
+    public void setGzipResult(boolean gzipResult) {
+	this.gzipResult = gzipResult;
+    }
+
+    /**
+     * Calls /get_version API
+     *
+     * @throws AceQLException if any Exception occurs
+     */
+    public String getServerVersion() throws AceQLException {
+	String result = callApiWithResult("get_version", null);
+	return result;
+    }
+
+    /**
+     * Gets the SDK version
+     *
+     * @throws AceQLException if any Exception occurs
+     */
+    public String getClientVersion() {
+	return org.kawanfw.sql.version.Version.getVersion();
+    }
+
+    /**
+     * Calls /close API
+     */
+    public void close() throws AceQLException {
+	callApiNoResult("close", null);
+    }
+
+    /**
+     * Calls /logout API
+     *
+     * @throws AceQLException if any Exception occurs
+     */
+    public void logout() throws AceQLException {
+	UserLoginStore loginStore = new UserLoginStore(serverUrl, username, database);
+	loginStore.remove();
+	callApiNoResult("logout", null);
+    }
+
+    /**
+     * Calls /commit API
+     *
+     * @throws AceQLException if any Exception occurs
+     */
+    public void commit() throws AceQLException {
+	callApiNoResult("commit", null);
+    }
+
+    /**
+     * Calls /rollback API
+     *
+     * @throws AceQLException if any Exception occurs
+     */
+    public void rollback() throws AceQLException {
+	callApiNoResult("rollback", null);
+    }
+
+    /**
+     * Calls /set_transaction_isolation_level API
+     *
+     * @param level the isolation level
+     * @throws AceQLException if any Exception occurs
+     */
+    public void setTransactionIsolation(String level) throws AceQLException {
+	callApiNoResult("set_transaction_isolation_level", level);
+    }
+
+    /**
+     * Calls /set_holdability API
+     *
+     * @param holdability the holdability
+     * @throws AceQLException if any Exception occurs
+     */
+    public void setHoldability(String holdability) throws AceQLException {
+	callApiNoResult("set_holdability", holdability);
+    }
+
+    /**
+     * Calls /set_auto_commit API
+     *
+     * @param autoCommit <code>true</code> to enable auto-commit mode;
+     *                   <code>false</code> to disable it
+     * @throws AceQLException if any Exception occurs
+     */
+    public void setAutoCommit(boolean autoCommit) throws AceQLException {
+	callApiNoResult("set_auto_commit", autoCommit + "");
+    }
+
+    /**
+     * Calls /get_auto_commit API
+     *
+     * @param autoCommit <code>true</code> to enable auto-commit mode;
+     *                   <code>false</code> to disable it
+     * @return the current state of this <code>Connection</code> object's
+     *         auto-commit mode
+     * @throws AceQLException if any Exception occurs
+     */
+    public boolean getAutoCommit() throws AceQLException {
+	String result = callApiWithResult("get_auto_commit", null);
+	return Boolean.parseBoolean(result);
+    }
+
+    /**
+     * Calls /is_read_only API
+     *
+     * @return <code>true</code> if this <code>Connection</code> object is
+     *         read-only; <code>false</code> otherwise
+     * @throws AceQLException if any Exception occurs
+     */
+    public boolean isReadOnly() throws AceQLException {
+	String result = callApiWithResult("is_read_only", null);
+	return Boolean.parseBoolean(result);
+    }
+
+    /**
+     * Calls /set_read_only API
+     *
+     * @param readOnly {@code true} enables read-only mode; {@code false} disables
+     *                 it
+     * @throws AceQLException if any Exception occurs
+     */
+    public void setReadOnly(boolean readOnly) throws AceQLException {
+	callApiNoResult("set_read_only", readOnly + "");
+    }
+
+    /**
+     * Calls /get_holdability API
+     *
+     * @return the holdability, one of <code>hold_cursors_over_commit</code> or
+     *         <code>close_cursors_at_commit</code>
+     * @throws AceQLException if any Exception occurs
+     */
+    public String getHoldability() throws AceQLException {
+	String result = callApiWithResult("get_holdability", null);
+	return result;
+    }
+
+    /**
+     * Calls /get_transaction_isolation_level API
+     *
+     * @return the current transaction isolation level, which will be one of the
+     *         following constants: <code>transaction_read_uncommitted</code>,
+     *         <code>transaction_read_committed</code>,
+     *         <code>transaction_repeatable_read</code>,
+     *         <code>transaction_serializable</code>, or
+     *         <code>transaction_none</code>.
+     * @throws AceQLException if any Exception occurs
+     */
+    public String getTransactionIsolation() throws AceQLException {
+	String result = callApiWithResult("get_transaction_isolation_level", null);
+	return result;
+    }
+
+    /**
+     * Calls /execute_update API
+     *
+     * @param sql                   an SQL <code>INSERT</code>, <code>UPDATE</code>
+     *                              or <code>DELETE</code> statement or an SQL
+     *                              statement that returns nothing
+     * @param isPreparedStatement   if true, the server will generate a prepared
+     *                              statement, else a simple statement
+     * @param isStoredProcedure     TODO
+     * @param statementParameters   the statement parameters in JSON format. Maybe
+     *                              null for simple statement call.
+     * @param callableOutParameters the map of OUT parameters
+     * @return either the row count for <code>INSERT</code>, <code>UPDATE</code> or
+     *         <code>DELETE</code> statements, or <code>0</code> for SQL statements
+     *         that return nothing
+     * @throws AceQLException if any Exception occurs
+     */
+    public int executeUpdate(String sql, boolean isPreparedStatement, boolean isStoredProcedure,
+	    Map<String, String> statementParameters, Map<Integer, SqlParameter> callableOutParameters)
+	    throws AceQLException {
+
+	try {
+	    if (sql == null) {
+		throw new NullPointerException("sql is null!");
+	    }
+
+	    String action = "execute_update";
+
+	    // Call raw execute if non query/select stored procedure. (Dirty!! To be
+	    // corrected.)
+	    if (isStoredProcedure) {
+		action = "execute";
+	    }
+
+	    Map<String, String> parametersMap = new HashMap<String, String>();
+	    parametersMap.put("sql", sql);
+
+	    // parametersMap.put("prepared_statement", new Boolean(
+	    // isPreparedStatement).toString());
+	    parametersMap.put("prepared_statement", "" + isPreparedStatement);
+	    parametersMap.put("stored_procedure", "" + isStoredProcedure);
+
+	    trace("sql: " + sql);
+	    trace("statement_parameters: " + statementParameters);
+
+	    // Add the statement parameters map
+	    if (statementParameters != null) {
+		parametersMap.putAll(statementParameters);
+	    }
+
+	    URL theUrl = new URL(url + action);
+
+	    ResultAnalyzer resultAnalyzer = callWithPostReturnResult(theUrl, parametersMap);
+	    if (!resultAnalyzer.isStatusOk()) {
+		throw new AceQLException(resultAnalyzer.getErrorMessage(), resultAnalyzer.getErrorType(), null,
+			resultAnalyzer.getStackTrace(), resultAnalyzer.getHttpStatusCode());
+	    }
+
+	    if (isStoredProcedure) {
+		updateOutParameters(resultAnalyzer, callableOutParameters);
+	    }
+
+	    int rowCount = resultAnalyzer.getIntvalue("row_count");
+	    return rowCount;
+
+	} catch (Exception e) {
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+
+    }
+
+    /**
+     * Update the Map of callable OUT parameters using the result string in
+     * ResultAnalyzer
+     *
+     * @param resultAnalyzer        the JSON container sent by the server afte the
+     *                              update
+     * @param callableOutParameters the OUT parameters to update after the execute.
+     * @throws AceQLException if server does not return awaited OUT parameters
+     */
+    private static synchronized void updateOutParameters(ResultAnalyzer resultAnalyzer,
+	    Map<Integer, SqlParameter> callableOutParameters) throws AceQLException {
+
+	// Immediate return in case no out parameters set by user
+	if (callableOutParameters == null || callableOutParameters.isEmpty()) {
+	    return;
+	}
+
+	Map<Integer, String> parametersOutPerIndexAfterExecute = resultAnalyzer.getParametersOutPerIndex();
+
+	// Immediate return in case no parameters. This can not happen if
+	// callableOutParameters is not empty
+	if (parametersOutPerIndexAfterExecute == null || parametersOutPerIndexAfterExecute.isEmpty()) {
+	    throw new AceQLException("No stored procedure out parameters returned by AceQL Server", 4, null, null,
+		    HttpURLConnection.HTTP_OK);
+	}
+
+	for (Integer key : callableOutParameters.keySet()) {
+	    if (parametersOutPerIndexAfterExecute.containsKey(key)) {
+		SqlParameter sqlParameter = callableOutParameters.get(key);
+		SqlParameter sqlParameterNew = new SqlParameter(key, sqlParameter.getParameterType(),
+			parametersOutPerIndexAfterExecute.get(key));
+		// Put back new value
+		callableOutParameters.put(key, sqlParameterNew);
+	    }
+	}
+
+    }
+
+    private ResultAnalyzer callWithPostReturnResult(URL theUrl, Map<String, String> parametersMap)
+	    throws IOException, ProtocolException, SocketTimeoutException, UnsupportedEncodingException {
+	return callWithPostReturnResult(theUrl, parametersMap, false);
+    }
+
+    private ResultAnalyzer callWithPostReturnResult(URL theUrl, Map<String, String> parametersMap,
+	    boolean idempotent)
+	    throws IOException, ProtocolException, SocketTimeoutException, UnsupportedEncodingException {
+	return callWithPostReturnResult(theUrl, parametersMap, idempotent, false);
+    }
+
+    private ResultAnalyzer callWithPostReturnResult(URL theUrl, Map<String, String> parametersMap,
+	    boolean idempotent, boolean keepJsonResult)
+	    throws IOException, ProtocolException, SocketTimeoutException, UnsupportedEncodingException {
+
+	try (TransportResponse response = callWithPostReturnResponse(theUrl, parametersMap, idempotent)) {
+	    ResultAnalyzer resultAnalyzer = newResultAnalyzer(response, keepJsonResult);
+	    trace("result: " + resultAnalyzer);
+	    return resultAnalyzer;
+	}
+    }
+
+    /**
+     * Calls /execute_query API
+     *
+     * @param sql                 an SQL <code>INSERT</code>, <code>UPDATE</code> or
+     *                            <code>DELETE</code> statement or an SQL statement
+     *                            that returns nothing
+     * @param isPreparedStatement if true, the server will generate a prepared
+     *                            statement, else a simple statement
+     * @param isStoredProcedure   TODO
+     * @param statementParameters the statement parameters in JSON format. Maybe
+     *                            null for simple statement call.
+     * @return the input stream containing either an error, or the result set in
+     *         JSON format. See user documentation.
+     * @throws AceQLException if any Exception occurs
+     */
+    public InputStream executeQuery(String sql, boolean isPreparedStatement, boolean isStoredProcedure,
+	    Map<String, String> statementParameters) throws AceQLException {
+	return executeQueryResponse(sql, isPreparedStatement, isStoredProcedure, statementParameters).getBody();
+    }
+
+    /**
+     * Calls /execute_query API and returns the response as soon as the headers
+     * are received, so that the result set may be read while it is downloaded.
+     *
+     * @param sql                 the SQL query
+     * @param isPreparedStatement if true, the server will generate a prepared
+     *                            statement, else a simple statement
+     * @param isStoredProcedure   if true, the query calls a stored procedure
+     * @param statementParameters the statement parameters in JSON format. Maybe
+     *                            null for simple statement call.
+     * @return the response, whose body contains either an error, or the result
+     *         set in JSON format, compressed if {@link #isGzipResult()}. The
+     *         response must be closed, or aborted to stop the download.
+     * @throws AceQLException if any Exception occurs
+     */
+    public TransportResponse executeQueryResponse(String sql, boolean isPreparedStatement,
+	    boolean isStoredProcedure, Map<String, String> statementParameters) throws AceQLException {
+
+	try {
+	    if (sql == null) {
+		throw new NullPointerException("sql is null!");
+	    }
+
+	    String action = "execute_query";
+
+	    Map<String, String> parametersMap = new HashMap<String, String>();
+	    parametersMap.put("sql", sql);
+
+	    // parametersMap.put("prepared_statement", new
+	    // Boolean(isPreparedStatement).toString());
+	    // parametersMap.put("gzip_result", new
+	    // Boolean(gzipResult).toString());
+	    // parametersMap.put("pretty_printing", new
+	    // Boolean(prettyPrinting).toString());
+
+	    parametersMap.put("prepared_statement", "" + isPreparedStatement);
+	    parametersMap.put("stored_procedure", "" + isStoredProcedure);
+	    parametersMap.put("gzip_result", "" + gzipResult);
+	    parametersMap.put("pretty_printing", "" + prettyPrinting);
+
+	    // Add the statement parameters map
+	    if (statementParameters != null) {
+		parametersMap.putAll(statementParameters);
+	    }
+
+	    trace("sql: " + sql);
+	    trace("statement_parameters: " + statementParameters);
+
+	    URL theUrl = new URL(url + action);
+	    return callWithPostReturnResponse(theUrl, parametersMap, false);
+
+	} catch (Exception e) {
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+
+    }
+
+    /**
+     * Calls /blob_upload API
+     *
+     * @param blobId      the Blob/Clob Id
+     * @param inputStream the local Blob/Clob local file input stream
+     * @throws AceQLException if any Exception occurs
+     */
+    public void blobUpload(String blobId, InputStream inputStream, long totalLength) throws AceQLException {
+
+	try {
+	    if (blobId == null) {
+		throw new NullPointerException("blobId is null!");
+	    }
+
+	    if (inputStream == null) {
+		throw new NullPointerException("inputStream is null!");
+	    }
+
+	    // if (file == null) {
+	    // throw new NullPointerException("file is null!");
+	    // }
+	    //
+	    // if (!file.exists()) {
+	    // throw new FileNotFoundException("file does not exist: " + file);
+	    // }
+
+	    URL theURL = new URL(url + "blob_upload");
+
+	    trace("request : " + theURL);
+
+	    TransportRequest request = new TransportRequest("POST", theURL);
+	    request.setBody(new BlobUploadRequestBody(blobId, inputStream, totalLength));
+
+	    ResultAnalyzer resultAnalyzer = null;
+
+	    // Analyze the error after request execution
+	    try (TransportResponse response = execute(request)) {
+
+		trace("blob_id          : " + blobId);
+		trace("httpStatusCode   : " + response.getStatusCode());
+		trace("httpStatusMessage: " + response.getStatusMessage());
+
+		resultAnalyzer = newResultAnalyzer(response, false);
+	    }
+	    if (!resultAnalyzer.isStatusOk()) {
+		throw new AceQLException(resultAnalyzer.getErrorMessage(), resultAnalyzer.getErrorType(), null,
+			resultAnalyzer.getStackTrace(), resultAnalyzer.getHttpStatusCode());
+	    }
+
+	} catch (Exception e) {
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+    }
+
+    /**
+     * Calls /get_blob_length API
+     *
+     * @param blobId the Blob/Clob Id
+     * @return the server Blob/Clob length
+     * @throws AceQLException if any Exception occurs
+     */
+    public long getBlobLength(String blobId) throws AceQLException {
+
+	try {
+
+	    if (blobId == null) {
+		throw new NullPointerException("blobId is null!");
+	    }
+
+	    String action = "get_blob_length";
+
+	    Map<String, String> parameters = new HashMap<String, String>();
+	    parameters.put("blob_id", blobId);
+
+	    URL theUrl = new URL(url + action);
+	    ResultAnalyzer resultAnalyzer = callWithPostReturnResult(theUrl, parameters, true);
+	    if (!resultAnalyzer.isStatusOk()) {
+		throw new AceQLException(resultAnalyzer.getErrorMessage(), resultAnalyzer.getErrorType(), null,
+			resultAnalyzer.getStackTrace(), resultAnalyzer.getHttpStatusCode());
+	    }
+
+	    String lengthStr = resultAnalyzer.getValue("length");
+	    long length = Long.parseLong(lengthStr);
+	    return length;
+
+	} catch (Exception e) {
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+
+    }
+
+    public InputStream dbSchemaDownload(String format, String tableName) throws AceQLException {
+	try {
+
+	    if (format == null) {
+		throw new NullPointerException("format is null!");
+	    }
+
+	    String action = "metadata_query/db_schema_download";
+
+	    Map<String, String> parameters = new HashMap<String, String>();
+	    parameters.put("format", format);
+	    if (tableName != null) {
+		tableName = tableName.toLowerCase();
+		parameters.put("table_name", tableName);
+	    }
+
+	    InputStream in = null;
+
+	    URL theUrl = new URL(url + action);
+
+	    in = callWithPost(theUrl, parameters, true);
+	    return in;
+
+	} catch (Exception e) {
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+
+    }
+
+    public JdbcDatabaseMetaDataDto getDbMetadata() throws AceQLException {
+	try {
+	    String action = "metadata_query/get_db_metadata";
+	    ResultAnalyzer resultAnalyzer = callWithGet(url + action, true, true);
+	    if (!resultAnalyzer.isStatusOk()) {
+		throw new AceQLException(resultAnalyzer.getErrorMessage(), resultAnalyzer.getErrorType(), null,
+			resultAnalyzer.getStackTrace(), resultAnalyzer.getHttpStatusCode());
+	    }
+
+	    // If result is OK, it's a DTO
+	    JdbcDatabaseMetaDataDto jdbcDatabaseMetaDataDto = GsonWsUtil.fromJson(resultAnalyzer.getJsonResult(),
+		    JdbcDatabaseMetaDataDto.class);
+	    return jdbcDatabaseMetaDataDto;
+	} catch (Exception e) {
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+    }
+
+    public TableNamesDto getTableNames(String tableType) throws AceQLException {
+	try {
+	    String action = "metadata_query/get_table_names";
+
+	    Map<String, String> parameters = new HashMap<String, String>();
+	    if (tableType != null) {
+		parameters.put("table_type", tableType);
+	    }
+
+	    ResultAnalyzer resultAnalyzer = callWithPostReturnResult(new URL(url + action), parameters, true, true);
+	    if (!resultAnalyzer.isStatusOk()) {
+		throw new AceQLException(resultAnalyzer.getErrorMessage(), resultAnalyzer.getErrorType(), null,
+			resultAnalyzer.getStackTrace(), resultAnalyzer.getHttpStatusCode());
+	    }
+
+	    // If result is OK, it's a DTO
+	    TableNamesDto tableNamesDto = GsonWsUtil.fromJson(resultAnalyzer.getJsonResult(), TableNamesDto.class);
+	    return tableNamesDto;
+	} catch (Exception e) {
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+    }
+
+    public TableDto getTable(String tableName) throws AceQLException {
+	try {
+	    String action = "metadata_query/get_table";
+
+	    Map<String, String> parameters = new HashMap<String, String>();
+	    parameters.put("table_name", tableName);
+
+	    ResultAnalyzer resultAnalyzer = callWithPostReturnResult(new URL(url + action), parameters, true, true);
+	    if (!resultAnalyzer.isStatusOk()) {
+		throw new AceQLException(resultAnalyzer.getErrorMessage(), resultAnalyzer.getErrorType(), null,
+			resultAnalyzer.getStackTrace(), resultAnalyzer.getHttpStatusCode());
+	    }
+
+	    // If result is OK, it's a DTO
+	    TableDto tableDto = GsonWsUtil.fromJson(resultAnalyzer.getJsonResult(), TableDto.class);
+	    return tableDto;
+	} catch (Exception e) {
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+    }
+
+    /**
+     * Calls /blob_download API
+     *
+     * @param blobId the Blob/Clob Id
+     * @return the input stream containing either an error, or the result set in
+     *         JSON format. See user documentation.
+     * @throws AceQLException if any Exception occurs
+     */
+    public InputStream blobDownload(String blobId) throws AceQLException {
+
+	try {
+
+	    if (blobId == null) {
+		throw new NullPointerException("blobId is null!");
+	    }
+
+	    String action = "blob_download";
+
+	    Map<String, String> parameters = new HashMap<String, String>();
+	    parameters.put("blob_id", blobId);
+
+	    InputStream in = null;
+
+	    URL theUrl = new URL(url + action);
+	    in = callWithPost(theUrl, parameters, true);
+
+	    // if (httpStatusCode != HttpURLConnection.HTTP_OK) {
+	    // throw new AceQLException("HTTP_FAILURE" + " " + httpStatusCode
+	    // + " " + httpStatusMessage, 0, httpStatusCode,
+	    // httpStatusMessage);
+	    // }
+
+	    return in;
+
+	} catch (Exception e) {
+	    if (e instanceof AceQLException) {
+		throw (AceQLException) e;
+	    } else {
+		throw new AceQLException(e.getMessage(), 0, e, null, HttpURLConnection.HTTP_OK);
+	    }
+	}
+    }
+
+    /**
+     * The multipart body of a blob upload, written with {@link MultipartUtility}.
+     * The blob stream can be read only once, so the body is not repeatable.
+     */
+    private class BlobUploadRequestBody extends RequestBody {
+
+	private final String blobId;
+	private final InputStream inputStream;
+	private final long totalLength;
+	private final String boundary = MultipartUtility.newBoundary();
+
+	BlobUploadRequestBody(String blobId, InputStream inputStream, long totalLength) {
+	    this.blobId = blobId;
+	    this.inputStream = inputStream;
+	    this.totalLength = totalLength;
+	}
+
+	@Override
+	public String getContentType() {
+	    return "multipart/form-data; boundary=" + boundary;
+	}
+
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+	    final MultipartUtility http = new MultipartUtility(out, boundary, progress, cancelled, totalLength);
+
+	    Map<String, String> parameters = new HashMap<String, String>();
+	    parameters.put("blob_id", blobId);
+
+	    for (Map.Entry<String, String> entry : parameters.entrySet()) {
+		// trace(entry.getKey() + "/" + entry.getValue());
+		http.addFormField(entry.getKey(), entry.getValue());
+	    }
+
+	    // Server needs a unique file name to store the blob
+	    String fileName = UUID.randomUUID().toString() + ".blob";
+
+	    try {
+		http.addFilePart("file", inputStream, fileName);
+	    } catch (InterruptedException e) {
+		throw new InterruptedIOException(e.getMessage());
+	    }
+	    http.finish();
+	}
+    }
+
+    /**
+     * Returns the HTTP status code of the last response received by this
+     * instance.
+     *
+     * @return the HTTP status code of the last response
+     * @deprecated With concurrent calls, the last response may belong to another
+     *             thread. Use {@link AceQLException#getHttpStatusCode()}, or
+     *             {@link TransportResponse#getStatusCode()} for the calls that
+     *             return a response.
+     */
+    @Deprecated
+    public int getHttpStatusCode() {
+	return lastHttpStatusCode;
+    }
+
+    /**
+     * Returns the HTTP status message of the last response received by this
+     * instance.
+     *
+     * @return the HTTP status message of the last response
+     * @deprecated With concurrent calls, the last response may belong to another
+     *             thread. Use {@link TransportResponse#getStatusMessage()} for
+     *             the calls that return a response.
+     */
+    @Deprecated
+    public String getHttpStatusMessage() {
+	return lastHttpStatusMessage;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A body compressed on the fly with the gzip or deflate content coding. <br>
+ * The compressed length is not known in advance, so the body is sent with
+ * chunked transfer encoding.
+ */
+class CompressedRequestBody extends RequestBody {
+
+    /** The gzip content coding */
+    static final String GZIP = "gzip";
+    /** The deflate content coding, which is the zlib format */
+    static final String DEFLATE = "deflate";
+
+    private final RequestBody body;
+    private final String contentEncoding;
+
+    /**
+     * Constructor.
+     *
+     * @param body            the body to compress
+     * @param contentEncoding the content coding: "gzip" or "deflate"
+     */
+    CompressedRequestBody(RequestBody body, String contentEncoding) {
+	if (body == null) {
+	    throw new NullPointerException("body is null!");
+	}
+	if (!GZIP.equals(contentEncoding) && !DEFLATE.equals(contentEncoding)) {
+	    throw new IllegalArgumentException("Unsupported content encoding: " + contentEncoding);
+	}
+	this.body = body;
+	this.contentEncoding = contentEncoding;
+    }
+
+    /**
+     * @return the value of the Content-Encoding header of the body
+     */
+    String getContentEncoding() {
+	return contentEncoding;
+    }
+
+    @Override
+    public String getContentType() {
+	return body.getContentType();
+    }
+
+    @Override
+    public boolean isRepeatable() {
+	return body.isRepeatable();
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+	// The transport stream must not be closed by the compressor
+	OutputStream notClosing = new FilterOutputStream(out) {
+	    @Override
+	    public void write(byte[] b, int off, int len) throws IOException {
+		out.write(b, off, len);
+	    }
+
+	    @Override
+	    public void close() throws IOException {
+		flush();
+	    }
+	};
+
+	DeflaterOutputStream compressedOut = contentEncoding.equals(GZIP) ? new GZIPOutputStream(notClosing, 8192)
+		: new DeflaterOutputStream(notClosing);
+	try {
+	    body.writeTo(compressedOut);
+	} finally {
+	    // Finishes the compressed data and releases the native compressor
+	    compressedOut.close();
+	}
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.Closeable;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The total time allowed to a request, from the connection lease until the end
+ * of the response body. <br>
+ * When the deadline expires, the attached network resource is closed, which
+ * makes any blocked write or read fail immediately. <br>
+ * All deadlines share a single daemon timer thread: no thread is created per
+ * request.
+ */
+final class Deadline {
+
+    /** The timer shared by all deadlines. Created on first use */
+    private static ScheduledThreadPoolExecutor scheduler = null;
+
+    private final int timeout;
+    private final long expiresAt;
+
+    private final AtomicBoolean expired = new AtomicBoolean(false);
+    private volatile Closeable target = null;
+    private volatile ScheduledFuture<?> future = null;
+
+    private Deadline(int timeout) {
+	this.timeout = timeout;
+	this.expiresAt = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+    }
+
+    /**
+     * Starts a new deadline.
+     *
+     * @param timeout the total time allowed in milliseconds. 0 means infinite.
+     * @return the started deadline
+     */
+    static Deadline start(int timeout) {
+	final Deadline deadline = new Deadline(timeout);
+	if (timeout > 0) {
+	    deadline.future = getScheduler().schedule(new Runnable() {
+		@Override
+		public void run() {
+		    deadline.expire();
+		}
+	    }, timeout, TimeUnit.MILLISECONDS);
+	}
+	return deadline;
+    }
+
+    /**
+     * Returns a deadline that only measures the remaining time: no timer is
+     * scheduled, and nothing is closed on expiry.
+     *
+     * @param timeout the total time allowed in milliseconds. 0 means infinite.
+     * @return the deadline
+     */
+    static Deadline of(int timeout) {
+	return new Deadline(timeout);
+    }
+
+    /**
+     * Starts a new deadline for a request, bound to the request so that
+     * {@link TransportRequest#cancel()} expires it.
+     *
+     * @param request the request
+     * @return the started deadline
+     */
+    static Deadline start(TransportRequest request) {
+	Deadline deadline = start(request.getRequestTimeout());
+	request.setDeadline(deadline);
+	return deadline;
+    }
+
+    private static synchronized ScheduledThreadPoolExecutor getScheduler() {
+	if (scheduler == null) {
+	    scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable r) {
+		    Thread thread = new Thread(r, "AceQL-Deadline");
+		    thread.setDaemon(true);
+		    return thread;
+		}
+	    });
+	    scheduler.setRemoveOnCancelPolicy(true);
+	}
+	return scheduler;
+    }
+
+    /**
+     * Attaches the resource to close on expiry, replacing the previous one. The
+     * resource is closed immediately if the deadline is already expired.
+     *
+     * @param target the resource to close on expiry. null to detach.
+     */
+    void attach(Closeable target) {
+	this.target = target;
+	if (expired.get()) {
+	    closeQuietly(target);
+	}
+    }
+
+    /**
+     * Expires the deadline now: the attached network resource is closed.
+     */
+    void expire() {
+	if (expired.compareAndSet(false, true)) {
+	    closeQuietly(target);
+	}
+    }
+
+    /**
+     * Stops the deadline. The attached resource will not be closed.
+     */
+    void cancel() {
+	ScheduledFuture<?> future = this.future;
+	if (future != null) {
+	    future.cancel(false);
+	}
+	this.target = null;
+    }
+
+    /**
+     * @return true if the deadline is expired
+     */
+    boolean isExpired() {
+	return expired.get() || (expiresAt != 0 && System.currentTimeMillis() >= expiresAt);
+    }
+
+    /**
+     * Returns the remaining time before expiry.
+     *
+     * @return the remaining time in milliseconds, 0 if infinite. At least 1 if
+     *         not infinite.
+     */
+    int getRemaining() {
+	if (expiresAt == 0) {
+	    return 0;
+	}
+	return (int) Math.max(1, expiresAt - System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the smaller of a timeout and the remaining time of the deadline.
+     *
+     * @param timeout a timeout in milliseconds. 0 means infinite.
+     * @return the smaller of the two, 0 if both are infinite
+     */
+    int bound(int timeout) {
+	int remaining = getRemaining();
+	if (remaining == 0) {
+	    return timeout;
+	}
+	return timeout == 0 ? remaining : Math.min(timeout, remaining);
+    }
+
+    /**
+     * @return the exception to throw once the deadline is expired
+     */
+    SocketTimeoutException newTimeoutException() {
+	return new ExpiredException(
+		"Unable to complete request in less than required " + timeout + " milliseconds.");
+    }
+
+    /**
+     * Thrown when the total time allowed to a request is over. Unlike a read or
+     * connect timeout, a new attempt of the request would fail the same way.
+     */
+    static class ExpiredException extends SocketTimeoutException {
+
+	private static final long serialVersionUID = 1L;
+
+	ExpiredException(String message) {
+	    super(message);
+	}
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+	if (closeable != null) {
+	    try {
+		closeable.close();
+	    } catch (Exception ignore) {
+		// ignore
+	    }
+	}
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.util.Map;
+
+/**
+ * A body of URL encoded POST parameters. <br>
+ * The parameters are encoded while the body is written, so the encoded body is
+ * never held in memory. The value of a parameter with a null value is not
+ * sent.
+ */
+class FormRequestBody extends RequestBody {
+
+    private final Map<String, String> parameters;
+    private final long contentLength;
+
+    /**
+     * Constructor.
+     *
+     * @param parameters the parameter names and values. The map must not be
+     *                   modified afterwards.
+     */
+    FormRequestBody(Map<String, String> parameters) {
+	this.parameters = parameters;
+	this.contentLength = getEncodedLength(parameters);
+    }
+
+    @Override
+    public String getContentType() {
+	return "application/x-www-form-urlencoded";
+    }
+
+    @Override
+    public long getContentLength() {
+	return contentLength;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+	return true;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+	writeEncoded(parameters, out);
+    }
+
+    /**
+     * Returns the length in bytes of the URL encoded parameters, without
+     * encoding them.
+     */
+    private static long getEncodedLength(Map<String, String> parameters) {
+	long length = 0;
+	boolean first = true;
+	for (Map.Entry<String, String> entry : parameters.entrySet()) {
+	    if (first) {
+		first = false;
+	    } else {
+		length++; // &
+	    }
+	    if (entry.getValue() != null) {
+		length += getUrlEncodedLength(entry.getKey()) + 1 + getUrlEncodedLength(entry.getValue());
+	    }
+	}
+	return length;
+    }
+
+    /**
+     * Writes the URL encoded parameters directly into a stream, with the same
+     * encoding as {@link URLEncoder#encode(String, String)} in UTF-8.
+     */
+    private static void writeEncoded(Map<String, String> parameters, OutputStream out) throws IOException {
+	UrlEncodingWriter writer = new UrlEncodingWriter(out);
+	boolean first = true;
+	for (Map.Entry<String, String> entry : parameters.entrySet()) {
+	    if (first) {
+		first = false;
+	    } else {
+		writer.writeByte('&');
+	    }
+	    if (entry.getValue() != null) {
+		writer.writeEncoded(entry.getKey());
+		writer.writeByte('=');
+		writer.writeEncoded(entry.getValue());
+	    }
+	}
+	writer.flush();
+    }
+
+    /**
+     * Says if a char is left as is by {@link URLEncoder}.
+     */
+    private static boolean isUrlSafe(char c) {
+	return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '.' || c == '-'
+		|| c == '*' || c == '_' || c == ' ';
+    }
+
+    private static long getUrlEncodedLength(String s) {
+	long length = 0;
+	for (int i = 0; i < s.length(); i++) {
+	    char c = s.charAt(i);
+	    if (isUrlSafe(c)) {
+		length++;
+	    } else if (c < 0x80) {
+		length += 3;
+	    } else if (c < 0x800) {
+		length += 6;
+	    } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+		    && Character.isLowSurrogate(s.charAt(i + 1))) {
+		length += 12;
+		i++;
+	    } else if (Character.isSurrogate(c)) {
+		length += 3; // Malformed: encoded as '?'
+	    } else {
+		length += 9;
+	    }
+	}
+	return length;
+    }
+
+    /**
+     * Writes URL encoded UTF-8 bytes through a small fixed buffer.
+     */
+    private static class UrlEncodingWriter {
+
+	private static final byte[] HEX = "0123456789ABCDEF".getBytes();
+
+	private final OutputStream out;
+	private final byte[] buffer = new byte[8192];
+	private int count = 0;
+
+	UrlEncodingWriter(OutputStream out) {
+	    this.out = out;
+	}
+
+	void writeEncoded(String s) throws IOException {
+	    for (int i = 0; i < s.length(); i++) {
+		char c = s.charAt(i);
+		if (isUrlSafe(c)) {
+		    writeByte(c == ' ' ? '+' : c);
+		} else if (c < 0x80) {
+		    writeEscaped(c);
+		} else if (c < 0x800) {
+		    writeEscaped(0xC0 | (c >> 6));
+		    writeEscaped(0x80 | (c & 0x3F));
+		} else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+			&& Character.isLowSurrogate(s.charAt(i + 1))) {
+		    int codePoint = Character.toCodePoint(c, s.charAt(++i));
+		    writeEscaped(0xF0 | (codePoint >> 18));
+		    writeEscaped(0x80 | ((codePoint >> 12) & 0x3F));
+		    writeEscaped(0x80 | ((codePoint >> 6) & 0x3F));
+		    writeEscaped(0x80 | (codePoint & 0x3F));
+		} else if (Character.isSurrogate(c)) {
+		    writeEscaped('?');
+		} else {
+		    writeEscaped(0xE0 | (c >> 12));
+		    writeEscaped(0x80 | ((c >> 6) & 0x3F));
+		    writeEscaped(0x80 | (c & 0x3F));
+		}
+	    }
+	}
+
+	private void writeEscaped(int b) throws IOException {
+	    writeByte('%');
+	    writeByte(HEX[(b >> 4) & 0x0F]);
+	    writeByte(HEX[b & 0x0F]);
+	}
+
+	void writeByte(int b) throws IOException {
+	    if (count == buffer.length) {
+		flush();
+	    }
+	    buffer[count++] = (byte) b;
+	}
+
+	void flush() throws IOException {
+	    if (count > 0) {
+		out.write(buffer, 0, count);
+		count = 0;
+	    }
+	}
+    }
+
+}
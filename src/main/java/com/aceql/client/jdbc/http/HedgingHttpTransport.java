@@ -0,0 +1,302 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLException;
+
+/**
+ * A transport that applies a {@link HedgingPolicy} to the idempotent requests
+ * and executes the other requests as is with the wrapped transport.
+ */
+class HedgingHttpTransport implements HttpTransport {
+
+    /** The threads that execute the hedged requests. Created on first use */
+    private static ExecutorService executor = null;
+
+    private final HttpTransport transport;
+    private final HedgingPolicy hedgingPolicy;
+
+    /**
+     * Constructor.
+     *
+     * @param transport     the transport that executes the requests
+     * @param hedgingPolicy the policy of the idempotent requests
+     */
+    HedgingHttpTransport(HttpTransport transport, HedgingPolicy hedgingPolicy) {
+	this.transport = transport;
+	this.hedgingPolicy = hedgingPolicy;
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+	if (executor == null) {
+	    executor = Executors.newCachedThreadPool(new ThreadFactory() {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable r) {
+		    Thread thread = new Thread(r, "AceQL-Hedge-" + count.incrementAndGet());
+		    thread.setDaemon(true);
+		    return thread;
+		}
+	    });
+	}
+	return executor;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+	RequestBody body = request.getBody();
+	if (!request.isIdempotent() || (body != null && !body.isRepeatable())) {
+	    return transport.execute(request);
+	}
+
+	// The attempts share the total time allowed to the request
+	Deadline deadline = Deadline.of(request.getRequestTimeout());
+	for (int retry = 0;; retry++) {
+	    try {
+		return executeHedged(request, deadline);
+	    } catch (IOException e) {
+		if (retry >= hedgingPolicy.getMaxRetries() || !isTransient(e) || request.isCancelled()) {
+		    throw e;
+		}
+		long backoff = hedgingPolicy.getBackoff(retry);
+		if (deadline.isExpired() || deadline.getRemaining() != 0 && backoff >= deadline.getRemaining()) {
+		    throw e;
+		}
+		hedgingPolicy.incrementRetries();
+		sleep(backoff);
+	    }
+	}
+    }
+
+    /**
+     * Says if an error may not happen again on a new attempt.
+     */
+    static boolean isTransient(IOException e) {
+	if (e instanceof SSLException || e instanceof Deadline.ExpiredException
+		|| e instanceof InterruptedIOException && !(e instanceof SocketTimeoutException)) {
+	    return false;
+	}
+	return e instanceof SocketException || e instanceof SocketTimeoutException || e instanceof EOFException
+		|| e instanceof PooledConnection.NoResponseException;
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+	if (millis <= 0) {
+	    return;
+	}
+	try {
+	    Thread.sleep(millis);
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	    throw new InterruptedIOException(e.getMessage());
+	}
+    }
+
+    /**
+     * Executes the request, and a hedge request if it has not answered after the
+     * hedge delay. The first response wins; the other request is cancelled. <br>
+     * Each request is allowed only the remaining time of the deadline.
+     */
+    private TransportResponse executeHedged(TransportRequest request, Deadline deadline) throws IOException {
+	if (deadline.isExpired()) {
+	    throw deadline.newTimeoutException();
+	}
+
+	if (!hedgingPolicy.isHedging()) {
+	    int requestTimeout = request.getRequestTimeout();
+	    request.setRequestTimeout(deadline.getRemaining());
+	    try {
+		long begin = System.currentTimeMillis();
+		TransportResponse response = transport.execute(request);
+		hedgingPolicy.recordLatency(System.currentTimeMillis() - begin);
+		return response;
+	    } finally {
+		request.setRequestTimeout(requestTimeout);
+	    }
+	}
+
+	HedgedCall call = new HedgedCall();
+	try {
+	    call.submit(copy(request, deadline), false);
+
+	    Attempt attempt = call.results.poll(hedgingPolicy.getCurrentHedgeDelay(), TimeUnit.MILLISECONDS);
+	    if (attempt == null && !request.isCancelled() && !deadline.isExpired()) {
+		hedgingPolicy.incrementHedges();
+		call.submit(copy(request, deadline), true);
+	    }
+
+	    IOException failure = null;
+	    for (int pending = call.attempts.size(); pending > 0; pending--) {
+		if (attempt == null) {
+		    attempt = call.results.take();
+		}
+		if (attempt.response != null) {
+		    call.finish(attempt);
+		    hedgingPolicy.recordLatency(attempt.latency);
+		    if (attempt.hedge) {
+			hedgingPolicy.incrementHedgeWins();
+		    }
+		    return attempt.response;
+		}
+		if (failure == null) {
+		    failure = attempt.failure;
+		}
+		attempt = null;
+	    }
+	    throw failure;
+	} catch (InterruptedException e) {
+	    call.finish(null);
+	    Thread.currentThread().interrupt();
+	    throw new InterruptedIOException(e.getMessage());
+	} catch (RejectedExecutionException e) {
+	    call.finish(null);
+	    throw new IOException(e.getMessage(), e);
+	}
+    }
+
+    /**
+     * Returns a copy of the request allowed only the remaining time of the
+     * deadline.
+     */
+    private static TransportRequest copy(TransportRequest request, Deadline deadline) {
+	TransportRequest copy = request.copy();
+	copy.setRequestTimeout(deadline.getRemaining());
+	return copy;
+    }
+
+    @Override
+    public void close() {
+	transport.close();
+    }
+
+    @Override
+    public String toString() {
+	return "HedgingHttpTransport [transport=" + transport + ", hedgingPolicy=" + hedgingPolicy + "]";
+    }
+
+    /**
+     * The result of the execution of one of the requests of a call.
+     */
+    private static class Attempt {
+	private final TransportRequest request;
+	private final boolean hedge;
+	private final long latency;
+	private final TransportResponse response;
+	private final IOException failure;
+
+	Attempt(TransportRequest request, boolean hedge, long latency, TransportResponse response,
+		IOException failure) {
+	    this.request = request;
+	    this.hedge = hedge;
+	    this.latency = latency;
+	    this.response = response;
+	    this.failure = failure;
+	}
+    }
+
+    /**
+     * The requests of a call. The responses received after the winner are
+     * aborted.
+     */
+    private class HedgedCall {
+
+	private final BlockingQueue<Attempt> results = new LinkedBlockingQueue<Attempt>();
+	private final List<TransportRequest> attempts = new ArrayList<TransportRequest>();
+	private boolean finished = false;
+
+	void submit(final TransportRequest request, final boolean hedge) {
+	    synchronized (this) {
+		attempts.add(request);
+	    }
+	    getExecutor().execute(new Runnable() {
+		@Override
+		public void run() {
+		    long begin = System.currentTimeMillis();
+		    Attempt attempt;
+		    try {
+			TransportResponse response = transport.execute(request);
+			attempt = new Attempt(request, hedge, System.currentTimeMillis() - begin, response, null);
+		    } catch (IOException e) {
+			attempt = new Attempt(request, hedge, 0, null, e);
+		    } catch (RuntimeException e) {
+			attempt = new Attempt(request, hedge, 0, null, new IOException(e.getMessage(), e));
+		    }
+
+		    synchronized (HedgedCall.this) {
+			if (!finished) {
+			    results.add(attempt);
+			    return;
+			}
+		    }
+		    abort(attempt);
+		}
+	    });
+	}
+
+	/**
+	 * Ends the call: the requests other than the winner are cancelled, and
+	 * their responses already received are aborted.
+	 */
+	void finish(Attempt winner) {
+	    List<TransportRequest> losers = new ArrayList<TransportRequest>();
+	    synchronized (this) {
+		finished = true;
+		for (TransportRequest request : attempts) {
+		    if (winner == null || request != winner.request) {
+			losers.add(request);
+		    }
+		}
+	    }
+	    for (TransportRequest request : losers) {
+		request.cancel();
+	    }
+
+	    Attempt attempt;
+	    while ((attempt = results.poll()) != null) {
+		if (attempt != winner) {
+		    abort(attempt);
+		}
+	    }
+	}
+
+	private void abort(Attempt attempt) {
+	    if (attempt.response != null) {
+		attempt.response.abort();
+	    }
+	}
+    }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The policy applied to the idempotent calls of a connection, such as the
+ * getters, the metadata calls, {@code get_blob_length} and
+ * {@code blob_download}, in order to cut their tail latency:
+ * <ul>
+ * <li>If a call has not answered after the hedge delay, the same request is
+ * sent again on another connection. The first good response wins and the other
+ * request is cancelled.</li>
+ * <li>A call that fails with a transient socket error is retried after a
+ * jittered exponential backoff.</li>
+ * </ul>
+ * The hedge delay is a percentile of the latencies of the previous calls, so
+ * that only the slowest calls are hedged. <br>
+ * Calls that modify the server state, such as {@code execute_update} or
+ * {@code commit}, are never hedged nor retried.
+ * <p>
+ * Example: <blockquote>
+ *
+ * <pre>
+ * HedgingPolicy hedgingPolicy = new HedgingPolicy();
+ * hedgingPolicy.setHedgePercentile(95);
+ * hedgingPolicy.setMaxRetries(2);
+ *
+ * ConnectionOptions connectionOptions = new ConnectionOptions();
+ * connectionOptions.setHedgingPolicy(hedgingPolicy);
+ * </pre>
+ *
+ * </blockquote>
+ */
+public class HedgingPolicy {
+
+    /** The number of latencies kept to compute the hedge delay */
+    private static final int LATENCY_WINDOW = 256;
+
+    /** The number of latencies needed before the percentile is used */
+    private static final int MIN_SAMPLES = 20;
+
+    private volatile int maxRetries = 2;
+    private volatile int initialBackoff = 100;
+    private volatile int maxBackoff = 2000;
+
+    private volatile double hedgePercentile = 95;
+    private volatile int hedgeDelay = 1000;
+    private volatile int minHedgeDelay = 20;
+
+    /** The ring of the last latencies in milliseconds */
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencyCount = 0;
+    private int latencyIndex = 0;
+
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+
+    /**
+     * @return the max number of retries of a call after a transient error
+     */
+    public int getMaxRetries() {
+	return maxRetries;
+    }
+
+    /**
+     * Sets the max number of retries of a call that failed with a transient
+     * socket error, such as a refused or reset connection or a timeout. Defaults
+     * to 2.
+     *
+     * @param maxRetries the max number of retries. 0 for no retry.
+     */
+    public void setMaxRetries(int maxRetries) {
+	this.maxRetries = maxRetries;
+    }
+
+    /**
+     * @return the backoff before the first retry in milliseconds
+     */
+    public int getInitialBackoff() {
+	return initialBackoff;
+    }
+
+    /**
+     * Sets the backoff before the first retry. The backoff doubles for each
+     * retry, up to the max backoff, and the wait is a random time between 0 and
+     * the backoff. Defaults to 100.
+     *
+     * @param initialBackoff the backoff before the first retry in milliseconds
+     */
+    public void setInitialBackoff(int initialBackoff) {
+	this.initialBackoff = initialBackoff;
+    }
+
+    /**
+     * @return the max backoff between two retries in milliseconds
+     */
+    public int getMaxBackoff() {
+	return maxBackoff;
+    }
+
+    /**
+     * Sets the max backoff between two retries. Defaults to 2000.
+     *
+     * @param maxBackoff the max backoff between two retries in milliseconds
+     */
+    public void setMaxBackoff(int maxBackoff) {
+	this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * @return the percentile of the latencies used as hedge delay, 0 if calls
+     *         are not hedged
+     */
+    public double getHedgePercentile() {
+	return hedgePercentile;
+    }
+
+    /**
+     * Sets the percentile of the latencies of the previous calls after which a
+     * call is hedged. Defaults to 95: about 5% of the calls are hedged.
+     *
+     * @param hedgePercentile the percentile, between 0 and 100. 0 means calls
+     *                        are not hedged.
+     */
+    public void setHedgePercentile(double hedgePercentile) {
+	if (hedgePercentile < 0 || hedgePercentile > 100) {
+	    throw new IllegalArgumentException("hedgePercentile must be between 0 and 100: " + hedgePercentile);
+	}
+	this.hedgePercentile = hedgePercentile;
+    }
+
+    /**
+     * @return the hedge delay used until enough latencies are known, in
+     *         milliseconds
+     */
+    public int getHedgeDelay() {
+	return hedgeDelay;
+    }
+
+    /**
+     * Sets the hedge delay used until enough latencies are known to compute the
+     * percentile. Defaults to 1000.
+     *
+     * @param hedgeDelay the hedge delay in milliseconds
+     */
+    public void setHedgeDelay(int hedgeDelay) {
+	this.hedgeDelay = hedgeDelay;
+    }
+
+    /**
+     * @return the min hedge delay in milliseconds
+     */
+    public int getMinHedgeDelay() {
+	return minHedgeDelay;
+    }
+
+    /**
+     * Sets the min hedge delay, so that fast calls are not all hedged when
+     * latencies are low. Defaults to 20.
+     *
+     * @param minHedgeDelay the min hedge delay in milliseconds
+     */
+    public void setMinHedgeDelay(int minHedgeDelay) {
+	this.minHedgeDelay = minHedgeDelay;
+    }
+
+    /**
+     * Says if calls are hedged.
+     */
+    boolean isHedging() {
+	return hedgePercentile > 0;
+    }
+
+    /**
+     * Returns the current hedge delay: the hedge percentile of the last
+     * latencies, or the initial hedge delay if not enough calls are done.
+     *
+     * @return the current hedge delay in milliseconds
+     */
+    public long getCurrentHedgeDelay() {
+	long[] samples;
+	synchronized (latencies) {
+	    if (latencyCount < MIN_SAMPLES) {
+		return Math.max(hedgeDelay, minHedgeDelay);
+	    }
+	    samples = Arrays.copyOf(latencies, latencyCount);
+	}
+	Arrays.sort(samples);
+	int index = (int) Math.ceil(hedgePercentile / 100.0 * samples.length) - 1;
+	long delay = samples[Math.max(0, Math.min(samples.length - 1, index))];
+	return Math.max(delay, minHedgeDelay);
+    }
+
+    /**
+     * Records the latency of a successful call.
+     *
+     * @param latency the time until the response headers in milliseconds
+     */
+    void recordLatency(long latency) {
+	synchronized (latencies) {
+	    latencies[latencyIndex] = latency;
+	    latencyIndex = (latencyIndex + 1) % latencies.length;
+	    if (latencyCount < latencies.length) {
+		latencyCount++;
+	    }
+	}
+    }
+
+    /**
+     * Returns the random wait before a retry.
+     *
+     * @param retry the retry number, starting at 0
+     * @return the wait in milliseconds
+     */
+    long getBackoff(int retry) {
+	long backoff = Math.min((long) maxBackoff, (long) initialBackoff << Math.min(retry, 20));
+	if (backoff <= 0) {
+	    return 0;
+	}
+	return ThreadLocalRandom.current().nextLong(backoff + 1);
+    }
+
+    void incrementHedges() {
+	hedges.incrementAndGet();
+    }
+
+    void incrementHedgeWins() {
+	hedgeWins.incrementAndGet();
+    }
+
+    void incrementRetries() {
+	retries.incrementAndGet();
+    }
+
+    /**
+     * @return the number of hedge requests sent
+     */
+    public long getHedges() {
+	return hedges.get();
+    }
+
+    /**
+     * @return the number of hedge requests that answered first
+     */
+    public long getHedgeWins() {
+	return hedgeWins.get();
+    }
+
+    /**
+     * @return the number of retries after a transient error
+     */
+    public long getRetries() {
+	return retries.get();
+    }
+
+    @Override
+    public String toString() {
+	return "HedgingPolicy [maxRetries=" + maxRetries + ", initialBackoff=" + initialBackoff + ", maxBackoff="
+		+ maxBackoff + ", hedgePercentile=" + hedgePercentile + ", hedgeDelay=" + hedgeDelay
+		+ ", minHedgeDelay=" + minHedgeDelay + ", hedges=" + hedges + ", hedgeWins=" + hedgeWins
+		+ ", retries=" + retries + "]";
+    }
+
+}
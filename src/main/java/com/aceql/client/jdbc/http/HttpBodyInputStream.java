@@ -0,0 +1,245 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The body of a response read on a {@link PooledConnection}. <br>
+ * The connection is given back to the pool when the body is fully read or
+ * closed, and discarded if the body is aborted or if the server asked to close
+ * it.
+ */
+class HttpBodyInputStream extends InputStream {
+
+    /** Max number of bytes read on close in order to reuse the connection */
+    private static final int MAX_DRAIN_LENGTH = 64 * 1024;
+
+    private final PooledHttpTransport transport;
+    private final PooledConnection connection;
+    private final InputStream in;
+
+    /** The remaining bytes to read in a fixed length body, or in current chunk */
+    private long remaining;
+
+    private final boolean chunked;
+
+    /** If true, the body ends when the server closes the connection */
+    private final boolean untilClose;
+
+    private final boolean keepAlive;
+
+    /** The deadline of the request, cancelled once the body is released */
+    private final Deadline deadline;
+
+    private boolean eof = false;
+    private boolean closed = false;
+
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    /**
+     * Constructor.
+     *
+     * @param transport     the transport that owns the connection
+     * @param connection    the connection to read the body from
+     * @param contentLength the length of the body, -1 if unknown
+     * @param chunked       if true, the body uses chunked transfer encoding
+     * @param keepAlive     if true, the connection may be reused after the body
+     * @param deadline      the deadline of the request
+     */
+    HttpBodyInputStream(PooledHttpTransport transport, PooledConnection connection, long contentLength,
+	    boolean chunked, boolean keepAlive, Deadline deadline) {
+	this.transport = transport;
+	this.connection = connection;
+	this.in = connection.getInputStream();
+	this.chunked = chunked;
+	this.untilClose = !chunked && contentLength < 0;
+	this.keepAlive = keepAlive && !untilClose;
+	this.deadline = deadline;
+	this.remaining = chunked ? 0 : contentLength;
+
+	if (!chunked && contentLength == 0) {
+	    setEof();
+	}
+    }
+
+    @Override
+    public int read() throws IOException {
+	byte[] b = new byte[1];
+	int n = read(b, 0, 1);
+	return n == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+	if (closed) {
+	    throw new IOException("Stream closed.");
+	}
+	if (eof) {
+	    return -1;
+	}
+	if (len == 0) {
+	    return 0;
+	}
+
+	try {
+	    if (untilClose) {
+		int n = in.read(b, off, len);
+		if (n == -1) {
+		    setEof();
+		}
+		return n;
+	    }
+
+	    if (chunked && remaining == 0) {
+		readChunkSize();
+		if (eof) {
+		    return -1;
+		}
+	    }
+
+	    int n = in.read(b, off, (int) Math.min(len, remaining));
+	    if (n == -1) {
+		throw new IOException("Unexpected end of stream in response body.");
+	    }
+	    remaining -= n;
+
+	    if (remaining == 0) {
+		if (chunked) {
+		    readChunkEnd();
+		} else {
+		    setEof();
+		}
+	    }
+	    return n;
+	} catch (IOException e) {
+	    abort();
+	    if (deadline.isExpired()) {
+		throw deadline.newTimeoutException();
+	    }
+	    throw e;
+	}
+    }
+
+    private void readChunkSize() throws IOException {
+	String line = PooledConnection.readLine(in);
+	if (line == null) {
+	    throw new IOException("Unexpected end of stream in chunked response body.");
+	}
+
+	int semicolon = line.indexOf(';');
+	if (semicolon != -1) {
+	    line = line.substring(0, semicolon);
+	}
+
+	try {
+	    remaining = Long.parseLong(line.trim(), 16);
+	} catch (NumberFormatException e) {
+	    throw new IOException("Invalid chunk size: " + line);
+	}
+
+	if (remaining == 0) {
+	    // Skip trailers
+	    String trailer;
+	    while ((trailer = PooledConnection.readLine(in)) != null && !trailer.isEmpty()) {
+		// ignore
+	    }
+	    setEof();
+	}
+    }
+
+    private void readChunkEnd() throws IOException {
+	String line = PooledConnection.readLine(in);
+	if (line == null || !line.isEmpty()) {
+	    throw new IOException("Invalid chunk end in response body.");
+	}
+    }
+
+    @Override
+    public int available() throws IOException {
+	if (closed || eof) {
+	    return 0;
+	}
+	int available = in.available();
+	return untilClose ? available : (int) Math.min(available, remaining);
+    }
+
+    private void setEof() {
+	eof = true;
+	release(keepAlive);
+    }
+
+    /**
+     * Closes the body. A short unread rest of the body is skipped so that the
+     * connection can be reused, otherwise the connection is closed.
+     */
+    @Override
+    public void close() throws IOException {
+	if (closed) {
+	    return;
+	}
+
+	if (!eof) {
+	    if (keepAlive) {
+		drain();
+	    } else {
+		abort();
+	    }
+	}
+	closed = true;
+    }
+
+    private void drain() {
+	byte[] buffer = new byte[4096];
+	long drained = 0;
+	try {
+	    while (!eof && drained < MAX_DRAIN_LENGTH) {
+		int n = read(buffer, 0, buffer.length);
+		if (n == -1) {
+		    break;
+		}
+		drained += n;
+	    }
+	} catch (IOException e) {
+	    // Connection already discarded by read()
+	}
+
+	if (!eof) {
+	    abort();
+	}
+    }
+
+    /**
+     * Closes the underlying connection without reading the rest of the body.
+     */
+    void abort() {
+	closed = true;
+	release(false);
+    }
+
+    private void release(boolean reusable) {
+	if (released.compareAndSet(false, true)) {
+	    deadline.cancel();
+	    transport.release(connection, reusable);
+	}
+    }
+
+}
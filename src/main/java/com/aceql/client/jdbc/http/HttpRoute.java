@@ -0,0 +1,148 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.net.Proxy;
+import java.net.URL;
+
+/**
+ * The key of the {@link PooledHttpTransport} pools: pooled connections are only
+ * reused for the same scheme, host, port and proxy.
+ */
+final class HttpRoute {
+
+    private final boolean secure;
+    private final String host;
+    private final int port;
+
+    /** The proxy. null if none */
+    private final Proxy proxy;
+
+    /** The TLS configuration, compared by identity. null for the defaults */
+    private final TlsConfiguration tlsConfiguration;
+
+    /**
+     * Constructor.
+     *
+     * @param url   the URL to call
+     * @param proxy the proxy to use. null if none.
+     */
+    HttpRoute(URL url, Proxy proxy) {
+	this(url, proxy, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param url              the URL to call
+     * @param proxy            the proxy to use. null if none.
+     * @param tlsConfiguration the TLS configuration. null for the defaults.
+     */
+    HttpRoute(URL url, Proxy proxy, TlsConfiguration tlsConfiguration) {
+	String protocol = url.getProtocol().toLowerCase();
+	if (!protocol.equals("http") && !protocol.equals("https")) {
+	    throw new IllegalArgumentException("Unsupported protocol: " + protocol);
+	}
+
+	this.secure = protocol.equals("https");
+	this.host = url.getHost().toLowerCase();
+	this.port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+	this.tlsConfiguration = secure ? tlsConfiguration : null;
+
+	if (proxy == null || proxy.type() == Proxy.Type.DIRECT) {
+	    this.proxy = null;
+	} else {
+	    this.proxy = proxy;
+	}
+    }
+
+    boolean isSecure() {
+	return secure;
+    }
+
+    String getHost() {
+	return host;
+    }
+
+    int getPort() {
+	return port;
+    }
+
+    /**
+     * @return the proxy to use, null if none
+     */
+    Proxy getProxy() {
+	return proxy;
+    }
+
+    /**
+     * @return true if the route goes through an HTTP proxy
+     */
+    TlsConfiguration getTlsConfiguration() {
+	return tlsConfiguration;
+    }
+
+    boolean isHttpProxy() {
+	return proxy != null && proxy.type() == Proxy.Type.HTTP;
+    }
+
+    /**
+     * @return the value of the Host header for this route
+     */
+    String getHostHeader() {
+	int defaultPort = secure ? 443 : 80;
+	return port == defaultPort ? host : host + ":" + port;
+    }
+
+    @Override
+    public int hashCode() {
+	final int prime = 31;
+	int result = 1;
+	result = prime * result + host.hashCode();
+	result = prime * result + port;
+	result = prime * result + (proxy == null ? 0 : proxy.hashCode());
+	result = prime * result + (secure ? 1231 : 1237);
+	result = prime * result + System.identityHashCode(tlsConfiguration);
+	return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (!(obj instanceof HttpRoute)) {
+	    return false;
+	}
+	HttpRoute other = (HttpRoute) obj;
+	return secure == other.secure && port == other.port && host.equals(other.host)
+		&& (proxy == null ? other.proxy == null : proxy.equals(other.proxy))
+		&& tlsConfiguration == other.tlsConfiguration;
+    }
+
+    @Override
+    public String toString() {
+	String route = (secure ? "https" : "http") + "://" + host + ":" + port;
+	if (proxy != null) {
+	    route += " via " + proxy;
+	}
+	return route;
+    }
+
+}
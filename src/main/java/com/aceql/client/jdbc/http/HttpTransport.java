@@ -0,0 +1,55 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * The HTTP transport used by {@link AceQLHttpApi} for all its calls.
+ * <p>
+ * The default implementation is {@link PooledHttpTransport}, which keeps
+ * persistent connections to the AceQL server in a bounded pool.
+ * {@link UrlConnectionTransport} uses a new {@code HttpURLConnection} per call,
+ * as previous versions of the SDK did.
+ * <p>
+ * Implementations must be thread safe: a single instance is usually shared by
+ * all the connections of the JVM.
+ */
+public interface HttpTransport extends Closeable {
+
+    /**
+     * Executes the request and returns the response as soon as the status line
+     * and the headers are received. The response body must be read and closed by
+     * the caller in order to release the underlying network connection.
+     *
+     * @param request the request to execute
+     * @return the server response
+     * @throws IOException if any I/O error occurs
+     */
+    public TransportResponse execute(TransportRequest request) throws IOException;
+
+    /**
+     * Closes the transport and releases all its network resources. Responses in
+     * progress are not interrupted.
+     */
+    @Override
+    public void close();
+
+}
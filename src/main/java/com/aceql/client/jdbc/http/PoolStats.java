@@ -0,0 +1,113 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+/**
+ * A snapshot of the state of a {@link PooledHttpTransport}, either for the
+ * whole pool or for a single route (scheme, host, port and proxy).
+ */
+public class PoolStats {
+
+    private final int leased;
+    private final int idle;
+    private final int pending;
+    private final int max;
+
+    private final long created;
+    private final long reused;
+    private final long evicted;
+    private final long requests;
+
+    PoolStats(int leased, int idle, int pending, int max, long created, long reused, long evicted,
+	    long requests) {
+	this.leased = leased;
+	this.idle = idle;
+	this.pending = pending;
+	this.max = max;
+	this.created = created;
+	this.reused = reused;
+	this.evicted = evicted;
+	this.requests = requests;
+    }
+
+    /**
+     * @return the number of connections currently executing a request
+     */
+    public int getLeased() {
+	return leased;
+    }
+
+    /**
+     * @return the number of open connections waiting in the pool to be reused
+     */
+    public int getIdle() {
+	return idle;
+    }
+
+    /**
+     * @return the number of requests waiting for a connection
+     */
+    public int getPending() {
+	return pending;
+    }
+
+    /**
+     * @return the max number of connections
+     */
+    public int getMax() {
+	return max;
+    }
+
+    /**
+     * @return the number of connections opened since the pool creation
+     */
+    public long getCreated() {
+	return created;
+    }
+
+    /**
+     * @return the number of requests executed on a reused connection
+     */
+    public long getReused() {
+	return reused;
+    }
+
+    /**
+     * @return the number of idle connections closed because they were expired,
+     *         closed by the server, or needed for another route
+     */
+    public long getEvicted() {
+	return evicted;
+    }
+
+    /**
+     * @return the number of requests executed
+     */
+    public long getRequests() {
+	return requests;
+    }
+
+    @Override
+    public String toString() {
+	return "PoolStats [leased=" + leased + ", idle=" + idle + ", pending=" + pending + ", max=" + max
+		+ ", created=" + created + ", reused=" + reused + ", evicted=" + evicted + ", requests=" + requests
+		+ "]";
+    }
+
+}
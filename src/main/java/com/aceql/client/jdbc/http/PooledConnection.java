@@ -0,0 +1,719 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.Proxy;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.kawanfw.sql.version.VersionValues;
+
+/**
+ * A persistent HTTP/1.1 connection to a server, owned by a
+ * {@link PooledHttpTransport}.
+ */
+class PooledConnection implements Closeable {
+
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+    private static final String CRLF = "\r\n";
+
+    private static final String USER_AGENT = "AceQL-Client-SDK/" + VersionValues.VERSION;
+
+    /** Max length of a status or header line */
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private final HttpRoute route;
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+
+    private long lastUsedAt;
+    private long expiresAt;
+    private long serverIdleTimeout = 0;
+    private int useCount = 0;
+
+    private PooledConnection(HttpRoute route, Socket socket) throws IOException {
+	this.route = route;
+	this.socket = socket;
+	this.in = new BufferedInputStream(socket.getInputStream(), 8192);
+	this.out = new BufferedOutputStream(socket.getOutputStream(), 8192);
+	this.lastUsedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Opens a new connection for the route.
+     *
+     * @param route          the route to connect to
+     * @param request        the request that needs the connection
+     * @param connectTimeout the connect timeout in milliseconds, also used for
+     *                       the proxy tunnel and the TLS handshake. 0 means
+     *                       infinite.
+     * @return the connected connection
+     * @throws IOException if the connection can not be established
+     */
+    static PooledConnection open(HttpRoute route, TransportRequest request, int connectTimeout)
+	    throws IOException {
+	Proxy proxy = route.getProxy();
+
+	Socket socket = null;
+	try {
+	    if (proxy != null && proxy.type() == Proxy.Type.SOCKS) {
+		socket = new Socket(proxy);
+		socket.connect(InetSocketAddress.createUnresolved(route.getHost(), route.getPort()), connectTimeout);
+	    } else if (proxy != null) {
+		InetSocketAddress proxyAddress = (InetSocketAddress) proxy.address();
+		if (proxyAddress.isUnresolved()) {
+		    proxyAddress = new InetSocketAddress(proxyAddress.getHostString(), proxyAddress.getPort());
+		}
+		socket = new Socket();
+		socket.connect(proxyAddress, connectTimeout);
+	    } else {
+		socket = new Socket();
+		socket.connect(new InetSocketAddress(route.getHost(), route.getPort()), connectTimeout);
+	    }
+
+	    socket.setTcpNoDelay(true);
+
+	    if (route.isSecure()) {
+		if (route.isHttpProxy()) {
+		    socket.setSoTimeout(connectTimeout);
+		    tunnel(socket, route, request.getProxyAuthentication());
+		}
+		socket = startTls(socket, route, connectTimeout);
+	    }
+
+	    return new PooledConnection(route, socket);
+	} catch (IOException e) {
+	    closeQuietly(socket);
+	    throw e;
+	}
+    }
+
+    /**
+     * Establishes a tunnel through the HTTP proxy with a CONNECT request.
+     */
+    private static void tunnel(Socket socket, HttpRoute route, PasswordAuthentication proxyAuthentication)
+	    throws IOException {
+	String target = route.getHost() + ":" + route.getPort();
+	StringBuilder head = new StringBuilder();
+	head.append("CONNECT ").append(target).append(" HTTP/1.1").append(CRLF);
+	head.append("Host: ").append(target).append(CRLF);
+	head.append("User-Agent: ").append(USER_AGENT).append(CRLF);
+	if (proxyAuthentication != null) {
+	    head.append("Proxy-Authorization: ").append(getBasicAuthorization(proxyAuthentication)).append(CRLF);
+	}
+	head.append(CRLF);
+
+	OutputStream socketOut = socket.getOutputStream();
+	socketOut.write(head.toString().getBytes(ISO_8859_1));
+	socketOut.flush();
+
+	// Unbuffered reads: nothing after the proxy response must be consumed
+	InputStream socketIn = socket.getInputStream();
+	String statusLine = readLine(socketIn);
+	if (statusLine == null) {
+	    throw new IOException("Unable to tunnel through proxy. Proxy closed the connection.");
+	}
+
+	// Proxy headers are ignored, but the authentication challenge
+	String challenge = null;
+	String line;
+	while ((line = readLine(socketIn)) != null && !line.isEmpty()) {
+	    if (line.toLowerCase().startsWith("proxy-authenticate:")) {
+		challenge = line.substring("proxy-authenticate:".length()).trim();
+	    }
+	}
+
+	String[] parts = statusLine.split(" ", 3);
+	if (parts.length >= 2 && parts[1].equals("407")) {
+	    throw new ProxyAuthenticationException(
+		    "Unable to tunnel through proxy. Proxy returns \"" + statusLine + "\"", challenge);
+	}
+	if (parts.length < 2 || !parts[1].equals("200")) {
+	    throw new IOException("Unable to tunnel through proxy. Proxy returns \"" + statusLine + "\"");
+	}
+    }
+
+    /**
+     * Wraps the socket in a TLS socket and does the handshake.
+     */
+    private static Socket startTls(Socket socket, HttpRoute route, int connectTimeout) throws IOException {
+	TlsConfiguration tlsConfiguration = route.getTlsConfiguration();
+
+	SSLSocketFactory sslSocketFactory;
+	HostnameVerifier hostnameVerifier;
+	boolean jdkVerifier;
+
+	if (tlsConfiguration != null) {
+	    sslSocketFactory = tlsConfiguration.getSslSocketFactory();
+	    hostnameVerifier = tlsConfiguration.getHostnameVerifier();
+	    jdkVerifier = hostnameVerifier == null;
+	} else {
+	    // Honor a host name verifier installed for HttpsURLConnection, otherwise
+	    // let the TLS engine verify the host name.
+	    sslSocketFactory = HttpsURLConnection.getDefaultSSLSocketFactory();
+	    hostnameVerifier = HttpsURLConnection.getDefaultHostnameVerifier();
+	    jdkVerifier = hostnameVerifier.getClass().getName().startsWith(HttpsURLConnection.class.getName());
+	}
+
+	SSLSocket sslSocket = (SSLSocket) sslSocketFactory.createSocket(socket, route.getHost(), route.getPort(), true);
+
+	if (jdkVerifier) {
+	    SSLParameters sslParameters = sslSocket.getSSLParameters();
+	    sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
+	    sslSocket.setSSLParameters(sslParameters);
+	}
+
+	sslSocket.setSoTimeout(connectTimeout);
+	sslSocket.startHandshake();
+	sslSocket.setSoTimeout(0);
+
+	if (!jdkVerifier && !hostnameVerifier.verify(route.getHost(), sslSocket.getSession())) {
+	    throw new SSLPeerUnverifiedException("Hostname " + route.getHost() + " not verified.");
+	}
+
+	return sslSocket;
+    }
+
+    private static String getBasicAuthorization(PasswordAuthentication passwordAuthentication) {
+	String credentials = passwordAuthentication.getUserName() + ":"
+		+ new String(passwordAuthentication.getPassword());
+	return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(ISO_8859_1));
+    }
+
+    HttpRoute getRoute() {
+	return route;
+    }
+
+    /**
+     * @return the number of requests already executed on this connection
+     */
+    int getUseCount() {
+	return useCount;
+    }
+
+    long getLastUsedAt() {
+	return lastUsedAt;
+    }
+
+    /**
+     * Says if the connection may not be reused anymore at the passed time.
+     */
+    boolean isExpired(long now) {
+	return expiresAt != 0 && now >= expiresAt;
+    }
+
+    /**
+     * Sets the idle timeout announced by the server with the Keep-Alive header.
+     *
+     * @param serverIdleTimeout the idle timeout in milliseconds, 0 if none
+     */
+    void setServerIdleTimeout(long serverIdleTimeout) {
+	this.serverIdleTimeout = serverIdleTimeout;
+    }
+
+    /**
+     * Marks the connection as idle in the pool.
+     *
+     * @param now         the current time
+     * @param idleTimeout the max time the connection may stay idle
+     */
+    void markIdle(long now, long idleTimeout) {
+	long timeout = idleTimeout;
+	if (serverIdleTimeout > 0 && serverIdleTimeout < timeout) {
+	    timeout = serverIdleTimeout;
+	}
+	expiresAt = now + timeout;
+	lastUsedAt = now;
+    }
+
+    void setReadTimeout(int readTimeout) throws IOException {
+	socket.setSoTimeout(readTimeout);
+    }
+
+    /**
+     * Says if the server has closed the idle connection. May block 1 millisecond.
+     *
+     * @return true if the connection can not be reused
+     */
+    boolean isStale() {
+	if (socket.isClosed() || socket.isInputShutdown() || socket.isOutputShutdown()) {
+	    return true;
+	}
+
+	try {
+	    int soTimeout = socket.getSoTimeout();
+	    try {
+		socket.setSoTimeout(1);
+		in.read();
+		// Either closed by server, or unexpected data on an idle connection
+		return true;
+	    } finally {
+		socket.setSoTimeout(soTimeout);
+	    }
+	} catch (SocketTimeoutException e) {
+	    // Nothing to read: connection is alive
+	    return false;
+	} catch (IOException e) {
+	    return true;
+	}
+    }
+
+    /**
+     * Writes the request line, the headers and the body.
+     *
+     * @param request the request to write
+     * @throws IOException if any I/O error occurs
+     */
+    void writeRequest(TransportRequest request) throws IOException {
+	useCount++;
+
+	URL url = request.getUrl();
+	RequestBody body = request.getBody();
+
+	StringBuilder head = new StringBuilder(256);
+	head.append(request.getMethod()).append(' ').append(getRequestTarget(url)).append(" HTTP/1.1").append(CRLF);
+	head.append("Host: ").append(route.getHostHeader()).append(CRLF);
+	head.append("User-Agent: ").append(USER_AGENT).append(CRLF);
+
+	for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+	    head.append(header.getKey()).append(": ").append(header.getValue()).append(CRLF);
+	}
+
+	boolean chunked = false;
+	long contentLength = 0;
+	if (body != null) {
+	    if (body.getContentType() != null) {
+		head.append("Content-Type: ").append(body.getContentType()).append(CRLF);
+	    }
+	    contentLength = body.getContentLength();
+	    if (contentLength >= 0) {
+		head.append("Content-Length: ").append(contentLength).append(CRLF);
+	    } else {
+		chunked = true;
+		head.append("Transfer-Encoding: chunked").append(CRLF);
+	    }
+	} else if (!request.getMethod().equals("GET")) {
+	    head.append("Content-Length: 0").append(CRLF);
+	}
+
+	if (route.isHttpProxy() && !route.isSecure() && request.getProxyAuthentication() != null) {
+	    head.append("Proxy-Authorization: ").append(getBasicAuthorization(request.getProxyAuthentication()))
+		    .append(CRLF);
+	}
+
+	head.append(CRLF);
+	out.write(head.toString().getBytes(ISO_8859_1));
+
+	if (body != null) {
+	    if (chunked) {
+		ChunkedOutputStream chunkedOut = new ChunkedOutputStream(out);
+		body.writeTo(chunkedOut);
+		chunkedOut.finish();
+	    } else {
+		FixedLengthOutputStream fixedOut = new FixedLengthOutputStream(out, contentLength);
+		body.writeTo(fixedOut);
+		fixedOut.finish();
+	    }
+	}
+
+	out.flush();
+    }
+
+    private String getRequestTarget(URL url) {
+	// Through an HTTP proxy, a non-tunneled request uses the absolute URL
+	if (route.isHttpProxy() && !route.isSecure()) {
+	    return url.toExternalForm();
+	}
+
+	String file = url.getFile();
+	if (file == null || file.isEmpty()) {
+	    return "/";
+	}
+	return file;
+    }
+
+    /**
+     * Reads the status line and the headers of the response. Interim 1xx
+     * responses are skipped.
+     *
+     * @return the response head
+     * @throws IOException if any I/O error occurs
+     */
+    ResponseHead readResponseHead() throws IOException {
+	while (true) {
+	    String statusLine = readLine(in);
+	    if (statusLine == null) {
+		throw new NoResponseException("The server closed the connection without response.");
+	    }
+
+	    // HTTP/1.1 200 OK
+	    String[] parts = statusLine.split(" ", 3);
+	    if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+		throw new IOException("Invalid HTTP status line: " + statusLine);
+	    }
+
+	    int statusCode;
+	    try {
+		statusCode = Integer.parseInt(parts[1]);
+	    } catch (NumberFormatException e) {
+		throw new IOException("Invalid HTTP status line: " + statusLine);
+	    }
+
+	    String statusMessage = parts.length > 2 ? parts[2] : "";
+
+	    Map<String, String> headers = new HashMap<String, String>();
+	    String line;
+	    while ((line = readLine(in)) != null && !line.isEmpty()) {
+		int colon = line.indexOf(':');
+		if (colon <= 0) {
+		    continue;
+		}
+		String name = line.substring(0, colon).trim().toLowerCase();
+		String value = line.substring(colon + 1).trim();
+		String previous = headers.get(name);
+		headers.put(name, previous == null ? value : previous + ", " + value);
+	    }
+
+	    if (line == null) {
+		throw new IOException("Unexpected end of stream in response headers.");
+	    }
+
+	    if (statusCode >= 100 && statusCode < 200) {
+		continue;
+	    }
+
+	    return new ResponseHead(parts[0], statusCode, statusMessage, headers);
+	}
+    }
+
+    InputStream getInputStream() {
+	return in;
+    }
+
+    @Override
+    public void close() {
+	closeQuietly(socket);
+    }
+
+    private static void closeQuietly(Socket socket) {
+	if (socket != null) {
+	    try {
+		socket.close();
+	    } catch (Exception ignore) {
+		// ignore
+	    }
+	}
+    }
+
+    /**
+     * Reads an ISO-8859-1 line terminated by LF or CRLF.
+     *
+     * @return the line without terminator, or null if end of stream is reached
+     *         before any byte
+     */
+    static String readLine(InputStream in) throws IOException {
+	ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+	int b;
+	while ((b = in.read()) != -1) {
+	    if (b == '\n') {
+		byte[] bytes = line.toByteArray();
+		int length = bytes.length;
+		if (length > 0 && bytes[length - 1] == '\r') {
+		    length--;
+		}
+		return new String(bytes, 0, length, ISO_8859_1);
+	    }
+	    line.write(b);
+	    if (line.size() > MAX_LINE_LENGTH) {
+		throw new IOException("HTTP line too long.");
+	    }
+	}
+
+	if (line.size() == 0) {
+	    return null;
+	}
+	throw new IOException("Unexpected end of stream in HTTP line.");
+    }
+
+    @Override
+    public String toString() {
+	return "PooledConnection [route=" + route + ", useCount=" + useCount + "]";
+    }
+
+    /**
+     * Thrown when the server closes the connection before sending any response
+     * byte.
+     */
+    static class NoResponseException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	NoResponseException(String message) {
+	    super(message);
+	}
+    }
+
+    /**
+     * Thrown when the HTTP proxy requires an authentication to open a tunnel.
+     */
+    static class ProxyAuthenticationException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String challenge;
+
+	ProxyAuthenticationException(String message, String challenge) {
+	    super(message);
+	    this.challenge = challenge;
+	}
+
+	/**
+	 * @return the Proxy-Authenticate header value, or null if none
+	 */
+	String getChallenge() {
+	    return challenge;
+	}
+    }
+
+    /**
+     * The status line and the headers of a response.
+     */
+    static class ResponseHead {
+
+	private final String version;
+	private final int statusCode;
+	private final String statusMessage;
+	private final Map<String, String> headers;
+
+	ResponseHead(String version, int statusCode, String statusMessage, Map<String, String> headers) {
+	    this.version = version;
+	    this.statusCode = statusCode;
+	    this.statusMessage = statusMessage;
+	    this.headers = headers;
+	}
+
+	int getStatusCode() {
+	    return statusCode;
+	}
+
+	String getStatusMessage() {
+	    return statusMessage;
+	}
+
+	Map<String, String> getHeaders() {
+	    return headers;
+	}
+
+	/**
+	 * @return true if the server accepts to keep the connection open
+	 */
+	boolean isKeepAlive() {
+	    String connection = headers.get("connection");
+	    if (version.equals("HTTP/1.0")) {
+		return connection != null && connection.toLowerCase().contains("keep-alive");
+	    }
+	    return connection == null || !connection.toLowerCase().contains("close");
+	}
+
+	/**
+	 * @return the idle timeout in milliseconds announced by the server with the
+	 *         Keep-Alive header, or 0 if none
+	 */
+	long getKeepAliveTimeout() {
+	    String keepAlive = headers.get("keep-alive");
+	    if (keepAlive == null) {
+		return 0;
+	    }
+
+	    for (String parameter : keepAlive.split(",")) {
+		parameter = parameter.trim();
+		if (parameter.toLowerCase().startsWith("timeout=")) {
+		    try {
+			return Long.parseLong(parameter.substring("timeout=".length()).trim()) * 1000;
+		    } catch (NumberFormatException e) {
+			return 0;
+		    }
+		}
+	    }
+	    return 0;
+	}
+
+	/**
+	 * @return the Content-Length header value, or -1 if none
+	 */
+	long getContentLength() {
+	    String contentLength = headers.get("content-length");
+	    if (contentLength == null) {
+		return -1;
+	    }
+	    try {
+		return Long.parseLong(contentLength.trim());
+	    } catch (NumberFormatException e) {
+		return -1;
+	    }
+	}
+
+	boolean isChunked() {
+	    String transferEncoding = headers.get("transfer-encoding");
+	    return transferEncoding != null && transferEncoding.toLowerCase().contains("chunked");
+	}
+    }
+
+    /**
+     * Request body stream with chunked transfer encoding. Closing it terminates
+     * the body, not the connection.
+     */
+    private static class ChunkedOutputStream extends FilterOutputStream {
+
+	private final byte[] buffer = new byte[8192];
+	private int count = 0;
+	private boolean finished = false;
+
+	ChunkedOutputStream(OutputStream out) {
+	    super(out);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+	    if (count == buffer.length) {
+		flushChunk();
+	    }
+	    buffer[count++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+	    while (len > 0) {
+		if (count == buffer.length) {
+		    flushChunk();
+		}
+		int n = Math.min(len, buffer.length - count);
+		System.arraycopy(b, off, buffer, count, n);
+		count += n;
+		off += n;
+		len -= n;
+	    }
+	}
+
+	private void flushChunk() throws IOException {
+	    if (finished) {
+		throw new IOException("Request body is already complete.");
+	    }
+	    if (count == 0) {
+		return;
+	    }
+	    out.write((Integer.toHexString(count) + CRLF).getBytes(ISO_8859_1));
+	    out.write(buffer, 0, count);
+	    out.write(CRLF.getBytes(ISO_8859_1));
+	    count = 0;
+	}
+
+	@Override
+	public void flush() throws IOException {
+	    flushChunk();
+	    out.flush();
+	}
+
+	void finish() throws IOException {
+	    if (finished) {
+		return;
+	    }
+	    flushChunk();
+	    out.write(("0" + CRLF + CRLF).getBytes(ISO_8859_1));
+	    finished = true;
+	}
+
+	@Override
+	public void close() throws IOException {
+	    finish();
+	}
+    }
+
+    /**
+     * Request body stream of known length. Closing it terminates the body, not
+     * the connection.
+     */
+    private static class FixedLengthOutputStream extends FilterOutputStream {
+
+	private final long contentLength;
+	private long written = 0;
+
+	FixedLengthOutputStream(OutputStream out, long contentLength) {
+	    super(out);
+	    this.contentLength = contentLength;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+	    checkLength(1);
+	    out.write(b);
+	    written++;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+	    checkLength(len);
+	    out.write(b, off, len);
+	    written += len;
+	}
+
+	private void checkLength(int len) throws IOException {
+	    if (written + len > contentLength) {
+		throw new IOException("Request body exceeds its Content-Length: " + contentLength);
+	    }
+	}
+
+	void finish() throws IOException {
+	    if (written != contentLength) {
+		throw new IOException(
+			"Request body has " + written + " bytes instead of its Content-Length: " + contentLength);
+	    }
+	}
+
+	@Override
+	public void close() throws IOException {
+	    out.flush();
+	}
+    }
+
+}
@@ -0,0 +1,809 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.Authenticator;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.PasswordAuthentication;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.aceql.client.jdbc.http.PooledConnection.NoResponseException;
+import com.aceql.client.jdbc.http.PooledConnection.ProxyAuthenticationException;
+import com.aceql.client.jdbc.http.PooledConnection.ResponseHead;
+
+/**
+ * An HTTP/1.1 transport that keeps the connections to the AceQL server open
+ * between requests. <br>
+ * <br>
+ * Connections are pooled per route (scheme, host, port and proxy). A request
+ * without proxy uses the proxy of the default {@link ProxySelector}, so that
+ * the <code>http.proxyHost</code>, <code>https.proxyHost</code> and
+ * <code>http.nonProxyHosts</code> system properties are honored. The pool is
+ * bounded by a max number of connections per route and a max total number of
+ * connections. A request waits for a free connection when the bound is
+ * reached. Idle connections are closed after the idle timeout, or earlier if
+ * the server announces a shorter Keep-Alive timeout. <br>
+ * <br>
+ * As with HttpURLConnection, the redirects of GET requests are followed, and a
+ * proxy that requires a Basic authentication gets the credentials of the
+ * default {@link Authenticator} if the request has none. <br>
+ * <br>
+ * {@link #getDefault()} returns the instance shared by all AceQL connections of
+ * the JVM that do not define their own transport.
+ */
+public class PooledHttpTransport implements HttpTransport {
+
+    public static boolean DEBUG = false;
+
+    /** Default max number of connections per route */
+    public static final int DEFAULT_MAX_PER_ROUTE = 20;
+
+    /** Default max total number of connections */
+    public static final int DEFAULT_MAX_TOTAL = 200;
+
+    /** Default max time in milliseconds a connection stays idle in the pool */
+    public static final long DEFAULT_IDLE_TIMEOUT = 15000;
+
+    /**
+     * An idle connection not used for this time in milliseconds is checked before
+     * reuse
+     */
+    private static final long STALE_CHECK_DELAY = 1000;
+
+    /** Max number of redirects and proxy authentications of a request */
+    private static final int MAX_FOLLOW_UPS = 20;
+
+    private static PooledHttpTransport defaultTransport = null;
+
+    private final int maxTotal;
+    private final int maxPerRoute;
+    private final long idleTimeout;
+
+    /** The pools per route. Guarded by this */
+    private final Map<HttpRoute, RoutePool> routePools = new LinkedHashMap<HttpRoute, RoutePool>();
+
+    /** The credentials given by the default Authenticator per proxy. Guarded by this */
+    private final Map<Proxy, PasswordAuthentication> proxyAuthentications = new HashMap<Proxy, PasswordAuthentication>();
+
+    private int totalLeased = 0;
+    private int totalIdle = 0;
+    private int totalPending = 0;
+
+    private long created = 0;
+    private long reused = 0;
+    private long evicted = 0;
+    private long requests = 0;
+
+    private boolean closed = false;
+
+    /**
+     * Returns the transport shared by all AceQL connections that do not define
+     * their own transport.
+     *
+     * @return the shared transport
+     */
+    public static synchronized PooledHttpTransport getDefault() {
+	if (defaultTransport == null) {
+	    defaultTransport = new PooledHttpTransport();
+	}
+	return defaultTransport;
+    }
+
+    /**
+     * Constructor with the default bounds: {@link #DEFAULT_MAX_TOTAL},
+     * {@link #DEFAULT_MAX_PER_ROUTE} and {@link #DEFAULT_IDLE_TIMEOUT}.
+     */
+    public PooledHttpTransport() {
+	this(DEFAULT_MAX_TOTAL, DEFAULT_MAX_PER_ROUTE, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxTotal    the max total number of connections
+     * @param maxPerRoute the max number of connections per route
+     * @param idleTimeout the max time in milliseconds a connection stays idle in
+     *                    the pool
+     */
+    public PooledHttpTransport(int maxTotal, int maxPerRoute, long idleTimeout) {
+	if (maxTotal <= 0) {
+	    throw new IllegalArgumentException("maxTotal must be > 0!");
+	}
+	if (maxPerRoute <= 0) {
+	    throw new IllegalArgumentException("maxPerRoute must be > 0!");
+	}
+	if (idleTimeout < 0) {
+	    throw new IllegalArgumentException("idleTimeout must be >= 0!");
+	}
+
+	this.maxTotal = maxTotal;
+	this.maxPerRoute = Math.min(maxPerRoute, maxTotal);
+	this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * @return the max total number of connections
+     */
+    public int getMaxTotal() {
+	return maxTotal;
+    }
+
+    /**
+     * @return the max number of connections per route
+     */
+    public int getMaxPerRoute() {
+	return maxPerRoute;
+    }
+
+    /**
+     * @return the max time in milliseconds a connection stays idle in the pool
+     */
+    public long getIdleTimeout() {
+	return idleTimeout;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+
+	// The redirects and the authentications share the request time
+	Deadline requestDeadline = Deadline.of(request.getRequestTimeout());
+	RequestBody body = request.getBody();
+	URL url = request.getUrl();
+	PasswordAuthentication proxyAuthentication = request.getProxyAuthentication();
+
+	for (int followUps = 0;; followUps++) {
+	    Proxy proxy = request.getProxy() != null ? request.getProxy() : selectProxy(url);
+	    boolean httpProxy = proxy != null && proxy.type() == Proxy.Type.HTTP;
+
+	    PasswordAuthentication sentAuthentication = proxyAuthentication;
+	    if (sentAuthentication == null && httpProxy) {
+		sentAuthentication = getProxyAuthentication(proxy);
+	    }
+
+	    TransportRequest current = request;
+	    if (followUps > 0 || sentAuthentication != request.getProxyAuthentication()) {
+		if (requestDeadline.isExpired()) {
+		    throw requestDeadline.newTimeoutException();
+		}
+		current = request.copy(url);
+		current.setProxyAuthentication(sentAuthentication);
+		current.setRequestTimeout(requestDeadline.getRemaining());
+	    }
+
+	    Deadline deadline = Deadline.start(current);
+	    if (current != request) {
+		// So that cancelling the request cancels the follow-up
+		request.setDeadline(deadline);
+	    }
+
+	    TransportResponse response = null;
+	    ProxyAuthenticationException tunnelFailure = null;
+	    try {
+		response = execute(current, new HttpRoute(url, proxy, request.getTlsConfiguration()), deadline);
+	    } catch (ProxyAuthenticationException e) {
+		tunnelFailure = e;
+	    }
+
+	    boolean canFollow = followUps < MAX_FOLLOW_UPS && !request.isCancelled();
+
+	    if (tunnelFailure != null || response.getStatusCode() == 407 && httpProxy) {
+		String challenge = tunnelFailure != null ? tunnelFailure.getChallenge()
+			: response.getHeader("Proxy-Authenticate");
+		PasswordAuthentication newAuthentication = canFollow && (body == null || body.isRepeatable())
+			? requestProxyAuthentication(proxy, url, challenge)
+			: null;
+
+		if (newAuthentication != null && !isSame(newAuthentication, sentAuthentication)) {
+		    debug("Proxy authentication required: " + challenge);
+		    if (response != null) {
+			response.close();
+		    }
+		    if (request.getProxyAuthentication() != null) {
+			proxyAuthentication = newAuthentication;
+		    } else {
+			setProxyAuthentication(proxy, newAuthentication);
+		    }
+		    continue;
+		}
+
+		if (tunnelFailure != null) {
+		    throw tunnelFailure;
+		}
+		return response;
+	    }
+
+	    URL location = canFollow ? getRedirectLocation(current, response) : null;
+	    if (location != null) {
+		debug("Redirect to: " + location);
+		response.close();
+		url = location;
+		continue;
+	    }
+	    return response;
+	}
+    }
+
+    /**
+     * Returns the location a GET request must be redirected to, like
+     * HttpURLConnection does: only if
+     * {@link HttpURLConnection#getFollowRedirects()} is true and without
+     * changing the protocol.
+     *
+     * @return the location to redirect to, or null if none
+     */
+    private static URL getRedirectLocation(TransportRequest request, TransportResponse response) {
+	int statusCode = response.getStatusCode();
+	if (statusCode != 301 && statusCode != 302 && statusCode != 303 && statusCode != 307
+		&& statusCode != 308) {
+	    return null;
+	}
+
+	String location = response.getHeader("Location");
+	if (location == null || !request.getMethod().equals("GET") || !HttpURLConnection.getFollowRedirects()) {
+	    return null;
+	}
+
+	URL url;
+	try {
+	    url = new URL(request.getUrl(), location);
+	} catch (MalformedURLException e) {
+	    return null;
+	}
+	return url.getProtocol().equals(request.getUrl().getProtocol()) ? url : null;
+    }
+
+    /**
+     * Asks the default {@link Authenticator} the credentials of a proxy that
+     * requires a Basic authentication.
+     *
+     * @return the credentials, or null if none or if the proxy asks for another
+     *         scheme
+     */
+    private static PasswordAuthentication requestProxyAuthentication(Proxy proxy, URL url, String challenge) {
+	if (challenge == null || !challenge.toLowerCase().startsWith("basic")) {
+	    return null;
+	}
+
+	String realm = null;
+	int realmIndex = challenge.toLowerCase().indexOf("realm=");
+	if (realmIndex != -1) {
+	    realm = challenge.substring(realmIndex + "realm=".length()).trim();
+	    if (realm.startsWith("\"")) {
+		int end = realm.indexOf('"', 1);
+		realm = realm.substring(1, end == -1 ? realm.length() : end);
+	    }
+	}
+
+	InetSocketAddress proxyAddress = (InetSocketAddress) proxy.address();
+	return Authenticator.requestPasswordAuthentication(proxyAddress.getHostString(), null,
+		proxyAddress.getPort(), "http", realm, "Basic", url, Authenticator.RequestorType.PROXY);
+    }
+
+    private static boolean isSame(PasswordAuthentication authentication, PasswordAuthentication other) {
+	return other != null && authentication.getUserName().equals(other.getUserName())
+		&& Arrays.equals(authentication.getPassword(), other.getPassword());
+    }
+
+    /**
+     * @return the credentials given by the default Authenticator for the proxy,
+     *         or null if none yet
+     */
+    private synchronized PasswordAuthentication getProxyAuthentication(Proxy proxy) {
+	return proxyAuthentications.get(proxy);
+    }
+
+    private synchronized void setProxyAuthentication(Proxy proxy, PasswordAuthentication proxyAuthentication) {
+	proxyAuthentications.put(proxy, proxyAuthentication);
+    }
+
+    /**
+     * Executes the request once on a connection of the route, sending it again
+     * on a new connection if a reused one was closed by the server.
+     */
+    private TransportResponse execute(TransportRequest request, HttpRoute route, Deadline deadline)
+	    throws IOException {
+
+	RequestBody body = request.getBody();
+	boolean retried = false;
+
+	while (true) {
+	    PooledConnection connection;
+	    try {
+		connection = lease(route, request, deadline, !retried);
+	    } catch (IOException e) {
+		deadline.cancel();
+		throw e;
+	    }
+
+	    boolean reusedConnection = connection.getUseCount() > 0;
+	    boolean sent = false;
+
+	    ResponseHead head;
+	    try {
+		deadline.attach(connection);
+		connection.setReadTimeout(request.getReadTimeout());
+		connection.writeRequest(request);
+		sent = true;
+		head = connection.readResponseHead();
+	    } catch (IOException e) {
+		release(connection, false);
+
+		if (deadline.isExpired()) {
+		    deadline.cancel();
+		    throw deadline.newTimeoutException();
+		}
+
+		// A reused connection may have been closed by the server while idle:
+		// the request is sent again on a new connection if it was not
+		// processed, or if it may be processed twice.
+		boolean retry = reusedConnection && !retried && (body == null || body.isRepeatable())
+			&& (!sent || (e instanceof NoResponseException && request.isIdempotent()));
+
+		if (retry) {
+		    debug("Retry on new connection after: " + e);
+		    retried = true;
+		    continue;
+		}
+		deadline.cancel();
+		throw e;
+	    } catch (RuntimeException e) {
+		release(connection, false);
+		deadline.cancel();
+		throw e;
+	    }
+
+	    int statusCode = head.getStatusCode();
+	    boolean noBody = statusCode == 204 || statusCode == 304;
+	    boolean keepAlive = head.isKeepAlive();
+	    connection.setServerIdleTimeout(head.getKeepAliveTimeout());
+
+	    HttpBodyInputStream in = new HttpBodyInputStream(this, connection,
+		    noBody ? 0 : head.getContentLength(), !noBody && head.isChunked(), keepAlive, deadline);
+
+	    return new PooledTransportResponse(head, in);
+	}
+    }
+
+    /**
+     * Returns the proxy of the default proxy selector for a URL.
+     *
+     * @param url the URL to call
+     * @return the first proxy selected, null if none or direct
+     */
+    private static Proxy selectProxy(URL url) {
+	ProxySelector proxySelector = ProxySelector.getDefault();
+	if (proxySelector == null) {
+	    return null;
+	}
+
+	List<Proxy> proxies;
+	try {
+	    proxies = proxySelector.select(url.toURI());
+	} catch (URISyntaxException e) {
+	    return null;
+	} catch (IllegalArgumentException e) {
+	    return null;
+	}
+
+	if (proxies == null || proxies.isEmpty() || proxies.get(0) == null
+		|| proxies.get(0).type() == Proxy.Type.DIRECT) {
+	    return null;
+	}
+	return proxies.get(0);
+    }
+
+    /**
+     * Leases a connection for the route, reusing an idle one if possible. The
+     * wait for a free connection and the connection establishment are bounded by
+     * the connect timeout and by the request deadline. The request is counted
+     * on its first lease only.
+     */
+    private PooledConnection lease(HttpRoute route, TransportRequest request, Deadline requestDeadline,
+	    boolean count) throws IOException {
+
+	int connectTimeout = requestDeadline.bound(request.getConnectTimeout());
+	long deadline = connectTimeout > 0 ? System.currentTimeMillis() + connectTimeout : 0;
+
+	while (true) {
+	    PooledConnection idleConnection = null;
+	    List<PooledConnection> toClose = new ArrayList<PooledConnection>();
+
+	    synchronized (this) {
+		if (closed) {
+		    throw new IOException("Transport is closed.");
+		}
+
+		long now = System.currentTimeMillis();
+		evictExpired(now, toClose);
+
+		RoutePool routePool = getRoutePool(route);
+		if (count) {
+		    requests++;
+		    routePool.requests++;
+		    count = false;
+		}
+
+		while (true) {
+		    if (!routePool.idle.isEmpty()) {
+			idleConnection = routePool.idle.pollFirst();
+			totalIdle--;
+			routePool.leased++;
+			totalLeased++;
+			break;
+		    }
+
+		    if (routePool.leased < maxPerRoute && totalLeased + totalIdle >= maxTotal && totalIdle > 0) {
+			toClose.add(evictLeastRecentlyUsed());
+		    }
+
+		    if (routePool.leased < maxPerRoute && totalLeased + totalIdle < maxTotal) {
+			routePool.leased++;
+			totalLeased++;
+			created++;
+			routePool.created++;
+			break;
+		    }
+
+		    long wait = 0;
+		    if (deadline != 0) {
+			wait = deadline - System.currentTimeMillis();
+			if (wait <= 0) {
+			    prune(route, routePool);
+			    closeAll(toClose);
+			    throw new SocketTimeoutException(
+				    "Unable to get a pooled connection in less than required " + connectTimeout
+					    + " milliseconds.");
+			}
+		    }
+
+		    totalPending++;
+		    routePool.pending++;
+		    try {
+			wait(wait);
+		    } catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			totalPending--;
+			routePool.pending--;
+			prune(route, routePool);
+			throw new InterruptedIOException("Interrupted while waiting for a pooled connection.");
+		    }
+		    totalPending--;
+		    routePool.pending--;
+
+		    if (closed) {
+			prune(route, routePool);
+			throw new IOException("Transport is closed.");
+		    }
+		}
+	    }
+
+	    closeAll(toClose);
+
+	    if (idleConnection == null) {
+		try {
+		    int remaining = deadline == 0 ? 0 : (int) Math.max(1, deadline - System.currentTimeMillis());
+		    PooledConnection connection = PooledConnection.open(route, request, remaining);
+		    debug("New connection: " + connection);
+		    return connection;
+		} catch (IOException e) {
+		    release(route);
+		    throw e;
+		} catch (RuntimeException e) {
+		    release(route);
+		    throw e;
+		}
+	    }
+
+	    long now = System.currentTimeMillis();
+	    if (now - idleConnection.getLastUsedAt() > STALE_CHECK_DELAY && idleConnection.isStale()) {
+		debug("Stale connection: " + idleConnection);
+		synchronized (this) {
+		    evicted++;
+		    getRoutePool(route).evicted++;
+		}
+		release(idleConnection, false);
+		continue;
+	    }
+
+	    synchronized (this) {
+		reused++;
+		getRoutePool(route).reused++;
+	    }
+	    return idleConnection;
+	}
+    }
+
+    /**
+     * Gives back the connection to the pool.
+     *
+     * @param connection the leased connection
+     * @param reusable   if true, the connection is kept open for another request
+     */
+    void release(PooledConnection connection, boolean reusable) {
+	boolean close = true;
+
+	synchronized (this) {
+	    RoutePool routePool = getRoutePool(connection.getRoute());
+	    routePool.leased--;
+	    totalLeased--;
+
+	    if (reusable && !closed && idleTimeout > 0) {
+		connection.markIdle(System.currentTimeMillis(), idleTimeout);
+		routePool.idle.addFirst(connection);
+		totalIdle++;
+		close = false;
+	    }
+
+	    prune(connection.getRoute(), routePool);
+	    notifyAll();
+	}
+
+	if (close) {
+	    connection.close();
+	}
+    }
+
+    /**
+     * Releases the lease of a connection that could not be opened.
+     */
+    private synchronized void release(HttpRoute route) {
+	RoutePool routePool = getRoutePool(route);
+	routePool.leased--;
+	totalLeased--;
+	prune(route, routePool);
+	notifyAll();
+    }
+
+    /**
+     * Removes the expired idle connections. Must be called while holding the lock.
+     */
+    private void evictExpired(long now, List<PooledConnection> toClose) {
+	Iterator<RoutePool> iterator = routePools.values().iterator();
+	while (iterator.hasNext()) {
+	    RoutePool routePool = iterator.next();
+	    // Least recently used connections are at the end
+	    while (!routePool.idle.isEmpty() && routePool.idle.peekLast().isExpired(now)) {
+		toClose.add(routePool.idle.pollLast());
+		totalIdle--;
+		evicted++;
+		routePool.evicted++;
+	    }
+	    if (routePool.isUnused()) {
+		iterator.remove();
+	    }
+	}
+    }
+
+    /**
+     * Removes the least recently used idle connection, whatever the route. Must be
+     * called while holding the lock with at least one idle connection.
+     */
+    private PooledConnection evictLeastRecentlyUsed() {
+	Map.Entry<HttpRoute, RoutePool> oldestEntry = null;
+	for (Map.Entry<HttpRoute, RoutePool> entry : routePools.entrySet()) {
+	    PooledConnection last = entry.getValue().idle.peekLast();
+	    if (last != null && (oldestEntry == null
+		    || last.getLastUsedAt() < oldestEntry.getValue().idle.peekLast().getLastUsedAt())) {
+		oldestEntry = entry;
+	    }
+	}
+
+	RoutePool oldestPool = oldestEntry.getValue();
+	PooledConnection connection = oldestPool.idle.pollLast();
+	totalIdle--;
+	evicted++;
+	oldestPool.evicted++;
+	prune(oldestEntry.getKey(), oldestPool);
+	return connection;
+    }
+
+    /**
+     * Removes the pool of a route once it holds no connection and no request
+     * waits for one. Must be called while holding the lock.
+     */
+    private void prune(HttpRoute route, RoutePool routePool) {
+	if (routePool.isUnused() && routePools.get(route) == routePool) {
+	    routePools.remove(route);
+	}
+    }
+
+    private RoutePool getRoutePool(HttpRoute route) {
+	RoutePool routePool = routePools.get(route);
+	if (routePool == null) {
+	    routePool = new RoutePool();
+	    routePools.put(route, routePool);
+	}
+	return routePool;
+    }
+
+    private static void closeAll(List<PooledConnection> connections) {
+	for (PooledConnection connection : connections) {
+	    connection.close();
+	}
+    }
+
+    /**
+     * Returns a snapshot of the state of the whole pool.
+     *
+     * @return a snapshot of the state of the whole pool
+     */
+    public synchronized PoolStats getStats() {
+	return new PoolStats(totalLeased, totalIdle, totalPending, maxTotal, created, reused, evicted, requests);
+    }
+
+    /**
+     * Returns a snapshot of the state of the pools of a server: the sum over
+     * its routes, whatever their proxy and TLS configuration.
+     *
+     * @param url the URL of the AceQL server
+     * @return a snapshot of the state of the pools of the server
+     */
+    public synchronized PoolStats getStats(URL url) {
+	HttpRoute serverRoute = new HttpRoute(url, null);
+	int leased = 0;
+	int idle = 0;
+	int pending = 0;
+	long routeCreated = 0;
+	long routeReused = 0;
+	long routeEvicted = 0;
+	long routeRequests = 0;
+	for (Map.Entry<HttpRoute, RoutePool> entry : routePools.entrySet()) {
+	    HttpRoute route = entry.getKey();
+	    if (route.isSecure() != serverRoute.isSecure() || route.getPort() != serverRoute.getPort()
+		    || !route.getHost().equals(serverRoute.getHost())) {
+		continue;
+	    }
+	    RoutePool routePool = entry.getValue();
+	    leased += routePool.leased;
+	    idle += routePool.idle.size();
+	    pending += routePool.pending;
+	    routeCreated += routePool.created;
+	    routeReused += routePool.reused;
+	    routeEvicted += routePool.evicted;
+	    routeRequests += routePool.requests;
+	}
+	return new PoolStats(leased, idle, pending, maxPerRoute, routeCreated, routeReused, routeEvicted,
+		routeRequests);
+    }
+
+    /**
+     * Returns a snapshot of the state of the pool of each route in use.
+     *
+     * @return the snapshots per route. The key is the route description.
+     */
+    public synchronized Map<String, PoolStats> getRouteStats() {
+	Map<String, PoolStats> routeStats = new HashMap<String, PoolStats>();
+	for (Map.Entry<HttpRoute, RoutePool> entry : routePools.entrySet()) {
+	    routeStats.put(entry.getKey().toString(), entry.getValue().getStats(maxPerRoute));
+	}
+	return routeStats;
+    }
+
+    /**
+     * Closes all idle connections. Leased connections are closed when their
+     * response is closed. The transport can not be used anymore.
+     */
+    @Override
+    public void close() {
+	List<PooledConnection> toClose = new ArrayList<PooledConnection>();
+	synchronized (this) {
+	    closed = true;
+	    Iterator<RoutePool> iterator = routePools.values().iterator();
+	    while (iterator.hasNext()) {
+		RoutePool routePool = iterator.next();
+		toClose.addAll(routePool.idle);
+		totalIdle -= routePool.idle.size();
+		routePool.idle.clear();
+		if (routePool.isUnused()) {
+		    iterator.remove();
+		}
+	    }
+	    notifyAll();
+	}
+	closeAll(toClose);
+
+	synchronized (PooledHttpTransport.class) {
+	    if (defaultTransport == this) {
+		defaultTransport = null;
+	    }
+	}
+    }
+
+    @Override
+    public String toString() {
+	return "PooledHttpTransport [maxTotal=" + maxTotal + ", maxPerRoute=" + maxPerRoute + ", idleTimeout="
+		+ idleTimeout + "]";
+    }
+
+    private static void debug(String s) {
+	if (DEBUG) {
+	    System.out.println(new java.util.Date() + " " + s);
+	}
+    }
+
+    /**
+     * The connections of a route. Guarded by the transport lock.
+     */
+    private static class RoutePool {
+
+	/** Most recently used connections first */
+	private final Deque<PooledConnection> idle = new ArrayDeque<PooledConnection>();
+	private int leased = 0;
+	private int pending = 0;
+
+	private long created = 0;
+	private long reused = 0;
+	private long evicted = 0;
+	private long requests = 0;
+
+	/**
+	 * @return true if the route holds no connection and no request waits
+	 *         for one
+	 */
+	boolean isUnused() {
+	    return leased == 0 && pending == 0 && idle.isEmpty();
+	}
+
+	PoolStats getStats(int max) {
+	    return new PoolStats(leased, idle.size(), pending, max, created, reused, evicted, requests);
+	}
+    }
+
+    /**
+     * A response read on a pooled connection.
+     */
+    private static class PooledTransportResponse extends TransportResponse {
+
+	private final HttpBodyInputStream body;
+
+	PooledTransportResponse(ResponseHead head, HttpBodyInputStream body) {
+	    super(head.getStatusCode(), head.getStatusMessage(), head.getHeaders());
+	    this.body = body;
+	}
+
+	@Override
+	public InputStream getBody() {
+	    return body;
+	}
+
+	@Override
+	public void abort() {
+	    body.abort();
+	}
+    }
+
+}
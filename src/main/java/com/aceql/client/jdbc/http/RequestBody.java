@@ -0,0 +1,66 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The body of a {@link TransportRequest}. The body is written by the transport
+ * once the network connection is established.
+ */
+public abstract class RequestBody {
+
+    /**
+     * Returns the value of the Content-Type header of the body.
+     *
+     * @return the value of the Content-Type header, or null if none
+     */
+    public abstract String getContentType();
+
+    /**
+     * Returns the length of the body in bytes.
+     *
+     * @return the length of the body in bytes, or -1 if unknown. A body of unknown
+     *         length is sent with chunked transfer encoding.
+     */
+    public long getContentLength() {
+	return -1;
+    }
+
+    /**
+     * Says if the body can be written more than once. Only repeatable bodies may
+     * be sent again on a new connection if a pooled connection turns out to be
+     * closed by the server.
+     *
+     * @return true if {@link #writeTo(OutputStream)} may be called more than once
+     */
+    public boolean isRepeatable() {
+	return false;
+    }
+
+    /**
+     * Writes the body.
+     *
+     * @param out the stream to write the body into
+     * @throws IOException if any I/O error occurs
+     */
+    public abstract void writeTo(OutputStream out) throws IOException;
+
+}
@@ -0,0 +1,514 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.                                 
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.                                
+ *                                                                               
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. 
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.net.HttpURLConnection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 
+ * Analyses the JSON result sent by server. <br>
+ * The top level fields of the result are decoded in a single pass, either from
+ * the JSON String on first use, or directly from the response stream. All
+ * getters then read the decoded fields.
+ * 
+ * @author Nicolas de Pomereu
+ *
+ */
+public class ResultAnalyzer {
+
+	public static boolean DEBUG = false;
+
+	private String jsonResult = null;
+	private int httpStatusCode;
+
+	/** We try to find status. If error parsing, invalidJsonStream = true */
+	private boolean invalidJsonStream = false;
+
+	/** Exception when parsing the JSON stream. Futur usage */
+	private Exception parseException = null;
+	private String httpStatusMessage;
+
+	/** The top level fields: String, BigDecimal, Boolean or null values */
+	private Map<String, Object> fields = null;
+
+	/** The raw "parameters_out_per_index" object, null if none */
+	private Map<String, String> parametersOut = null;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param jsonResult
+	 * @param httpStatusCode
+	 * @param httpStatusMessage
+	 */
+	public ResultAnalyzer(String jsonResult, int httpStatusCode, String httpStatusMessage) {
+
+		if (jsonResult != null) {
+			jsonResult = jsonResult.trim();
+		}
+
+		this.jsonResult = jsonResult;
+		this.httpStatusCode = httpStatusCode;
+		this.httpStatusMessage = httpStatusMessage;
+	}
+
+	/**
+	 * Constructor that decodes the JSON result while it is read from the stream,
+	 * without building it as a String. The stream is read up to the end of the
+	 * JSON result and is not closed. <br>
+	 * {@link #getJsonResult()} returns null for a result built this way.
+	 * 
+	 * @param in
+	 *            the JSON result, in UTF-8. May be null.
+	 * @param httpStatusCode
+	 * @param httpStatusMessage
+	 */
+	public ResultAnalyzer(InputStream in, int httpStatusCode, String httpStatusMessage) {
+		this.httpStatusCode = httpStatusCode;
+		this.httpStatusMessage = httpStatusMessage;
+
+		if (in == null) {
+			decode(null);
+		} else {
+			try {
+				decode(new InputStreamReader(in, "UTF-8"));
+			} catch (IOException e) {
+				// UTF-8 is always supported
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	/**
+	 * Decodes the result once, on first use
+	 */
+	private void decode() {
+		if (fields != null) {
+			return;
+		}
+
+		if (jsonResult == null || jsonResult.isEmpty()) {
+			decode(null);
+		} else {
+			decode(new StringReader(jsonResult));
+		}
+	}
+
+	/**
+	 * Decodes in one pass the top level fields of the JSON object and the
+	 * "parameters_out_per_index" object. Other nested values are skipped.
+	 * 
+	 * @param reader
+	 *            the JSON result, null if empty
+	 */
+	private void decode(Reader reader) {
+		fields = new HashMap<>();
+
+		if (reader == null) {
+			invalidJsonStream = true;
+			return;
+		}
+
+		try {
+			JsonParser parser = Json.createParser(reader);
+			if (!parser.hasNext() || parser.next() != Event.START_OBJECT) {
+				invalidJsonStream = true;
+				return;
+			}
+
+			while (true) {
+				Event event = parser.next();
+				if (event == Event.END_OBJECT) {
+					break;
+				}
+
+				// Only KEY_NAME events at the top level of an object
+				String name = parser.getString();
+				event = parser.next();
+
+				switch (event) {
+				case VALUE_STRING:
+					fields.put(name, parser.getString());
+					break;
+				case VALUE_NUMBER:
+					fields.put(name, parser.getBigDecimal());
+					break;
+				case VALUE_TRUE:
+					fields.put(name, Boolean.TRUE);
+					break;
+				case VALUE_FALSE:
+					fields.put(name, Boolean.FALSE);
+					break;
+				case VALUE_NULL:
+					fields.put(name, null);
+					break;
+				case START_OBJECT:
+					if (name.equals("parameters_out_per_index")) {
+						parametersOut = decodeParametersOut(parser);
+					} else {
+						skip(parser);
+					}
+					fields.put(name, null);
+					break;
+				default:
+					// START_ARRAY
+					skip(parser);
+					fields.put(name, null);
+					break;
+				}
+			}
+		} catch (Exception e) {
+			this.parseException = e;
+			invalidJsonStream = true;
+			fields.clear();
+			parametersOut = null;
+		}
+	}
+
+	private static Map<String, String> decodeParametersOut(JsonParser parser) {
+		Map<String, String> parametersOut = new LinkedHashMap<>();
+		while (true) {
+			Event event = parser.next();
+			if (event == Event.END_OBJECT) {
+				return parametersOut;
+			}
+
+			String key = parser.getString();
+			event = parser.next();
+			if (event == Event.VALUE_STRING || event == Event.VALUE_NUMBER) {
+				parametersOut.put(key, parser.getString());
+			} else if (event == Event.START_OBJECT || event == Event.START_ARRAY) {
+				skip(parser);
+				parametersOut.put(key, null);
+			} else {
+				parametersOut.put(key, null);
+			}
+		}
+	}
+
+	/**
+	 * Skips the object or array just started
+	 */
+	private static void skip(JsonParser parser) {
+		int depth = 1;
+		while (depth > 0) {
+			Event event = parser.next();
+			if (event == Event.START_OBJECT || event == Event.START_ARRAY) {
+				depth++;
+			} else if (event == Event.END_OBJECT || event == Event.END_ARRAY) {
+				depth--;
+			}
+		}
+	}
+
+	/**
+	 * Says if status is OK
+	 * 
+	 * @return true if status is OK
+	 */
+	public boolean isStatusOk() {
+		decode();
+		return "OK".equals(fields.get("status"));
+	}
+
+	/**
+	 * Returns the result for key name "result"
+	 * 
+	 * @param name
+	 * @return the value
+	 */
+	public String getResult() {
+		return getValue("result");
+	}
+
+	/**
+	 * Returns the value for a name
+	 * 
+	 * @param name
+	 * @return the value, null if there is no String value for the name
+	 */
+	public String getValue(String name) {
+		if (name == null) {
+			throw new NullPointerException("name is null!");
+		}
+
+		decode();
+		Object value = fields.get(name);
+		return value instanceof String ? (String) value : null;
+	}
+
+	/**
+	 * Says if the JSON Stream is invalid
+	 * 
+	 * @return rue if JSOn stream is invalid
+	 */
+	private boolean isInvalidJsonStream() {
+		decode();
+		return invalidJsonStream;
+	}
+
+	/**
+	 * Returns the int value for a name
+	 * 
+	 * @param name
+	 * @return the value, -1 if there is no number value for the name
+	 */
+	public int getIntvalue(String name) {
+		if (name == null) {
+			throw new NullPointerException("name is null!");
+		}
+
+		decode();
+		Object value = fields.get(name);
+		return value instanceof BigDecimal ? ((BigDecimal) value).intValue() : -1;
+	}
+
+	/**
+	 * Returns the error_type in case of failure
+	 * 
+	 * @return the error_type in case of failure, -1 if no error
+	 */
+	public int getErrorType() {
+
+		if (isInvalidJsonStream()) {
+			return 0;
+		}
+
+		if (!(fields.get("status") instanceof String)) {
+			return -1;
+		}
+
+		return getIntvalue("error_type");
+	}
+
+	/**
+	 * Returns the error_message in case of failure
+	 * 
+	 * @return the error_message in case of failure, null if no error
+	 */
+	public String getErrorMessage() {
+
+		if (isInvalidJsonStream()) {
+
+			String errorMessage = "Unknown error.";
+			if (httpStatusCode != HttpURLConnection.HTTP_OK) {
+				errorMessage = "HTTP FAILURE " + httpStatusCode + " (" + httpStatusMessage + ")";
+			}
+
+			return errorMessage;
+		}
+
+		if (!(fields.get("status") instanceof String)) {
+			return null;
+		}
+
+		return getValue("error_message");
+	}
+
+	/**
+	 * Returns the stack_trace in case of failure
+	 * 
+	 * @return the stack_trace in case of failure, null if no stack_trace
+	 */
+	public String getStackTrace() {
+
+		if (isInvalidJsonStream()) {
+			return null;
+		}
+
+		if (!(fields.get("status") instanceof String)) {
+			return null;
+		}
+
+		return getValue("stack_trace");
+	}
+
+	/**
+	 * @return the JSON result, trimmed. null if the result was decoded from a
+	 *         stream.
+	 */
+	public String getJsonResult() {
+		return jsonResult;
+	}
+
+	/**
+	 * @return the HTTP status code of the response that contains the result
+	 */
+	public int getHttpStatusCode() {
+		return httpStatusCode;
+	}
+
+	/**
+	 * @return the HTTP status message of the response that contains the result
+	 */
+	public String getHttpStatusMessage() {
+		return httpStatusMessage;
+	}
+
+	@Override
+	public String toString() {
+		if (jsonResult != null) {
+			return "ResultAnalyzer [jsonResult=" + jsonResult + "]";
+		}
+		return "ResultAnalyzer [fields=" + fields + "]";
+	}
+
+	/**
+	 * Returns the Exception raised when parsing JSON stream
+	 * 
+	 * @return the Exception raised when parsing JSON stream
+	 */
+	public Exception getParseException() {
+		return parseException;
+	}
+
+	/**
+	 * Returns after CallablStatement execute/executeQuery the Map of OUT parameter
+	 * (index, values)
+	 * 
+	 * @return the Map of OUT parameter (index, values)
+	 */
+	public Map<Integer, String> getParametersOutPerIndex() {
+		if (isInvalidJsonStream()) {
+			return null;
+		}
+
+		Map<Integer, String> parametersOutPerIndex = new HashMap<>();
+		if (parametersOut == null) {
+			return parametersOutPerIndex;
+		}
+
+		for (Map.Entry<String, String> entry : parametersOut.entrySet()) {
+			String key = entry.getKey();
+			if (!StringUtils.isNumeric(key)) {
+				throw new IllegalArgumentException(
+						"Bad Json returned by server. parameters_out_per_index key is not numeric: " + key);
+			}
+			parametersOutPerIndex.put(Integer.parseInt(key), entry.getValue());
+		}
+		return parametersOutPerIndex;
+	}
+
+	/**
+	 * Returns after callable statement execute the Map of OUT parameter (index,
+	 * values)
+	 * 
+	 * @param reader
+	 *            the reader ot use to parse the json content.
+	 * @return he Map of OUT parameter (index, values)
+	 */
+	public static Map<Integer, String> getParametersOutPerIndex(Reader reader) {
+
+		Map<Integer, String> parametersOutPerIndex = new HashMap<>();
+
+		JsonParser parser = Json.createParser(reader);
+
+		while (parser.hasNext()) {
+			JsonParser.Event event = parser.next();
+			switch (event) {
+			case START_ARRAY:
+			case END_ARRAY:
+			case START_OBJECT:
+			case END_OBJECT:
+			case VALUE_FALSE:
+			case VALUE_NULL:
+			case VALUE_TRUE:
+				// System.out.println("---" + event.toString());
+				break;
+			case KEY_NAME:
+
+				if (parser.getString().equals("parameters_out_per_index")) {
+					debug("");
+					debug("in parameters_out_per_index");
+					while (parser.hasNext()) {
+						event = parser.next();
+
+						// We are done if END_OBJECT
+						if (event.equals(Event.END_OBJECT)) {
+							debug("exit while loop");
+							return parametersOutPerIndex;
+						}
+
+						debug(event.toString());
+
+						if (event.equals(Event.KEY_NAME)) {
+							String key = parser.getString();
+							debug("key: " + key);
+
+							if (parser.hasNext())
+								parser.next();
+							else
+								return parametersOutPerIndex;
+
+							String value = parser.getString();
+							debug("value: " + value);
+
+							if (!StringUtils.isNumeric(key)) {
+								throw new IllegalArgumentException(
+										"Bad Json returned by server. parameters_out_per_index key is not numeric: "
+												+ key);
+							}
+
+							parametersOutPerIndex.put(Integer.parseInt(key), value);
+
+						}
+
+					}
+				}
+
+				break;
+			case VALUE_STRING:
+			case VALUE_NUMBER:
+				// trace("Should not reach this:");
+				debug(event.toString() + " " + parser.getString());
+				break;
+			}
+		}
+
+		// Should never happen, return is done before
+		return parametersOutPerIndex;
+	}
+
+	/**
+	 * @param s
+	 */
+
+	protected static void debug(String s) {
+		if (DEBUG) {
+			System.out.println(new Date() + " " + s);
+		}
+	}
+
+}
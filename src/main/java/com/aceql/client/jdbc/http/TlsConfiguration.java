@@ -0,0 +1,393 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.HandshakeCompletedEvent;
+import javax.net.ssl.HandshakeCompletedListener;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * The TLS configuration of the connections to an AceQL server, used instead of
+ * the JVM-wide {@code HttpsURLConnection} defaults. <br>
+ * Each configuration owns its {@code SSLContext}, and thus its own cache of TLS
+ * sessions: connections that use the same configuration resume the sessions of
+ * each other instead of doing a full handshake.
+ * <p>
+ * Example: <blockquote>
+ *
+ * <pre>
+ * TlsConfiguration tlsConfiguration = new TlsConfiguration();
+ * tlsConfiguration.setSessionTimeout(3600);
+ * tlsConfiguration.setEnabledProtocols(new String[] { &quot;TLSv1.3&quot;, &quot;TLSv1.2&quot; });
+ *
+ * ConnectionOptions connectionOptions = new ConnectionOptions();
+ * connectionOptions.setTlsConfiguration(tlsConfiguration);
+ * </pre>
+ *
+ * </blockquote> The configuration can not be modified once a connection has
+ * used it.
+ */
+public class TlsConfiguration {
+
+    /** null means a new context with the default key and trust managers */
+    private SSLContext sslContext = null;
+
+    /** -1 means the JDK default */
+    private int sessionCacheSize = -1;
+    /** -1 means the JDK default */
+    private int sessionTimeout = -1;
+
+    /** null means the JDK defaults */
+    private String[] enabledProtocols = null;
+    private String[] enabledCipherSuites = null;
+
+    /** null means the standard HTTPS host name verification */
+    private HostnameVerifier hostnameVerifier = null;
+
+    /** The configured factory. Created on first use */
+    private SSLSocketFactory sslSocketFactory = null;
+
+    private final AtomicLong handshakes = new AtomicLong();
+    private final AtomicLong resumedHandshakes = new AtomicLong();
+
+    /**
+     * Returns the SSL context of this configuration.
+     *
+     * @return the SSL context, null until first use if none was set
+     */
+    public synchronized SSLContext getSslContext() {
+	return sslContext;
+    }
+
+    /**
+     * Sets the SSL context that provides the key and trust managers and caches
+     * the TLS sessions. Defaults to a new context, initialized with the default
+     * key and trust managers. <br>
+     * A context shared with other code also shares its session cache.
+     *
+     * @param sslContext the SSL context, initialized. null for a new context.
+     */
+    public synchronized void setSslContext(SSLContext sslContext) {
+	checkNotInUse();
+	this.sslContext = sslContext;
+    }
+
+    /**
+     * @return the max number of cached TLS sessions, -1 for the JDK default
+     */
+    public synchronized int getSessionCacheSize() {
+	return sessionCacheSize;
+    }
+
+    /**
+     * Sets the max number of TLS sessions cached for resumption.
+     *
+     * @param sessionCacheSize the max number of cached TLS sessions, 0 for no
+     *                         limit, -1 for the JDK default
+     */
+    public synchronized void setSessionCacheSize(int sessionCacheSize) {
+	checkNotInUse();
+	this.sessionCacheSize = sessionCacheSize;
+    }
+
+    /**
+     * @return the time in seconds a cached TLS session may be resumed, -1 for
+     *         the JDK default
+     */
+    public synchronized int getSessionTimeout() {
+	return sessionTimeout;
+    }
+
+    /**
+     * Sets the time a cached TLS session may be resumed. The server may use a
+     * shorter time.
+     *
+     * @param sessionTimeout the time in seconds, 0 for no limit, -1 for the JDK
+     *                       default
+     */
+    public synchronized void setSessionTimeout(int sessionTimeout) {
+	checkNotInUse();
+	this.sessionTimeout = sessionTimeout;
+    }
+
+    /**
+     * @return the enabled protocols, null for the JDK defaults
+     */
+    public synchronized String[] getEnabledProtocols() {
+	return enabledProtocols == null ? null : enabledProtocols.clone();
+    }
+
+    /**
+     * Sets the protocols enabled for the connections, such as "TLSv1.3".
+     *
+     * @param enabledProtocols the enabled protocols, null for the JDK defaults
+     */
+    public synchronized void setEnabledProtocols(String[] enabledProtocols) {
+	checkNotInUse();
+	this.enabledProtocols = enabledProtocols == null ? null : enabledProtocols.clone();
+    }
+
+    /**
+     * @return the enabled cipher suites, null for the JDK defaults
+     */
+    public synchronized String[] getEnabledCipherSuites() {
+	return enabledCipherSuites == null ? null : enabledCipherSuites.clone();
+    }
+
+    /**
+     * Sets the cipher suites enabled for the connections.
+     *
+     * @param enabledCipherSuites the enabled cipher suites, null for the JDK
+     *                            defaults
+     */
+    public synchronized void setEnabledCipherSuites(String[] enabledCipherSuites) {
+	checkNotInUse();
+	this.enabledCipherSuites = enabledCipherSuites == null ? null : enabledCipherSuites.clone();
+    }
+
+    /**
+     * @return the host name verifier, null for the standard HTTPS verification
+     */
+    public synchronized HostnameVerifier getHostnameVerifier() {
+	return hostnameVerifier;
+    }
+
+    /**
+     * Sets the host name verifier called after the handshake. Defaults to null:
+     * the host name is verified by the TLS engine as for HTTPS. <br>
+     * Not used by {@code Http2Transport}.
+     *
+     * @param hostnameVerifier the host name verifier, null for the standard
+     *                         HTTPS verification
+     */
+    public synchronized void setHostnameVerifier(HostnameVerifier hostnameVerifier) {
+	checkNotInUse();
+	this.hostnameVerifier = hostnameVerifier;
+    }
+
+    private void checkNotInUse() {
+	if (sslSocketFactory != null) {
+	    throw new IllegalStateException("TLS configuration is already in use.");
+	}
+    }
+
+    /**
+     * Returns the socket factory of this configuration, whose sockets have the
+     * enabled protocols and cipher suites of this configuration and are counted
+     * by the handshake metrics. <br>
+     * The configuration can not be modified anymore after this call.
+     *
+     * @return the socket factory of this configuration
+     * @throws IOException if the SSL context can not be created
+     */
+    public synchronized SSLSocketFactory getSslSocketFactory() throws IOException {
+	if (sslSocketFactory == null) {
+	    sslSocketFactory = new ConfiguredSocketFactory(getInitializedSslContext().getSocketFactory());
+	}
+	return sslSocketFactory;
+    }
+
+    /**
+     * Returns the SSL context of this configuration, created and configured on
+     * first call.
+     *
+     * @return the SSL context of this configuration
+     * @throws IOException if the SSL context can not be created
+     */
+    public synchronized SSLContext getInitializedSslContext() throws IOException {
+	if (sslContext == null) {
+	    try {
+		sslContext = SSLContext.getInstance("TLS");
+		sslContext.init(null, null, null);
+	    } catch (GeneralSecurityException e) {
+		throw new IOException("Unable to create SSL context: " + e.getMessage(), e);
+	    }
+	}
+
+	SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+	if (sessionContext != null) {
+	    if (sessionCacheSize >= 0) {
+		sessionContext.setSessionCacheSize(sessionCacheSize);
+	    }
+	    if (sessionTimeout >= 0) {
+		sessionContext.setSessionTimeout(sessionTimeout);
+	    }
+	}
+	return sslContext;
+    }
+
+    /**
+     * Returns the SSL parameters of the connections: the enabled protocols and
+     * cipher suites of this configuration, and the HTTPS endpoint identification
+     * if there is no host name verifier.
+     *
+     * @return the SSL parameters of the connections
+     * @throws IOException if the SSL context can not be created
+     */
+    public synchronized SSLParameters getSslParameters() throws IOException {
+	SSLParameters sslParameters = getInitializedSslContext().getDefaultSSLParameters();
+	if (enabledProtocols != null) {
+	    sslParameters.setProtocols(enabledProtocols);
+	}
+	if (enabledCipherSuites != null) {
+	    sslParameters.setCipherSuites(enabledCipherSuites);
+	}
+	if (hostnameVerifier == null) {
+	    sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
+	}
+	return sslParameters;
+    }
+
+    /**
+     * Returns the number of TLS handshakes done with this configuration. <br>
+     * Handshakes are counted once completed, for the sockets of
+     * {@link #getSslSocketFactory()}. Those of {@code Http2Transport} are not
+     * counted.
+     *
+     * @return the number of TLS handshakes, full or resumed
+     */
+    public long getHandshakes() {
+	return handshakes.get();
+    }
+
+    /**
+     * Returns the number of TLS handshakes done with this configuration that
+     * resumed a cached session. A session is deemed resumed if it was created
+     * before the socket.
+     *
+     * @return the number of abbreviated TLS handshakes
+     */
+    public long getResumedHandshakes() {
+	return resumedHandshakes.get();
+    }
+
+    /**
+     * @return the number of full TLS handshakes done with this configuration
+     */
+    public long getFullHandshakes() {
+	return handshakes.get() - resumedHandshakes.get();
+    }
+
+    @Override
+    public synchronized String toString() {
+	return "TlsConfiguration [sessionCacheSize=" + sessionCacheSize + ", sessionTimeout=" + sessionTimeout
+		+ ", enabledProtocols=" + Arrays.toString(enabledProtocols) + ", enabledCipherSuites="
+		+ Arrays.toString(enabledCipherSuites) + ", handshakes=" + handshakes + ", resumedHandshakes="
+		+ resumedHandshakes + "]";
+    }
+
+    /**
+     * Applies the configuration to the sockets of a factory and counts their
+     * handshakes.
+     */
+    private class ConfiguredSocketFactory extends SSLSocketFactory {
+
+	private final SSLSocketFactory factory;
+
+	ConfiguredSocketFactory(SSLSocketFactory factory) {
+	    this.factory = factory;
+	}
+
+	private Socket configure(Socket socket) {
+	    if (!(socket instanceof SSLSocket)) {
+		return socket;
+	    }
+
+	    SSLSocket sslSocket = (SSLSocket) socket;
+	    if (enabledProtocols != null) {
+		sslSocket.setEnabledProtocols(enabledProtocols);
+	    }
+	    if (enabledCipherSuites != null) {
+		sslSocket.setEnabledCipherSuites(enabledCipherSuites);
+	    }
+
+	    final long createdAt = System.currentTimeMillis();
+	    sslSocket.addHandshakeCompletedListener(new HandshakeCompletedListener() {
+		@Override
+		public void handshakeCompleted(HandshakeCompletedEvent event) {
+		    handshakes.incrementAndGet();
+		    if (event.getSession().getCreationTime() < createdAt) {
+			resumedHandshakes.incrementAndGet();
+		    }
+		}
+	    });
+	    return sslSocket;
+	}
+
+	@Override
+	public String[] getDefaultCipherSuites() {
+	    return factory.getDefaultCipherSuites();
+	}
+
+	@Override
+	public String[] getSupportedCipherSuites() {
+	    return factory.getSupportedCipherSuites();
+	}
+
+	@Override
+	public Socket createSocket() throws IOException {
+	    return configure(factory.createSocket());
+	}
+
+	@Override
+	public Socket createSocket(Socket s, String host, int port, boolean autoClose) throws IOException {
+	    return configure(factory.createSocket(s, host, port, autoClose));
+	}
+
+	@Override
+	public Socket createSocket(Socket s, InputStream consumed, boolean autoClose) throws IOException {
+	    return configure(factory.createSocket(s, consumed, autoClose));
+	}
+
+	@Override
+	public Socket createSocket(String host, int port) throws IOException {
+	    return configure(factory.createSocket(host, port));
+	}
+
+	@Override
+	public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+	    return configure(factory.createSocket(host, port, localHost, localPort));
+	}
+
+	@Override
+	public Socket createSocket(InetAddress host, int port) throws IOException {
+	    return configure(factory.createSocket(host, port));
+	}
+
+	@Override
+	public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort)
+		throws IOException {
+	    return configure(factory.createSocket(address, port, localAddress, localPort));
+	}
+    }
+
+}
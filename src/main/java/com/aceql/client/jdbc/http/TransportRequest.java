@@ -0,0 +1,296 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.net.PasswordAuthentication;
+import java.net.Proxy;
+import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A request to be executed by an {@link HttpTransport}.
+ */
+public class TransportRequest {
+
+    private final String method;
+    private final URL url;
+
+    private final Map<String, String> headers = new LinkedHashMap<String, String>();
+    private RequestBody body = null;
+
+    /** Proxy to use. null if none */
+    private Proxy proxy = null;
+    /** For authenticated proxy */
+    private PasswordAuthentication proxyAuthentication = null;
+
+    private TlsConfiguration tlsConfiguration = null;
+
+    private int connectTimeout = 0;
+    private int readTimeout = 0;
+    private int requestTimeout = 0;
+
+    /** Says if the request may be sent again without side effect */
+    private boolean idempotent = false;
+
+    /** The deadline of the execution in progress, expired by cancel() */
+    private volatile Deadline deadline = null;
+    private volatile boolean cancelled = false;
+
+    /**
+     * Constructor.
+     *
+     * @param method the HTTP method: "GET" or "POST"
+     * @param url    the URL to call
+     */
+    public TransportRequest(String method, URL url) {
+	if (method == null) {
+	    throw new NullPointerException("method is null!");
+	}
+	if (url == null) {
+	    throw new NullPointerException("url is null!");
+	}
+	this.method = method;
+	this.url = url;
+    }
+
+    /**
+     * @return the HTTP method
+     */
+    public String getMethod() {
+	return method;
+    }
+
+    /**
+     * @return the URL to call
+     */
+    public URL getUrl() {
+	return url;
+    }
+
+    /**
+     * Sets a request header.
+     *
+     * @param name  the header name
+     * @param value the header value
+     */
+    public void setHeader(String name, String value) {
+	headers.put(name, value);
+    }
+
+    /**
+     * @return the request headers, without the Content-Type and Content-Length
+     *         headers that are defined by the body
+     */
+    public Map<String, String> getHeaders() {
+	return Collections.unmodifiableMap(headers);
+    }
+
+    /**
+     * @return the request body. null if none.
+     */
+    public RequestBody getBody() {
+	return body;
+    }
+
+    /**
+     * @param body the request body to set. null if none.
+     */
+    public void setBody(RequestBody body) {
+	this.body = body;
+    }
+
+    /**
+     * @return the proxy to use. null if none.
+     */
+    public Proxy getProxy() {
+	return proxy;
+    }
+
+    /**
+     * @param proxy the proxy to use. null if none.
+     */
+    public void setProxy(Proxy proxy) {
+	this.proxy = proxy;
+    }
+
+    /**
+     * @return the username and password holder of an authenticated proxy. null if
+     *         none.
+     */
+    public PasswordAuthentication getProxyAuthentication() {
+	return proxyAuthentication;
+    }
+
+    /**
+     * @param proxyAuthentication the username and password holder of an
+     *                            authenticated proxy. null if none.
+     */
+    public void setProxyAuthentication(PasswordAuthentication proxyAuthentication) {
+	this.proxyAuthentication = proxyAuthentication;
+    }
+
+    /**
+     * @return the TLS configuration of https requests. null for the
+     *         {@code HttpsURLConnection} defaults.
+     */
+    public TlsConfiguration getTlsConfiguration() {
+	return tlsConfiguration;
+    }
+
+    /**
+     * @param tlsConfiguration the TLS configuration of https requests. null for
+     *                         the {@code HttpsURLConnection} defaults.
+     */
+    public void setTlsConfiguration(TlsConfiguration tlsConfiguration) {
+	this.tlsConfiguration = tlsConfiguration;
+    }
+
+    /**
+     * @return the connect timeout in milliseconds. 0 means infinite.
+     */
+    public int getConnectTimeout() {
+	return connectTimeout;
+    }
+
+    /**
+     * @param connectTimeout the connect timeout in milliseconds. 0 means infinite.
+     */
+    public void setConnectTimeout(int connectTimeout) {
+	this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * @return the read timeout in milliseconds. 0 means infinite.
+     */
+    public int getReadTimeout() {
+	return readTimeout;
+    }
+
+    /**
+     * @param readTimeout the read timeout in milliseconds. 0 means infinite.
+     */
+    public void setReadTimeout(int readTimeout) {
+	this.readTimeout = readTimeout;
+    }
+
+    /**
+     * @return the total time allowed to the request in milliseconds, including
+     *         the read of the response body. 0 means infinite.
+     */
+    public int getRequestTimeout() {
+	return requestTimeout;
+    }
+
+    /**
+     * @param requestTimeout the total time allowed to the request in
+     *                       milliseconds, including the read of the response
+     *                       body. 0 means infinite.
+     */
+    public void setRequestTimeout(int requestTimeout) {
+	this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * @return true if the request may be sent again without side effect
+     */
+    public boolean isIdempotent() {
+	return idempotent;
+    }
+
+    /**
+     * Says if the request may be sent again without side effect, such as a
+     * getter or a metadata call. Only idempotent requests are sent again if a
+     * pooled connection is closed by the server after the request is sent.
+     *
+     * @param idempotent true if the request may be sent again without side effect
+     */
+    public void setIdempotent(boolean idempotent) {
+	this.idempotent = idempotent;
+    }
+
+    /**
+     * Cancels the request: the execution in progress, or the response body being
+     * read, fails at once, and a next execution fails when it starts. <br>
+     * Custom transports that do not use the request deadline ignore the
+     * cancellation.
+     */
+    public void cancel() {
+	cancelled = true;
+	Deadline deadline = this.deadline;
+	if (deadline != null) {
+	    deadline.expire();
+	}
+    }
+
+    /**
+     * @return true if {@link #cancel()} has been called
+     */
+    public boolean isCancelled() {
+	return cancelled;
+    }
+
+    /**
+     * Binds the deadline of the execution in progress.
+     */
+    void setDeadline(Deadline deadline) {
+	this.deadline = deadline;
+	if (cancelled) {
+	    deadline.expire();
+	}
+    }
+
+    /**
+     * Returns a copy of this request, with the same body, that may be executed
+     * and cancelled independently.
+     *
+     * @return a copy of this request
+     */
+    TransportRequest copy() {
+	return copy(url);
+    }
+
+    /**
+     * Returns a copy of this request sent to another URL, such as the target of
+     * a redirect.
+     *
+     * @param url the URL of the copy
+     * @return a copy of this request
+     */
+    TransportRequest copy(URL url) {
+	TransportRequest copy = new TransportRequest(method, url);
+	copy.headers.putAll(headers);
+	copy.body = body;
+	copy.proxy = proxy;
+	copy.proxyAuthentication = proxyAuthentication;
+	copy.tlsConfiguration = tlsConfiguration;
+	copy.connectTimeout = connectTimeout;
+	copy.readTimeout = readTimeout;
+	copy.requestTimeout = requestTimeout;
+	copy.idempotent = idempotent;
+	return copy;
+    }
+
+    @Override
+    public String toString() {
+	return "TransportRequest [method=" + method + ", url=" + url + "]";
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The response returned by an {@link HttpTransport}. <br>
+ * The body must be closed, either directly or with {@link #close()}, in order to
+ * release the underlying network connection. {@link #abort()} releases the
+ * connection immediately without reading the rest of the body.
+ */
+public abstract class TransportResponse implements Closeable {
+
+    private final int statusCode;
+    private final String statusMessage;
+
+    /** The response headers, per lower case name */
+    private final Map<String, String> headers;
+
+    /**
+     * Constructor.
+     *
+     * @param statusCode    the HTTP status code
+     * @param statusMessage the HTTP status message
+     * @param headers       the response headers
+     */
+    protected TransportResponse(int statusCode, String statusMessage, Map<String, String> headers) {
+	this.statusCode = statusCode;
+	this.statusMessage = statusMessage;
+
+	Map<String, String> lowerCaseHeaders = new HashMap<String, String>();
+	if (headers != null) {
+	    for (Map.Entry<String, String> entry : headers.entrySet()) {
+		if (entry.getKey() != null) {
+		    lowerCaseHeaders.put(entry.getKey().toLowerCase(), entry.getValue());
+		}
+	    }
+	}
+	this.headers = Collections.unmodifiableMap(lowerCaseHeaders);
+    }
+
+    /**
+     * @return the HTTP status code
+     */
+    public int getStatusCode() {
+	return statusCode;
+    }
+
+    /**
+     * @return the HTTP status message
+     */
+    public String getStatusMessage() {
+	return statusMessage;
+    }
+
+    /**
+     * Returns the value of a response header.
+     *
+     * @param name the header name, case insensitive
+     * @return the header value, or null if the header was not sent
+     */
+    public String getHeader(String name) {
+	if (name == null) {
+	    return null;
+	}
+	return headers.get(name.toLowerCase());
+    }
+
+    /**
+     * Returns the response body. The same stream instance is returned on each call.
+     *
+     * @return the response body, or null if the response has no body
+     */
+    public abstract InputStream getBody();
+
+    /**
+     * Releases the underlying network connection immediately, without reading the
+     * rest of the body. The connection is not reused.
+     */
+    public abstract void abort();
+
+    /**
+     * Closes the response body, which releases the underlying network connection.
+     */
+    @Override
+    public void close() {
+	InputStream body = getBody();
+	if (body != null) {
+	    try {
+		body.close();
+	    } catch (Exception ignore) {
+		// ignore
+	    }
+	}
+    }
+
+    @Override
+    public String toString() {
+	return "TransportResponse [statusCode=" + statusCode + ", statusMessage=" + statusMessage + "]";
+    }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.net.ssl.HttpsURLConnection;
+
+/**
+ * The transport of the previous AceQL Client SDK versions, built on
+ * {@link HttpURLConnection}. Connection reuse is left to the JDK keep-alive
+ * cache.
+ */
+public class UrlConnectionTransport implements HttpTransport {
+
+    /** The chunk length of bodies of unknown length */
+    private static final int CHUNK_LENGTH = 8192;
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+
+	HttpURLConnection conn = null;
+
+	if (request.getProxy() == null) {
+	    conn = (HttpURLConnection) request.getUrl().openConnection();
+	} else {
+	    conn = (HttpURLConnection) request.getUrl().openConnection(request.getProxy());
+	}
+
+	TlsConfiguration tlsConfiguration = request.getTlsConfiguration();
+	if (tlsConfiguration != null && conn instanceof HttpsURLConnection) {
+	    HttpsURLConnection httpsConn = (HttpsURLConnection) conn;
+	    httpsConn.setSSLSocketFactory(tlsConfiguration.getSslSocketFactory());
+	    if (tlsConfiguration.getHostnameVerifier() != null) {
+		httpsConn.setHostnameVerifier(tlsConfiguration.getHostnameVerifier());
+	    }
+	}
+
+	for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+	    conn.setRequestProperty(header.getKey(), header.getValue());
+	}
+
+	// Connect and read timeouts are enforced by the socket, the total request
+	// timeout by the shared deadline timer that disconnects on expiry
+	conn.setConnectTimeout(request.getConnectTimeout());
+	conn.setReadTimeout(request.getReadTimeout());
+	conn.setRequestMethod(request.getMethod());
+	conn.setDoOutput(true);
+
+	final HttpURLConnection theConn = conn;
+	Deadline deadline = Deadline.start(request);
+	deadline.attach(new Closeable() {
+	    @Override
+	    public void close() {
+		theConn.disconnect();
+	    }
+	});
+
+	try {
+	    RequestBody body = request.getBody();
+	    if (body != null) {
+		if (body.getContentType() != null) {
+		    conn.setRequestProperty("Content-Type", body.getContentType());
+		}
+
+		// Streaming mode: the body is not buffered again by HttpURLConnection
+		if (body.getContentLength() >= 0) {
+		    conn.setFixedLengthStreamingMode(body.getContentLength());
+		} else {
+		    conn.setChunkedStreamingMode(CHUNK_LENGTH);
+		}
+
+		try (OutputStream connOut = conn.getOutputStream();) {
+		    body.writeTo(connOut);
+		}
+	    }
+
+	    int httpStatusCode = conn.getResponseCode();
+	    String httpStatusMessage = conn.getResponseMessage();
+
+	    InputStream in = null;
+	    if (httpStatusCode == HttpURLConnection.HTTP_OK) {
+		in = conn.getInputStream();
+	    } else {
+		in = conn.getErrorStream();
+	    }
+
+	    Map<String, String> headers = new HashMap<String, String>();
+	    for (Map.Entry<String, List<String>> entry : conn.getHeaderFields().entrySet()) {
+		if (entry.getKey() != null && !entry.getValue().isEmpty()) {
+		    headers.put(entry.getKey(), entry.getValue().get(0));
+		}
+	    }
+
+	    if (in == null) {
+		deadline.cancel();
+	    } else {
+		in = new DeadlineInputStream(in, deadline);
+	    }
+
+	    return new UrlConnectionResponse(httpStatusCode, httpStatusMessage, headers, conn, in);
+
+	} catch (IOException e) {
+	    deadline.cancel();
+	    if (deadline.isExpired()) {
+		throw deadline.newTimeoutException();
+	    }
+	    throw e;
+	} catch (RuntimeException e) {
+	    deadline.cancel();
+	    throw e;
+	}
+    }
+
+    /**
+     * Nothing to close: connections are owned by the JDK keep-alive cache.
+     */
+    @Override
+    public void close() {
+	// Nothing to do
+    }
+
+    /**
+     * A response body that stops the request deadline once closed or fully read.
+     */
+    private static class DeadlineInputStream extends FilterInputStream {
+
+	private final Deadline deadline;
+
+	DeadlineInputStream(InputStream in, Deadline deadline) {
+	    super(in);
+	    this.deadline = deadline;
+	}
+
+	@Override
+	public int read() throws IOException {
+	    try {
+		int b = super.read();
+		if (b == -1) {
+		    deadline.cancel();
+		}
+		return b;
+	    } catch (IOException e) {
+		throw translate(e);
+	    }
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+	    try {
+		int n = super.read(b, off, len);
+		if (n == -1) {
+		    deadline.cancel();
+		}
+		return n;
+	    } catch (IOException e) {
+		throw translate(e);
+	    }
+	}
+
+	private IOException translate(IOException e) {
+	    deadline.cancel();
+	    return deadline.isExpired() ? deadline.newTimeoutException() : e;
+	}
+
+	@Override
+	public void close() throws IOException {
+	    deadline.cancel();
+	    super.close();
+	}
+    }
+
+    /**
+     * A response read on an HttpURLConnection.
+     */
+    private static class UrlConnectionResponse extends TransportResponse {
+
+	private final HttpURLConnection conn;
+	private final InputStream in;
+
+	UrlConnectionResponse(int statusCode, String statusMessage, Map<String, String> headers,
+		HttpURLConnection conn, InputStream in) {
+	    super(statusCode, statusMessage, headers);
+	    this.conn = conn;
+	    this.in = in;
+	}
+
+	@Override
+	public InputStream getBody() {
+	    return in;
+	}
+
+	@Override
+	public void abort() {
+	    conn.disconnect();
+	}
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.util.json;
+
+import java.util.Arrays;
+
+/**
+ * Row values stored in an array of slots, reused from one row to the next.
+ */
+public class ArrayRowValues implements RowValues {
+
+    private String[] values;
+    private int columnCount = 0;
+
+    /**
+     * Constructor.
+     */
+    public ArrayRowValues() {
+	this(16);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the initial number of slots
+     */
+    public ArrayRowValues(int capacity) {
+	this.values = new String[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Empties the slots, before the values of a new row are added.
+     */
+    public void clear() {
+	Arrays.fill(values, 0, columnCount, null);
+	columnCount = 0;
+    }
+
+    /**
+     * Adds the value of the next column.
+     *
+     * @param value the column value
+     */
+    public void add(String value) {
+	if (columnCount == values.length) {
+	    values = Arrays.copyOf(values, values.length * 2);
+	}
+	values[columnCount++] = value;
+    }
+
+    @Override
+    public int getColumnCount() {
+	return columnCount;
+    }
+
+    @Override
+    public String getValue(int colIndex) {
+	if (colIndex < 1 || colIndex > columnCount) {
+	    return null;
+	}
+	return values[colIndex - 1];
+    }
+
+    @Override
+    public boolean isNull(int colIndex) {
+	return "NULL".equals(getValue(colIndex));
+    }
+
+    @Override
+    public long getLong(int colIndex) {
+	return Long.parseLong(getValue(colIndex));
+    }
+
+    @Override
+    public double getDouble(int colIndex) {
+	return Double.parseDouble(getValue(colIndex));
+    }
+
+    @Override
+    public float getFloat(int colIndex) {
+	return Float.parseFloat(getValue(colIndex));
+    }
+
+    @Override
+    public boolean getBoolean(int colIndex) {
+	return Boolean.parseBoolean(getValue(colIndex));
+    }
+
+    /**
+     * @return a copy of the values of the row
+     */
+    public String[] toArray() {
+	return Arrays.copyOf(values, columnCount);
+    }
+
+    @Override
+    public String toString() {
+	return Arrays.toString(toArray());
+    }
+
+}
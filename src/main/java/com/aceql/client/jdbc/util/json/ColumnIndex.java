@@ -0,0 +1,107 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.util.json;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The table of the column names of a result set, built once per result. <br>
+ * Column labels are looked up as in JDBC: without regard to case, and the
+ * first column wins if several columns have the same name.
+ */
+public class ColumnIndex {
+
+    private final String[] columnNames;
+    private final Map<String, Integer> indexsPerColName;
+
+    /** The labels found without regard to case */
+    private final Map<String, Integer> indexsPerLabel = new HashMap<String, Integer>();
+
+    /**
+     * Constructor.
+     *
+     * @param columnNames the column names, in column order
+     */
+    public ColumnIndex(List<String> columnNames) {
+	this.columnNames = columnNames.toArray(new String[columnNames.size()]);
+	this.indexsPerColName = new HashMap<String, Integer>(this.columnNames.length * 2);
+	for (int i = this.columnNames.length - 1; i >= 0; i--) {
+	    indexsPerColName.put(this.columnNames[i], i + 1);
+	}
+    }
+
+    /**
+     * @return the number of columns
+     */
+    public int getColumnCount() {
+	return columnNames.length;
+    }
+
+    /**
+     * Returns the name of a column.
+     *
+     * @param colIndex the column index, starting at 1
+     * @return the column name
+     */
+    public String getColumnName(int colIndex) {
+	return columnNames[colIndex - 1];
+    }
+
+    /**
+     * Returns the index of a column label.
+     *
+     * @param columnLabel the column label
+     * @return the column index, starting at 1, or -1 if there is no such column
+     */
+    public int indexOf(String columnLabel) {
+	Integer index = indexsPerColName.get(columnLabel);
+	if (index != null) {
+	    return index;
+	}
+
+	index = indexsPerLabel.get(columnLabel);
+	if (index != null) {
+	    return index;
+	}
+
+	for (int i = 0; i < columnNames.length; i++) {
+	    if (columnNames[i].equalsIgnoreCase(columnLabel)) {
+		indexsPerLabel.put(columnLabel, i + 1);
+		return i + 1;
+	    }
+	}
+	return -1;
+    }
+
+    /**
+     * @return the index per column names
+     */
+    public Map<String, Integer> getIndexsPerColName() {
+	return Collections.unmodifiableMap(indexsPerColName);
+    }
+
+    @Override
+    public String toString() {
+	return "ColumnIndex " + indexsPerColName;
+    }
+
+}
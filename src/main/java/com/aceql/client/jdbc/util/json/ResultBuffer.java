@@ -0,0 +1,403 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.util.json;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.kawanfw.driver.util.FrameworkFileUtil;
+
+/**
+ * The downloaded JSON result set of an /execute_query call. <br>
+ * The result is kept in memory up to a size per result, and as long as the
+ * results in memory of the JVM do not exceed {@link #getMaxTotalMemory()}.
+ * Beyond, it is spilled to a file in the KawanSoft temp directory. Small
+ * results thus never touch the local disk. The memory of a result is given
+ * back to the JVM total by {@link #delete()}, or once the buffer is garbage
+ * collected if it is never deleted. <br>
+ * The buffer is written once, then read sequentially with
+ * {@link #openInputStream()} or at random with
+ * {@link #readFully(long, byte[], int, int)}, or without copy with
+ * {@link #getByteBuffer()}.
+ */
+public class ResultBuffer extends OutputStream {
+
+    /** The bytes of all the results in memory of the JVM */
+    private static final AtomicLong totalMemory = new AtomicLong();
+    private static volatile long maxTotalMemory = 64L * 1024 * 1024;
+
+    /** The reservations of the buffers in memory, until released */
+    private static final Set<Reservation> reservations = Collections
+	    .newSetFromMap(new ConcurrentHashMap<Reservation, Boolean>());
+    /** The reservations of the buffers garbage collected without delete() */
+    private static final ReferenceQueue<ResultBuffer> unreachableBuffers = new ReferenceQueue<ResultBuffer>();
+
+    private final int memoryThreshold;
+
+    private byte[] bytes = new byte[0];
+    private int count = 0;
+    /** The bytes counted in totalMemory for this buffer. Created on first use */
+    private Reservation reservation = null;
+
+    private File file = null;
+    private OutputStream fileOut = null;
+    private RandomAccessFile randomAccessFile = null;
+    private ByteBuffer mappedBuffer = null;
+    private long length = 0;
+
+    private boolean closed = false;
+    private boolean deleted = false;
+
+    /**
+     * Creates a buffer to write.
+     *
+     * @param memoryThreshold the size in bytes above which the result is
+     *                        spilled to a file. 0 to always use a file.
+     */
+    public ResultBuffer(int memoryThreshold) {
+	this.memoryThreshold = memoryThreshold;
+    }
+
+    private ResultBuffer(File file) {
+	this.memoryThreshold = 0;
+	this.file = file;
+	this.length = file.length();
+	this.closed = true;
+    }
+
+    /**
+     * Returns a buffer over an already written file.
+     *
+     * @param file the JSON result set file
+     * @return a buffer that reads the file
+     */
+    public static ResultBuffer wrap(File file) {
+	return new ResultBuffer(file);
+    }
+
+    /**
+     * Returns the maximum size of the results kept in memory by the JVM.
+     *
+     * @return the size in bytes
+     */
+    public static long getMaxTotalMemory() {
+	return maxTotalMemory;
+    }
+
+    /**
+     * Sets the maximum size of the results kept in memory by the JVM. Once
+     * reached, new results are spilled to files. Defaults to 64 MB.
+     *
+     * @param maxTotalMemory the size in bytes. 0 to always use files.
+     */
+    public static void setMaxTotalMemory(long maxTotalMemory) {
+	ResultBuffer.maxTotalMemory = maxTotalMemory;
+    }
+
+    /**
+     * @return the size in bytes of the results currently kept in memory by the
+     *         JVM
+     */
+    public static long getTotalMemory() {
+	releaseUnreachable();
+	return totalMemory.get();
+    }
+
+    /**
+     * Gives back the memory of the buffers garbage collected without being
+     * deleted.
+     */
+    private static void releaseUnreachable() {
+	Reference<? extends ResultBuffer> reference;
+	while ((reference = unreachableBuffers.poll()) != null) {
+	    ((Reservation) reference).release();
+	}
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+	write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+	if (closed) {
+	    throw new IOException("ResultBuffer is closed.");
+	}
+
+	if (fileOut == null && !ensureCapacity(count + len)) {
+	    spill();
+	}
+
+	if (fileOut != null) {
+	    fileOut.write(b, off, len);
+	} else {
+	    System.arraycopy(b, off, bytes, count, len);
+	    count += len;
+	}
+	length += len;
+    }
+
+    /**
+     * Grows the array if the result may stay in memory.
+     *
+     * @return false if the result must be spilled
+     */
+    private boolean ensureCapacity(long capacity) {
+	if (capacity <= bytes.length) {
+	    return true;
+	}
+	if (capacity > memoryThreshold) {
+	    return false;
+	}
+
+	int newLength = (int) Math.min(Math.max(capacity, Math.max(bytes.length * 2L, 4096)), memoryThreshold);
+	releaseUnreachable();
+	if (reservation == null) {
+	    reservation = new Reservation(this);
+	}
+	if (!reservation.reserve(newLength)) {
+	    return false;
+	}
+	bytes = Arrays.copyOf(bytes, newLength);
+	return true;
+    }
+
+    private void spill() throws IOException {
+	file = new File(FrameworkFileUtil.getKawansoftTempDir() + File.separator + "pc-result-set-"
+		+ FrameworkFileUtil.getUniqueId() + ".txt");
+	fileOut = new BufferedOutputStream(new FileOutputStream(file));
+	fileOut.write(bytes, 0, count);
+	releaseMemory();
+    }
+
+    private void releaseMemory() {
+	if (reservation != null) {
+	    reservation.release();
+	}
+	bytes = new byte[0];
+	count = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+	if (fileOut != null) {
+	    fileOut.flush();
+	}
+    }
+
+    /**
+     * Ends the writing. The buffer may then be read.
+     */
+    @Override
+    public void close() throws IOException {
+	if (closed) {
+	    return;
+	}
+	closed = true;
+	if (fileOut != null) {
+	    fileOut.close();
+	}
+    }
+
+    /**
+     * @return true if the result is kept in memory
+     */
+    public boolean isInMemory() {
+	return file == null;
+    }
+
+    /**
+     * @return the file of a spilled result, null if the result is in memory
+     */
+    public File getFile() {
+	return file;
+    }
+
+    /**
+     * @return the number of bytes written
+     */
+    public long length() {
+	return length;
+    }
+
+    /**
+     * Says if the result exists: it may not exist if its file was deleted.
+     *
+     * @return true if the result can be read
+     */
+    public boolean exists() {
+	return !deleted && (file == null || file.exists());
+    }
+
+    /**
+     * Opens a stream on the whole result.
+     *
+     * @return a stream on the result
+     * @throws IOException if the file can not be opened
+     */
+    public InputStream openInputStream() throws IOException {
+	if (file == null) {
+	    return new ByteArrayInputStream(bytes, 0, count);
+	}
+	return new FileInputStream(file);
+    }
+
+    /**
+     * Reads bytes at a position of the result.
+     *
+     * @param position the position of the first byte
+     * @param b        the array that receives the bytes
+     * @param off      the offset in the array
+     * @param len      the number of bytes to read
+     * @throws IOException if the bytes can not be read
+     */
+    public void readFully(long position, byte[] b, int off, int len) throws IOException {
+	if (position + len > length) {
+	    throw new EOFException("Read beyond the end of the result: " + (position + len) + " > " + length);
+	}
+	if (file == null) {
+	    System.arraycopy(bytes, (int) position, b, off, len);
+	    return;
+	}
+	if (randomAccessFile == null) {
+	    randomAccessFile = new RandomAccessFile(file, "r");
+	}
+	randomAccessFile.seek(position);
+	randomAccessFile.readFully(b, off, len);
+    }
+
+    /**
+     * Returns the whole result as a buffer, without copying it: the array of a
+     * result in memory, or the memory-mapped file of a spilled result. The
+     * buffer must not be modified. It may be read by several threads with
+     * absolute gets.
+     *
+     * @return the buffer of the result, with absolute positions starting at 0
+     * @throws IOException if the file can not be mapped or exceeds 2 GB
+     */
+    public synchronized ByteBuffer getByteBuffer() throws IOException {
+	if (deleted) {
+	    throw new IOException("ResultBuffer is deleted.");
+	}
+	if (file == null) {
+	    return ByteBuffer.wrap(bytes, 0, count);
+	}
+	if (mappedBuffer == null) {
+	    if (length > Integer.MAX_VALUE) {
+		throw new IOException("Result is too large to be mapped: " + length);
+	    }
+	    if (randomAccessFile == null) {
+		randomAccessFile = new RandomAccessFile(file, "r");
+	    }
+	    mappedBuffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+	}
+	return mappedBuffer;
+    }
+
+    /**
+     * Releases the memory, or deletes the file, of the result.
+     */
+    public void delete() {
+	deleted = true;
+	closed = true;
+	mappedBuffer = null;
+	releaseMemory();
+
+	try {
+	    if (fileOut != null) {
+		fileOut.close();
+	    }
+	} catch (IOException ignore) {
+	    // ignore
+	}
+	if (randomAccessFile != null) {
+	    try {
+		randomAccessFile.close();
+	    } catch (IOException ignore) {
+		// ignore
+	    }
+	    randomAccessFile = null;
+	}
+	// A mapped file can not be deleted on Windows until the mapping is
+	// garbage collected: it is then deleted when the JVM exits
+	if (file != null && !file.delete() && file.exists()) {
+	    file.deleteOnExit();
+	}
+    }
+
+    /**
+     * The bytes counted in totalMemory for a buffer. Enqueued once the buffer is
+     * garbage collected, so that a buffer never deleted does not keep its share
+     * of the JVM total.
+     */
+    private static class Reservation extends PhantomReference<ResultBuffer> {
+
+	private final AtomicLong reserved = new AtomicLong();
+
+	Reservation(ResultBuffer resultBuffer) {
+	    super(resultBuffer, unreachableBuffers);
+	    reservations.add(this);
+	}
+
+	/**
+	 * Grows the reservation to a new size, if the JVM total allows it.
+	 *
+	 * @return false if the JVM total would exceed the max
+	 */
+	boolean reserve(long size) {
+	    long delta = size - reserved.get();
+	    if (totalMemory.addAndGet(delta) > maxTotalMemory) {
+		totalMemory.addAndGet(-delta);
+		return false;
+	    }
+	    reserved.addAndGet(delta);
+	    return true;
+	}
+
+	void release() {
+	    totalMemory.addAndGet(-reserved.getAndSet(0));
+	    reservations.remove(this);
+	}
+    }
+
+    @Override
+    public String toString() {
+	return "ResultBuffer [length=" + length + ", file=" + file + "]";
+    }
+
+}
@@ -0,0 +1,296 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.util.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Output stream that spools the JSON result set of an /execute_query call and
+ * analyzes it while it is written. <br>
+ * The bytes are scanned as they pass, in the same single pass as the download:
+ * <ul>
+ * <li>The offset of each row of the "query_rows" array is stored in a
+ * {@link RowOffsetIndex}, so that {@link RowParser} can read any row without
+ * parsing the rows before it.</li>
+ * <li>The scalar values of the root object, such as "status", "error_message"
+ * or "row_count", and the "parameters_out_per_index" values are kept, so that
+ * {@link StreamResultAnalyzer} does not read the file again.</li>
+ * </ul>
+ * The scan only tracks strings and nesting: UTF-8 multi-byte sequences never
+ * contain the JSON structural characters.
+ */
+public class ResultSetOutputStream extends FilterOutputStream {
+
+    private final RowOffsetIndex rowOffsetIndex = new RowOffsetIndex();
+
+    /** The scalar values of the root object, per key */
+    private final Map<String, String> values = new HashMap<String, String>();
+    private final Map<Integer, String> parametersOutPerIndex = new HashMap<Integer, String>();
+
+    /** The number of bytes written */
+    private long position = 0;
+
+    private int depth = 0;
+    private boolean inString = false;
+    private boolean escape = false;
+    private boolean ended = false;
+
+    /** The key or value being read, if it belongs to a kept object */
+    private final ByteArrayOutputStream token = new ByteArrayOutputStream();
+    private boolean capturing = false;
+    private boolean inLiteral = false;
+    private boolean expectValue = false;
+    private String currentKey = null;
+
+    private boolean inRows = false;
+    private boolean inParametersOut = false;
+
+    /**
+     * Constructor.
+     *
+     * @param out the stream of the spool file
+     */
+    public ResultSetOutputStream(OutputStream out) {
+	super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+	scan((byte) b);
+	out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+	for (int i = off; i < off + len; i++) {
+	    scan(b[i]);
+	}
+	out.write(b, off, len);
+    }
+
+    private void scan(byte b) {
+	long offset = position++;
+
+	if (inString) {
+	    if (escape) {
+		escape = false;
+	    } else if (b == '\\') {
+		escape = true;
+	    } else if (b == '"') {
+		inString = false;
+		if (capturing) {
+		    endToken(unescape(new String(token.toByteArray(), StandardCharsets.UTF_8)));
+		}
+		return;
+	    }
+	    if (capturing) {
+		token.write(b);
+	    }
+	    return;
+	}
+
+	if (inLiteral) {
+	    if (b != ',' && b != '}' && b != ']' && !isWhitespace(b)) {
+		token.write(b);
+		return;
+	    }
+	    inLiteral = false;
+	    String literal = new String(token.toByteArray(), StandardCharsets.US_ASCII);
+	    endToken(literal.equals("null") ? null : literal);
+	}
+
+	switch (b) {
+	case '"':
+	    inString = true;
+	    capturing = isKeptObject();
+	    token.reset();
+	    break;
+	case ':':
+	    expectValue = isKeptObject();
+	    break;
+	case '[':
+	    if (depth == 1) {
+		inRows = expectValue && "query_rows".equals(currentKey);
+	    }
+	    expectValue = false;
+	    depth++;
+	    break;
+	case '{':
+	    if (depth == 2 && inRows) {
+		rowOffsetIndex.add(offset);
+	    } else if (depth == 1 && expectValue && "parameters_out_per_index".equals(currentKey)) {
+		inParametersOut = true;
+	    }
+	    expectValue = false;
+	    depth++;
+	    break;
+	case ']':
+	    depth--;
+	    if (depth == 1 && inRows) {
+		rowOffsetIndex.setEndOfRows(offset);
+		inRows = false;
+	    }
+	    break;
+	case '}':
+	    depth--;
+	    if (depth == 1) {
+		inParametersOut = false;
+	    } else if (depth == 0) {
+		ended = true;
+	    }
+	    break;
+	case ',':
+	    break;
+	default:
+	    if (expectValue && !isWhitespace(b)) {
+		inLiteral = true;
+		token.reset();
+		token.write(b);
+	    }
+	    break;
+	}
+    }
+
+    /**
+     * Says if the keys and values of the current object are kept: the root
+     * object and the "parameters_out_per_index" object.
+     */
+    private boolean isKeptObject() {
+	return depth == 1 || (depth == 2 && inParametersOut);
+    }
+
+    private void endToken(String text) {
+	if (!expectValue) {
+	    currentKey = text;
+	    return;
+	}
+	expectValue = false;
+
+	if (depth == 1) {
+	    values.put(currentKey, text);
+	} else if (isNumeric(currentKey)) {
+	    parametersOutPerIndex.put(Integer.parseInt(currentKey), text);
+	}
+    }
+
+    private static boolean isWhitespace(byte b) {
+	return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static boolean isNumeric(String s) {
+	if (s == null || s.isEmpty() || s.length() > 9) {
+	    return false;
+	}
+	for (int i = 0; i < s.length(); i++) {
+	    if (!Character.isDigit(s.charAt(i))) {
+		return false;
+	    }
+	}
+	return true;
+    }
+
+    /**
+     * Decodes the escape sequences of a JSON string.
+     */
+    static String unescape(String s) {
+	if (s.indexOf('\\') < 0) {
+	    return s;
+	}
+
+	StringBuilder sb = new StringBuilder(s.length());
+	for (int i = 0; i < s.length(); i++) {
+	    char c = s.charAt(i);
+	    if (c != '\\' || i == s.length() - 1) {
+		sb.append(c);
+		continue;
+	    }
+	    c = s.charAt(++i);
+	    switch (c) {
+	    case 'b':
+		sb.append('\b');
+		break;
+	    case 'f':
+		sb.append('\f');
+		break;
+	    case 'n':
+		sb.append('\n');
+		break;
+	    case 'r':
+		sb.append('\r');
+		break;
+	    case 't':
+		sb.append('\t');
+		break;
+	    case 'u':
+		if (i + 4 < s.length()) {
+		    sb.append((char) Integer.parseInt(s.substring(i + 1, i + 5), 16));
+		    i += 4;
+		}
+		break;
+	    default:
+		// \" \\ \/
+		sb.append(c);
+		break;
+	    }
+	}
+	return sb.toString();
+    }
+
+    /**
+     * @return the offsets of the rows written so far
+     */
+    public RowOffsetIndex getRowOffsetIndex() {
+	return rowOffsetIndex;
+    }
+
+    /**
+     * Says if the whole result set was written: the values are then all known.
+     *
+     * @return true if the root object is closed
+     */
+    public boolean isEnded() {
+	return ended;
+    }
+
+    /**
+     * Returns a scalar value of the root object.
+     *
+     * @param key the key, such as "status" or "row_count"
+     * @return the value as written, without quotes. null if the key was not
+     *         written or if the value is null
+     */
+    public String getValue(String key) {
+	return values.get(key);
+    }
+
+    /**
+     * @return the values of the "parameters_out_per_index" object, per
+     *         parameter index. Empty if the result has no OUT parameters.
+     */
+    public Map<Integer, String> getParametersOutPerIndex() {
+	return new HashMap<Integer, String>(parametersOutPerIndex);
+    }
+
+}
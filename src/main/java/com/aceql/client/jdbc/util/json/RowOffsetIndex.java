@@ -0,0 +1,98 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.util.json;
+
+import java.util.Arrays;
+
+/**
+ * The file offsets of the rows of a result set downloaded by an /execute_query
+ * call. <br>
+ * The offset of a row is the position of the opening brace of its
+ * <code>{"row_n":[...]}</code> object. The offsets are stored in a primitive
+ * array: 8 bytes per row.
+ */
+public class RowOffsetIndex {
+
+    private long[] offsets = new long[1024];
+    private int size = 0;
+
+    /** The offset of the end of the rows array, -1 if not reached */
+    private long endOfRows = -1;
+
+    /**
+     * Adds the offset of the next row.
+     *
+     * @param offset the position of the opening brace of the row object
+     */
+    void add(long offset) {
+	if (size == offsets.length) {
+	    offsets = Arrays.copyOf(offsets, size * 2);
+	}
+	offsets[size++] = offset;
+    }
+
+    void setEndOfRows(long endOfRows) {
+	this.endOfRows = endOfRows;
+    }
+
+    /**
+     * @return the number of indexed rows
+     */
+    public int size() {
+	return size;
+    }
+
+    /**
+     * Says if a row is indexed.
+     *
+     * @param rowNum the row number, starting at 1
+     * @return true if the start and the end of the row are known
+     */
+    public boolean contains(int rowNum) {
+	return rowNum >= 1 && (rowNum < size || (rowNum == size && endOfRows >= 0));
+    }
+
+    /**
+     * Returns the offset of a row.
+     *
+     * @param rowNum the row number, starting at 1
+     * @return the position of the opening brace of the row object
+     */
+    public long getOffset(int rowNum) {
+	return offsets[rowNum - 1];
+    }
+
+    /**
+     * Returns the length of a row, including the separator that follows it.
+     *
+     * @param rowNum the row number, starting at 1
+     * @return the number of bytes from the start of the row to the start of the
+     *         next row, or to the end of the rows
+     */
+    public int getLength(int rowNum) {
+	long end = rowNum < size ? offsets[rowNum] : endOfRows;
+	return (int) (end - offsets[rowNum - 1]);
+    }
+
+    @Override
+    public String toString() {
+	return "RowOffsetIndex [size=" + size + ", endOfRows=" + endOfRows + "]";
+    }
+
+}
@@ -0,0 +1,410 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.                                 
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.                                
+ *                                                                               
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. 
+ */
+package com.aceql.client.jdbc.util.json;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+
+/**
+ * @author Nicolas de Pomereu
+ *
+ */
+public class RowParser {
+
+    private Reader reader;
+    private JsonParser parser = null;
+    /** The arrays of the forward parser that are not closed */
+    private int arrayDepth = 0;
+
+    private ResultBuffer resultBuffer;
+
+    /** The values of the current row, reused from one row to the next */
+    private RowValues rowValues = null;
+    private ArrayRowValues arrayRowValues = new ArrayRowValues();
+    /** The column names, built on the first row read */
+    private ColumnIndex columnIndex = null;
+
+    private boolean traceOn;
+
+    /** The row offsets, to read a row without parsing the rows before it */
+    private RowOffsetIndex rowOffsetIndex = null;
+    private RowTokenizer rowTokenizer = new RowTokenizer();
+    private byte[] rowBuffer = new byte[0];
+
+    /**
+     * Constructor.
+     * 
+     * @param jsonFile
+     * @throws SQLException
+     */
+    public RowParser(File jsonFile) throws SQLException {
+
+	if (jsonFile == null) {
+	    throw new SQLException("jsonFile is null!");
+	}
+
+	if (!jsonFile.exists()) {
+	    throw new SQLException(new FileNotFoundException(
+		    "jsonFile does not exist: " + jsonFile));
+	}
+
+	this.resultBuffer = ResultBuffer.wrap(jsonFile);
+    }
+
+    /**
+     * Constructor of a parser that reads the indexed rows directly at their
+     * offset.
+     * 
+     * @param resultBuffer
+     *            the downloaded result, in memory or in a file
+     * @param rowOffsetIndex
+     *            the offsets of the rows, built while the result was written.
+     *            null if the rows are searched by parsing the result.
+     * @throws SQLException
+     */
+    public RowParser(ResultBuffer resultBuffer, RowOffsetIndex rowOffsetIndex)
+	    throws SQLException {
+
+	if (resultBuffer == null) {
+	    throw new SQLException("resultBuffer is null!");
+	}
+
+	if (!resultBuffer.exists()) {
+	    throw new SQLException(new FileNotFoundException(
+		    "result does not exist: " + resultBuffer));
+	}
+
+	this.resultBuffer = resultBuffer;
+	this.rowOffsetIndex = rowOffsetIndex;
+    }
+
+    /**
+     * Says if a row is read at its offset. If not, the file is parsed forward
+     * from the current position, which requires a {@link #resetParser()} to
+     * go back.
+     * 
+     * @param rowNum
+     *            the row number, starting at 1
+     * @return true if the row is indexed
+     */
+    public boolean isIndexed(int rowNum) {
+	return rowOffsetIndex != null && rowOffsetIndex.contains(rowNum);
+    }
+
+
+    /**
+     * Builds the row values, and the column names on first row read, for the
+     * passed row num
+     * 
+     * @param parser
+     * @param rowNum
+     * @throws SQLException
+     */
+    public void buildRowNum(int rowNum) throws SQLException {
+
+	if (isIndexed(rowNum)) {
+	    buildIndexedRowNum(rowNum);
+	    return;
+	}
+
+	// Open it
+	if (parser == null) {
+	    reader = getReader();
+	    parser = Json.createParser(reader);
+	}
+
+	while (parser.hasNext()) {
+	    JsonParser.Event event = parser.next();
+	    switch (event) {
+	    case START_ARRAY:
+		arrayDepth++;
+		break;
+	    case END_ARRAY:
+		arrayDepth--;
+		break;
+	    case START_OBJECT:
+	    case END_OBJECT:
+	    case VALUE_FALSE:
+	    case VALUE_NULL:
+	    case VALUE_TRUE:
+		// System.out.println("---" + event.toString());
+		break;
+	    case KEY_NAME:
+
+		trace();
+		trace(event.toString() + " " + parser.getString() + " - ");
+
+		// Columns with "row_xxx" names, inside the row values arrays,
+		// are not row numbers
+		if (parser.getString().equals("row_" + rowNum)
+			&& arrayDepth < 2) {
+
+		    if (parser.hasNext())
+			parser.next();
+		    else
+			return;
+
+		    List<String> rowColumnNames = columnIndex == null
+			    ? new ArrayList<String>()
+			    : null;
+
+		    arrayRowValues.clear();
+		    rowValues = arrayRowValues;
+
+		    while (parser.hasNext()) {
+
+			if (parser.hasNext())
+			    event = parser.next();
+			else
+			    return;
+
+			if (event != JsonParser.Event.KEY_NAME
+				&& event != JsonParser.Event.VALUE_STRING
+				&& event != JsonParser.Event.VALUE_NUMBER
+				&& event != JsonParser.Event.END_ARRAY) {
+			    continue;
+			}
+
+			// We are done at end of row
+			if (event == JsonParser.Event.END_ARRAY) {
+			    // Build the column names on first row read only
+			    if (rowColumnNames != null) {
+				columnIndex = new ColumnIndex(rowColumnNames);
+			    }
+			    return;
+			}
+
+			if (event == JsonParser.Event.KEY_NAME) {
+			    String colName = parser.getString();
+
+			    if (parser.hasNext())
+				parser.next();
+			    else
+				return;
+
+			    String colValue = parser.getString();
+
+			    if (colValue != null) {
+				colValue = colValue.trim();
+			    }
+
+			    arrayRowValues.add(colValue);
+
+			    if (rowColumnNames != null) {
+				rowColumnNames.add(colName);
+			    }
+
+			    trace(colValue);
+			}
+
+		    }
+		}
+
+		break;
+	    case VALUE_STRING:
+	    case VALUE_NUMBER:
+		trace("Should not reach this:");
+		trace(event.toString() + " " + parser.getString());
+		break;
+	    }
+	}
+
+    }
+
+    /**
+     * Reads a row at its offset: only the bytes of the row are tokenized, in
+     * place, and its values are decoded when requested.
+     */
+    private void buildIndexedRowNum(int rowNum) throws SQLException {
+
+	long offset = rowOffsetIndex.getOffset(rowNum);
+	int length = rowOffsetIndex.getLength(rowNum);
+
+	try {
+	    if (resultBuffer.length() <= Integer.MAX_VALUE) {
+		rowTokenizer.tokenize(resultBuffer.getByteBuffer(), (int) offset,
+			(int) offset + length);
+	    } else {
+		// Too large to be mapped: the bytes of the row are copied
+		if (rowBuffer.length < length) {
+		    rowBuffer = new byte[length];
+		}
+		resultBuffer.readFully(offset, rowBuffer, 0, length);
+		rowTokenizer.tokenize(ByteBuffer.wrap(rowBuffer), 0, length);
+	    }
+	} catch (IOException e) {
+	    throw new SQLException(e);
+	}
+
+	buildColumnIndex(rowTokenizer);
+	rowValues = rowTokenizer;
+    }
+
+    /**
+     * Tokenizes an indexed row in place into a tokenizer of the caller, so
+     * that its values stay readable without copy while the parser reads
+     * other rows. The parser position is not changed.
+     *
+     * @param rowNum
+     *            the row number, starting at 1
+     * @param rowTokenizer
+     *            the tokenizer that receives the tokens of the row
+     * @return false if the row is not indexed, or if the result is too large
+     *         to be read in place: the row must then be built with
+     *         {@link #buildRowNum(int)}
+     * @throws SQLException
+     */
+    public boolean tokenizeRow(int rowNum, RowTokenizer rowTokenizer)
+	    throws SQLException {
+
+	if (!isIndexed(rowNum)
+		|| resultBuffer.length() > Integer.MAX_VALUE) {
+	    return false;
+	}
+
+	long offset = rowOffsetIndex.getOffset(rowNum);
+	int length = rowOffsetIndex.getLength(rowNum);
+
+	try {
+	    rowTokenizer.tokenize(resultBuffer.getByteBuffer(), (int) offset,
+		    (int) offset + length);
+	} catch (IOException e) {
+	    throw new SQLException(e);
+	}
+
+	buildColumnIndex(rowTokenizer);
+	return true;
+    }
+
+    /**
+     * Builds the column names from the first row read.
+     */
+    private void buildColumnIndex(RowTokenizer rowTokenizer) {
+	if (columnIndex != null) {
+	    return;
+	}
+	List<String> columnNames = new ArrayList<String>();
+	for (int colIndex = 1; colIndex <= rowTokenizer
+		.getColumnCount(); colIndex++) {
+	    columnNames.add(rowTokenizer.getColumnName(colIndex));
+	}
+	columnIndex = new ColumnIndex(columnNames);
+    }
+
+    /**
+     * @return the index per column names, null before the first row is read
+     */
+    public Map<String, Integer> getIndexsPerColName() {
+	return columnIndex != null ? columnIndex.getIndexsPerColName() : null;
+    }
+
+    /**
+     * @return the column names, null before the first row is read
+     */
+    public ColumnIndex getColumnIndex() {
+	return columnIndex;
+    }
+
+    /**
+     * @return the values of the current row. The instance is reused for the
+     *         next rows.
+     */
+    public RowValues getRowValues() {
+	return rowValues;
+    }
+
+    private Reader getReader() throws SQLException {
+
+	Reader fileReader = null;
+	try {
+	    fileReader = new InputStreamReader(resultBuffer.openInputStream(),
+		    "UTF-8");
+	} catch (Exception e) {
+	    throw new SQLException(e);
+	}
+
+	return fileReader;
+    }
+
+    /**
+     * Closes the forward parser, so that the next row read by position is
+     * searched from the start of the file.
+     */
+    public void resetParser() {
+	if (reader != null) {
+	    try {
+		reader.close();
+	    }
+	    catch (Exception ignore) {
+		// ignore
+	    }
+	}
+	
+	// Reinit parser:
+	parser = null;
+	arrayDepth = 0;
+    }
+
+    /**
+     * Says if trace is on
+     * 
+     * @return true if trace is on
+     */
+    public boolean isTraceOn() {
+	return traceOn;
+    }
+
+    /**
+     * Sets the trace on/off
+     * 
+     * @param traceOn
+     *            if true, trace will be on
+     */
+    public void setTraceOn(boolean traceOn) {
+	this.traceOn = traceOn;
+    }
+
+    private void trace() {
+	if (traceOn) {
+	    System.out.println();
+	}
+    }
+
+    private void trace(String s) {
+	if (traceOn) {
+	    System.out.println(s);
+	}
+    }
+
+    public void close() {	
+	resetParser();
+    }
+
+}
@@ -0,0 +1,351 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.util.json;
+
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.stream.JsonParser;
+
+/**
+ * Forward only parser of a result set returned by an /execute_query call. <br>
+ * Unlike {@link RowParser}, which reads a downloaded file, the JSON is read
+ * from a stream while it arrives: the status is read first, then each row is
+ * parsed only when {@link #nextRow()} is called.
+ */
+public class RowStreamParser {
+
+    private final Reader reader;
+    private final JsonParser parser;
+
+    private boolean headerRead = false;
+    private boolean statusOk = false;
+    private boolean endOfRows = false;
+
+    private String errorType = null;
+    private String errorMessage = null;
+    private String stackTrace = null;
+
+    /** The column names, read on the first row */
+    private List<String> columnNames = null;
+    /** The SQL types of the columns, read in the head. null if not sent */
+    private List<String> columnTypes = null;
+    private final ArrayRowValues rowValues = new ArrayRowValues();
+    private int rowNum = 0;
+    private int rowCount = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param reader the reader of the JSON result set
+     */
+    public RowStreamParser(Reader reader) {
+	if (reader == null) {
+	    throw new NullPointerException("reader is null!");
+	}
+	this.reader = reader;
+	this.parser = Json.createParser(reader);
+    }
+
+    /**
+     * Reads the head of the result set, up to the first row, and says if the
+     * "status" key value is "OK". If not, the error is available with
+     * {@link #getErrorId()}, {@link #getErrorMessage()} and
+     * {@link #getStackTrace()}.
+     *
+     * @return true if the server returned a result set
+     * @throws SQLException if the stream is not a valid JSON result
+     */
+    public boolean isStatusOk() throws SQLException {
+	if (headerRead) {
+	    return statusOk;
+	}
+	headerRead = true;
+
+	try {
+	    if (!parser.hasNext() || parser.next() != JsonParser.Event.START_OBJECT) {
+		throw new SQLException("Invalid JSON result: no root object.");
+	    }
+
+	    while (parser.hasNext()) {
+		JsonParser.Event event = parser.next();
+		if (event == JsonParser.Event.END_OBJECT) {
+		    endOfRows = true;
+		    return statusOk;
+		}
+
+		String key = parser.getString();
+		event = parser.next();
+
+		if (key.equals("status")) {
+		    statusOk = "OK".equals(parser.getString());
+		    if (!statusOk) {
+			parseErrorKeywords();
+			return false;
+		    }
+		} else if (key.equals("query_rows") && event == JsonParser.Event.START_ARRAY) {
+		    return statusOk;
+		} else if (key.equals("column_types") && event == JsonParser.Event.START_ARRAY) {
+		    columnTypes = readStrings();
+		} else {
+		    skipValue(event);
+		}
+	    }
+
+	    endOfRows = true;
+	    return statusOk;
+	} catch (JsonException e) {
+	    throw new SQLException(e);
+	}
+    }
+
+    /**
+     * Parses the next row. The values are then available with
+     * {@link #getValues()}.
+     *
+     * @return true if a row was read, false if there are no more rows
+     * @throws SQLException if the status is not OK or the stream is not a valid
+     *                      JSON result
+     */
+    public boolean nextRow() throws SQLException {
+	if (!isStatusOk()) {
+	    throw new SQLException("Status is not OK: " + errorMessage);
+	}
+
+	if (endOfRows) {
+	    return false;
+	}
+
+	try {
+	    JsonParser.Event event = parser.next();
+	    if (event == JsonParser.Event.END_ARRAY) {
+		endOfRows = true;
+		readTrailer();
+		return false;
+	    }
+
+	    // { "row_n" : [ {"col" : "value"}, ... ] }
+	    parser.next(); // KEY_NAME row_n
+	    parser.next(); // START_ARRAY
+
+	    rowValues.clear();
+	    List<String> rowColumnNames = columnNames == null ? new ArrayList<String>() : null;
+
+	    while ((event = parser.next()) != JsonParser.Event.END_ARRAY) {
+		parser.next(); // KEY_NAME
+		if (rowColumnNames != null) {
+		    rowColumnNames.add(parser.getString());
+		}
+		rowValues.add(getValue(parser.next()));
+		parser.next(); // END_OBJECT
+	    }
+	    parser.next(); // END_OBJECT of row
+
+	    if (rowColumnNames != null) {
+		columnNames = Collections.unmodifiableList(rowColumnNames);
+	    }
+
+	    rowNum++;
+	    return true;
+	} catch (JsonException e) {
+	    throw new SQLException(e);
+	}
+    }
+
+    private String getValue(JsonParser.Event event) {
+	switch (event) {
+	case VALUE_STRING:
+	case VALUE_NUMBER:
+	    String value = parser.getString();
+	    return value != null ? value.trim() : null;
+	case VALUE_TRUE:
+	    return "true";
+	case VALUE_FALSE:
+	    return "false";
+	default:
+	    skipValue(event);
+	    return "NULL";
+	}
+    }
+
+    /**
+     * Reads the keys after the rows, such as "row_count".
+     */
+    private void readTrailer() {
+	while (parser.hasNext()) {
+	    JsonParser.Event event = parser.next();
+	    if (event == JsonParser.Event.END_OBJECT) {
+		return;
+	    }
+	    String key = parser.getString();
+	    event = parser.next();
+	    if (key.equals("row_count") && event == JsonParser.Event.VALUE_NUMBER) {
+		rowCount = parser.getInt();
+	    } else {
+		skipValue(event);
+	    }
+	}
+    }
+
+    /**
+     * Reads an array of strings, after its START_ARRAY.
+     */
+    private List<String> readStrings() {
+	List<String> strings = new ArrayList<String>();
+	while (parser.hasNext()) {
+	    JsonParser.Event event = parser.next();
+	    if (event == JsonParser.Event.END_ARRAY) {
+		break;
+	    }
+	    if (event == JsonParser.Event.VALUE_STRING) {
+		strings.add(parser.getString());
+	    } else {
+		skipValue(event);
+	    }
+	}
+	return Collections.unmodifiableList(strings);
+    }
+
+    private void skipValue(JsonParser.Event event) {
+	if (event != JsonParser.Event.START_ARRAY && event != JsonParser.Event.START_OBJECT) {
+	    return;
+	}
+	int depth = 1;
+	while (depth > 0 && parser.hasNext()) {
+	    event = parser.next();
+	    if (event == JsonParser.Event.START_ARRAY || event == JsonParser.Event.START_OBJECT) {
+		depth++;
+	    } else if (event == JsonParser.Event.END_ARRAY || event == JsonParser.Event.END_OBJECT) {
+		depth--;
+	    }
+	}
+    }
+
+    private void parseErrorKeywords() {
+	while (parser.hasNext()) {
+	    JsonParser.Event event = parser.next();
+	    if (event != JsonParser.Event.KEY_NAME) {
+		continue;
+	    }
+	    String key = parser.getString();
+	    if (!parser.hasNext()) {
+		return;
+	    }
+	    event = parser.next();
+	    if (event != JsonParser.Event.VALUE_STRING && event != JsonParser.Event.VALUE_NUMBER) {
+		skipValue(event);
+		continue;
+	    }
+
+	    if (key.equals("error_type")) {
+		this.errorType = parser.getString();
+	    } else if (key.equals("error_message")) {
+		this.errorMessage = parser.getString();
+	    } else if (key.equals("stack_trace")) {
+		this.stackTrace = parser.getString();
+	    }
+	}
+    }
+
+    /**
+     * @return the column names, or null before the first row
+     */
+    public List<String> getColumnNames() {
+	return columnNames;
+    }
+
+    /**
+     * @return the SQL types of the columns, or null if the server did not send
+     *         them
+     */
+    public List<String> getColumnTypes() {
+	return columnTypes;
+    }
+
+    /**
+     * @return the values of the current row. A new array is returned for each
+     *         call.
+     */
+    public String[] getValues() {
+	return rowValues.toArray();
+    }
+
+    /**
+     * @return the values of the current row. The instance is reused for the
+     *         next rows.
+     */
+    public RowValues getRowValues() {
+	return rowValues;
+    }
+
+    /**
+     * @return the number of the current row, starting at 1
+     */
+    public int getRowNum() {
+	return rowNum;
+    }
+
+    /**
+     * @return the "row_count" value, or -1 if the end of the rows is not reached
+     */
+    public int getRowCount() {
+	return rowCount;
+    }
+
+    /**
+     * @return true if the end of the rows is reached
+     */
+    public boolean isEndOfRows() {
+	return endOfRows;
+    }
+
+    public int getErrorId() {
+	return errorType != null ? Integer.parseInt(errorType) : 0;
+    }
+
+    public String getErrorMessage() {
+	return errorMessage;
+    }
+
+    public String getStackTrace() {
+	return stackTrace;
+    }
+
+    /**
+     * Closes the parser and the underlying reader.
+     */
+    public void close() {
+	try {
+	    parser.close();
+	} catch (Exception ignore) {
+	    // ignore
+	}
+	try {
+	    reader.close();
+	} catch (Exception ignore) {
+	    // ignore
+	}
+    }
+
+}
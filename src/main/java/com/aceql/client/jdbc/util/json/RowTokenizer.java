@@ -0,0 +1,512 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.util.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * A tokenizer of the rows of an AceQL result set:
+ * <code>{ "row_n" : [ { "col" : "value" }, ... ] }</code>. <br>
+ * The tokenizer reads the UTF-8 bytes of a row in place, without a
+ * {@code Reader} and without copying them: it only records where the column
+ * names and values start and end. A value is decoded to a {@code String} the
+ * first time it is requested, so the columns that are never read are never
+ * decoded. Numbers, dates and booleans are read directly from the bytes,
+ * without building a {@code String}. <br>
+ * The tokenizer is reused from one row to the next: the values of a row are
+ * valid until the next call to {@link #tokenize(ByteBuffer, int, int)}.
+ */
+public class RowTokenizer implements RowValues {
+
+    private static final byte STRING = 0;
+    private static final byte ESCAPED_STRING = 1;
+    private static final byte LITERAL = 2;
+    private static final byte NULL = 3;
+
+    private ByteBuffer buffer;
+    /** The array of a heap buffer, read directly. null for a mapped buffer */
+    private byte[] array;
+    private int arrayOffset;
+    private int pos;
+    private int end;
+
+    private int columnCount = 0;
+    private int[] nameStarts = new int[16];
+    private int[] nameEnds = new int[16];
+    private boolean[] escapedNames = new boolean[16];
+    private int[] valueStarts = new int[16];
+    private int[] valueEnds = new int[16];
+    private byte[] valueKinds = new byte[16];
+    private String[] values = new String[16];
+
+    /** The bytes of a value of a buffer without array */
+    private byte[] scratch = new byte[256];
+
+    /** The powers of ten that are exact doubles */
+    private static final double[] DOUBLE_POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+	    1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+    private static final float[] FLOAT_POWERS_OF_TEN = { 1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f,
+	    1e9f, 1e10f };
+
+    /** The trimmed bounds of the value read by the typed getters */
+    private int trimmedStart;
+    private int trimmedEnd;
+
+    /** The decimal number parsed by parseDecimal */
+    private boolean negative;
+    private long mantissa;
+    private boolean point;
+    private int fractionDigits;
+
+    /**
+     * Tokenizes a row.
+     *
+     * @param buffer the buffer of the result
+     * @param start  the absolute position of the row in the buffer
+     * @param end    the absolute position of the end of the row. The bytes after
+     *               the row object are not read.
+     * @throws SQLException if the bytes are not a valid row
+     */
+    public void tokenize(ByteBuffer buffer, int start, int end) throws SQLException {
+	this.buffer = buffer;
+	this.array = buffer.hasArray() ? buffer.array() : null;
+	this.arrayOffset = buffer.hasArray() ? buffer.arrayOffset() : 0;
+	this.pos = start;
+	this.end = end;
+	this.columnCount = 0;
+
+	expect('{');
+	expect('"');
+	scanString(); // row_n
+	pos++;
+	expect(':');
+	expect('[');
+
+	if (nextNonWhitespace() == ']') {
+	    return;
+	}
+
+	while (true) {
+	    expect('{');
+	    ensureCapacity(columnCount + 1);
+
+	    expect('"');
+	    nameStarts[columnCount] = pos;
+	    escapedNames[columnCount] = scanString();
+	    nameEnds[columnCount] = pos++;
+
+	    expect(':');
+	    if (nextNonWhitespace() == '"') {
+		pos++;
+		valueStarts[columnCount] = pos;
+		valueKinds[columnCount] = scanString() ? ESCAPED_STRING : STRING;
+		valueEnds[columnCount] = pos++;
+	    } else {
+		valueStarts[columnCount] = pos;
+		scanLiteral();
+		valueEnds[columnCount] = pos;
+		valueKinds[columnCount] = isNull(valueStarts[columnCount], pos) ? NULL : LITERAL;
+	    }
+	    values[columnCount] = null;
+	    columnCount++;
+
+	    expect('}');
+	    byte b = nextNonWhitespace();
+	    pos++;
+	    if (b == ']') {
+		return;
+	    }
+	    if (b != ',') {
+		throw invalidRow("',' or ']'");
+	    }
+	}
+    }
+
+    @Override
+    public int getColumnCount() {
+	return columnCount;
+    }
+
+    /**
+     * Returns the name of a column.
+     *
+     * @param colIndex the column index, starting at 1
+     * @return the column name
+     */
+    public String getColumnName(int colIndex) {
+	int i = colIndex - 1;
+	return escapedNames[i] ? decodeEscaped(nameStarts[i], nameEnds[i]) : decode(nameStarts[i], nameEnds[i]);
+    }
+
+    /**
+     * Returns the value of a column, decoded on first call. The value is
+     * trimmed, and is "NULL" for a JSON null.
+     *
+     * @param colIndex the column index, starting at 1
+     * @return the column value, or null if there is no such column
+     */
+    @Override
+    public String getValue(int colIndex) {
+	if (colIndex < 1 || colIndex > columnCount) {
+	    return null;
+	}
+
+	int i = colIndex - 1;
+	String value = values[i];
+	if (value != null) {
+	    return value;
+	}
+
+	byte kind = valueKinds[i];
+	if (kind == NULL) {
+	    value = "NULL";
+	} else {
+	    value = kind == ESCAPED_STRING ? decodeEscaped(valueStarts[i], valueEnds[i])
+		    : decode(valueStarts[i], valueEnds[i]);
+	    value = value.trim();
+	}
+	values[i] = value;
+	return value;
+    }
+
+    @Override
+    public boolean isNull(int colIndex) {
+	int i = colIndex - 1;
+	if (valueKinds[i] == NULL) {
+	    return true;
+	}
+	if (!trim(i)) {
+	    return "NULL".equals(getValue(colIndex));
+	}
+	return trimmedEnd - trimmedStart == 4 && byteAt(trimmedStart) == 'N' && byteAt(trimmedStart + 1) == 'U'
+		&& byteAt(trimmedStart + 2) == 'L' && byteAt(trimmedStart + 3) == 'L';
+    }
+
+    @Override
+    public long getLong(int colIndex) {
+	// 18 digits can not overflow
+	if (parseDecimal(colIndex - 1, 18) && !point) {
+	    return negative ? -mantissa : mantissa;
+	}
+	return Long.parseLong(getValue(colIndex));
+    }
+
+    @Override
+    public double getDouble(int colIndex) {
+	// Both the mantissa and the power of ten are exact doubles: the division
+	// is correctly rounded, as by Double.parseDouble
+	if (parseDecimal(colIndex - 1, 15)) {
+	    double value = (double) mantissa / DOUBLE_POWERS_OF_TEN[fractionDigits];
+	    return negative ? -value : value;
+	}
+	return Double.parseDouble(getValue(colIndex));
+    }
+
+    @Override
+    public float getFloat(int colIndex) {
+	if (parseDecimal(colIndex - 1, 7)) {
+	    float value = (float) mantissa / FLOAT_POWERS_OF_TEN[fractionDigits];
+	    return negative ? -value : value;
+	}
+	return Float.parseFloat(getValue(colIndex));
+    }
+
+    @Override
+    public boolean getBoolean(int colIndex) {
+	int i = colIndex - 1;
+	if (!trim(i)) {
+	    return Boolean.parseBoolean(getValue(colIndex));
+	}
+	return trimmedEnd - trimmedStart == 4 && (byteAt(trimmedStart) | 0x20) == 't'
+		&& (byteAt(trimmedStart + 1) | 0x20) == 'r' && (byteAt(trimmedStart + 2) | 0x20) == 'u'
+		&& (byteAt(trimmedStart + 3) | 0x20) == 'e';
+    }
+
+    /**
+     * Sets the bounds of a value without the whitespaces around it, as
+     * String.trim().
+     *
+     * @return false if the value has escape sequences: the bytes are then not
+     *         the value
+     */
+    private boolean trim(int i) {
+	if (valueKinds[i] == ESCAPED_STRING) {
+	    return false;
+	}
+	int start = valueStarts[i];
+	int end = valueEnds[i];
+	while (start < end && isTrimmed(byteAt(start))) {
+	    start++;
+	}
+	while (end > start && isTrimmed(byteAt(end - 1))) {
+	    end--;
+	}
+	trimmedStart = start;
+	trimmedEnd = end;
+	return true;
+    }
+
+    private static boolean isTrimmed(byte b) {
+	// UTF-8 multi-byte sequences are negative
+	return b >= 0 && b <= ' ';
+    }
+
+    /**
+     * Parses a decimal number without exponent, such as -12.50, in the bytes
+     * of a value.
+     *
+     * @param maxDigits the maximum number of digits
+     * @return false if the value is not such a number: it must then be parsed
+     *         from its String
+     */
+    private boolean parseDecimal(int i, int maxDigits) {
+	if (!trim(i)) {
+	    return false;
+	}
+
+	int p = trimmedStart;
+	negative = false;
+	if (p < trimmedEnd && (byteAt(p) == '-' || byteAt(p) == '+')) {
+	    negative = byteAt(p) == '-';
+	    p++;
+	}
+
+	mantissa = 0;
+	fractionDigits = 0;
+	int digits = 0;
+	point = false;
+	for (; p < trimmedEnd; p++) {
+	    byte b = byteAt(p);
+	    if (b == '.' && !point) {
+		point = true;
+		continue;
+	    }
+	    int digit = b - '0';
+	    if (digit < 0 || digit > 9 || ++digits > maxDigits) {
+		return false;
+	    }
+	    mantissa = mantissa * 10 + digit;
+	    if (point) {
+		fractionDigits++;
+	    }
+	}
+	return digits > 0;
+    }
+
+    private String decode(int start, int end) {
+	int length = end - start;
+	if (array != null) {
+	    return new String(array, arrayOffset + start, length, StandardCharsets.UTF_8);
+	}
+
+	ensureScratch(length);
+	for (int i = 0; i < length; i++) {
+	    scratch[i] = buffer.get(start + i);
+	}
+	return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes a string with escape sequences. The escapes are replaced in the
+     * UTF-8 bytes, which are decoded once: an unescaped string is never longer
+     * than the escaped one.
+     */
+    private String decodeEscaped(int start, int end) {
+	ensureScratch(end - start);
+	int length = 0;
+
+	for (int i = start; i < end; i++) {
+	    byte b = byteAt(i);
+	    if (b != '\\' || i == end - 1) {
+		scratch[length++] = b;
+		continue;
+	    }
+	    b = byteAt(++i);
+	    switch (b) {
+	    case 'b':
+		scratch[length++] = '\b';
+		break;
+	    case 'f':
+		scratch[length++] = '\f';
+		break;
+	    case 'n':
+		scratch[length++] = '\n';
+		break;
+	    case 'r':
+		scratch[length++] = '\r';
+		break;
+	    case 't':
+		scratch[length++] = '\t';
+		break;
+	    case 'u':
+		if (i + 4 < end) {
+		    int c = parseHex(i + 1);
+		    if (c < 0 || Character.isSurrogate((char) c)) {
+			// Rare: decoded as chars
+			return ResultSetOutputStream.unescape(decode(start, end));
+		    }
+		    length = encode(c, length);
+		    i += 4;
+		}
+		break;
+	    default:
+		// \" \\ \/
+		scratch[length++] = b;
+		break;
+	    }
+	}
+	return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the value of the 4 hexadecimal digits at index, -1 if invalid
+     */
+    private int parseHex(int index) {
+	int c = 0;
+	for (int i = index; i < index + 4; i++) {
+	    int digit = Character.digit(byteAt(i), 16);
+	    if (digit < 0) {
+		return -1;
+	    }
+	    c = (c << 4) | digit;
+	}
+	return c;
+    }
+
+    /**
+     * Writes the UTF-8 bytes of a char of the Basic Multilingual Plane.
+     *
+     * @return the new length of scratch
+     */
+    private int encode(int c, int length) {
+	if (c < 0x80) {
+	    scratch[length++] = (byte) c;
+	} else if (c < 0x800) {
+	    scratch[length++] = (byte) (0xC0 | (c >> 6));
+	    scratch[length++] = (byte) (0x80 | (c & 0x3F));
+	} else {
+	    scratch[length++] = (byte) (0xE0 | (c >> 12));
+	    scratch[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+	    scratch[length++] = (byte) (0x80 | (c & 0x3F));
+	}
+	return length;
+    }
+
+    private void ensureScratch(int length) {
+	if (scratch.length < length) {
+	    scratch = new byte[Math.max(length, scratch.length * 2)];
+	}
+    }
+
+    /**
+     * Moves to the closing quote of a string that starts at pos.
+     *
+     * @return true if the string contains escape sequences
+     */
+    private boolean scanString() throws SQLException {
+	boolean escaped = false;
+	while (pos < end) {
+	    byte b = byteAt(pos);
+	    if (b == '"') {
+		return escaped;
+	    }
+	    if (b == '\\') {
+		escaped = true;
+		pos++;
+	    }
+	    pos++;
+	}
+	throw invalidRow("'\"'");
+    }
+
+    /**
+     * Moves after a number, true, false or null.
+     */
+    private void scanLiteral() throws SQLException {
+	int start = pos;
+	while (pos < end) {
+	    byte b = byteAt(pos);
+	    if (b == ',' || b == '}' || isWhitespace(b)) {
+		break;
+	    }
+	    pos++;
+	}
+	if (pos == start) {
+	    throw invalidRow("a value");
+	}
+    }
+
+    private boolean isNull(int start, int end) {
+	return end - start == 4 && byteAt(start) == 'n' && byteAt(start + 1) == 'u'
+		&& byteAt(start + 2) == 'l' && byteAt(start + 3) == 'l';
+    }
+
+    private void expect(char c) throws SQLException {
+	if (nextNonWhitespace() != c) {
+	    throw invalidRow("'" + c + "'");
+	}
+	pos++;
+    }
+
+    /**
+     * Skips the whitespaces.
+     *
+     * @return the byte at pos, not consumed
+     */
+    private byte nextNonWhitespace() throws SQLException {
+	while (pos < end) {
+	    byte b = byteAt(pos);
+	    if (!isWhitespace(b)) {
+		return b;
+	    }
+	    pos++;
+	}
+	throw invalidRow("more bytes");
+    }
+
+    private byte byteAt(int index) {
+	return array != null ? array[arrayOffset + index] : buffer.get(index);
+    }
+
+    private static boolean isWhitespace(byte b) {
+	return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private SQLException invalidRow(String expected) {
+	return new SQLException("Invalid JSON row at position " + pos + ": expected " + expected + ".");
+    }
+
+    private void ensureCapacity(int capacity) {
+	if (capacity <= nameStarts.length) {
+	    return;
+	}
+	int newLength = nameStarts.length * 2;
+	nameStarts = Arrays.copyOf(nameStarts, newLength);
+	nameEnds = Arrays.copyOf(nameEnds, newLength);
+	escapedNames = Arrays.copyOf(escapedNames, newLength);
+	valueStarts = Arrays.copyOf(valueStarts, newLength);
+	valueEnds = Arrays.copyOf(valueEnds, newLength);
+	valueKinds = Arrays.copyOf(valueKinds, newLength);
+	values = Arrays.copyOf(values, newLength);
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.util.json;
+
+/**
+ * The values of the current row of a result set. <br>
+ * A {@code RowValues} is a flyweight: the same instance is refilled for each
+ * row, so that reading a result does not allocate a container per row. The
+ * values are thus valid until the next row is read. <br>
+ * The typed getters expect a valid column index whose value is not SQL
+ * <code>NULL</code>.
+ */
+public interface RowValues {
+
+    /**
+     * @return the number of columns of the row
+     */
+    int getColumnCount();
+
+    /**
+     * Returns the value of a column, as sent by the server: "NULL" for a SQL
+     * <code>NULL</code>.
+     *
+     * @param colIndex the column index, starting at 1
+     * @return the column value, or null if there is no such column
+     */
+    String getValue(int colIndex);
+
+    /**
+     * Says if the value of a column is SQL <code>NULL</code>.
+     *
+     * @param colIndex the column index, starting at 1
+     * @return true if the value is "NULL"
+     */
+    boolean isNull(int colIndex);
+
+    /**
+     * Returns the value of a column as a <code>long</code>.
+     *
+     * @param colIndex the column index, starting at 1
+     * @return the column value
+     * @throws NumberFormatException if the value is not a <code>long</code>
+     */
+    long getLong(int colIndex);
+
+    /**
+     * Returns the value of a column as a <code>double</code>.
+     *
+     * @param colIndex the column index, starting at 1
+     * @return the column value
+     * @throws NumberFormatException if the value is not a number
+     */
+    double getDouble(int colIndex);
+
+    /**
+     * Returns the value of a column as a <code>float</code>.
+     *
+     * @param colIndex the column index, starting at 1
+     * @return the column value
+     * @throws NumberFormatException if the value is not a number
+     */
+    float getFloat(int colIndex);
+
+    /**
+     * Returns the value of a column as a <code>boolean</code>.
+     *
+     * @param colIndex the column index, starting at 1
+     * @return true if the value is "true", ignoring case
+     */
+    boolean getBoolean(int colIndex);
+
+}
@@ -0,0 +1,432 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.                                 
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.                                
+ *                                                                               
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. 
+ */
+package com.aceql.client.jdbc.util.json;
+
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+
+import com.aceql.client.jdbc.http.ResultAnalyzer;
+
+/**
+ * @author Nicolas de Pomereu
+ *
+ */
+public class StreamResultAnalyzer {
+
+	public static boolean DEBUG = false;
+
+	private ResultBuffer resultBuffer = null;
+
+	private String errorType = null;
+	private String errorMessage = null;
+	private String stackTrace = null;
+
+	private int httpStatusCode;
+	private String httpStatusMessage;
+
+	/** Exception when parsing the JSON stream. Futur usage */
+	private Exception parseException = null;
+
+	/** The values read while the file was written. null if not available */
+	private ResultSetOutputStream resultSetOutputStream = null;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param jsonFile
+	 * @param httpStatusCode
+	 * @param httpStatusMessage
+	 * 
+	 */
+	public StreamResultAnalyzer(File jsonFile, int httpStatusCode, String httpStatusMessage) {
+		this.resultBuffer = ResultBuffer.wrap(jsonFile);
+		this.httpStatusCode = httpStatusCode;
+		this.httpStatusMessage = httpStatusMessage;
+	}
+
+	/**
+	 * Constructor of an analyzer that uses the values read while the result was
+	 * written, instead of parsing the result again.
+	 * 
+	 * @param resultBuffer the downloaded result, in memory or in a file
+	 * @param httpStatusCode
+	 * @param httpStatusMessage
+	 * @param resultSetOutputStream the stream that wrote the result
+	 */
+	public StreamResultAnalyzer(ResultBuffer resultBuffer, int httpStatusCode, String httpStatusMessage,
+			ResultSetOutputStream resultSetOutputStream) {
+		this.resultBuffer = resultBuffer;
+		this.httpStatusCode = httpStatusCode;
+		this.httpStatusMessage = httpStatusMessage;
+		this.resultSetOutputStream = resultSetOutputStream;
+	}
+
+	/**
+	 * Says if the values read while the file was written can be used: the
+	 * whole JSON result was written.
+	 */
+	private boolean isScanned() {
+		return resultSetOutputStream != null && resultSetOutputStream.isEnded();
+	}
+
+	/**
+	 * Checks if the JSON content contains a valid {@code ResultSet} dumped by
+	 * server side /execute_query API. <br>
+	 * Will check the "status" key value. if "status" is "OK", method will return
+	 * true, else it will return false. <br>
+	 * If method return false, check the error id & message with {@code getErrorId},
+	 * {@code getErrorMessage}.
+	 * 
+	 * @return true if JSON content contains a valid {@code ResultSet}, else false
+	 *         if any error occurred when calling /execute_query
+	 */
+	public boolean isStatusOk() throws SQLException {
+
+		if (isScanned()) {
+			if ("OK".equals(resultSetOutputStream.getValue("status"))) {
+				return true;
+			}
+			this.errorType = resultSetOutputStream.getValue("error_type");
+			this.errorMessage = resultSetOutputStream.getValue("error_message");
+			this.stackTrace = resultSetOutputStream.getValue("stack_trace");
+			return false;
+		}
+
+		// If file does not exist ==> http failure
+		if (!resultBuffer.exists()) {
+
+			this.errorType = "0";
+			errorMessage = "Unknown error.";
+			if (httpStatusCode != HttpURLConnection.HTTP_OK) {
+				errorMessage = "HTTP FAILURE " + httpStatusCode + " (" + httpStatusMessage + ")";
+			}
+			return false;
+		}
+
+		debug("");
+		boolean isOk = false;
+		Reader reader = null;
+
+		try {
+			try {
+				reader = new InputStreamReader(resultBuffer.openInputStream(), "UTF-8");
+			} catch (Exception e) {
+				throw new SQLException(e);
+			}
+
+			JsonParser parser = Json.createParser(reader);
+
+			while (parser.hasNext()) {
+				JsonParser.Event event = parser.next();
+				switch (event) {
+				case START_ARRAY:
+				case END_ARRAY:
+				case START_OBJECT:
+				case END_OBJECT:
+				case VALUE_FALSE:
+				case VALUE_NULL:
+				case VALUE_TRUE:
+					// System.out.println("---" + event.toString());
+					break;
+				case KEY_NAME:
+
+					debug(event.toString() + " " + parser.getString() + " - ");
+
+					if (parser.getString().equals("status")) {
+
+						if (parser.hasNext())
+							parser.next();
+						else
+							return false;
+
+						if (parser.getString().equals("OK")) {
+							return true;
+						} else {
+							parseErrorKeywords(parser, event);
+							return false;
+						}
+					}
+
+					break;
+				case VALUE_STRING:
+				case VALUE_NUMBER:
+					debug("Should not reach this:");
+					debug(event.toString() + " " + parser.getString());
+					break;
+				}
+			}
+
+			return isOk;
+		} catch (Exception e) {
+			this.parseException = e;
+
+			this.errorType = "0";
+			errorMessage = "Unknown error";
+			if (httpStatusCode != HttpURLConnection.HTTP_OK) {
+				errorMessage = "HTTP FAILURE " + httpStatusCode + " (" + httpStatusMessage + ")";
+			}
+
+			return false;
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (Exception ignore) {
+					// ignore
+				}
+			}
+		}
+
+	}
+
+	private void parseErrorKeywords(JsonParser parser, JsonParser.Event event) {
+		while (parser.hasNext()) {
+
+			if (parser.hasNext())
+				event = parser.next();
+			else
+				return;
+
+			if (event != JsonParser.Event.KEY_NAME && event != JsonParser.Event.VALUE_STRING
+					&& event != JsonParser.Event.VALUE_NUMBER) {
+				continue;
+			}
+
+			if (parser.getString().equals("error_type")) {
+				if (parser.hasNext())
+					parser.next();
+				else
+					return;
+				this.errorType = parser.getString();
+			}
+			if (parser.getString().equals("error_message")) {
+				if (parser.hasNext())
+					parser.next();
+				else
+					return;
+				this.errorMessage = parser.getString();
+			}
+			if (parser.getString().equals("stack_trace")) {
+				if (parser.hasNext())
+					parser.next();
+				else
+					return;
+				this.stackTrace = parser.getString();
+			}
+		}
+	}
+
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	public int getErrorId() {
+		return Integer.parseInt(errorType);
+	}
+
+	public String getStackTrace() {
+		return stackTrace;
+	}
+
+	/**
+	 * Returns the Exception raised when parsing JSON stream
+	 * 
+	 * @return the Exception raised when parsing JSON stream
+	 */
+	public Exception getParseException() {
+		return parseException;
+	}
+
+	/**
+	 * Returns after CallablStatement execute/executeQuery the Map of OUT parameter
+	 * (index, values)
+	 * 
+	 * @return the Map of OUT parameter (index, values)
+	 */
+	public Map<Integer, String> getParametersOutPerIndex() throws SQLException {
+
+		if (isScanned()) {
+			return resultSetOutputStream.getParametersOutPerIndex();
+		}
+
+		// If file does not exist ==> http failure
+		if (!resultBuffer.exists()) {
+
+			this.errorType = "0";
+			errorMessage = "Unknown error.";
+			if (httpStatusCode != HttpURLConnection.HTTP_OK) {
+				errorMessage = "HTTP FAILURE " + httpStatusCode + " (" + httpStatusMessage + ")";
+			}
+			return null;
+
+		}
+
+		debug("");
+		Reader reader = null;
+
+		try {
+			try {
+				reader = new InputStreamReader(resultBuffer.openInputStream(), "UTF-8");
+			} catch (Exception e) {
+				throw new SQLException(e);
+			}
+
+			Map<Integer, String> parametersOutPerIndex = ResultAnalyzer.getParametersOutPerIndex(reader);
+			return parametersOutPerIndex;
+
+		} catch (Exception e) {
+			this.parseException = e;
+
+			this.errorType = "0";
+			errorMessage = "Unknown error";
+			if (httpStatusCode != HttpURLConnection.HTTP_OK) {
+				errorMessage = "HTTP FAILURE " + httpStatusCode + " (" + httpStatusMessage + ")";
+			}
+
+			return null;
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (Exception ignore) {
+					// ignore
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Returns the "row_count" key int value from the Json file
+	 * 
+	 * @return the "row_count" key int value from the Json file
+	 * @throws SQLException
+	 */
+	public int getRowCount() throws SQLException {
+
+		if (isScanned()) {
+			String rowCount = resultSetOutputStream.getValue("row_count");
+			try {
+				return rowCount != null ? Integer.parseInt(rowCount) : 0;
+			} catch (NumberFormatException e) {
+				this.parseException = e;
+				return 0;
+			}
+		}
+
+		// If file does not exist ==> http failure
+		if (!resultBuffer.exists()) {
+
+			this.errorType = "0";
+			errorMessage = "Unknown error.";
+			if (httpStatusCode != HttpURLConnection.HTTP_OK) {
+				errorMessage = "HTTP FAILURE " + httpStatusCode + " (" + httpStatusMessage + ")";
+			}
+			return 0;
+		}
+
+		debug("");
+		Reader reader = null;
+
+		try {
+			try {
+				reader = new InputStreamReader(resultBuffer.openInputStream(), "UTF-8");
+			} catch (Exception e) {
+				throw new SQLException(e);
+			}
+
+			JsonParser parser = Json.createParser(reader);
+
+			while (parser.hasNext()) {
+				JsonParser.Event event = parser.next();
+				switch (event) {
+				case START_ARRAY:
+				case END_ARRAY:
+				case START_OBJECT:
+				case END_OBJECT:
+				case VALUE_FALSE:
+				case VALUE_NULL:
+				case VALUE_TRUE:
+					// System.out.println("---" + event.toString());
+					break;
+				case KEY_NAME:
+
+					debug(event.toString() + " " + parser.getString() + " - ");
+					if (parser.getString().equals("row_count")) {
+
+						if (parser.hasNext())
+							parser.next();
+						else
+							return 0;
+
+						int rowCount = parser.getInt();
+						return rowCount;
+					}
+
+					break;
+				case VALUE_STRING:
+				case VALUE_NUMBER:
+					debug("Should not reach this:");
+					debug(event.toString() + " " + parser.getString());
+					break;
+				}
+			}
+
+			return 0;
+		} catch (Exception e) {
+			this.parseException = e;
+
+			this.errorType = "0";
+			errorMessage = "Unknown error";
+			if (httpStatusCode != HttpURLConnection.HTTP_OK) {
+				errorMessage = "HTTP FAILURE " + httpStatusCode + " (" + httpStatusMessage + ")";
+			}
+
+			return 0;
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (Exception ignore) {
+					// ignore
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * @param s
+	 */
+
+	protected static void debug(String s) {
+		if (DEBUG) {
+			System.out.println(new Date() + " " + s);
+		}
+	}
+
+}
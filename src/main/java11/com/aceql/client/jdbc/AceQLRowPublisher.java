@@ -0,0 +1,269 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Publisher} of the rows of a query, emitted while the result is
+ * downloaded. <br>
+ * <br>
+ * Each subscription executes the query with an {@link AceQLRowStream} when the
+ * subscriber first requests rows. Rows are then read from the network only as
+ * fast as they are requested: when the demand is exhausted, the download is
+ * paused until the next {@code request(n)}. Cancelling the subscription aborts
+ * the HTTP download.
+ *
+ * <pre>
+ * Flow.Publisher&lt;Row&gt; publisher = new AceQLRowPublisher(connection, &quot;select * from orderlog&quot;);
+ * publisher.subscribe(subscriber);
+ * </pre>
+ *
+ * The rows are read and emitted on the executor, by default the executor of
+ * {@link AceQLAsyncConnection}. Signals to a subscriber are never concurrent.
+ * <br>
+ * <br>
+ * This class requires Java 11 or later. On Java 8, use {@link AceQLRowStream}
+ * directly.
+ */
+public class AceQLRowPublisher implements Flow.Publisher<Row> {
+
+    /** Opens the row stream of a subscription */
+    private interface RowStreamOpener {
+	AceQLRowStream open() throws SQLException;
+    }
+
+    private final RowStreamOpener opener;
+    private final Executor executor;
+
+    /**
+     * Creates a publisher of the rows of a SQL query that uses the default
+     * executor.
+     *
+     * @param connection the AceQL Connection
+     * @param sql        the SQL query
+     */
+    public AceQLRowPublisher(Connection connection, String sql) {
+	this(connection, sql, null);
+    }
+
+    /**
+     * Creates a publisher of the rows of a SQL query.
+     *
+     * @param connection the AceQL Connection
+     * @param sql        the SQL query
+     * @param executor   the executor that reads and emits the rows. null for the
+     *                   default executor.
+     */
+    public AceQLRowPublisher(Connection connection, String sql, Executor executor) {
+	Objects.requireNonNull(connection, "connection is null!");
+	Objects.requireNonNull(sql, "sql is null!");
+	this.opener = () -> new AceQLRowStream(connection, sql);
+	this.executor = executor != null ? executor : AceQLAsyncConnection.getDefaultExecutor();
+    }
+
+    /**
+     * Creates a publisher of the rows of a prepared query that uses the default
+     * executor. The parameters values are the ones set when a subscriber first
+     * requests rows.
+     *
+     * @param preparedStatement the prepared query, created by an AceQL
+     *                          Connection
+     */
+    public AceQLRowPublisher(PreparedStatement preparedStatement) {
+	this(preparedStatement, null);
+    }
+
+    /**
+     * Creates a publisher of the rows of a prepared query. The parameters values
+     * are the ones set when a subscriber first requests rows.
+     *
+     * @param preparedStatement the prepared query, created by an AceQL
+     *                          Connection
+     * @param executor          the executor that reads and emits the rows. null
+     *                          for the default executor.
+     */
+    public AceQLRowPublisher(PreparedStatement preparedStatement, Executor executor) {
+	Objects.requireNonNull(preparedStatement, "preparedStatement is null!");
+	this.opener = () -> new AceQLRowStream(preparedStatement);
+	this.executor = executor != null ? executor : AceQLAsyncConnection.getDefaultExecutor();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Row> subscriber) {
+	Objects.requireNonNull(subscriber, "subscriber is null!");
+	RowSubscription subscription = new RowSubscription(subscriber);
+	subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * The subscription of a subscriber. All signals are sent by the drain loop,
+     * which runs on the executor and is never run by two threads at once.
+     */
+    private final class RowSubscription implements Flow.Subscription, Runnable {
+
+	private final Flow.Subscriber<? super Row> subscriber;
+
+	private final AtomicLong requested = new AtomicLong();
+	/** Number of pending drain requests. The loop runs while it is not zero */
+	private final AtomicInteger wip = new AtomicInteger();
+
+	private volatile boolean cancelled = false;
+	private volatile AceQLRowStream rowStream = null;
+	private volatile Throwable invalidRequest = null;
+
+	/** Set by the drain loop once a terminal signal is sent */
+	private boolean done = false;
+
+	RowSubscription(Flow.Subscriber<? super Row> subscriber) {
+	    this.subscriber = subscriber;
+	}
+
+	@Override
+	public void request(long n) {
+	    if (n <= 0) {
+		invalidRequest = new IllegalArgumentException("request must be positive: " + n);
+	    } else {
+		long current;
+		long next;
+		do {
+		    current = requested.get();
+		    if (current == Long.MAX_VALUE) {
+			break;
+		    }
+		    next = current + n;
+		    if (next < 0) {
+			next = Long.MAX_VALUE;
+		    }
+		} while (!requested.compareAndSet(current, next));
+	    }
+	    schedule();
+	}
+
+	@Override
+	public void cancel() {
+	    cancelled = true;
+	    // Unblocks a drain loop waiting for the network
+	    AceQLRowStream stream = rowStream;
+	    if (stream != null) {
+		stream.close();
+	    }
+	    schedule();
+	}
+
+	private void schedule() {
+	    if (wip.getAndIncrement() == 0) {
+		try {
+		    executor.execute(this);
+		} catch (RejectedExecutionException e) {
+		    invalidRequest = e;
+		    run();
+		}
+	    }
+	}
+
+	@Override
+	public void run() {
+	    int missed = 1;
+	    while (true) {
+		if (!done) {
+		    drain();
+		}
+		missed = wip.addAndGet(-missed);
+		if (missed == 0) {
+		    return;
+		}
+	    }
+	}
+
+	private void drain() {
+	    if (cancelled) {
+		terminate();
+		return;
+	    }
+
+	    Throwable error = invalidRequest;
+	    if (error != null) {
+		terminate();
+		subscriber.onError(error);
+		return;
+	    }
+
+	    try {
+		long emitted = 0;
+		long demand = requested.get();
+
+		if (demand == 0) {
+		    return;
+		}
+
+		if (rowStream == null) {
+		    rowStream = opener.open();
+		    if (cancelled) {
+			terminate();
+			return;
+		    }
+		}
+
+		while (emitted != demand) {
+		    Row row = rowStream.next();
+		    if (cancelled) {
+			terminate();
+			return;
+		    }
+		    if (row == null) {
+			terminate();
+			subscriber.onComplete();
+			return;
+		    }
+		    subscriber.onNext(row);
+		    emitted++;
+
+		    if (emitted == demand && demand != Long.MAX_VALUE) {
+			// Take the requests received during the emission
+			demand = requested.addAndGet(-emitted);
+			emitted = 0;
+		    }
+		}
+	    } catch (Throwable t) {
+		terminate();
+		if (!cancelled) {
+		    subscriber.onError(t);
+		}
+	    }
+	}
+
+	private void terminate() {
+	    done = true;
+	    AceQLRowStream stream = rowStream;
+	    if (stream != null) {
+		stream.close();
+	    }
+	}
+    }
+
+}
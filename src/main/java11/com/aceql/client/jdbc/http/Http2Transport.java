@@ -0,0 +1,583 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.kawanfw.sql.version.VersionValues;
+
+/**
+ * An HTTP/2 transport built on the Java 11 {@code java.net.http.HttpClient}.
+ * <br>
+ * All requests to the same AceQL server share a single multiplexed connection,
+ * whatever the number of concurrent statements and blob transfers. The
+ * transport falls back to HTTP/1.1 if the server does not support HTTP/2.
+ * <br>
+ * <br>
+ * This class requires Java 11 or later and is not available on Java 8 and
+ * Android. It is enabled per connection with
+ * {@code ConnectionOptions.setHttpTransport(new Http2Transport())}.
+ * <br>
+ * <br>
+ * Notes:
+ * <ul>
+ * <li>The read timeout bounds the wait for the response headers only.</li>
+ * <li>SOCKS proxies are not supported by {@code HttpClient}: requests through
+ * a SOCKS proxy use a {@link PooledHttpTransport}.</li>
+ * <li>TLS uses the default {@code SSLContext}, or the one of the
+ * {@link TlsConfiguration} of the connection. Host name verifiers are not
+ * used, and the handshakes are not counted by the configuration.</li>
+ * </ul>
+ */
+public class Http2Transport implements HttpTransport {
+
+    private static final String USER_AGENT = "AceQL-Client-SDK/" + VersionValues.VERSION;
+
+    /** Size of a block of a request body of unknown length */
+    private static final int PIPE_BLOCK_SIZE = 8192;
+
+    /** Max number of request body blocks waiting to be sent */
+    private static final int PIPE_CAPACITY = 16;
+
+    private final HttpClient.Version version;
+
+    /** One client per proxy and connect timeout. Each client owns its connections */
+    private final Map<ClientKey, HttpClient> clients = new ConcurrentHashMap<>();
+
+    /** For SOCKS proxies */
+    private PooledHttpTransport fallbackTransport = null;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor. HTTP/2 is used if the server supports it.
+     */
+    public Http2Transport() {
+	this(HttpClient.Version.HTTP_2);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param version the preferred HTTP version
+     */
+    public Http2Transport(HttpClient.Version version) {
+	this.version = Objects.requireNonNull(version, "version is null!");
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+	if (closed) {
+	    throw new IOException("Transport is closed.");
+	}
+
+	Proxy proxy = request.getProxy();
+	if (proxy != null && proxy.type() == Proxy.Type.SOCKS) {
+	    return getFallbackTransport().execute(request);
+	}
+
+	HttpClient client;
+	try {
+	    client = getClient(request);
+	} catch (UncheckedIOException e) {
+	    throw e.getCause();
+	}
+	Deadline deadline = Deadline.start(request);
+
+	HttpRequest.Builder builder;
+	try {
+	    builder = HttpRequest.newBuilder(request.getUrl().toURI());
+	} catch (URISyntaxException e) {
+	    throw new IOException(e.getMessage(), e);
+	}
+
+	builder.header("User-Agent", USER_AGENT);
+	for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+	    builder.header(header.getKey(), header.getValue());
+	}
+
+	int readTimeout = deadline.bound(request.getReadTimeout());
+	if (readTimeout > 0) {
+	    builder.timeout(Duration.ofMillis(readTimeout));
+	}
+
+	RequestBody body = request.getBody();
+	BodyPipe pipe = null;
+
+	if (body == null) {
+	    builder.method(request.getMethod(), HttpRequest.BodyPublishers.noBody());
+	} else {
+	    if (body.getContentType() != null) {
+		builder.header("Content-Type", body.getContentType());
+	    }
+
+	    long contentLength = body.getContentLength();
+	    if (contentLength == 0) {
+		builder.method(request.getMethod(), HttpRequest.BodyPublishers.noBody());
+	    } else {
+		// Bodies are streamed from the calling thread, without copy of the
+		// whole body. A known length is sent as Content-Length on HTTP/1.1
+		final BodyPipe theBodyPipe = new BodyPipe();
+		pipe = theBodyPipe;
+		HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofInputStream(() -> theBodyPipe);
+		if (contentLength > 0) {
+		    publisher = HttpRequest.BodyPublishers.fromPublisher(publisher, contentLength);
+		}
+		builder.method(request.getMethod(), publisher);
+	    }
+	}
+
+	final CompletableFuture<HttpResponse<InputStream>> future = client.sendAsync(builder.build(),
+		HttpResponse.BodyHandlers.ofInputStream());
+
+	deadline.attach(new Closeable() {
+	    @Override
+	    public void close() {
+		future.cancel(true);
+	    }
+	});
+
+	try {
+	    if (pipe != null) {
+		try (OutputStream out = pipe.getOutputStream(future)) {
+		    body.writeTo(out);
+		}
+	    }
+
+	    final HttpResponse<InputStream> response = future.get();
+	    final InputStream in = response.body();
+
+	    deadline.attach(in);
+	    return new Http2TransportResponse(response, new DeadlineBodyInputStream(in, deadline));
+
+	} catch (InterruptedException e) {
+	    future.cancel(true);
+	    deadline.cancel();
+	    Thread.currentThread().interrupt();
+	    throw new InterruptedIOException(e.getMessage());
+	} catch (CancellationException e) {
+	    deadline.cancel();
+	    throw deadline.newTimeoutException();
+	} catch (ExecutionException e) {
+	    deadline.cancel();
+	    if (deadline.isExpired()) {
+		throw deadline.newTimeoutException();
+	    }
+	    Throwable cause = e.getCause();
+	    if (cause instanceof IOException) {
+		throw (IOException) cause;
+	    }
+	    throw new IOException(cause == null ? e.getMessage() : cause.getMessage(), cause);
+	} catch (IOException e) {
+	    if (pipe != null) {
+		pipe.abort();
+	    }
+	    future.cancel(true);
+	    deadline.cancel();
+	    if (deadline.isExpired()) {
+		throw deadline.newTimeoutException();
+	    }
+	    throw e;
+	}
+    }
+
+    private HttpClient getClient(TransportRequest request) {
+	final Proxy proxy = request.getProxy() == null || request.getProxy().type() == Proxy.Type.DIRECT ? null
+		: request.getProxy();
+	final PasswordAuthentication proxyAuthentication = request.getProxyAuthentication();
+	final TlsConfiguration tlsConfiguration = request.getTlsConfiguration();
+	ClientKey key = new ClientKey(proxy, request.getConnectTimeout(),
+		proxyAuthentication == null ? null : proxyAuthentication.getUserName(), tlsConfiguration);
+
+	return clients.computeIfAbsent(key, k -> {
+	    HttpClient.Builder builder = HttpClient.newBuilder().version(version)
+		    .followRedirects(HttpClient.Redirect.NEVER);
+
+	    if (tlsConfiguration != null) {
+		try {
+		    builder.sslContext(tlsConfiguration.getInitializedSslContext());
+		    builder.sslParameters(tlsConfiguration.getSslParameters());
+		} catch (IOException e) {
+		    throw new UncheckedIOException(e);
+		}
+	    }
+
+	    if (request.getConnectTimeout() > 0) {
+		builder.connectTimeout(Duration.ofMillis(request.getConnectTimeout()));
+	    }
+
+	    if (proxy != null) {
+		builder.proxy(ProxySelector.of((InetSocketAddress) proxy.address()));
+		if (proxyAuthentication != null) {
+		    builder.authenticator(new Authenticator() {
+			@Override
+			protected PasswordAuthentication getPasswordAuthentication() {
+			    if (getRequestorType() == RequestorType.PROXY) {
+				return proxyAuthentication;
+			    }
+			    return null;
+			}
+		    });
+		}
+	    }
+	    return builder.build();
+	});
+    }
+
+    private synchronized PooledHttpTransport getFallbackTransport() {
+	if (fallbackTransport == null) {
+	    fallbackTransport = new PooledHttpTransport();
+	}
+	return fallbackTransport;
+    }
+
+    /**
+     * Releases the clients. The connections are closed by each
+     * {@code HttpClient} once idle.
+     */
+    @Override
+    public void close() {
+	closed = true;
+	clients.clear();
+	synchronized (this) {
+	    if (fallbackTransport != null) {
+		fallbackTransport.close();
+	    }
+	}
+    }
+
+    @Override
+    public String toString() {
+	return "Http2Transport [version=" + version + "]";
+    }
+
+    /**
+     * The key of the client map.
+     */
+    private static class ClientKey {
+
+	private final Proxy proxy;
+	private final int connectTimeout;
+	private final String proxyUsername;
+	private final TlsConfiguration tlsConfiguration;
+
+	ClientKey(Proxy proxy, int connectTimeout, String proxyUsername, TlsConfiguration tlsConfiguration) {
+	    this.proxy = proxy;
+	    this.connectTimeout = connectTimeout;
+	    this.proxyUsername = proxyUsername;
+	    this.tlsConfiguration = tlsConfiguration;
+	}
+
+	@Override
+	public int hashCode() {
+	    return Objects.hash(proxy, connectTimeout, proxyUsername) * 31 + System.identityHashCode(tlsConfiguration);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+	    if (this == obj) {
+		return true;
+	    }
+	    if (!(obj instanceof ClientKey)) {
+		return false;
+	    }
+	    ClientKey other = (ClientKey) obj;
+	    return connectTimeout == other.connectTimeout && Objects.equals(proxy, other.proxy)
+		    && Objects.equals(proxyUsername, other.proxyUsername) && tlsConfiguration == other.tlsConfiguration;
+	}
+    }
+
+    /**
+     * A bounded pipe between the calling thread, which writes a request body of
+     * unknown length, and the HttpClient thread that sends it.
+     */
+    private static class BodyPipe extends InputStream {
+
+	private static final byte[] EOF = new byte[0];
+	private static final byte[] ABORTED = new byte[0];
+
+	private final BlockingQueue<byte[]> blocks = new ArrayBlockingQueue<>(PIPE_CAPACITY);
+
+	private byte[] current = null;
+	private int position = 0;
+	private boolean eof = false;
+
+	@Override
+	public int read() throws IOException {
+	    byte[] b = new byte[1];
+	    int n = read(b, 0, 1);
+	    return n == -1 ? -1 : b[0] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+	    if (eof) {
+		return -1;
+	    }
+
+	    if (current == null || position == current.length) {
+		try {
+		    current = blocks.take();
+		} catch (InterruptedException e) {
+		    Thread.currentThread().interrupt();
+		    throw new InterruptedIOException(e.getMessage());
+		}
+		position = 0;
+		if (current == EOF) {
+		    eof = true;
+		    return -1;
+		}
+		if (current == ABORTED) {
+		    current = null;
+		    blocks.offer(ABORTED);
+		    throw new IOException("Request body aborted.");
+		}
+	    }
+
+	    int n = Math.min(len, current.length - position);
+	    System.arraycopy(current, position, b, off, n);
+	    position += n;
+	    return n;
+	}
+
+	/**
+	 * Makes the sending thread fail instead of waiting for the rest of the body.
+	 */
+	void abort() {
+	    blocks.clear();
+	    blocks.offer(ABORTED);
+	}
+
+	/**
+	 * Returns the stream to write the body into. Writes fail as soon as the
+	 * exchange is done, for example if the server answered early with an error.
+	 */
+	OutputStream getOutputStream(final CompletableFuture<?> exchange) {
+	    return new OutputStream() {
+
+		private final byte[] buffer = new byte[PIPE_BLOCK_SIZE];
+		private int count = 0;
+		private boolean closed = false;
+
+		@Override
+		public void write(int b) throws IOException {
+		    if (count == buffer.length) {
+			flushBlock();
+		    }
+		    buffer[count++] = (byte) b;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+		    while (len > 0) {
+			if (count == buffer.length) {
+			    flushBlock();
+			}
+			int n = Math.min(len, buffer.length - count);
+			System.arraycopy(b, off, buffer, count, n);
+			count += n;
+			off += n;
+			len -= n;
+		    }
+		}
+
+		private void flushBlock() throws IOException {
+		    if (count == 0) {
+			return;
+		    }
+		    byte[] block = new byte[count];
+		    System.arraycopy(buffer, 0, block, 0, count);
+		    put(block);
+		    count = 0;
+		}
+
+		private void put(byte[] block) throws IOException {
+		    try {
+			while (!blocks.offer(block, 100, TimeUnit.MILLISECONDS)) {
+			    if (exchange.isDone()) {
+				throw new IOException("Request aborted before the end of the body.");
+			    }
+			}
+		    } catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		    }
+		}
+
+		@Override
+		public void close() throws IOException {
+		    if (closed) {
+			return;
+		    }
+		    closed = true;
+		    flushBlock();
+		    put(EOF);
+		}
+	    };
+	}
+    }
+
+    /**
+     * A response body that stops the request deadline once closed or fully read.
+     */
+    private static class DeadlineBodyInputStream extends InputStream {
+
+	private final InputStream in;
+	private final Deadline deadline;
+
+	DeadlineBodyInputStream(InputStream in, Deadline deadline) {
+	    this.in = in;
+	    this.deadline = deadline;
+	}
+
+	@Override
+	public int read() throws IOException {
+	    try {
+		int b = in.read();
+		if (b == -1) {
+		    deadline.cancel();
+		}
+		return b;
+	    } catch (IOException e) {
+		throw translate(e);
+	    }
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+	    try {
+		int n = in.read(b, off, len);
+		if (n == -1) {
+		    deadline.cancel();
+		}
+		return n;
+	    } catch (IOException e) {
+		throw translate(e);
+	    }
+	}
+
+	@Override
+	public int available() throws IOException {
+	    return in.available();
+	}
+
+	private IOException translate(IOException e) {
+	    deadline.cancel();
+	    return deadline.isExpired() ? deadline.newTimeoutException() : e;
+	}
+
+	@Override
+	public void close() throws IOException {
+	    deadline.cancel();
+	    in.close();
+	}
+    }
+
+    /**
+     * A response read with HttpClient.
+     */
+    private static class Http2TransportResponse extends TransportResponse {
+
+	private final InputStream body;
+
+	Http2TransportResponse(HttpResponse<InputStream> response, InputStream body) {
+	    super(response.statusCode(), getStatusMessage(response.statusCode()), getHeaders(response));
+	    this.body = body;
+	}
+
+	/**
+	 * HTTP/2 has no reason phrase: a standard message is built from the status
+	 * code.
+	 */
+	private static String getStatusMessage(int statusCode) {
+	    switch (statusCode) {
+	    case 200:
+		return "OK";
+	    case 400:
+		return "Bad Request";
+	    case 401:
+		return "Unauthorized";
+	    case 403:
+		return "Forbidden";
+	    case 404:
+		return "Not Found";
+	    case 415:
+		return "Unsupported Media Type";
+	    case 500:
+		return "Internal Server Error";
+	    case 503:
+		return "Service Unavailable";
+	    default:
+		return "HTTP " + statusCode;
+	    }
+	}
+
+	private static Map<String, String> getHeaders(HttpResponse<InputStream> response) {
+	    Map<String, String> headers = new HashMap<>();
+	    for (Map.Entry<String, List<String>> entry : response.headers().map().entrySet()) {
+		if (!entry.getValue().isEmpty()) {
+		    headers.put(entry.getKey(), String.join(", ", entry.getValue()));
+		}
+	    }
+	    return headers;
+	}
+
+	@Override
+	public InputStream getBody() {
+	    return body;
+	}
+
+	@Override
+	public void abort() {
+	    // Closing an unread HttpClient body cancels the HTTP/2 stream
+	    try {
+		body.close();
+	    } catch (IOException ignore) {
+		// ignore
+	    }
+	}
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.jdbc.http;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+
+/**
+ * Tests the streamed encoding of the POST parameters by
+ * {@link FormRequestBody}: the same encoding as URLEncoder in UTF-8.
+ */
+public class PostDataEncodingTest {
+
+    private static void assertEncoding(String expected, Map<String, String> parameters) throws IOException {
+	FormRequestBody body = new FormRequestBody(parameters);
+
+	ByteArrayOutputStream out = new ByteArrayOutputStream();
+	body.writeTo(out);
+
+	assertEquals(expected, out.toString("US-ASCII"));
+	assertEquals(expected.length(), body.getContentLength());
+    }
+
+    @Test
+    public void testSpecialCharacters() throws IOException {
+	Map<String, String> parameters = new LinkedHashMap<String, String>();
+	parameters.put("sql", "select * from customer where name = 'Doe & Sons' and id >= 1 + 2; -- 100%");
+	parameters.put("param_type_1", "VARCHAR");
+	parameters.put("skipped", null);
+	parameters.put("param value", "a.b-c*d_e ~!@#$^()[]{}|\\:\"<>?/,`\t\r\n");
+	parameters.put("empty", "");
+	assertEncoding("sql=select+*+from+customer+where+name+%3D+%27Doe+%26+Sons%27+and+id+%3E%3D+1+%2B+2%3B+--+100%25"
+		+ "&param_type_1=VARCHAR&"
+		+ "&param+value=a.b-c*d_e+%7E%21%40%23%24%5E%28%29%5B%5D%7B%7D%7C%5C%3A%22%3C%3E%3F%2F%2C%60%09%0D%0A"
+		+ "&empty=", parameters);
+    }
+
+    @Test
+    public void testUnicode() throws IOException {
+	Map<String, String> parameters = new LinkedHashMap<String, String>();
+	parameters.put("latin", "\u00E9\u00E0\u00FC\u00DF \u00F1 \u00F8");
+	parameters.put("cjk", "\u65E5\u672C\u8A9E\u306E\u30C6\u30AD\u30B9\u30C8");
+	parameters.put("emoji", "ok \uD83D\uDE00 \uD83D\uDC4D");
+	parameters.put("lone_surrogates", "a\uD83Db\uDE00c\uD83D");
+	assertEncoding("latin=%C3%A9%C3%A0%C3%BC%C3%9F+%C3%B1+%C3%B8"
+		+ "&cjk=%E6%97%A5%E6%9C%AC%E8%AA%9E%E3%81%AE%E3%83%86%E3%82%AD%E3%82%B9%E3%83%88"
+		+ "&emoji=ok+%F0%9F%98%80+%F0%9F%91%8D"
+		+ "&lone_surrogates=a%3Fb%3Fc%3F", parameters);
+    }
+
+    @Test
+    public void testLargeValue() throws IOException {
+	Map<String, String> parameters = new LinkedHashMap<String, String>();
+	parameters.put("sql", "insert into t values " + StringUtils.repeat("(1, '\u00E9 \uD83D\uDE00'),", 5000) + "(0, '')");
+	assertEncoding("sql=insert+into+t+values+" + StringUtils.repeat("%281%2C+%27%C3%A9+%F0%9F%98%80%27%29%2C", 5000)
+		+ "%280%2C+%27%27%29", parameters);
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+	assertEncoding("", new LinkedHashMap<String, String>());
+    }
+
+}
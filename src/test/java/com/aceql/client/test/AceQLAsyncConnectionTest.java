@@ -0,0 +1,156 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLAsyncConnection;
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.AceQLException;
+
+/**
+ * Tests {@link AceQLAsyncConnection} against a local stub AceQL server.
+ */
+public class AceQLAsyncConnectionTest {
+
+    private AceQLStubServer server;
+    private AceQLConnection connection;
+
+    @Before
+    public void setUp() throws IOException, SQLException {
+	server = new AceQLStubServer();
+	connection = new AceQLConnection(server.getServerUrl(), "stub_db", "user", "password".toCharArray());
+    }
+
+    @After
+    public void tearDown() {
+	server.stop();
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+	server.setDelay(300);
+	AceQLAsyncConnection async = new AceQLAsyncConnection(connection);
+
+	long begin = System.currentTimeMillis();
+	@SuppressWarnings("unchecked")
+	CompletableFuture<Integer>[] futures = new CompletableFuture[10];
+	for (int i = 0; i < futures.length; i++) {
+	    futures[i] = async.executeUpdateAsync("update stub set name = 'x' where id = " + i);
+	}
+	CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+	long elapsed = System.currentTimeMillis() - begin;
+
+	for (CompletableFuture<Integer> future : futures) {
+	    assertEquals(1, future.get().intValue());
+	}
+	assertTrue("Max running: " + server.getMaxRunning(), server.getMaxRunning() > 1);
+	assertTrue("Elapsed: " + elapsed, elapsed < 10 * 300);
+    }
+
+    @Test
+    public void testQueryAndComposition() throws Exception {
+	server.setQueryRowCount(3);
+	AceQLAsyncConnection async = new AceQLAsyncConnection(connection);
+
+	CompletableFuture<Integer> count = async.executeQueryAsync("select * from stub")
+		.thenApply(rs -> {
+		    try {
+			int rows = 0;
+			while (rs.next()) {
+			    rows++;
+			    assertEquals("name_" + rows, rs.getString("name"));
+			}
+			rs.close();
+			return rows;
+		    } catch (SQLException e) {
+			throw new RuntimeException(e);
+		    }
+		});
+
+	CompletableFuture<Integer> total = count.thenCombine(async.executeUpdateAsync("delete from stub"),
+		(rows, deleted) -> rows + deleted);
+	assertEquals(4, total.get(10, TimeUnit.SECONDS).intValue());
+    }
+
+    @Test
+    public void testConcurrentCallsKeepTheirOwnStatus() throws Exception {
+	server.setDelay(50);
+	server.setQueryRowCount(3);
+	AceQLAsyncConnection async = new AceQLAsyncConnection(connection);
+
+	List<CompletableFuture<Integer>> futures = new ArrayList<CompletableFuture<Integer>>();
+	for (int i = 0; i < 40; i++) {
+	    final boolean failing = i % 2 == 0;
+	    futures.add(async.supplyAsync(c -> {
+		try (Statement statement = c.createStatement()) {
+		    ResultSet rs = statement.executeQuery(failing ? "select fail from stub" : "select * from stub");
+		    int rows = 0;
+		    while (rs.next()) {
+			rows++;
+		    }
+		    // A getter call in between, on the same session
+		    c.getAutoCommit();
+		    return rows;
+		} catch (AceQLException e) {
+		    if (!failing) {
+			throw e;
+		    }
+		    return -e.getHttpStatusCode();
+		}
+	    }));
+	}
+
+	for (int i = 0; i < futures.size(); i++) {
+	    int result = futures.get(i).get(10, TimeUnit.SECONDS);
+	    assertEquals(i % 2 == 0 ? -400 : 3, result);
+	}
+	assertTrue("Max running: " + server.getMaxRunning(), server.getMaxRunning() > 1);
+    }
+
+    @Test
+    public void testExceptionIsPropagated() throws Exception {
+	AceQLAsyncConnection async = new AceQLAsyncConnection(connection);
+	CompletableFuture<ResultSet> future = async.executeQueryAsync("select fail from stub");
+	try {
+	    future.get(10, TimeUnit.SECONDS);
+	    fail("AceQLException expected.");
+	} catch (ExecutionException e) {
+	    assertTrue(e.getCause().toString(), e.getCause() instanceof AceQLException);
+	    assertTrue(e.getCause().getMessage().contains("Stub failure"));
+	}
+    }
+
+}
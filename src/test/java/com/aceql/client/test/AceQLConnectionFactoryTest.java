@@ -0,0 +1,179 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ServerSocket;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.AceQLConnectionFactory;
+import com.aceql.client.jdbc.AceQLConnectionFactory.Endpoint;
+
+/**
+ * Tests the routing and the failover of {@link AceQLConnectionFactory} against
+ * local stub AceQL servers.
+ */
+public class AceQLConnectionFactoryTest {
+
+    private AceQLStubServer server1;
+    private AceQLStubServer server2;
+    private AceQLConnectionFactory factory;
+    private final List<AceQLConnection> connections = new ArrayList<AceQLConnection>();
+
+    @Before
+    public void setUp() throws IOException {
+	server1 = new AceQLStubServer();
+	server2 = new AceQLStubServer();
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+	for (AceQLConnection connection : connections) {
+	    connection.close();
+	}
+	if (factory != null) {
+	    factory.close();
+	}
+	server1.stop();
+	server2.stop();
+    }
+
+    private AceQLConnectionFactory newFactory(long probeInterval, String... serverUrls) {
+	return new AceQLConnectionFactory(Arrays.asList(serverUrls), "stub_db", "user", "password".toCharArray(),
+		null, null, null, probeInterval);
+    }
+
+    private void connect(int count) throws SQLException {
+	for (int i = 0; i < count; i++) {
+	    connections.add(factory.getConnection());
+	}
+    }
+
+    private static int getFreePort() throws IOException {
+	try (ServerSocket serverSocket = new ServerSocket(0)) {
+	    return serverSocket.getLocalPort();
+	}
+    }
+
+    @Test
+    public void testConnectionsUseAllServers() throws SQLException {
+	factory = newFactory(60000, server1.getServerUrl(), server2.getServerUrl());
+	connect(10);
+
+	assertTrue(server1.getRequests() > 0);
+	assertTrue(server2.getRequests() > 0);
+	for (Endpoint endpoint : factory.getEndpoints()) {
+	    assertTrue(endpoint.getLatency() > 0);
+	    assertEquals(0, endpoint.getInFlight());
+	}
+    }
+
+    @Test
+    public void testFastestServerIsPreferred() throws SQLException {
+	server2.setActionStalls("login", 100, 200);
+	server2.setActionStalls("get_connection", 100, 200);
+	factory = newFactory(60000, server1.getServerUrl(), server2.getServerUrl());
+	connect(20);
+
+	// The slow server is tried once before its latency is known
+	assertTrue("Server 2 requests: " + server2.getRequests(), server2.getRequests() <= 2);
+	assertTrue(server1.getRequests() >= 18);
+    }
+
+    @Test
+    public void testUnreachableServerIsEjected() throws IOException, SQLException {
+	String deadUrl = "http://127.0.0.1:" + getFreePort() + "/aceql";
+	factory = newFactory(60000, deadUrl, server1.getServerUrl());
+	connect(5);
+
+	assertEquals(5, server1.getRequests("login") + server1.getRequests("get_connection"));
+	Endpoint dead = factory.getEndpoints().get(0);
+	assertTrue(dead.isEjected());
+	assertEquals(1, dead.getEjections());
+    }
+
+    @Test
+    public void testEjectedServerIsProbedBack() throws IOException, SQLException, InterruptedException {
+	int port = getFreePort();
+	factory = newFactory(100, "http://127.0.0.1:" + port + "/aceql", server1.getServerUrl());
+	connect(1);
+
+	Endpoint endpoint = factory.getEndpoints().get(0);
+	assertTrue(endpoint.isEjected());
+
+	server2.stop();
+	server2 = new AceQLStubServer(port);
+
+	long end = System.currentTimeMillis() + 5000;
+	while (endpoint.isEjected() && System.currentTimeMillis() < end) {
+	    Thread.sleep(50);
+	}
+	assertFalse(endpoint.isEjected());
+
+	connect(4);
+	assertTrue(server2.getRequests("login") > 0);
+    }
+
+    @Test
+    public void testEjectedServerIsProbedThroughProxy() throws IOException, SQLException, InterruptedException {
+	// The server can only be reached through the proxy, which is down first
+	int port = getFreePort();
+	Proxy proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress("127.0.0.1", port));
+	factory = new AceQLConnectionFactory(Arrays.asList("http://aceql.invalid/aceql"), "stub_db", "user",
+		"password".toCharArray(), proxy, null, null, 100);
+	try {
+	    connect(1);
+	    fail("The proxy is down");
+	} catch (SQLException expected) {
+	    // expected
+	}
+
+	Endpoint endpoint = factory.getEndpoints().get(0);
+	assertTrue(endpoint.isEjected());
+
+	// The stub server is also an HTTP proxy
+	server2.stop();
+	server2 = new AceQLStubServer(port);
+
+	long end = System.currentTimeMillis() + 5000;
+	while (endpoint.isEjected() && System.currentTimeMillis() < end) {
+	    Thread.sleep(50);
+	}
+	assertFalse(endpoint.isEjected());
+
+	connect(1);
+	assertTrue(server2.getRequests("login") > 0);
+    }
+
+}
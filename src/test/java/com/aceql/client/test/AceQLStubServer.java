@@ -0,0 +1,505 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.io.IOUtils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A minimal local AceQL server for the tests that don't need a database. <br>
+ * Logins always succeed, updates return a row count of 1, and queries return
+ * {@code queryRowCount} rows of two columns: {@code id} (the row number) and
+ * {@code name}. A trailing <code>LIMIT n OFFSET m</code> returns the matching
+ * rows only, after the rows up to k if the query ends with
+ * <code>WHERE id &gt; ? ORDER BY id LIMIT n OFFSET 0</code> and its last
+ * parameter is k. A SQL text containing "fail" gets an error response with the
+ * HTTP status 400. The session properties set by the client are kept and
+ * returned by the matching getters.
+ */
+public class AceQLStubServer {
+
+    private static final Pattern LIMIT_OFFSET = Pattern.compile("LIMIT (\\d+) OFFSET (\\d+)$");
+    private static final Pattern KEYSET = Pattern.compile("WHERE id > \\? ORDER BY id LIMIT (\\d+) OFFSET 0$");
+
+    private final HttpServer server;
+
+    /** The delay of each SQL call in milliseconds */
+    private volatile int delay = 0;
+
+    /** The number of rows returned by execute_query */
+    private volatile int queryRowCount = 10;
+
+    /** The result returned by execute_query instead of the generated rows */
+    private volatile String queryResult = null;
+
+    /** The product name returned by get_db_metadata, null for an error */
+    private volatile String databaseProductName = null;
+    private volatile int databaseMajorVersion = 0;
+
+    /** The primary key column returned by get_table, per table name */
+    private final Map<String, String> primaryKeys = new ConcurrentHashMap<String, String>();
+
+    /** The number of consecutive rows that share the same id */
+    private volatile int idGroupSize = 1;
+    private final List<String> queries = new CopyOnWriteArrayList<String>();
+
+    /** If false, compressed request bodies get a 415 response */
+    private volatile boolean acceptCompressedRequests = true;
+
+    /** The session properties, per name without the get_/set_/is_ prefix */
+    private final Map<String, String> sessionState = new ConcurrentHashMap<String, String>();
+
+    /** The number of next requests per action that fail or stall */
+    private final Map<String, AtomicInteger> actionFailures = new ConcurrentHashMap<String, AtomicInteger>();
+    private final Map<String, AtomicInteger> actionStalls = new ConcurrentHashMap<String, AtomicInteger>();
+    private volatile int actionStallDelay = 0;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Map<String, AtomicInteger> actionRequests = new ConcurrentHashMap<String, AtomicInteger>();
+    private final AtomicInteger compressedRequests = new AtomicInteger();
+    private final AtomicLong requestBodyBytes = new AtomicLong();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    /**
+     * Creates and starts the server on a free local port.
+     *
+     * @throws IOException if the server can not be started
+     */
+    public AceQLStubServer() throws IOException {
+	this(0);
+    }
+
+    /**
+     * Creates and starts the server on a local port.
+     *
+     * @param port the port, 0 for a free port
+     * @throws IOException if the server can not be started
+     */
+    public AceQLStubServer(int port) throws IOException {
+	sessionState.put("auto_commit", "true");
+	sessionState.put("read_only", "false");
+	sessionState.put("holdability", "hold_cursors_over_commit");
+	sessionState.put("transaction_isolation_level", "read_committed");
+
+	server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+	server.createContext("/aceql", new HttpHandler() {
+	    @Override
+	    public void handle(HttpExchange exchange) throws IOException {
+		requests.incrementAndGet();
+		int current = running.incrementAndGet();
+		while (true) {
+		    int max = maxRunning.get();
+		    if (current <= max || maxRunning.compareAndSet(max, current)) {
+			break;
+		    }
+		}
+		try {
+		    dispatch(exchange);
+		} finally {
+		    running.decrementAndGet();
+		    exchange.close();
+		}
+	    }
+	});
+	server.setExecutor(Executors.newCachedThreadPool());
+	server.start();
+    }
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+	String path = exchange.getRequestURI().getPath();
+	String action = path.substring(path.lastIndexOf('/') + 1);
+	String actionParameter = null;
+
+	// Setters are called as .../set_xxx/value
+	String parent = path.substring(0, path.lastIndexOf('/'));
+	if (parent.substring(parent.lastIndexOf('/') + 1).startsWith("set_")) {
+	    actionParameter = action;
+	    action = parent.substring(parent.lastIndexOf('/') + 1);
+	}
+	actionRequests.computeIfAbsent(action, k -> new AtomicInteger()).incrementAndGet();
+
+	if (decrement(actionFailures, action)) {
+	    // The connection is closed without response
+	    IOUtils.toByteArray(exchange.getRequestBody());
+	    throw new IOException("Stub failure for: " + action);
+	}
+	if (decrement(actionStalls, action)) {
+	    sleep(actionStallDelay);
+	}
+
+	String contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+	if (contentEncoding != null) {
+	    compressedRequests.incrementAndGet();
+	    if (!acceptCompressedRequests) {
+		IOUtils.toByteArray(exchange.getRequestBody());
+		exchange.sendResponseHeaders(415, -1);
+		return;
+	    }
+	}
+
+	Map<String, String> parameters = getParameters(exchange, contentEncoding);
+
+	// Query results, including errors, are compressed on demand
+	boolean gzip = action.equals("execute_query") && "true".equals(parameters.get("gzip_result"));
+
+	String sql = parameters.get("sql");
+	if (sql != null) {
+	    sleep(delay);
+	    if (sql.contains("fail")) {
+		send(exchange, "{\"status\":\"FAIL\",\"error_type\":2,\"error_message\":\"Stub failure for: " + sql
+			+ "\",\"http_status\":400}", gzip, 400);
+		return;
+	    }
+	}
+
+	if (action.equals("login")) {
+	    send(exchange, "{\"status\":\"OK\",\"session_id\":\"stub_session\",\"connection_id\":\"1\"}", false);
+	} else if (action.equals("get_connection")) {
+	    send(exchange, "{\"status\":\"OK\",\"connection_id\":\"2\"}", false);
+	} else if (action.equals("execute_update")) {
+	    send(exchange, "{\"status\":\"OK\",\"row_count\":1}", false);
+	} else if (action.equals("execute_query")) {
+	    queries.add(sql);
+	    String result = queryResult;
+	    send(exchange, result != null ? result : buildQueryResult(sql, parameters), gzip);
+	} else if (action.equals("get_db_metadata")) {
+	    String productName = databaseProductName;
+	    send(exchange, productName != null
+		    ? "{\"status\":\"OK\",\"jdbcDatabaseMetaData\":{\"getDatabaseProductName\":\"" + productName
+			    + "\",\"getDatabaseMajorVersion\":" + databaseMajorVersion + "}}"
+		    : "{\"status\":\"FAIL\",\"error_type\":0,\"error_message\":\"No metadata\",\"http_status\":500}",
+		    false);
+	} else if (action.equals("get_table")) {
+	    String tableName = parameters.get("table_name");
+	    String primaryKey = tableName != null ? primaryKeys.get(tableName) : null;
+	    send(exchange, "{\"status\":\"OK\",\"table\":{\"tableName\":\"" + tableName + "\",\"primaryKeys\":["
+		    + (primaryKey != null ? "{\"tableName\":\"" + tableName + "\",\"columnName\":\"" + primaryKey
+			    + "\",\"keySequence\":1}" : "")
+		    + "]}}", false);
+	} else if (action.startsWith("set_")) {
+	    sessionState.put(action.substring("set_".length()), actionParameter);
+	    send(exchange, "{\"status\":\"OK\"}", false);
+	} else if (action.startsWith("get_") || action.startsWith("is_")) {
+	    String value = sessionState.get(action.substring(action.indexOf('_') + 1));
+	    send(exchange, "{\"status\":\"OK\",\"result\":\"" + value + "\"}", false);
+	} else {
+	    send(exchange, "{\"status\":\"OK\"}", false);
+	}
+    }
+
+    /**
+     * Builds a result set in the AceQL JSON format.
+     *
+     * @param rowCount the number of rows
+     * @return the result set JSON
+     */
+    public static String buildQueryResult(int rowCount) {
+	return buildQueryResult(0, rowCount);
+    }
+
+    private String buildQueryResult(String sql, Map<String, String> parameters) {
+	int limit;
+	int offset;
+	Matcher keysetMatcher = KEYSET.matcher(sql != null ? sql : "");
+	Matcher matcher = LIMIT_OFFSET.matcher(sql != null ? sql : "");
+	if (keysetMatcher.find()) {
+	    // The key is the last parameter
+	    int index = 1;
+	    while (parameters.containsKey("param_value_" + (index + 1))) {
+		index++;
+	    }
+	    offset = Integer.parseInt(parameters.get("param_value_" + index));
+	    limit = Integer.parseInt(keysetMatcher.group(1));
+	} else if (matcher.find()) {
+	    limit = Integer.parseInt(matcher.group(1));
+	    offset = Integer.parseInt(matcher.group(2));
+	} else {
+	    return buildQueryResult(0, queryRowCount, idGroupSize);
+	}
+	return buildQueryResult(offset, Math.max(0, Math.min(limit, queryRowCount - offset)), idGroupSize);
+    }
+
+    /**
+     * Builds a page of a result set in the AceQL JSON format.
+     *
+     * @param offset   the number of rows before the page
+     * @param rowCount the number of rows of the page
+     * @return the result set JSON
+     */
+    public static String buildQueryResult(int offset, int rowCount) {
+	return buildQueryResult(offset, rowCount, 1);
+    }
+
+    private static String buildQueryResult(int offset, int rowCount, int idGroupSize) {
+	StringBuilder json = new StringBuilder();
+	json.append("{\"status\":\"OK\",\"column_types\":[\"INTEGER\",\"VARCHAR\"],");
+	json.append("\"column_tables\":[\"stub\",\"stub\"],\"column_names\":[\"id\",\"name\"],");
+	json.append("\"query_rows\":[");
+	for (int i = 1; i <= rowCount; i++) {
+	    if (i > 1) {
+		json.append(",");
+	    }
+	    json.append("{\"row_").append(i).append("\":[{\"id\":\"").append((offset + i - 1) / idGroupSize + 1)
+		    .append("\"},{\"name\":\"name_").append(offset + i).append("\"}]}");
+	}
+	json.append("],\"row_count\":").append(rowCount).append("}");
+	return json.toString();
+    }
+
+    private Map<String, String> getParameters(HttpExchange exchange, String contentEncoding) throws IOException {
+	Map<String, String> parameters = new HashMap<String, String>();
+
+	byte[] rawBody = IOUtils.toByteArray(exchange.getRequestBody());
+	requestBodyBytes.addAndGet(rawBody.length);
+
+	InputStream in = new ByteArrayInputStream(rawBody);
+	if ("gzip".equals(contentEncoding)) {
+	    in = new GZIPInputStream(in);
+	} else if ("deflate".equals(contentEncoding)) {
+	    in = new InflaterInputStream(in);
+	}
+	String body = new String(IOUtils.toByteArray(in), "UTF-8");
+	String query = exchange.getRequestURI().getRawQuery();
+	if (query != null) {
+	    body = body.isEmpty() ? query : body + "&" + query;
+	}
+
+	for (String pair : body.split("&")) {
+	    int equals = pair.indexOf('=');
+	    if (equals > 0) {
+		parameters.put(URLDecoder.decode(pair.substring(0, equals), "UTF-8"),
+			URLDecoder.decode(pair.substring(equals + 1), "UTF-8"));
+	    }
+	}
+	return parameters;
+    }
+
+    private static void send(HttpExchange exchange, String json, boolean gzip) throws IOException {
+	send(exchange, json, gzip, 200);
+    }
+
+    private static void send(HttpExchange exchange, String json, boolean gzip, int httpStatusCode)
+	    throws IOException {
+	exchange.sendResponseHeaders(httpStatusCode, 0);
+	OutputStream out = exchange.getResponseBody();
+	if (gzip) {
+	    out = new GZIPOutputStream(out);
+	}
+	try (Writer writer = new OutputStreamWriter(out, "UTF-8")) {
+	    writer.write(json);
+	}
+    }
+
+    private static boolean decrement(Map<String, AtomicInteger> counts, String action) {
+	AtomicInteger count = counts.get(action);
+	return count != null && count.getAndDecrement() > 0;
+    }
+
+    /**
+     * Makes the next requests of an action fail: the connection is closed
+     * without response.
+     *
+     * @param action the API action, such as "get_version"
+     * @param count  the number of requests that fail
+     */
+    public void setActionFailures(String action, int count) {
+	actionFailures.put(action, new AtomicInteger(count));
+    }
+
+    /**
+     * Makes the next requests of an action answer late.
+     *
+     * @param action the API action, such as "get_version"
+     * @param count  the number of requests that answer late
+     * @param delay  the delay in milliseconds
+     */
+    public void setActionStalls(String action, int count, int delay) {
+	actionStallDelay = delay;
+	actionStalls.put(action, new AtomicInteger(count));
+    }
+
+    private static void sleep(int delay) {
+	if (delay > 0) {
+	    try {
+		Thread.sleep(delay);
+	    } catch (InterruptedException e) {
+		Thread.currentThread().interrupt();
+	    }
+	}
+    }
+
+    /**
+     * @return the server URL to pass to the AceQL Connection
+     */
+    public String getServerUrl() {
+	return "http://127.0.0.1:" + server.getAddress().getPort() + "/aceql";
+    }
+
+    /**
+     * @param delay the delay of each SQL call in milliseconds
+     */
+    public void setDelay(int delay) {
+	this.delay = delay;
+    }
+
+    /**
+     * @param queryRowCount the number of rows returned by execute_query
+     */
+    public void setQueryRowCount(int queryRowCount) {
+	this.queryRowCount = queryRowCount;
+    }
+
+    /**
+     * @param queryResult the JSON result returned by execute_query. null to
+     *                    return the generated rows.
+     */
+    public void setQueryResult(String queryResult) {
+	this.queryResult = queryResult;
+    }
+
+    /**
+     * @param idGroupSize the number of consecutive rows that share the same
+     *                    id, 1 for unique ids
+     */
+    public void setIdGroupSize(int idGroupSize) {
+	this.idGroupSize = idGroupSize;
+    }
+
+    /**
+     * Sets the primary key of a table, returned by get_table.
+     *
+     * @param tableName  the name of the table
+     * @param columnName the primary key column
+     */
+    public void setPrimaryKey(String tableName, String columnName) {
+	primaryKeys.put(tableName, columnName);
+    }
+
+    /**
+     * @param acceptCompressedRequests if false, compressed request bodies get a
+     *                                 415 response
+     */
+    public void setAcceptCompressedRequests(boolean acceptCompressedRequests) {
+	this.acceptCompressedRequests = acceptCompressedRequests;
+    }
+
+    /**
+     * @return the number of requests received with a compressed body
+     */
+    public int getCompressedRequests() {
+	return compressedRequests.get();
+    }
+
+    /**
+     * @return the number of request body bytes received, as sent on the wire
+     */
+    public long getRequestBodyBytes() {
+	return requestBodyBytes.get();
+    }
+
+    /**
+     * @return the number of requests received
+     */
+    public int getRequests() {
+	return requests.get();
+    }
+
+    /**
+     * @param action the API action, such as "get_auto_commit"
+     * @return the number of requests received for the action
+     */
+    public int getRequests(String action) {
+	AtomicInteger count = actionRequests.get(action);
+	return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Sets a session property on the server side only, as a SQL statement would.
+     *
+     * @param name  the property name, such as "auto_commit"
+     * @param value the property value
+     */
+    public void setSessionProperty(String name, String value) {
+	sessionState.put(name, value);
+    }
+
+    /**
+     * @param databaseProductName the product name returned by get_db_metadata.
+     *                            null to return an error.
+     */
+    public void setDatabaseProductName(String databaseProductName) {
+	this.databaseProductName = databaseProductName;
+    }
+
+    /**
+     * @param databaseMajorVersion the major version returned by get_db_metadata
+     */
+    public void setDatabaseMajorVersion(int databaseMajorVersion) {
+	this.databaseMajorVersion = databaseMajorVersion;
+    }
+
+    /**
+     * @return the SQL texts of the execute_query requests received
+     */
+    public List<String> getQueries() {
+	return new ArrayList<String>(queries);
+    }
+
+    /**
+     * @return the max number of requests processed at the same time
+     */
+    public int getMaxRunning() {
+	return maxRunning.get();
+    }
+
+    /**
+     * Stops the server.
+     */
+    public void stop() {
+	server.stop(0);
+    }
+
+}
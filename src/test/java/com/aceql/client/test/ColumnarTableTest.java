@@ -0,0 +1,216 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.ColumnarTable;
+import com.aceql.client.jdbc.ColumnarTable.ColumnType;
+
+/**
+ * Tests the decoding of a result set into column vectors.
+ */
+public class ColumnarTableTest {
+
+    private static ColumnarTable query(AceQLStubServer server, ForkJoinPool pool) throws SQLException {
+	AceQLConnection connection = new AceQLConnection(server.getServerUrl(), "stub_db", "user",
+		"password".toCharArray());
+	try (Statement statement = connection.createStatement();
+		ResultSet rs = statement.executeQuery("select * from stub")) {
+	    assertTrue(rs.next());
+	    ColumnarTable table = ColumnarTable.of(rs, pool);
+	    // The position of the result set is kept
+	    assertEquals(1, rs.getInt("id"));
+	    assertTrue(rs.next());
+	    assertEquals(2, rs.getInt("id"));
+	    return table;
+	} finally {
+	    connection.close();
+	}
+    }
+
+    @Test
+    public void testRangesAreDecodedConcurrently() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(40000);
+	ForkJoinPool pool = new ForkJoinPool(4);
+	try {
+	    ColumnarTable table = query(server, pool);
+	    assertEquals(40000, table.getRowCount());
+	    assertEquals(2, table.getColumnCount());
+	    assertEquals(ColumnType.LONG, table.getColumnType(table.findColumn("ID")));
+	    assertEquals(ColumnType.STRING, table.getColumnType(2));
+
+	    long[] ids = table.getLongs(1);
+	    int[] codes = table.getCodes(2);
+	    String[] dictionary = table.getDictionary(2);
+	    assertEquals(40000, dictionary.length);
+	    for (int row = 0; row < 40000; row++) {
+		assertEquals(row + 1, ids[row]);
+		assertEquals("name_" + (row + 1), dictionary[codes[row]]);
+		assertEquals(row, codes[row]);
+	    }
+	    assertEquals(0, table.getNullCount(1));
+	    assertEquals(12345.0, table.getDouble(12344, 1), 0);
+	    assertTrue(table.getMemoryFootprint() > 40000 * (8 + 4));
+	} finally {
+	    pool.shutdown();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testColumnsAreWidened() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryResult("{\"status\":\"OK\",\"column_types\":[\"INTEGER\",\"INTEGER\",\"DECIMAL\",\"VARCHAR\"],"
+		+ "\"column_names\":[\"id\",\"amount\",\"code\",\"city\"],\"query_rows\":["
+		+ "{\"row_1\":[{\"id\":\"1\"},{\"amount\":\"10\"},{\"code\":\"1.5\"},{\"city\":\"Paris\"}]},"
+		+ "{\"row_2\":[{\"id\":\"2\"},{\"amount\":\"NULL\"},{\"code\":\"NULL\"},{\"city\":\"NULL\"}]},"
+		+ "{\"row_3\":[{\"id\":\"3\"},{\"amount\":\"12.25\"},{\"code\":\"A7\"},{\"city\":\"Paris\"}]}"
+		+ "],\"row_count\":3}");
+	try {
+	    ColumnarTable table = query(server, ForkJoinPool.commonPool());
+	    assertEquals(3, table.getRowCount());
+	    assertArrayEquals(new long[] { 1, 2, 3 }, table.getLongs(1));
+
+	    assertEquals(ColumnType.DOUBLE, table.getColumnType(2));
+	    assertArrayEquals(new double[] { 10, 0, 12.25 }, table.getDoubles(2), 0);
+	    assertTrue(table.isNull(1, 2));
+	    assertFalse(table.isNull(0, 2));
+
+	    assertEquals(ColumnType.STRING, table.getColumnType(3));
+	    assertArrayEquals(new String[] { "1.5", "A7" }, table.getDictionary(3));
+	    assertNull(table.getString(1, 3));
+
+	    assertArrayEquals(new String[] { "Paris" }, table.getDictionary(4));
+	    assertArrayEquals(new int[] { 0, -1, 0 }, table.getCodes(4));
+	    assertEquals(1, table.getNullCount(4));
+
+	    try {
+		table.getLongs(4);
+		fail("STRING column read as LONG");
+	    } catch (IllegalStateException e) {
+		assertTrue(e.getMessage(), e.getMessage().contains("STRING"));
+	    }
+	} finally {
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testDecimalColumnsAreExact() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryResult("{\"status\":\"OK\",\"column_types\":[\"INTEGER\",\"NUMERIC\",\"DOUBLE\"],"
+		+ "\"column_names\":[\"id\",\"balance\",\"rate\"],\"query_rows\":["
+		+ "{\"row_1\":[{\"id\":\"1\"},{\"balance\":\"12345678901234567.89\"},{\"rate\":\"0.5\"}]},"
+		+ "{\"row_2\":[{\"id\":\"2\"},{\"balance\":\"0.10\"},{\"rate\":\"1.25\"}]}"
+		+ "],\"row_count\":2}");
+	try {
+	    ColumnarTable table = query(server, ForkJoinPool.commonPool());
+	    assertEquals(ColumnType.STRING, table.getColumnType(2));
+	    assertArrayEquals(new String[] { "12345678901234567.89", "0.10" }, table.getDictionary(2));
+	    assertEquals("12345678901234567.89", table.getString(0, 2));
+
+	    assertEquals(ColumnType.DOUBLE, table.getColumnType(3));
+	    assertArrayEquals(new double[] { 0.5, 1.25 }, table.getDoubles(3), 0);
+	} finally {
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testColumnTypesAreGuessedWithoutHeader() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryResult("{\"status\":\"OK\",\"query_rows\":["
+		+ "{\"row_1\":[{\"id\":\"1\"},{\"price\":\"2.5\"},{\"name\":\"a\"}]},"
+		+ "{\"row_2\":[{\"id\":\"2\"},{\"price\":\"3\"},{\"name\":\"b\"}]}" + "],\"row_count\":2}");
+	try {
+	    ColumnarTable table = query(server, ForkJoinPool.commonPool());
+	    assertEquals(ColumnType.LONG, table.getColumnType(1));
+	    assertEquals(ColumnType.DOUBLE, table.getColumnType(2));
+	    assertEquals(ColumnType.STRING, table.getColumnType(3));
+	    assertEquals("price", table.getColumnName(2));
+	    assertEquals(3.0, table.getDouble(1, 2), 0);
+	    assertEquals("b", table.getString(1, 3));
+	    assertEquals("2", table.getString(1, 1));
+	} finally {
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testEmptyResultKeepsItsColumns() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(0);
+	AceQLConnection connection = new AceQLConnection(server.getServerUrl(), "stub_db", "user",
+		"password".toCharArray());
+	try (Statement statement = connection.createStatement();
+		ResultSet rs = statement.executeQuery("select * from stub")) {
+	    ColumnarTable table = ColumnarTable.of(rs);
+	    assertFalse(rs.next());
+
+	    assertEquals(0, table.getRowCount());
+	    assertEquals(2, table.getColumnCount());
+	    assertEquals("name", table.getColumnName(2));
+	    assertEquals(ColumnType.LONG, table.getColumnType(1));
+	    assertEquals(ColumnType.STRING, table.getColumnType(2));
+	    assertEquals(0, table.getLongs(1).length);
+	    assertEquals(0, table.getCodes(2).length);
+	    assertEquals(0, table.getDictionary(2).length);
+	    assertEquals(0, table.getNullCount(2));
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testForwardOnlyResultIsRejected() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	AceQLConnection connection = new AceQLConnection(server.getServerUrl(), "stub_db", "user",
+		"password".toCharArray());
+	try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+		ResultSet.CONCUR_READ_ONLY); ResultSet rs = statement.executeQuery("select * from stub")) {
+	    try {
+		ColumnarTable.of(rs);
+		fail("Forward only result set decoded");
+	    } catch (SQLException e) {
+		assertTrue(e.getMessage(), e.getMessage().contains("TYPE_FORWARD_ONLY"));
+	    }
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.ConnectionOptions;
+import com.aceql.client.jdbc.QueryMetrics;
+
+/**
+ * Tests that the downloads of the query results are aborted once the rows are
+ * no longer read, and that the bytes received are counted.
+ */
+public class EarlyTerminationTest {
+
+    private static final int ROW_COUNT = 200000;
+
+    /** The size of the whole uncompressed result */
+    private static final long RESULT_LENGTH = AceQLStubServer.buildQueryResult(ROW_COUNT).length();
+
+    private static AceQLConnection getConnection(AceQLStubServer server, QueryMetrics queryMetrics)
+	    throws SQLException {
+	ConnectionOptions connectionOptions = new ConnectionOptions();
+	connectionOptions.setQueryMetrics(queryMetrics);
+	connectionOptions.setPagedExecution(true);
+	AceQLConnection connection = new AceQLConnection(server.getServerUrl(), "stub_db", "user",
+		"password".toCharArray(), null, null, connectionOptions);
+	// The bytes received are then the bytes of the result
+	connection.setGzipResult(false);
+	return connection;
+    }
+
+    @Test
+    public void testCloseAbortsForwardOnlyDownload() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(ROW_COUNT);
+	QueryMetrics queryMetrics = new QueryMetrics();
+	AceQLConnection connection = getConnection(server, queryMetrics);
+	try {
+	    Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+		    ResultSet.CONCUR_READ_ONLY);
+	    ResultSet rs = statement.executeQuery("select * from stub");
+	    for (int i = 1; i <= 10; i++) {
+		assertTrue(rs.next());
+		assertEquals(i, rs.getInt("id"));
+	    }
+	    rs.close();
+
+	    assertEquals(1, queryMetrics.getDownloads());
+	    assertEquals(1, queryMetrics.getAbortedDownloads());
+	    assertEquals(queryMetrics.getReceivedBytes(), queryMetrics.getAbortedReceivedBytes());
+	    assertTrue(queryMetrics.toString(), queryMetrics.getReceivedBytes() < RESULT_LENGTH / 2);
+
+	    // Closing the statement closes, and aborts, its open result set
+	    rs = statement.executeQuery("select * from stub");
+	    assertTrue(rs.next());
+	    statement.close();
+	    assertTrue(rs.isClosed());
+	    assertEquals(2, queryMetrics.getAbortedDownloads());
+	    assertTrue(queryMetrics.toString(), queryMetrics.getReceivedBytes() < RESULT_LENGTH);
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testMaxRowsAbortsForwardOnlyDownload() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(ROW_COUNT);
+	QueryMetrics queryMetrics = new QueryMetrics();
+	AceQLConnection connection = getConnection(server, queryMetrics);
+	try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+		ResultSet.CONCUR_READ_ONLY)) {
+	    statement.setMaxRows(5);
+	    try (ResultSet rs = statement.executeQuery("select * from stub")) {
+		for (int i = 1; i <= 5; i++) {
+		    assertTrue(rs.next());
+		    assertEquals("name_" + i, rs.getString(2));
+		}
+		// The download is aborted once the last row is read
+		assertEquals(1, queryMetrics.getAbortedDownloads());
+		assertFalse(rs.next());
+	    }
+	    assertEquals(1, queryMetrics.getDownloads());
+	    assertTrue(queryMetrics.toString(), queryMetrics.getReceivedBytes() < RESULT_LENGTH / 2);
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testMaxRowsTruncatesSpooledDownload() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(ROW_COUNT);
+	QueryMetrics queryMetrics = new QueryMetrics();
+	AceQLConnection connection = getConnection(server, queryMetrics);
+	try (Statement statement = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE,
+		ResultSet.CONCUR_READ_ONLY)) {
+	    statement.setMaxRows(100);
+	    // The query is sent as is, and its download is stopped
+	    server.setDatabaseProductName("MySQL");
+	    try (ResultSet rs = statement.executeQuery("select * from stub -- all rows")) {
+		assertTrue(rs.last());
+		assertEquals(100, rs.getInt("id"));
+		assertEquals("name_100", rs.getString("name"));
+		assertTrue(rs.first());
+		assertEquals(1, rs.getInt(1));
+		int rows = 1;
+		while (rs.next()) {
+		    rows++;
+		}
+		assertEquals(100, rows);
+	    }
+	    assertEquals(1, queryMetrics.getAbortedDownloads());
+	    assertTrue(queryMetrics.toString(), queryMetrics.getReceivedBytes() < RESULT_LENGTH / 2);
+	    assertEquals(Arrays.asList("select * from stub -- all rows"), server.getQueries());
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testCloseAbortsPagePrefetch() throws IOException, SQLException, InterruptedException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(ROW_COUNT);
+	server.setDatabaseProductName("PostgreSQL");
+	QueryMetrics queryMetrics = new QueryMetrics();
+	AceQLConnection connection = getConnection(server, queryMetrics);
+	try (Statement statement = connection.createStatement()) {
+	    statement.setFetchSize(ROW_COUNT / 2);
+	    ResultSet rs = statement.executeQuery("select * from stub order by id");
+	    assertEquals(1, queryMetrics.getDownloads());
+
+	    // The second page is requested by the first next(), and is still
+	    // awaited when the result set is closed
+	    server.setDelay(500);
+	    for (int i = 1; i <= 10; i++) {
+		assertTrue(rs.next());
+		assertEquals(i, rs.getInt("id"));
+	    }
+	    // A prefetch not yet sent would be cancelled, not aborted
+	    for (int i = 0; i < 100 && server.getRequests("execute_query") < 2; i++) {
+		Thread.sleep(20);
+	    }
+	    rs.close();
+
+	    for (int i = 0; i < 100 && queryMetrics.getDownloads() < 2; i++) {
+		Thread.sleep(20);
+	    }
+	    assertEquals(2, queryMetrics.getDownloads());
+	    assertEquals(1, queryMetrics.getAbortedDownloads());
+	    assertTrue(queryMetrics.toString(), queryMetrics.getAbortedReceivedBytes() < RESULT_LENGTH / 4);
+	    assertEquals(2, server.getQueries().size());
+
+	    // The connection is still usable
+	    server.setDelay(0);
+	    statement.setFetchSize(0);
+	    try (ResultSet rs2 = statement.executeQuery("select count(*) from stub")) {
+		assertTrue(rs2.next());
+	    }
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testCompleteDownloadsAreNotAborted() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(1000);
+	QueryMetrics queryMetrics = new QueryMetrics();
+	AceQLConnection connection = getConnection(server, queryMetrics);
+	try {
+	    for (int resultSetType : new int[] { ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.TYPE_FORWARD_ONLY }) {
+		try (Statement statement = connection.createStatement(resultSetType, ResultSet.CONCUR_READ_ONLY);
+			ResultSet rs = statement.executeQuery("select * from stub")) {
+		    int rows = 0;
+		    while (rs.next()) {
+			rows++;
+		    }
+		    assertEquals(1000, rows);
+		}
+	    }
+	    assertEquals(2, queryMetrics.getDownloads());
+	    assertEquals(0, queryMetrics.getAbortedDownloads());
+	    assertEquals(0, queryMetrics.getAbortedReceivedBytes());
+	    assertEquals(2L * AceQLStubServer.buildQueryResult(1000).length(), queryMetrics.getReceivedBytes());
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kawanfw.driver.util.FrameworkFileUtil;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.ConnectionOptions;
+import com.aceql.client.jdbc.http.PooledHttpTransport;
+
+/**
+ * Tests the forward only result sets, read from the HTTP response, against a
+ * local stub AceQL server.
+ */
+public class ForwardOnlyResultSetTest {
+
+    private AceQLStubServer server;
+    private AceQLConnection connection;
+
+    @Before
+    public void setUp() throws IOException, SQLException {
+	server = new AceQLStubServer();
+	connection = new AceQLConnection(server.getServerUrl(), "stub_db", "user", "password".toCharArray());
+    }
+
+    @After
+    public void tearDown() {
+	connection.close();
+	server.stop();
+    }
+
+    private static int countResultSetFiles() {
+	String[] names = new File(FrameworkFileUtil.getKawansoftTempDir()).list();
+	int count = 0;
+	if (names != null) {
+	    for (String name : names) {
+		if (name.startsWith("pc-result-set-")) {
+		    count++;
+		}
+	    }
+	}
+	return count;
+    }
+
+    @Test
+    public void testRowsAreReadWithoutLocalFile() throws SQLException {
+	server.setQueryRowCount(100);
+	int files = countResultSetFiles();
+
+	try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+		ResultSet.CONCUR_READ_ONLY); ResultSet rs = statement.executeQuery("select * from stub")) {
+	    assertEquals(ResultSet.TYPE_FORWARD_ONLY, rs.getType());
+
+	    int rows = 0;
+	    while (rs.next()) {
+		rows++;
+		assertEquals(rows, rs.getInt(1));
+		assertEquals("name_" + rows, rs.getString("name"));
+		assertEquals(files, countResultSetFiles());
+	    }
+	    assertEquals(100, rows);
+	    assertFalse(rs.next());
+	}
+    }
+
+    @Test
+    public void testPreparedStatementRowsAreStreamed() throws SQLException {
+	int files = countResultSetFiles();
+
+	try (PreparedStatement statement = connection.prepareStatement("select * from stub where id > ?",
+		ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+	    statement.setInt(1, 0);
+	    try (ResultSet rs = statement.executeQuery()) {
+		int rows = 0;
+		while (rs.next()) {
+		    rows++;
+		}
+		assertEquals(10, rows);
+	    }
+	}
+	assertEquals(files, countResultSetFiles());
+    }
+
+    @Test
+    public void testForwardOnlyResultSetCanNotScroll() throws SQLException {
+	try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+		ResultSet.CONCUR_READ_ONLY); ResultSet rs = statement.executeQuery("select * from stub")) {
+	    assertTrue(rs.next());
+	    try {
+		rs.absolute(1);
+		fail("absolute() must fail on a forward only result set");
+	    } catch (SQLException expected) {
+		// expected
+	    }
+	}
+    }
+
+    @Test
+    public void testDefaultResultSetIsScrollable() throws SQLException {
+	try (Statement statement = connection.createStatement();
+		ResultSet rs = statement.executeQuery("select * from stub")) {
+	    assertEquals(ResultSet.TYPE_SCROLL_INSENSITIVE, statement.getResultSetType());
+	    assertEquals(ResultSet.TYPE_SCROLL_INSENSITIVE, rs.getType());
+	    assertTrue(rs.next());
+	    assertEquals(1, rs.getInt("id"));
+	}
+    }
+
+    @Test
+    public void testUnsupportedResultSetTypes() throws SQLException {
+	try (Statement statement = connection.createStatement(ResultSet.TYPE_SCROLL_SENSITIVE,
+		ResultSet.CONCUR_READ_ONLY)) {
+	    assertEquals(ResultSet.TYPE_SCROLL_INSENSITIVE, statement.getResultSetType());
+	}
+	try (PreparedStatement preparedStatement = connection.prepareStatement("select * from stub",
+		ResultSet.TYPE_SCROLL_SENSITIVE, ResultSet.CONCUR_READ_ONLY)) {
+	    assertEquals(ResultSet.TYPE_SCROLL_INSENSITIVE, preparedStatement.getResultSetType());
+	}
+
+	SQLWarning warning = connection.getWarnings();
+	assertTrue(warning.getMessage(), warning.getMessage().contains("TYPE_SCROLL_SENSITIVE"));
+	assertTrue(warning.getNextWarning() != null);
+	connection.clearWarnings();
+	assertNull(connection.getWarnings());
+
+	try {
+	    connection.createStatement(42, ResultSet.CONCUR_READ_ONLY);
+	    fail("Invalid result set type accepted");
+	} catch (SQLException e) {
+	    assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid result set type"));
+	}
+	try {
+	    connection.prepareStatement("select * from stub", 42, ResultSet.CONCUR_READ_ONLY);
+	    fail("Invalid result set type accepted");
+	} catch (SQLException e) {
+	    assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid result set type"));
+	}
+    }
+
+    @Test(timeout = 20000)
+    public void testReusedStatementClosesItsResultSet() throws SQLException {
+	server.setQueryRowCount(10000);
+
+	// A single connection: an unread result holds it until closed
+	PooledHttpTransport transport = new PooledHttpTransport(1, 1, 30000);
+	ConnectionOptions connectionOptions = new ConnectionOptions();
+	connectionOptions.setHttpTransport(transport);
+	AceQLConnection singleConnection = new AceQLConnection(server.getServerUrl(), "stub_db", "user",
+		"password".toCharArray(), null, null, connectionOptions);
+	try (Statement statement = singleConnection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+		ResultSet.CONCUR_READ_ONLY)) {
+	    ResultSet previous = null;
+	    for (int i = 0; i < 5; i++) {
+		ResultSet rs = statement.executeQuery("select * from stub");
+		if (previous != null) {
+		    assertTrue(previous.isClosed());
+		}
+		assertTrue(rs.next());
+		assertEquals(1, rs.getInt("id"));
+		assertEquals(1, transport.getStats().getLeased());
+		previous = rs;
+	    }
+	} finally {
+	    singleConnection.close();
+	    transport.close();
+	}
+	assertEquals(0, transport.getStats().getLeased());
+    }
+
+}
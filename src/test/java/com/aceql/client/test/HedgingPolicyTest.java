@@ -0,0 +1,144 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.AceQLException;
+import com.aceql.client.jdbc.ConnectionOptions;
+import com.aceql.client.jdbc.http.HedgingPolicy;
+
+/**
+ * Tests the hedging and the retries of idempotent calls against a local stub
+ * AceQL server.
+ */
+public class HedgingPolicyTest {
+
+    private AceQLStubServer server;
+    private HedgingPolicy hedgingPolicy;
+    private AceQLConnection connection;
+
+    @Before
+    public void setUp() throws IOException, SQLException {
+	server = new AceQLStubServer();
+
+	hedgingPolicy = new HedgingPolicy();
+	hedgingPolicy.setHedgeDelay(100);
+	hedgingPolicy.setMaxRetries(3);
+	hedgingPolicy.setInitialBackoff(10);
+
+	ConnectionOptions connectionOptions = new ConnectionOptions();
+	connectionOptions.setHedgingPolicy(hedgingPolicy);
+	connection = new AceQLConnection(server.getServerUrl(), "stub_db", "user", "password".toCharArray(), null,
+		null, connectionOptions);
+    }
+
+    @After
+    public void tearDown() {
+	server.stop();
+    }
+
+    @Test
+    public void testSlowCallIsHedged() throws SQLException {
+	server.setActionStalls("get_version", 1, 5000);
+
+	long begin = System.currentTimeMillis();
+	connection.getServerVersion();
+	long elapsed = System.currentTimeMillis() - begin;
+
+	assertTrue("Elapsed: " + elapsed, elapsed < 3000);
+	assertEquals(1, hedgingPolicy.getHedges());
+	assertEquals(1, hedgingPolicy.getHedgeWins());
+	assertEquals(2, server.getRequests("get_version"));
+    }
+
+    @Test
+    public void testFastCallsAreNotHedged() throws SQLException {
+	// A pause of the test JVM must not be taken for a slow call
+	hedgingPolicy.setMinHedgeDelay(500);
+	for (int i = 0; i < 30; i++) {
+	    connection.getServerVersion();
+	}
+	assertEquals(0, hedgingPolicy.getHedges());
+	assertEquals(30, server.getRequests("get_version"));
+	assertTrue(hedgingPolicy.getCurrentHedgeDelay() >= hedgingPolicy.getMinHedgeDelay());
+    }
+
+    @Test
+    public void testTransientErrorsAreRetried() throws SQLException {
+	server.setActionFailures("get_version", 3);
+	connection.getServerVersion();
+	assertTrue("Retries: " + hedgingPolicy.getRetries(), hedgingPolicy.getRetries() >= 1);
+	assertEquals(4, server.getRequests("get_version"));
+    }
+
+    @Test
+    public void testExpiredCallIsNotRetried() throws SQLException {
+	ConnectionOptions connectionOptions = new ConnectionOptions();
+	connectionOptions.setHedgingPolicy(hedgingPolicy);
+	connectionOptions.setRequestTimeout(500);
+	AceQLConnection timedConnection = new AceQLConnection(server.getServerUrl(), "stub_db", "user",
+		"password".toCharArray(), null, null, connectionOptions);
+
+	server.setActionStalls("get_version", 10, 5000);
+	long begin = System.currentTimeMillis();
+	try {
+	    timedConnection.getServerVersion();
+	    fail("AceQLException expected.");
+	} catch (AceQLException e) {
+	    // Expected
+	}
+	long elapsed = System.currentTimeMillis() - begin;
+
+	// The hedge is allowed only the time left to the call
+	assertTrue("Elapsed: " + elapsed, elapsed < 1500);
+	assertEquals(0, hedgingPolicy.getRetries());
+	assertEquals(1, hedgingPolicy.getHedges());
+	assertEquals(2, server.getRequests("get_version"));
+    }
+
+    @Test
+    public void testMutatingCallsAreNotRetried() throws SQLException {
+	server.setActionFailures("commit", 1);
+	try {
+	    connection.commit();
+	    fail("AceQLException expected.");
+	} catch (AceQLException e) {
+	    // Expected
+	}
+	assertEquals(1, server.getRequests("commit"));
+
+	server.setActionStalls("execute_update", 1, 500);
+	connection.createStatement().executeUpdate("update stub set name = 'x'");
+	assertEquals(1, server.getRequests("execute_update"));
+	assertEquals(0, hedgingPolicy.getRetries());
+	assertEquals(0, hedgingPolicy.getHedges());
+    }
+
+}
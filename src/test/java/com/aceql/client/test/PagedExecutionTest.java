@@ -0,0 +1,325 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.ConnectionOptions;
+
+/**
+ * Tests the queries executed in pages, and the queries limited by
+ * {@code setMaxRows()}.
+ */
+public class PagedExecutionTest {
+
+    private static AceQLConnection getConnection(AceQLStubServer server, boolean pagedExecution)
+	    throws SQLException {
+	ConnectionOptions connectionOptions = new ConnectionOptions();
+	connectionOptions.setPagedExecution(pagedExecution);
+	return getConnection(server, connectionOptions);
+    }
+
+    private static AceQLConnection getConnection(AceQLStubServer server, ConnectionOptions connectionOptions)
+	    throws SQLException {
+	return new AceQLConnection(server.getServerUrl(), "stub_db", "user", "password".toCharArray(), null, null,
+		connectionOptions);
+    }
+
+    private static int readRows(ResultSet rs) throws SQLException {
+	int rows = 0;
+	while (rs.next()) {
+	    rows++;
+	    assertEquals(rows, rs.getInt("id"));
+	    assertEquals("name_" + rows, rs.getString(2));
+	}
+	return rows;
+    }
+
+    @Test
+    public void testRowsAreReadInPages() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(2500);
+	server.setDatabaseProductName("PostgreSQL");
+	AceQLConnection connection = getConnection(server, true);
+	try (Statement statement = connection.createStatement()) {
+	    statement.setFetchSize(1000);
+	    assertEquals(1000, statement.getFetchSize());
+	    try (ResultSet rs = statement.executeQuery("select * from stub order by id;")) {
+		assertEquals(ResultSet.TYPE_FORWARD_ONLY, rs.getType());
+		assertEquals(2500, readRows(rs));
+		assertFalse(rs.next());
+	    }
+	    // The pages of an unordered query are not reproducible
+	    try (ResultSet rs = statement.executeQuery("select * from stub")) {
+		assertEquals(2500, readRows(rs));
+	    }
+	    assertEquals(Arrays.asList("select * from stub order by id LIMIT 1000 OFFSET 0",
+		    "select * from stub order by id LIMIT 1000 OFFSET 1000",
+		    "select * from stub order by id LIMIT 1000 OFFSET 2000", "select * from stub"),
+		    server.getQueries());
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testMaxRowsLimitsThePages() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(2500);
+	server.setDatabaseProductName("MySQL");
+	AceQLConnection connection = getConnection(server, true);
+	try (PreparedStatement preparedStatement = connection
+		.prepareStatement("select * from stub where id > ? order by id -- by key")) {
+	    preparedStatement.setInt(1, 0);
+	    preparedStatement.setFetchSize(1000);
+	    preparedStatement.setMaxRows(1500);
+	    try (ResultSet rs = preparedStatement.executeQuery()) {
+		assertEquals(1500, readRows(rs));
+	    }
+	    // The trailing comment is removed before the limit
+	    assertEquals(Arrays.asList("select * from stub where id > ? order by id LIMIT 1000 OFFSET 0",
+		    "select * from stub where id > ? order by id LIMIT 500 OFFSET 1000"), server.getQueries());
+
+	    // Without fetch size, the query is kept and its download is stopped
+	    preparedStatement.setFetchSize(0);
+	    try (ResultSet rs = preparedStatement.executeQuery()) {
+		assertEquals(1500, readRows(rs));
+	    }
+	    assertEquals("select * from stub where id > ? order by id -- by key", server.getQueries().get(2));
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testMaxRowsWithUnknownDatabase() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(10);
+	AceQLConnection connection = getConnection(server, true);
+	try {
+	    for (int resultSetType : new int[] { ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.TYPE_FORWARD_ONLY }) {
+		try (Statement statement = connection.createStatement(resultSetType, ResultSet.CONCUR_READ_ONLY)) {
+		    statement.setFetchSize(4);
+		    statement.setMaxRows(3);
+		    try (ResultSet rs = statement.executeQuery("select * from stub order by id")) {
+			assertEquals(resultSetType, rs.getType());
+			assertEquals(3, readRows(rs));
+		    }
+		}
+	    }
+	    // The queries are not rewritten, and the metadata is read once
+	    assertEquals(Arrays.asList("select * from stub order by id", "select * from stub order by id"),
+		    server.getQueries());
+	    assertEquals(1, server.getRequests("get_db_metadata"));
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testQueriesAreRewrittenPerDialect() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(3);
+	server.setDatabaseProductName("Microsoft SQL Server");
+	server.setDatabaseMajorVersion(11);
+	AceQLConnection connection = getConnection(server, true);
+	try (Statement statement = connection.createStatement()) {
+	    try {
+		statement.setFetchSize(-1);
+		fail("Negative fetch size accepted");
+	    } catch (SQLException e) {
+		assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid fetch size"));
+	    }
+
+	    statement.setFetchSize(5);
+	    String[] sqls = { "select * from stub order by id /* by key */ ;",
+		    "select * from (select top 8 * from stub order by id) s",
+		    "select * from stub where name = 'order by' -- order by", "select top 8 * from stub order by id",
+		    "select * from stub s order by (select max(id) from stub where id < s.id)" };
+	    for (String sql : sqls) {
+		try (ResultSet rs = statement.executeQuery(sql)) {
+		    assertEquals(3, readRows(rs));
+		}
+	    }
+	    // Only the queries with a top level ORDER BY and without a limit
+	    // are rewritten
+	    assertEquals(Arrays.asList("select * from stub order by id OFFSET 0 ROWS FETCH NEXT 5 ROWS ONLY", sqls[1],
+		    sqls[2], sqls[3], sqls[4] + " OFFSET 0 ROWS FETCH NEXT 5 ROWS ONLY"), server.getQueries());
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testOffsetFetchIsNotSentToOlderVersions() throws IOException, SQLException {
+	for (String productName : new String[] { "Microsoft SQL Server", "Oracle" }) {
+	    AceQLStubServer server = new AceQLStubServer();
+	    server.setQueryRowCount(3);
+	    server.setDatabaseProductName(productName);
+	    server.setDatabaseMajorVersion(10);
+	    AceQLConnection connection = getConnection(server, true);
+	    try (Statement statement = connection.createStatement()) {
+		statement.setFetchSize(5);
+		statement.setMaxRows(2);
+		try (ResultSet rs = statement.executeQuery("select * from stub order by id")) {
+		    assertEquals(2, readRows(rs));
+		}
+		assertEquals(Arrays.asList("select * from stub order by id"), server.getQueries());
+	    } finally {
+		connection.close();
+		server.stop();
+	    }
+	}
+    }
+
+    @Test
+    public void testPagesAreReadAfterTheLastKey() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(2500);
+	server.setDatabaseProductName("PostgreSQL");
+	server.setPrimaryKey("stub", "id");
+	ConnectionOptions connectionOptions = new ConnectionOptions();
+	connectionOptions.setPagedExecution(true);
+	connectionOptions.setKeysetPaging(true);
+	AceQLConnection connection = getConnection(server, connectionOptions);
+	try (Statement statement = connection.createStatement()) {
+	    statement.setFetchSize(1000);
+	    try (ResultSet rs = statement.executeQuery("select * from stub s order by s.id")) {
+		assertEquals(2500, readRows(rs));
+	    }
+	    // An ordering on several columns is paged after its offset
+	    try (ResultSet rs = statement.executeQuery("select * from stub order by id, name")) {
+		assertEquals(2500, readRows(rs));
+	    }
+	    assertEquals(Arrays.asList("select * from stub s order by s.id LIMIT 1000 OFFSET 0",
+		    "SELECT * FROM (select * from stub s) aceql_page WHERE id > ? ORDER BY id LIMIT 1000 OFFSET 0",
+		    "SELECT * FROM (select * from stub s) aceql_page WHERE id > ? ORDER BY id LIMIT 1000 OFFSET 0",
+		    "select * from stub order by id, name LIMIT 1000 OFFSET 0",
+		    "select * from stub order by id, name LIMIT 1000 OFFSET 1000",
+		    "select * from stub order by id, name LIMIT 1000 OFFSET 2000"), server.getQueries());
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testDuplicateKeysAreReadAfterTheOffset() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(2500);
+	server.setDatabaseProductName("PostgreSQL");
+	// Rows 1000 to 1002 share the id 334, across the end of the first page
+	server.setIdGroupSize(3);
+	server.setPrimaryKey("stub", "name");
+	ConnectionOptions connectionOptions = new ConnectionOptions();
+	connectionOptions.setPagedExecution(true);
+	connectionOptions.setKeysetPaging(true);
+	AceQLConnection connection = getConnection(server, connectionOptions);
+	try (Statement statement = connection.createStatement()) {
+	    statement.setFetchSize(1000);
+	    try (ResultSet rs = statement.executeQuery("select * from stub order by id")) {
+		int rows = 0;
+		while (rs.next()) {
+		    rows++;
+		    assertEquals((rows - 1) / 3 + 1, rs.getInt("id"));
+		    assertEquals("name_" + rows, rs.getString("name"));
+		}
+		assertEquals(2500, rows);
+	    }
+	    // The id is not the primary key: the pages are read after their offset
+	    assertEquals(Arrays.asList("select * from stub order by id LIMIT 1000 OFFSET 0",
+		    "select * from stub order by id LIMIT 1000 OFFSET 1000",
+		    "select * from stub order by id LIMIT 1000 OFFSET 2000"), server.getQueries());
+	    assertEquals(1, server.getRequests("get_table"));
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testTextKeysAreReadAfterTheOffset() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(2500);
+	server.setDatabaseProductName("PostgreSQL");
+	server.setPrimaryKey("stub", "name");
+	ConnectionOptions connectionOptions = new ConnectionOptions();
+	connectionOptions.setPagedExecution(true);
+	connectionOptions.setKeysetPaging(true);
+	AceQLConnection connection = getConnection(server, connectionOptions);
+	try (Statement statement = connection.createStatement()) {
+	    statement.setFetchSize(1000);
+	    try (ResultSet rs = statement.executeQuery("select * from stub order by name")) {
+		assertEquals(2500, readRows(rs));
+	    }
+	    // A text key is read trimmed, and could not be sent back as is
+	    assertEquals(Arrays.asList("select * from stub order by name LIMIT 1000 OFFSET 0",
+		    "select * from stub order by name LIMIT 1000 OFFSET 1000",
+		    "select * from stub order by name LIMIT 1000 OFFSET 2000"), server.getQueries());
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testJoinedQueriesAreReadAfterTheOffset() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(1500);
+	server.setDatabaseProductName("PostgreSQL");
+	server.setPrimaryKey("stub", "id");
+	ConnectionOptions connectionOptions = new ConnectionOptions();
+	connectionOptions.setPagedExecution(true);
+	connectionOptions.setKeysetPaging(true);
+	AceQLConnection connection = getConnection(server, connectionOptions);
+	try (Statement statement = connection.createStatement()) {
+	    statement.setFetchSize(1000);
+	    for (String sql : new String[] { "select s.* from stub s join other o on o.id = s.id order by s.id",
+		    "select * from stub s, other o order by id", "select distinct * from stub order by id",
+		    "select name as id from stub order by id" }) {
+		try (ResultSet rs = statement.executeQuery(sql)) {
+		    assertEquals(1500, readRows(rs));
+		}
+		assertEquals(sql + " LIMIT 1000 OFFSET 1000", server.getQueries().get(server.getQueries().size() - 1));
+	    }
+	    assertEquals(0, server.getRequests("get_table"));
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+}
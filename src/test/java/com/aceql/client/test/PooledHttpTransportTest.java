@@ -0,0 +1,355 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URL;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aceql.client.jdbc.http.PoolStats;
+import com.aceql.client.jdbc.http.PooledHttpTransport;
+import com.aceql.client.jdbc.http.RequestBody;
+import com.aceql.client.jdbc.http.TransportRequest;
+import com.aceql.client.jdbc.http.TransportResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests the connection reuse and the deadlines of {@link PooledHttpTransport}
+ * against a local stub server.
+ */
+public class PooledHttpTransportTest {
+
+    private static final String PROXY_AUTHORIZATION = "Basic "
+	    + Base64.getEncoder().encodeToString("proxy_user:proxy_password".getBytes());
+
+    private HttpServer server;
+    private volatile int proxyChallenges = 0;
+    private PooledHttpTransport transport;
+    private String serverUrl;
+
+    @Before
+    public void setUp() throws IOException {
+	server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+
+	// Echoes the request body, with a fixed length
+	server.createContext("/echo", new HttpHandler() {
+	    @Override
+	    public void handle(HttpExchange exchange) throws IOException {
+		byte[] body = IOUtils.toByteArray(exchange.getRequestBody());
+		byte[] response = ("{\"status\":\"OK\",\"length\":\"" + body.length + "\"}").getBytes("UTF-8");
+		exchange.sendResponseHeaders(200, response.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+		    out.write(response);
+		}
+	    }
+	});
+
+	// Returns a chunked body
+	server.createContext("/chunked", new HttpHandler() {
+	    @Override
+	    public void handle(HttpExchange exchange) throws IOException {
+		exchange.sendResponseHeaders(200, 0);
+		try (OutputStream out = exchange.getResponseBody()) {
+		    for (int i = 0; i < 100; i++) {
+			out.write(("row_" + i + "\n").getBytes("UTF-8"));
+			out.flush();
+		    }
+		}
+	    }
+	});
+
+	// Answers after 5 seconds
+	server.createContext("/slow", new HttpHandler() {
+	    @Override
+	    public void handle(HttpExchange exchange) throws IOException {
+		try {
+		    Thread.sleep(5000);
+		} catch (InterruptedException e) {
+		    // ignore
+		}
+		exchange.sendResponseHeaders(200, -1);
+		exchange.close();
+	    }
+	});
+
+	// Redirects to the echo context
+	server.createContext("/redirect", new HttpHandler() {
+	    @Override
+	    public void handle(HttpExchange exchange) throws IOException {
+		byte[] response = "Moved".getBytes("UTF-8");
+		exchange.getResponseHeaders().set("Location", "/echo");
+		exchange.sendResponseHeaders(302, response.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+		    out.write(response);
+		}
+	    }
+	});
+
+	// Acts as a proxy that requires a Basic authentication
+	server.createContext("/proxied", new HttpHandler() {
+	    @Override
+	    public void handle(HttpExchange exchange) throws IOException {
+		String authorization = exchange.getRequestHeaders().getFirst("Proxy-Authorization");
+		int statusCode = 200;
+		byte[] response = "{\"status\":\"OK\"}".getBytes("UTF-8");
+		if (!PROXY_AUTHORIZATION.equals(authorization)) {
+		    proxyChallenges++;
+		    statusCode = 407;
+		    response = "Proxy Authentication Required".getBytes("UTF-8");
+		    exchange.getResponseHeaders().set("Proxy-Authenticate", "Basic realm=\"aceql\"");
+		}
+		exchange.sendResponseHeaders(statusCode, response.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+		    out.write(response);
+		}
+	    }
+	});
+
+	server.setExecutor(Executors.newCachedThreadPool());
+	server.start();
+	serverUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+	transport = new PooledHttpTransport(10, 2, 30000);
+    }
+
+    @After
+    public void tearDown() {
+	transport.close();
+	server.stop(0);
+    }
+
+    private String call(TransportRequest request) throws IOException {
+	try (TransportResponse response = transport.execute(request)) {
+	    assertEquals(200, response.getStatusCode());
+	    ByteArrayOutputStream out = new ByteArrayOutputStream();
+	    InputStream in = response.getBody();
+	    IOUtils.copy(in, out);
+	    return out.toString("UTF-8");
+	}
+    }
+
+    @Test
+    public void testConnectionIsReused() throws IOException {
+	for (int i = 0; i < 5; i++) {
+	    TransportRequest request = new TransportRequest("GET", new URL(serverUrl + "/echo"));
+	    assertEquals("{\"status\":\"OK\",\"length\":\"0\"}", call(request));
+	}
+
+	PoolStats stats = transport.getStats();
+	assertEquals(5, stats.getRequests());
+	assertEquals(1, stats.getCreated());
+	assertEquals(4, stats.getReused());
+	assertEquals(0, stats.getLeased());
+	assertEquals(1, stats.getIdle());
+    }
+
+    @Test
+    public void testPostAndChunkedBodies() throws IOException {
+	final byte[] content = new byte[100000];
+
+	for (int i = 0; i < 3; i++) {
+	    TransportRequest request = new TransportRequest("POST", new URL(serverUrl + "/echo"));
+
+	    // Unknown length: sent with chunked transfer encoding
+	    request.setBody(new RequestBody() {
+		@Override
+		public String getContentType() {
+		    return "application/octet-stream";
+		}
+
+		@Override
+		public void writeTo(OutputStream out) throws IOException {
+		    out.write(content);
+		}
+	    });
+	    assertEquals("{\"status\":\"OK\",\"length\":\"100000\"}", call(request));
+
+	    request = new TransportRequest("GET", new URL(serverUrl + "/chunked"));
+	    String result = call(request);
+	    assertEquals(true, result.startsWith("row_0\n"));
+	    assertEquals(true, result.endsWith("row_99\n"));
+	}
+
+	PoolStats stats = transport.getStats(new URL(serverUrl));
+	assertEquals(6, stats.getRequests());
+	assertEquals(1, stats.getCreated());
+	assertEquals(5, stats.getReused());
+    }
+
+    @Test
+    public void testRequestTimeout() throws IOException {
+	TransportRequest request = new TransportRequest("GET", new URL(serverUrl + "/slow"));
+	request.setRequestTimeout(300);
+
+	long begin = System.currentTimeMillis();
+	try {
+	    transport.execute(request);
+	    fail("Request timeout expected.");
+	} catch (SocketTimeoutException e) {
+	    long elapsed = System.currentTimeMillis() - begin;
+	    assertTrue("Elapsed: " + elapsed, elapsed < 3000);
+	}
+
+	assertEquals(0, transport.getStats().getLeased());
+
+	request = new TransportRequest("GET", new URL(serverUrl + "/echo"));
+	request.setRequestTimeout(3000);
+	assertEquals("{\"status\":\"OK\",\"length\":\"0\"}", call(request));
+    }
+
+    @Test
+    public void testAbortedResponseIsNotReused() throws IOException {
+	TransportRequest request = new TransportRequest("GET", new URL(serverUrl + "/chunked"));
+	TransportResponse response = transport.execute(request);
+	response.getBody().read();
+	response.abort();
+
+	request = new TransportRequest("GET", new URL(serverUrl + "/echo"));
+	call(request);
+
+	PoolStats stats = transport.getStats();
+	assertEquals(2, stats.getCreated());
+	assertEquals(0, stats.getReused());
+	assertEquals(1, stats.getIdle());
+    }
+
+    @Test
+    public void testDefaultProxySelectorIsHonored() throws IOException {
+	// The stub server is also the HTTP proxy of an unknown host
+	final Proxy proxy = new Proxy(Proxy.Type.HTTP, server.getAddress());
+	ProxySelector defaultProxySelector = ProxySelector.getDefault();
+	ProxySelector.setDefault(new ProxySelector() {
+	    @Override
+	    public List<Proxy> select(URI uri) {
+		return Collections.singletonList(uri.getHost().equals("aceql.example.com") ? proxy : Proxy.NO_PROXY);
+	    }
+
+	    @Override
+	    public void connectFailed(URI uri, SocketAddress sa, IOException ioe) {
+	    }
+	});
+
+	URL url = new URL("http://aceql.example.com/echo");
+	try {
+	    for (int i = 0; i < 2; i++) {
+		assertEquals("{\"status\":\"OK\",\"length\":\"0\"}", call(new TransportRequest("GET", url)));
+	    }
+	} finally {
+	    ProxySelector.setDefault(defaultProxySelector);
+	}
+
+	Map<String, PoolStats> routeStats = transport.getRouteStats();
+	assertEquals(1, routeStats.size());
+	assertTrue(routeStats.toString(), routeStats.keySet().iterator().next().contains(" via "));
+
+	PoolStats stats = transport.getStats(url);
+	assertEquals(2, stats.getRequests());
+	assertEquals(1, stats.getCreated());
+	assertEquals(1, stats.getIdle());
+    }
+
+    @Test
+    public void testRedirectIsFollowedForGet() throws IOException {
+	TransportRequest request = new TransportRequest("GET", new URL(serverUrl + "/redirect"));
+	assertEquals("{\"status\":\"OK\",\"length\":\"0\"}", call(request));
+
+	request = new TransportRequest("POST", new URL(serverUrl + "/redirect"));
+	try (TransportResponse response = transport.execute(request)) {
+	    assertEquals(302, response.getStatusCode());
+	}
+
+	// The redirect response is drained and its connection reused
+	assertEquals(1, transport.getStats().getCreated());
+    }
+
+    @Test
+    public void testProxyAuthenticationUsesDefaultAuthenticator() throws IOException {
+	final AtomicInteger authentications = new AtomicInteger();
+	Authenticator.setDefault(new Authenticator() {
+	    @Override
+	    protected PasswordAuthentication getPasswordAuthentication() {
+		if (getRequestorType() != RequestorType.PROXY || !"aceql".equals(getRequestingPrompt())) {
+		    return null;
+		}
+		authentications.incrementAndGet();
+		return new PasswordAuthentication("proxy_user", "proxy_password".toCharArray());
+	    }
+	});
+
+	// The stub server is also the HTTP proxy of an unknown host
+	Proxy proxy = new Proxy(Proxy.Type.HTTP, server.getAddress());
+	try {
+	    for (int i = 0; i < 2; i++) {
+		TransportRequest request = new TransportRequest("GET", new URL("http://aceql.example.com/proxied"));
+		request.setProxy(proxy);
+		assertEquals("{\"status\":\"OK\"}", call(request));
+	    }
+	} finally {
+	    Authenticator.setDefault(null);
+	}
+
+	// The credentials are then sent preemptively
+	assertEquals(1, authentications.get());
+	assertEquals(1, proxyChallenges);
+    }
+
+    @Test
+    public void testUnusedRoutesAreRemoved() throws IOException {
+	// Connections are not kept idle
+	PooledHttpTransport noIdleTransport = new PooledHttpTransport(10, 2, 0);
+	try {
+	    try (TransportResponse response = noIdleTransport
+		    .execute(new TransportRequest("GET", new URL(serverUrl + "/echo")))) {
+		assertEquals(1, noIdleTransport.getRouteStats().size());
+		IOUtils.toByteArray(response.getBody());
+	    }
+	    assertEquals(0, noIdleTransport.getRouteStats().size());
+	    assertEquals(0, noIdleTransport.getStats().getLeased());
+	} finally {
+	    noIdleTransport.close();
+	}
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.ConnectionOptions;
+
+/**
+ * Tests the rows decoded ahead of the current row on a worker thread.
+ */
+public class PrefetchTest {
+
+    private static AceQLConnection getConnection(AceQLStubServer server, int prefetchRows) throws SQLException {
+	ConnectionOptions connectionOptions = new ConnectionOptions();
+	connectionOptions.setPrefetchRows(prefetchRows);
+	return new AceQLConnection(server.getServerUrl(), "stub_db", "user", "password".toCharArray(), null, null,
+		connectionOptions);
+    }
+
+    private static boolean isPrefetchRunning() {
+	for (Map.Entry<Thread, StackTraceElement[]> entry : Thread.getAllStackTraces().entrySet()) {
+	    for (StackTraceElement element : entry.getValue()) {
+		if (element.getClassName().endsWith("RowPrefetcher")) {
+		    return true;
+		}
+	    }
+	}
+	return false;
+    }
+
+    private static void awaitPrefetchEnd() throws InterruptedException {
+	for (int i = 0; i < 100 && isPrefetchRunning(); i++) {
+	    Thread.sleep(20);
+	}
+	assertFalse("Prefetch worker still running", isPrefetchRunning());
+    }
+
+    @Test
+    public void testScrollableRowsArePrefetched() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(1000);
+	AceQLConnection connection = getConnection(server, 8);
+	try (Statement statement = connection.createStatement();
+		ResultSet rs = statement.executeQuery("select * from stub")) {
+	    for (int i = 1; i <= 500; i++) {
+		assertTrue(rs.next());
+		assertEquals(i, rs.getInt("id"));
+		assertEquals("name_" + i, rs.getString("name"));
+	    }
+
+	    // Scrolling stops the prefetch, and reads from the current row
+	    assertTrue(rs.previous());
+	    assertEquals(499, rs.getInt("id"));
+	    assertTrue(rs.absolute(10));
+	    assertEquals("name_10", rs.getString("name"));
+	    int rows = 10;
+	    while (rs.next()) {
+		rows++;
+		assertEquals(rows, rs.getInt("id"));
+	    }
+	    assertEquals(1000, rows);
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testForwardOnlyRowsArePrefetched() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(1000);
+	AceQLConnection connection = getConnection(server, 4);
+	try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+		ResultSet.CONCUR_READ_ONLY); ResultSet rs = statement.executeQuery("select * from stub")) {
+	    int rows = 0;
+	    while (rs.next()) {
+		rows++;
+		assertEquals(rows, rs.getInt(1));
+		assertEquals("name_" + rows, rs.getString(2));
+	    }
+	    assertEquals(1000, rows);
+	    assertFalse(rs.next());
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testEmptyResultIsPrefetched() throws IOException, SQLException, InterruptedException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(0);
+	AceQLConnection connection = getConnection(server, 4);
+	try {
+	    for (int resultSetType : new int[] { ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.TYPE_FORWARD_ONLY }) {
+		try (Statement statement = connection.createStatement(resultSetType, ResultSet.CONCUR_READ_ONLY);
+			ResultSet rs = statement.executeQuery("select * from stub")) {
+		    assertFalse(rs.next());
+		    assertFalse(rs.next());
+		}
+		awaitPrefetchEnd();
+	    }
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testCloseStopsPrefetch() throws IOException, SQLException, InterruptedException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(1000);
+	AceQLConnection connection = getConnection(server, 2);
+	try {
+	    ResultSet rs;
+	    try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+		    ResultSet.CONCUR_READ_ONLY)) {
+		rs = statement.executeQuery("select * from stub");
+		assertTrue(rs.next());
+		assertEquals(1, rs.getInt("id"));
+	    }
+	    // Closing the statement closes the result set
+	    assertTrue(rs.isClosed());
+	    awaitPrefetchEnd();
+
+	    Statement statement = connection.createStatement();
+	    rs = statement.executeQuery("select * from stub");
+	    assertTrue(rs.next());
+	    rs.close();
+	    awaitPrefetchEnd();
+	    statement.close();
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testPrefetchFailureIsThrownByNext() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	String json = AceQLStubServer.buildQueryResult(3);
+	server.setQueryResult(json.substring(0, json.indexOf("{\"row_2\"") + 12));
+	AceQLConnection connection = getConnection(server, 4);
+	try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+		ResultSet.CONCUR_READ_ONLY); ResultSet rs = statement.executeQuery("select * from stub")) {
+	    assertTrue(rs.next());
+	    assertEquals("name_1", rs.getString("name"));
+	    try {
+		rs.next();
+		fail("Truncated result accepted");
+	    } catch (SQLException e) {
+		// Expected
+	    }
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.AceQLConnectionFactory;
+import com.aceql.client.jdbc.ConnectionOptions;
+
+/**
+ * Tests the routing of read queries to replica servers against local stub
+ * AceQL servers.
+ */
+public class ReadReplicaTest {
+
+    private AceQLStubServer primary;
+    private AceQLStubServer replica;
+    private AceQLConnectionFactory readReplicas;
+    private AceQLConnection connection;
+
+    @Before
+    public void setUp() throws IOException {
+	primary = new AceQLStubServer();
+	replica = new AceQLStubServer();
+    }
+
+    @After
+    public void tearDown() {
+	if (connection != null) {
+	    connection.close();
+	}
+	if (readReplicas != null) {
+	    readReplicas.close();
+	}
+	primary.stop();
+	replica.stop();
+    }
+
+    private void connect(String replicaUrl) throws SQLException {
+	readReplicas = new AceQLConnectionFactory(Arrays.asList(replicaUrl), "stub_db", "user",
+		"password".toCharArray());
+
+	ConnectionOptions connectionOptions = new ConnectionOptions();
+	connectionOptions.setReadReplicas(readReplicas);
+	connection = new AceQLConnection(primary.getServerUrl(), "stub_db", "user", "password".toCharArray(), null,
+		null, connectionOptions);
+    }
+
+    private int executeQuery() throws SQLException {
+	int rows = 0;
+	try (Statement statement = connection.createStatement();
+		ResultSet rs = statement.executeQuery("select * from stub")) {
+	    while (rs.next()) {
+		rows++;
+	    }
+	}
+	return rows;
+    }
+
+    @Test
+    public void testAutoCommitQueriesGoToReplica() throws SQLException {
+	connect(replica.getServerUrl());
+
+	assertEquals(10, executeQuery());
+	assertEquals(10, executeQuery());
+	try (Statement statement = connection.createStatement()) {
+	    statement.executeUpdate("update stub set name = 'x'");
+	}
+
+	assertEquals(2, replica.getRequests("execute_query"));
+	assertEquals(0, primary.getRequests("execute_query"));
+	assertEquals(1, primary.getRequests("execute_update"));
+	assertEquals(0, replica.getRequests("execute_update"));
+    }
+
+    @Test
+    public void testTransactionQueriesStayOnPrimary() throws SQLException {
+	connect(replica.getServerUrl());
+
+	connection.setAutoCommit(false);
+	executeQuery();
+	connection.commit();
+
+	assertEquals(1, primary.getRequests("execute_query"));
+	assertEquals(0, replica.getRequests("execute_query"));
+	assertEquals(0, replica.getRequests("login"));
+    }
+
+    @Test
+    public void testReadOnlyTransactionRunsOnReplica() throws SQLException {
+	connect(replica.getServerUrl());
+
+	connection.setReadOnly(true);
+	connection.setAutoCommit(false);
+	executeQuery();
+	executeQuery();
+	connection.commit();
+
+	assertEquals(2, replica.getRequests("execute_query"));
+	assertEquals(1, replica.getRequests("set_auto_commit"));
+	assertEquals(1, replica.getRequests("commit"));
+	assertEquals(0, primary.getRequests("execute_query"));
+    }
+
+    @Test
+    public void testAutoCommitEndsReplicaTransaction() throws SQLException {
+	connect(replica.getServerUrl());
+
+	connection.setReadOnly(true);
+	connection.setAutoCommit(false);
+	executeQuery();
+	assertEquals(1, replica.getRequests("set_auto_commit"));
+
+	connection.setAutoCommit(true);
+	assertEquals(2, replica.getRequests("set_auto_commit"));
+
+	// The replica session is already in auto-commit mode
+	executeQuery();
+	assertEquals(2, replica.getRequests("set_auto_commit"));
+	assertEquals(2, replica.getRequests("execute_query"));
+    }
+
+    @Test
+    public void testReadWriteEndsReplicaTransaction() throws SQLException {
+	connect(replica.getServerUrl());
+
+	connection.setReadOnly(true);
+	connection.setAutoCommit(false);
+	executeQuery();
+
+	connection.setReadOnly(false);
+	assertEquals(2, replica.getRequests("set_auto_commit"));
+	executeQuery();
+	connection.commit();
+
+	assertEquals(1, replica.getRequests("execute_query"));
+	assertEquals(1, primary.getRequests("execute_query"));
+	assertEquals(0, replica.getRequests("commit"));
+    }
+
+    @Test
+    public void testSessionStateIsCopiedOnceToReplica() throws SQLException {
+	connect(replica.getServerUrl());
+
+	connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+	connection.setHoldability(ResultSet.CLOSE_CURSORS_AT_COMMIT);
+	for (int i = 0; i < 3; i++) {
+	    executeQuery();
+	}
+
+	// The routing reads the auto-commit mode once, without the local
+	// session state option
+	assertEquals(1, primary.getRequests("get_auto_commit"));
+	assertEquals(0, primary.getRequests("is_read_only"));
+
+	assertEquals(3, replica.getRequests("execute_query"));
+	assertEquals(1, replica.getRequests("set_transaction_isolation_level"));
+	assertEquals(1, replica.getRequests("set_holdability"));
+	assertEquals(1, replica.getRequests("set_auto_commit"));
+
+	// Changed once the replica session is opened
+	connection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+	assertEquals(2, replica.getRequests("set_transaction_isolation_level"));
+    }
+
+    @Test
+    public void testUnreachableReplicaFallsBackToPrimary() throws IOException, SQLException {
+	int port;
+	try (ServerSocket serverSocket = new ServerSocket(0)) {
+	    port = serverSocket.getLocalPort();
+	}
+	connect("http://127.0.0.1:" + port + "/aceql");
+
+	assertEquals(10, executeQuery());
+	assertEquals(1, primary.getRequests("execute_query"));
+	assertTrue(readReplicas.getEndpoints().get(0).isEjected());
+    }
+
+}
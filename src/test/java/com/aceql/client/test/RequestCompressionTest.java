@@ -0,0 +1,104 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.ConnectionOptions;
+
+/**
+ * Tests the compression of request bodies against a local stub AceQL server.
+ */
+public class RequestCompressionTest {
+
+    private AceQLStubServer server;
+
+    /** A typical large generated SQL statement */
+    private static final String LARGE_SQL = "insert into orderlog values "
+	    + StringUtils.repeat("(1, 'customer', 'item description', 2500.00, 'NULL', 1),", 2000) + "(0, '', '', 0, '', 0)";
+
+    @Before
+    public void setUp() throws IOException {
+	server = new AceQLStubServer();
+    }
+
+    @After
+    public void tearDown() {
+	server.stop();
+    }
+
+    private AceQLConnection connect(String requestCompression) throws SQLException {
+	ConnectionOptions connectionOptions = new ConnectionOptions();
+	connectionOptions.setRequestCompression(requestCompression);
+	return new AceQLConnection(server.getServerUrl(), "stub_db", "user", "password".toCharArray(), null, null,
+		connectionOptions);
+    }
+
+    private long executeUpdateBytes(AceQLConnection connection, String sql) throws SQLException {
+	long before = server.getRequestBodyBytes();
+	try (Statement statement = connection.createStatement()) {
+	    assertEquals(1, statement.executeUpdate(sql));
+	}
+	return server.getRequestBodyBytes() - before;
+    }
+
+    @Test
+    public void testCompressionReducesRequestBytes() throws Exception {
+	long plainBytes = executeUpdateBytes(connect(null), LARGE_SQL);
+	long gzipBytes = executeUpdateBytes(connect("gzip"), LARGE_SQL);
+	long deflateBytes = executeUpdateBytes(connect("deflate"), LARGE_SQL);
+
+	System.out.println("Request body bytes: plain " + plainBytes + ", gzip " + gzipBytes + ", deflate "
+		+ deflateBytes);
+	assertTrue("gzip: " + gzipBytes + " plain: " + plainBytes, gzipBytes * 10 < plainBytes);
+	assertTrue("deflate: " + deflateBytes + " plain: " + plainBytes, deflateBytes * 10 < plainBytes);
+	assertEquals(2, server.getCompressedRequests());
+    }
+
+    @Test
+    public void testSmallRequestsAreNotCompressed() throws Exception {
+	AceQLConnection connection = connect("gzip");
+	executeUpdateBytes(connection, "update stub set name = 'x'");
+	assertEquals(0, server.getCompressedRequests());
+    }
+
+    @Test
+    public void testRefusedCompressionFallsBack() throws Exception {
+	server.setAcceptCompressedRequests(false);
+	AceQLConnection connection = connect("gzip");
+
+	executeUpdateBytes(connection, LARGE_SQL);
+	executeUpdateBytes(connection, LARGE_SQL);
+
+	// Only the first request was sent compressed
+	assertEquals(1, server.getCompressedRequests());
+    }
+
+}
@@ -3,11 +3,18 @@
  */
 package com.aceql.client.test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.nio.charset.Charset;
 import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
+import org.junit.Test;
 
 import com.aceql.client.jdbc.http.ResultAnalyzer;
 
@@ -17,6 +24,69 @@ import com.aceql.client.jdbc.http.ResultAnalyzer;
  */
 public class ResultAnalyzerTest {
 
+    private static ResultAnalyzer fromStream(String json, int httpStatusCode) throws Exception {
+	return new ResultAnalyzer(new ByteArrayInputStream(json.getBytes("UTF-8")), httpStatusCode, "Status");
+    }
+
+    @Test
+    public void testStatusOk() throws Exception {
+	String json = "{\"status\":\"OK\",\"session_id\":\"s\u00E9\",\"row_count\":12,"
+		+ "\"nested\":{\"a\":[1,{\"b\":2}]},\"list\":[[]],\"result\":\"true\"} trailing";
+
+	for (ResultAnalyzer resultAnalyzer : new ResultAnalyzer[] { new ResultAnalyzer(json, 200, "OK"),
+		fromStream(json, 200) }) {
+	    assertTrue(resultAnalyzer.isStatusOk());
+	    assertEquals("s\u00E9", resultAnalyzer.getValue("session_id"));
+	    assertEquals("true", resultAnalyzer.getResult());
+	    assertEquals(12, resultAnalyzer.getIntvalue("row_count"));
+	    assertEquals(-1, resultAnalyzer.getIntvalue("session_id"));
+	    assertNull(resultAnalyzer.getValue("nested"));
+	    assertNull(resultAnalyzer.getValue("missing"));
+	    assertEquals(-1, resultAnalyzer.getErrorType());
+	    assertNull(resultAnalyzer.getErrorMessage());
+	    assertTrue(resultAnalyzer.getParametersOutPerIndex().isEmpty());
+	}
+    }
+
+    @Test
+    public void testStatusFail() throws Exception {
+	String json = "{\"status\":\"FAIL\",\"error_type\":2,\"error_message\":\"Table not found\","
+		+ "\"stack_trace\":\"at line 1\",\"http_status\":400}";
+	ResultAnalyzer resultAnalyzer = fromStream(json, 400);
+	assertFalse(resultAnalyzer.isStatusOk());
+	assertEquals(2, resultAnalyzer.getErrorType());
+	assertEquals("Table not found", resultAnalyzer.getErrorMessage());
+	assertEquals("at line 1", resultAnalyzer.getStackTrace());
+	assertEquals(400, resultAnalyzer.getHttpStatusCode());
+	assertNull(resultAnalyzer.getJsonResult());
+    }
+
+    @Test
+    public void testInvalidJson() throws Exception {
+	for (String body : new String[] { "", "<html>Bad Gateway</html>", "[1, 2]", "{\"status\":\"OK\", " }) {
+	    ResultAnalyzer resultAnalyzer = fromStream(body, 502);
+	    assertFalse(body, resultAnalyzer.isStatusOk());
+	    assertEquals(0, resultAnalyzer.getErrorType());
+	    assertEquals("HTTP FAILURE 502 (Status)", resultAnalyzer.getErrorMessage());
+	    assertNull(resultAnalyzer.getParametersOutPerIndex());
+	}
+
+	ResultAnalyzer resultAnalyzer = new ResultAnalyzer((String) null, 200, "OK");
+	assertFalse(resultAnalyzer.isStatusOk());
+	assertEquals("Unknown error.", resultAnalyzer.getErrorMessage());
+    }
+
+    @Test
+    public void testParametersOut() throws Exception {
+	String json = "{\"status\":\"OK\",\"parameters_out_per_index\":{\"1\":\"a\",\"3\":\"NULL\"},"
+		+ "\"row_count\":1}";
+	Map<Integer, String> parametersOutPerIndex = fromStream(json, 200).getParametersOutPerIndex();
+	assertEquals(2, parametersOutPerIndex.size());
+	assertEquals("a", parametersOutPerIndex.get(1));
+	assertEquals("NULL", parametersOutPerIndex.get(3));
+	assertEquals(parametersOutPerIndex, new ResultAnalyzer(json, 200, "OK").getParametersOutPerIndex());
+    }
+
     /**
      * @param args
      */
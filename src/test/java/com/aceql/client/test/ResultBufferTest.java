@@ -0,0 +1,240 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+import org.kawanfw.driver.util.FrameworkFileUtil;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.ConnectionOptions;
+import com.aceql.client.jdbc.util.json.ResultBuffer;
+
+/**
+ * Tests the in-memory and spilled result buffers.
+ */
+public class ResultBufferTest {
+
+    private static byte[] newBytes(int length) {
+	byte[] bytes = new byte[length];
+	for (int i = 0; i < length; i++) {
+	    bytes[i] = (byte) i;
+	}
+	return bytes;
+    }
+
+    private static void write(ResultBuffer resultBuffer, byte[] bytes) throws IOException {
+	for (int i = 0; i < bytes.length; i += 1000) {
+	    resultBuffer.write(bytes, i, Math.min(1000, bytes.length - i));
+	}
+	resultBuffer.close();
+    }
+
+    private static byte[] read(ResultBuffer resultBuffer) throws IOException {
+	try (InputStream in = resultBuffer.openInputStream()) {
+	    return IOUtils.toByteArray(in);
+	}
+    }
+
+    @Test
+    public void testSmallResultStaysInMemory() throws IOException {
+	long totalMemory = ResultBuffer.getTotalMemory();
+	byte[] bytes = newBytes(10000);
+
+	ResultBuffer resultBuffer = new ResultBuffer(64 * 1024);
+	write(resultBuffer, bytes);
+
+	assertTrue(resultBuffer.isInMemory());
+	assertNull(resultBuffer.getFile());
+	assertEquals(10000, resultBuffer.length());
+	assertArrayEquals(bytes, read(resultBuffer));
+
+	byte[] part = new byte[100];
+	resultBuffer.readFully(5000, part, 0, 100);
+	assertEquals(bytes[5000], part[0]);
+
+	assertTrue(ResultBuffer.getTotalMemory() > totalMemory);
+	resultBuffer.delete();
+	assertEquals(totalMemory, ResultBuffer.getTotalMemory());
+    }
+
+    @Test
+    public void testLargeResultIsSpilled() throws IOException {
+	long totalMemory = ResultBuffer.getTotalMemory();
+	byte[] bytes = newBytes(100000);
+
+	ResultBuffer resultBuffer = new ResultBuffer(64 * 1024);
+	write(resultBuffer, bytes);
+
+	assertFalse(resultBuffer.isInMemory());
+	File file = resultBuffer.getFile();
+	assertEquals(100000, file.length());
+	assertArrayEquals(bytes, read(resultBuffer));
+	assertEquals(totalMemory, ResultBuffer.getTotalMemory());
+
+	byte[] part = new byte[100];
+	resultBuffer.readFully(99900, part, 0, 100);
+	assertEquals(bytes[99900], part[0]);
+
+	resultBuffer.delete();
+	assertFalse(file.exists());
+    }
+
+    @Test
+    public void testJvmMemoryLimitSpillsResults() throws IOException {
+	long maxTotalMemory = ResultBuffer.getMaxTotalMemory();
+	ResultBuffer.setMaxTotalMemory(ResultBuffer.getTotalMemory() + 20000);
+	try {
+	    ResultBuffer first = new ResultBuffer(64 * 1024);
+	    write(first, newBytes(10000));
+	    ResultBuffer second = new ResultBuffer(64 * 1024);
+	    write(second, newBytes(10000));
+
+	    assertTrue(first.isInMemory());
+	    assertFalse(second.isInMemory());
+	    assertArrayEquals(newBytes(10000), read(second));
+
+	    first.delete();
+	    second.delete();
+	} finally {
+	    ResultBuffer.setMaxTotalMemory(maxTotalMemory);
+	}
+    }
+
+    @Test
+    public void testUnreachableBufferReleasesItsMemory() throws IOException, InterruptedException {
+	long totalMemory = ResultBuffer.getTotalMemory();
+	ResultBuffer resultBuffer = new ResultBuffer(64 * 1024);
+	write(resultBuffer, newBytes(10000));
+	assertTrue(resultBuffer.isInMemory());
+
+	// The buffer is never deleted
+	resultBuffer = null;
+	for (int i = 0; i < 100 && ResultBuffer.getTotalMemory() > totalMemory; i++) {
+	    System.gc();
+	    Thread.sleep(20);
+	}
+	assertTrue(ResultBuffer.getTotalMemory() + " > " + totalMemory, ResultBuffer.getTotalMemory() <= totalMemory);
+    }
+
+    @Test
+    public void testThresholdBoundaryAndEmptyResult() throws IOException {
+	long totalMemory = ResultBuffer.getTotalMemory();
+
+	// A result of exactly the threshold stays in memory
+	ResultBuffer atThreshold = new ResultBuffer(1000);
+	write(atThreshold, newBytes(1000));
+	assertTrue(atThreshold.isInMemory());
+
+	// The bytes already in memory are kept by the spill of a write
+	ResultBuffer aboveThreshold = new ResultBuffer(1000);
+	byte[] bytes = newBytes(1001);
+	aboveThreshold.write(bytes, 0, 600);
+	aboveThreshold.write(bytes, 600, 401);
+	aboveThreshold.close();
+	assertFalse(aboveThreshold.isInMemory());
+	assertArrayEquals(bytes, read(aboveThreshold));
+	assertEquals(1001, aboveThreshold.getByteBuffer().remaining());
+
+	ResultBuffer empty = new ResultBuffer(1000);
+	empty.close();
+	assertEquals(0, empty.length());
+	assertEquals(0, read(empty).length);
+	assertEquals(0, empty.getByteBuffer().remaining());
+	try {
+	    empty.readFully(0, new byte[1], 0, 1);
+	    fail("Read beyond the end of an empty result");
+	} catch (EOFException e) {
+	    // Expected
+	}
+
+	atThreshold.delete();
+	atThreshold.delete();
+	aboveThreshold.delete();
+	empty.delete();
+	assertFalse(atThreshold.exists());
+	assertEquals(totalMemory, ResultBuffer.getTotalMemory());
+	try {
+	    atThreshold.getByteBuffer();
+	    fail("Deleted result read");
+	} catch (IOException e) {
+	    assertEquals("ResultBuffer is deleted.", e.getMessage());
+	}
+    }
+
+    private static int countResultSetFiles() {
+	String[] names = new File(FrameworkFileUtil.getKawansoftTempDir()).list();
+	int count = 0;
+	if (names != null) {
+	    for (String name : names) {
+		if (name.startsWith("pc-result-set-")) {
+		    count++;
+		}
+	    }
+	}
+	return count;
+    }
+
+    @Test
+    public void testQueryResultsAreKeptInMemory() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	try {
+	    ConnectionOptions connectionOptions = new ConnectionOptions();
+	    connectionOptions.setResultMemoryThreshold(0);
+	    AceQLConnection spillingConnection = new AceQLConnection(server.getServerUrl(), "stub_db", "user",
+		    "password".toCharArray(), null, null, connectionOptions);
+	    AceQLConnection connection = new AceQLConnection(server.getServerUrl(), "stub_db", "user",
+		    "password".toCharArray());
+	    int files = countResultSetFiles();
+
+	    try (Statement statement = connection.createStatement();
+		    ResultSet rs = statement.executeQuery("select * from stub")) {
+		assertTrue(rs.last());
+		assertEquals(10, rs.getInt("id"));
+		assertEquals(files, countResultSetFiles());
+	    }
+
+	    try (Statement statement = spillingConnection.createStatement();
+		    ResultSet rs = statement.executeQuery("select * from stub")) {
+		assertTrue(rs.last());
+		assertEquals(10, rs.getInt("id"));
+		assertEquals(files + 1, countResultSetFiles());
+	    }
+	    assertEquals(files, countResultSetFiles());
+	} finally {
+	    server.stop();
+	}
+    }
+
+}
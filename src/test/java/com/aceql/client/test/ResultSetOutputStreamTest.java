@@ -0,0 +1,111 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.aceql.client.jdbc.util.json.ResultBuffer;
+import com.aceql.client.jdbc.util.json.ResultSetOutputStream;
+import com.aceql.client.jdbc.util.json.StreamResultAnalyzer;
+
+/**
+ * Tests the analysis of a result set while it is spooled.
+ */
+public class ResultSetOutputStreamTest {
+
+    /** The analyzers must not read this file */
+    private static final File MISSING_FILE = new File("missing-result-set.txt");
+
+    private static ResultSetOutputStream write(String json) throws IOException {
+	byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+	ResultSetOutputStream out = new ResultSetOutputStream(new ByteArrayOutputStream());
+	for (int i = 0; i < bytes.length; i += 5) {
+	    out.write(bytes, i, Math.min(5, bytes.length - i));
+	}
+	out.close();
+	return out;
+    }
+
+    @Test
+    public void testStatusAndRowCountAreReadWhileWritten() throws IOException, SQLException {
+	String json = AceQLStubServer.buildQueryResult(3);
+	ResultSetOutputStream out = write(json);
+
+	assertTrue(out.isEnded());
+	assertEquals(3, out.getRowOffsetIndex().size());
+
+	StreamResultAnalyzer analyzer = new StreamResultAnalyzer(ResultBuffer.wrap(MISSING_FILE), 200, "OK", out);
+	assertTrue(analyzer.isStatusOk());
+	assertEquals(3, analyzer.getRowCount());
+    }
+
+    @Test
+    public void testErrorIsReadWhileWritten() throws IOException, SQLException {
+	String json = "{\n  \"status\" : \"FAIL\",\n  \"error_type\" : 2,\n"
+		+ "  \"error_message\" : \"Table \\\"orders\\\" not found:\\n\\u00e9t\\u00e9 \u00e9t\u00e9\",\n"
+		+ "  \"stack_trace\" : null,\n  \"http_status\" : 400\n}";
+	ResultSetOutputStream out = write(json);
+
+	StreamResultAnalyzer analyzer = new StreamResultAnalyzer(ResultBuffer.wrap(MISSING_FILE), 400, "Bad Request", out);
+	assertFalse(analyzer.isStatusOk());
+	assertEquals(2, analyzer.getErrorId());
+	assertEquals("Table \"orders\" not found:\n\u00e9t\u00e9 \u00e9t\u00e9", analyzer.getErrorMessage());
+	assertEquals(null, analyzer.getStackTrace());
+    }
+
+    @Test
+    public void testParametersOutAreReadWhileWritten() throws IOException, SQLException {
+	String json = "{\"status\":\"OK\",\"parameters_out_per_index\":{\"2\":\"out_value\",\"3\":\"12\"},"
+		+ "\"column_names\":[\"parameters_out_per_index\"],\"query_rows\":[{\"row_1\":[{\"x\":\"{\\\"1\\\":2}\"}]}],"
+		+ "\"row_count\":1}";
+	ResultSetOutputStream out = write(json);
+
+	StreamResultAnalyzer analyzer = new StreamResultAnalyzer(ResultBuffer.wrap(MISSING_FILE), 200, "OK", out);
+	assertTrue(analyzer.isStatusOk());
+	assertEquals(1, analyzer.getRowCount());
+
+	Map<Integer, String> parametersOut = analyzer.getParametersOutPerIndex();
+	assertEquals(2, parametersOut.size());
+	assertEquals("out_value", parametersOut.get(2));
+	assertEquals("12", parametersOut.get(3));
+    }
+
+    @Test
+    public void testTruncatedResultIsReadFromFile() throws IOException, SQLException {
+	ResultSetOutputStream out = write("{\"status\":\"OK\",\"query_rows\":[");
+	assertFalse(out.isEnded());
+
+	// The file is missing: the analyzer reports the HTTP failure
+	StreamResultAnalyzer analyzer = new StreamResultAnalyzer(ResultBuffer.wrap(MISSING_FILE), 502, "Bad Gateway", out);
+	assertFalse(analyzer.isStatusOk());
+	assertEquals("HTTP FAILURE 502 (Bad Gateway)", analyzer.getErrorMessage());
+    }
+
+}
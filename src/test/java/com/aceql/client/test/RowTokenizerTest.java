@@ -0,0 +1,162 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.SQLException;
+
+import org.junit.Test;
+
+import com.aceql.client.jdbc.util.json.ResultBuffer;
+import com.aceql.client.jdbc.util.json.ResultSetOutputStream;
+import com.aceql.client.jdbc.util.json.RowParser;
+import com.aceql.client.jdbc.util.json.RowTokenizer;
+import com.aceql.client.jdbc.util.json.RowValues;
+
+/**
+ * Tests the tokenizer of the indexed rows against the JSON parser of the
+ * result set file.
+ */
+public class RowTokenizerTest {
+
+    private static final String RESULT = "{\n  \"status\" : \"OK\",\n  \"query_rows\" : [ {\n"
+	    + "    \"row_1\" : [ {\n      \"id\" : 1\n    }, {\n      \"row_2\" : \"  padded \"\n    }, {\n"
+	    + "      \"name\" : \"Caf\\u00e9 \\\"du\\\" \\\\ coin\\n\"\n    }, {\n      \"city\" : \"\u00e9t\u00e9\"\n"
+	    + "    }, {\n      \"flag\" : \"true\"\n    }, {\n      \"note\" : \"NULL\"\n    } ]\n  }, {\n"
+	    + "    \"row_2\" : [ {\n      \"id\" : 2\n    }, {\n      \"row_2\" : \"\"\n    }, {\n"
+	    + "      \"name\" : \"NULL\"\n    }, {\n      \"city\" : \"Paris \\ud83d\\ude00 \\u20ac\\/\"\n    }, {\n"
+	    + "      \"flag\" : \"false\"\n    }, {\n      \"note\" : -12.5E3\n    } ]\n  } ],\n"
+	    + "  \"row_count\" : 2\n}";
+
+    private static ResultSetOutputStream write(ResultBuffer resultBuffer, String json) throws IOException {
+	ResultSetOutputStream out = new ResultSetOutputStream(resultBuffer);
+	out.write(json.getBytes(StandardCharsets.UTF_8));
+	out.close();
+	return out;
+    }
+
+    private static void assertSameRows(ResultBuffer resultBuffer, ResultSetOutputStream out)
+	    throws IOException, SQLException {
+	File file = File.createTempFile("row-tokenizer-test", ".txt");
+	try {
+	    Files.write(file.toPath(), RESULT.getBytes(StandardCharsets.UTF_8));
+	    RowParser jsonParser = new RowParser(file);
+	    RowParser indexedParser = new RowParser(resultBuffer, out.getRowOffsetIndex());
+
+	    for (int rowNum = 1; rowNum <= 2; rowNum++) {
+		assertTrue(indexedParser.isIndexed(rowNum));
+		jsonParser.buildRowNum(rowNum);
+		indexedParser.buildRowNum(rowNum);
+
+		RowValues expected = jsonParser.getRowValues();
+		RowValues values = indexedParser.getRowValues();
+		assertEquals(6, expected.getColumnCount());
+		assertEquals(6, values.getColumnCount());
+		for (int colIndex = 1; colIndex <= 6; colIndex++) {
+		    assertEquals("row " + rowNum + " col " + colIndex, expected.getValue(colIndex),
+			    values.getValue(colIndex));
+		}
+	    }
+	    assertEquals(jsonParser.getIndexsPerColName(), indexedParser.getIndexsPerColName());
+	    jsonParser.close();
+	    indexedParser.close();
+	} finally {
+	    file.delete();
+	}
+    }
+
+    @Test
+    public void testValuesAreThoseOfTheJsonParser() throws IOException, SQLException {
+	ResultBuffer resultBuffer = new ResultBuffer(1024 * 1024);
+	ResultSetOutputStream out = write(resultBuffer, RESULT);
+	assertTrue(resultBuffer.isInMemory());
+
+	assertSameRows(resultBuffer, out);
+
+	RowParser rowParser = new RowParser(resultBuffer, out.getRowOffsetIndex());
+	rowParser.buildRowNum(1);
+	RowValues values = rowParser.getRowValues();
+	assertEquals("1", values.getValue(1));
+	assertEquals("padded", values.getValue(2));
+	assertEquals("Caf\u00e9 \"du\" \\ coin", values.getValue(3));
+	assertEquals("\u00e9t\u00e9", values.getValue(4));
+	assertEquals("true", values.getValue(5));
+	assertEquals("NULL", values.getValue(6));
+	assertNull(values.getValue(7));
+	assertEquals(Integer.valueOf(2), rowParser.getIndexsPerColName().get("row_2"));
+	resultBuffer.delete();
+    }
+
+    @Test
+    public void testSpilledResultIsReadFromTheMappedFile() throws IOException, SQLException {
+	ResultBuffer resultBuffer = new ResultBuffer(0);
+	ResultSetOutputStream out = write(resultBuffer, RESULT);
+	assertFalse(resultBuffer.isInMemory());
+	assertFalse(resultBuffer.getByteBuffer().hasArray());
+
+	assertSameRows(resultBuffer, out);
+	resultBuffer.delete();
+	assertFalse(resultBuffer.exists());
+    }
+
+    @Test
+    public void testValuesAreDecodedOnRequest() throws SQLException {
+	byte[] row = "xx{\"row_7\":[{\"a\":\"x\"},{\"b\":\"\u00e9\"},{\"c\":null},{\"d\":true}]}\"\""
+		.getBytes(StandardCharsets.UTF_8);
+	RowTokenizer rowTokenizer = new RowTokenizer();
+	rowTokenizer.tokenize(ByteBuffer.wrap(row), 2, row.length - 2);
+	assertEquals(4, rowTokenizer.getColumnCount());
+	assertEquals("b", rowTokenizer.getColumnName(2));
+	assertEquals("\u00e9", rowTokenizer.getValue(2));
+	assertEquals("NULL", rowTokenizer.getValue(3));
+	assertEquals("true", rowTokenizer.getValue(4));
+
+	row = "{\"row_8\" : [ ]}".getBytes(StandardCharsets.UTF_8);
+	rowTokenizer.tokenize(ByteBuffer.wrap(row), 0, row.length);
+	assertEquals(0, rowTokenizer.getColumnCount());
+	assertNull(rowTokenizer.getValue(1));
+    }
+
+    @Test
+    public void testInvalidRowThrowsSQLException() {
+	String[] rows = { "{\"row_1\":[{\"a\":\"x\"}", "{\"row_1\":[{\"a\":\"x}]}", "{\"row_1\":[{\"a\":}]}",
+		"[\"row_1\"]" };
+	RowTokenizer rowTokenizer = new RowTokenizer();
+	for (String row : rows) {
+	    byte[] bytes = row.getBytes(StandardCharsets.UTF_8);
+	    try {
+		rowTokenizer.tokenize(ByteBuffer.wrap(bytes), 0, bytes.length);
+		fail("Invalid row accepted: " + row);
+	    } catch (SQLException e) {
+		assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid JSON row"));
+	    }
+	}
+    }
+
+}
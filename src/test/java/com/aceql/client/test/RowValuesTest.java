@@ -0,0 +1,216 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.util.json.ArrayRowValues;
+import com.aceql.client.jdbc.util.json.ColumnIndex;
+import com.aceql.client.jdbc.util.json.ResultBuffer;
+import com.aceql.client.jdbc.util.json.ResultSetOutputStream;
+import com.aceql.client.jdbc.util.json.RowParser;
+import com.aceql.client.jdbc.util.json.RowValues;
+
+/**
+ * Tests the row values reused from one row to the next, and the column label
+ * lookups.
+ */
+public class RowValuesTest {
+
+    private static void readLabels(AceQLConnection connection, int resultSetType) throws SQLException {
+	try (Statement statement = connection.createStatement(resultSetType, ResultSet.CONCUR_READ_ONLY);
+		ResultSet rs = statement.executeQuery("select * from stub")) {
+	    int rows = 0;
+	    while (rs.next()) {
+		rows++;
+		assertEquals(rows, rs.getInt("ID"));
+		assertEquals("name_" + rows, rs.getString("Name"));
+		assertEquals("name_" + rows, rs.getString("name"));
+
+		try {
+		    rs.getString("missing");
+		    fail("Invalid column name accepted");
+		} catch (SQLException e) {
+		    assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid column name"));
+		}
+	    }
+	    assertEquals(3, rows);
+	}
+    }
+
+    @Test
+    public void testColumnLabelsAreCaseInsensitive() throws IOException, SQLException {
+	AceQLStubServer server = new AceQLStubServer();
+	server.setQueryRowCount(3);
+	AceQLConnection connection = new AceQLConnection(server.getServerUrl(), "stub_db", "user",
+		"password".toCharArray());
+	try {
+	    readLabels(connection, ResultSet.TYPE_SCROLL_INSENSITIVE);
+	    readLabels(connection, ResultSet.TYPE_FORWARD_ONLY);
+	} finally {
+	    connection.close();
+	    server.stop();
+	}
+    }
+
+    @Test
+    public void testFirstColumnWinsForDuplicateNames() {
+	ColumnIndex columnIndex = new ColumnIndex(Arrays.asList("id", "name", "ID", "name"));
+	assertEquals(4, columnIndex.getColumnCount());
+	assertEquals(1, columnIndex.indexOf("id"));
+	assertEquals(3, columnIndex.indexOf("ID"));
+	assertEquals(1, columnIndex.indexOf("Id"));
+	assertEquals(2, columnIndex.indexOf("name"));
+	assertEquals(2, columnIndex.indexOf("NAME"));
+	assertEquals(-1, columnIndex.indexOf("missing"));
+	assertEquals(-1, columnIndex.indexOf(null));
+	assertEquals("ID", columnIndex.getColumnName(3));
+	assertEquals(Integer.valueOf(2), columnIndex.getIndexsPerColName().get("name"));
+    }
+
+    @Test
+    public void testRowValuesAreReused() throws IOException, SQLException {
+	String json = AceQLStubServer.buildQueryResult(3);
+
+	ResultBuffer resultBuffer = new ResultBuffer(1024 * 1024);
+	ResultSetOutputStream out = new ResultSetOutputStream(resultBuffer);
+	out.write(json.getBytes(StandardCharsets.UTF_8));
+	out.close();
+
+	File file = File.createTempFile("row-values-test", ".txt");
+	try {
+	    Files.write(file.toPath(), json.getBytes(StandardCharsets.UTF_8));
+	    RowParser[] rowParsers = { new RowParser(resultBuffer, out.getRowOffsetIndex()), new RowParser(file) };
+
+	    for (RowParser rowParser : rowParsers) {
+		rowParser.buildRowNum(1);
+		RowValues rowValues = rowParser.getRowValues();
+		ColumnIndex columnIndex = rowParser.getColumnIndex();
+		for (int rowNum = 2; rowNum <= 3; rowNum++) {
+		    rowParser.buildRowNum(rowNum);
+		    assertSame(rowValues, rowParser.getRowValues());
+		    assertSame(columnIndex, rowParser.getColumnIndex());
+		    assertEquals(2, rowValues.getColumnCount());
+		    assertEquals("name_" + rowNum, rowValues.getValue(columnIndex.indexOf("name")));
+		}
+		rowParser.close();
+	    }
+	} finally {
+	    file.delete();
+	    resultBuffer.delete();
+	}
+    }
+
+    @Test
+    public void testArrayRowValuesAreCleared() {
+	ArrayRowValues rowValues = new ArrayRowValues(2);
+	for (int i = 1; i <= 5; i++) {
+	    rowValues.add("v" + i);
+	}
+	assertEquals(5, rowValues.getColumnCount());
+	assertEquals("v5", rowValues.getValue(5));
+	assertNull(rowValues.getValue(6));
+	assertNull(rowValues.getValue(0));
+
+	rowValues.clear();
+	rowValues.add("w1");
+	assertEquals(1, rowValues.getColumnCount());
+	assertNull(rowValues.getValue(2));
+	assertArrayEquals(new String[] { "w1" }, rowValues.toArray());
+    }
+
+    @Test
+    public void testIndexedAndParsedRowsAgreeOnEdgeValues() throws IOException, SQLException {
+	String json = "{\"status\":\"OK\",\"query_rows\":[{\"row_1\":["
+		+ "{\"na\\u006de\":\"a\\\"b\\\\c\"},{\"empty\":\"\"},{\"missing\":\"NULL\"},"
+		+ "{\"padded\":\"  x  \"},{\"text\":\"caf\u00e9 \\u2603\"}]},{\"row_2\":[]}],\"row_count\":2}";
+	byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+	ResultBuffer resultBuffer = new ResultBuffer(1024 * 1024);
+	ResultSetOutputStream out = new ResultSetOutputStream(resultBuffer);
+	out.write(bytes);
+	out.close();
+
+	File file = File.createTempFile("row-values-test", ".txt");
+	try {
+	    Files.write(file.toPath(), bytes);
+	    RowParser[] rowParsers = { new RowParser(resultBuffer, out.getRowOffsetIndex()), new RowParser(file) };
+
+	    for (RowParser rowParser : rowParsers) {
+		rowParser.buildRowNum(1);
+		RowValues rowValues = rowParser.getRowValues();
+		assertEquals(5, rowValues.getColumnCount());
+		assertEquals("name", rowParser.getColumnIndex().getColumnName(1));
+		assertEquals("a\"b\\c", rowValues.getValue(1));
+		assertEquals("", rowValues.getValue(2));
+		assertTrue(rowValues.isNull(3));
+		assertEquals("x", rowValues.getValue(4));
+		assertEquals("caf\u00e9 \u2603", rowValues.getValue(5));
+
+		// A row without columns
+		rowParser.buildRowNum(2);
+		assertEquals(0, rowParser.getRowValues().getColumnCount());
+		rowParser.close();
+	    }
+	} finally {
+	    file.delete();
+	    resultBuffer.delete();
+	}
+    }
+
+    @Test
+    public void testColumnsNamedLikeRowsAreNotRows() throws IOException, SQLException {
+	// The row values have a "row_3" column
+	String json = AceQLStubServer.buildQueryResult(3).replace("\"name\"", "\"row_3\"");
+
+	File file = File.createTempFile("row-values-test", ".txt");
+	try {
+	    Files.write(file.toPath(), json.getBytes(StandardCharsets.UTF_8));
+	    RowParser rowParser = new RowParser(file);
+	    rowParser.buildRowNum(3);
+	    assertEquals("3", rowParser.getRowValues().getValue(1));
+	    assertEquals("name_3", rowParser.getRowValues().getValue(2));
+
+	    rowParser.resetParser();
+	    rowParser.buildRowNum(2);
+	    assertEquals("2", rowParser.getRowValues().getValue(1));
+	    rowParser.close();
+	} finally {
+	    file.delete();
+	}
+    }
+
+}
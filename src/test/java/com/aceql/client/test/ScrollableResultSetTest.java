@@ -0,0 +1,131 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.util.json.ResultSetOutputStream;
+import com.aceql.client.jdbc.util.json.RowOffsetIndex;
+
+/**
+ * Tests the moves of the scrollable result sets, whose rows are read at their
+ * indexed offset, against a local stub AceQL server.
+ */
+public class ScrollableResultSetTest {
+
+    private AceQLStubServer server;
+    private AceQLConnection connection;
+
+    @Before
+    public void setUp() throws IOException, SQLException {
+	server = new AceQLStubServer();
+	connection = new AceQLConnection(server.getServerUrl(), "stub_db", "user", "password".toCharArray());
+    }
+
+    @After
+    public void tearDown() {
+	connection.close();
+	server.stop();
+    }
+
+    @Test
+    public void testRowsAreIndexedWhileWritten() throws IOException {
+	// Keys, braces and brackets inside values must not be taken as rows
+	String json = "{\"status\":\"OK\",\"column_names\":[\"row_1\"],\"query_rows\":["
+		+ "{\"row_1\":[{\"row_1\":\"{[\\\"x\\\"]}\"}]},\n"
+		+ "{\"row_2\":[{\"row_1\":\"\u00e9t\u00e9\"}]}],\"row_count\":2}";
+	byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+	ResultSetOutputStream out = new ResultSetOutputStream(new ByteArrayOutputStream());
+	for (int i = 0; i < bytes.length; i += 7) {
+	    out.write(bytes, i, Math.min(7, bytes.length - i));
+	}
+	out.close();
+
+	RowOffsetIndex index = out.getRowOffsetIndex();
+	assertEquals(2, index.size());
+	assertTrue(index.contains(2));
+	assertEquals(json.indexOf("{\"row_1\":["), index.getOffset(1));
+	assertEquals('{', bytes[(int) index.getOffset(2)]);
+	String row2 = new String(bytes, (int) index.getOffset(2), index.getLength(2), StandardCharsets.UTF_8);
+	assertEquals("{\"row_2\":[{\"row_1\":\"\u00e9t\u00e9\"}]}", row2);
+    }
+
+    @Test
+    public void testLastAndAbsolute() throws SQLException {
+	server.setQueryRowCount(1000);
+
+	try (Statement statement = connection.createStatement();
+		ResultSet rs = statement.executeQuery("select * from stub")) {
+	    assertTrue(rs.last());
+	    assertEquals(1000, rs.getInt("id"));
+	    assertEquals("name_1000", rs.getString("name"));
+
+	    assertTrue(rs.absolute(500));
+	    assertEquals(500, rs.getInt(1));
+	    assertTrue(rs.first());
+	    assertEquals(1, rs.getInt(1));
+	    assertFalse(rs.absolute(1001));
+	}
+    }
+
+    @Test
+    public void testPreviousFromLastRow() throws SQLException {
+	server.setQueryRowCount(1000);
+
+	try (Statement statement = connection.createStatement();
+		ResultSet rs = statement.executeQuery("select * from stub")) {
+	    assertTrue(rs.last());
+	    int expected = 1000;
+	    while (rs.previous()) {
+		expected--;
+		assertEquals(expected, rs.getInt("id"));
+	    }
+	    assertEquals(1, expected);
+	}
+    }
+
+    @Test
+    public void testNextAfterAbsolute() throws SQLException {
+	try (Statement statement = connection.createStatement();
+		ResultSet rs = statement.executeQuery("select * from stub")) {
+	    assertTrue(rs.absolute(8));
+	    assertTrue(rs.next());
+	    assertEquals(9, rs.getInt("id"));
+	    assertTrue(rs.next());
+	    assertEquals(10, rs.getInt("id"));
+	    assertFalse(rs.next());
+	}
+    }
+
+}
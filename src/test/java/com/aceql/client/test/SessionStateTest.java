@@ -0,0 +1,126 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.ConnectionOptions;
+
+/**
+ * Tests the session properties tracked by the client against a local stub AceQL
+ * server.
+ */
+public class SessionStateTest {
+
+    private AceQLStubServer server;
+
+    @Before
+    public void setUp() throws IOException {
+	server = new AceQLStubServer();
+    }
+
+    @After
+    public void tearDown() {
+	server.stop();
+    }
+
+    private AceQLConnection connect() throws SQLException {
+	ConnectionOptions connectionOptions = new ConnectionOptions();
+	connectionOptions.setLocalSessionState(true);
+	return new AceQLConnection(server.getServerUrl(), "stub_db", "user", "password".toCharArray(), null, null,
+		connectionOptions);
+    }
+
+    @Test
+    public void testGettersAreAnsweredLocally() throws SQLException {
+	AceQLConnection connection = connect();
+
+	for (int i = 0; i < 10; i++) {
+	    assertTrue(connection.getAutoCommit());
+	    assertFalse(connection.isReadOnly());
+	    assertEquals(ResultSet.HOLD_CURSORS_OVER_COMMIT, connection.getHoldability());
+	    assertEquals(Connection.TRANSACTION_READ_COMMITTED, connection.getTransactionIsolation());
+	}
+
+	assertEquals(1, server.getRequests("get_auto_commit"));
+	assertEquals(1, server.getRequests("is_read_only"));
+	assertEquals(1, server.getRequests("get_holdability"));
+	assertEquals(1, server.getRequests("get_transaction_isolation_level"));
+    }
+
+    @Test
+    public void testUnchangedSettersAreSkipped() throws SQLException {
+	AceQLConnection connection = connect();
+
+	for (int i = 0; i < 5; i++) {
+	    connection.setAutoCommit(false);
+	    assertFalse(connection.getAutoCommit());
+	    connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+	    assertEquals(Connection.TRANSACTION_SERIALIZABLE, connection.getTransactionIsolation());
+	    connection.setAutoCommit(true);
+	    connection.setAutoCommit(true);
+	}
+
+	assertEquals(10, server.getRequests("set_auto_commit"));
+	assertEquals(1, server.getRequests("set_transaction_isolation_level"));
+	assertEquals(0, server.getRequests("get_auto_commit"));
+	assertEquals(0, server.getRequests("get_transaction_isolation_level"));
+    }
+
+    @Test
+    public void testResync() throws SQLException {
+	AceQLConnection connection = connect();
+	assertTrue(connection.getAutoCommit());
+
+	// Changed on the server, as with a SQL statement
+	server.setSessionProperty("auto_commit", "false");
+	assertTrue(connection.getAutoCommit());
+
+	connection.resyncSessionState();
+	assertFalse(connection.getAutoCommit());
+	assertEquals(2, server.getRequests("get_auto_commit"));
+    }
+
+    @Test
+    public void testDisabledByDefault() throws SQLException {
+	assertFalse(new ConnectionOptions().isLocalSessionState());
+
+	AceQLConnection connection = new AceQLConnection(server.getServerUrl(), "stub_db", "user",
+		"password".toCharArray(), null, null, new ConnectionOptions());
+	for (int i = 0; i < 3; i++) {
+	    connection.setReadOnly(true);
+	    assertTrue(connection.isReadOnly());
+	}
+	assertEquals(3, server.getRequests("set_read_only"));
+	assertEquals(3, server.getRequests("is_read_only"));
+    }
+
+}
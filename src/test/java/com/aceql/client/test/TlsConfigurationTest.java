@@ -0,0 +1,220 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.security.KeyStore;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.aceql.client.jdbc.http.HttpTransport;
+import com.aceql.client.jdbc.http.PooledHttpTransport;
+import com.aceql.client.jdbc.http.TlsConfiguration;
+import com.aceql.client.jdbc.http.TransportRequest;
+import com.aceql.client.jdbc.http.TransportResponse;
+import com.aceql.client.jdbc.http.UrlConnectionTransport;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+/**
+ * Tests {@link TlsConfiguration} against a local https server with a self-signed
+ * certificate created by keytool.
+ */
+public class TlsConfigurationTest {
+
+    private static final char[] PASSWORD = "changeit".toCharArray();
+
+    private static File directory;
+    private static HttpsServer server;
+    private static KeyStore keyStore;
+    private static String serverUrl;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+	directory = File.createTempFile("aceql_tls_", "");
+	directory.delete();
+	directory.mkdirs();
+
+	File keyStoreFile = new File(directory, "server.p12");
+	File keytool = new File(System.getProperty("java.home"), "bin" + File.separator + "keytool");
+	Assume.assumeTrue(keytool.exists() || new File(keytool + ".exe").exists());
+
+	Process process = new ProcessBuilder(keytool.getPath(), "-genkeypair", "-alias", "server", "-keyalg", "RSA",
+		"-keysize", "2048", "-validity", "1", "-dname", "CN=127.0.0.1", "-ext", "SAN=ip:127.0.0.1",
+		"-storetype", "PKCS12", "-keystore", keyStoreFile.getPath(), "-storepass", new String(PASSWORD),
+		"-keypass", new String(PASSWORD)).redirectErrorStream(true).start();
+	IOUtils.toByteArray(process.getInputStream());
+	Assume.assumeTrue(process.waitFor() == 0);
+
+	keyStore = KeyStore.getInstance("PKCS12");
+	try (InputStream in = new FileInputStream(keyStoreFile)) {
+	    keyStore.load(in, PASSWORD);
+	}
+
+	KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+	keyManagerFactory.init(keyStore, PASSWORD);
+	SSLContext serverContext = SSLContext.getInstance("TLS");
+	serverContext.init(keyManagerFactory.getKeyManagers(), null, null);
+
+	server = HttpsServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+	server.setHttpsConfigurator(new HttpsConfigurator(serverContext));
+	server.createContext("/aceql", new HttpHandler() {
+	    @Override
+	    public void handle(HttpExchange exchange) throws IOException {
+		IOUtils.toByteArray(exchange.getRequestBody());
+		byte[] response = "{\"status\":\"OK\"}".getBytes("UTF-8");
+		exchange.sendResponseHeaders(200, response.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+		    out.write(response);
+		}
+	    }
+	});
+	server.start();
+	serverUrl = "https://127.0.0.1:" + server.getAddress().getPort() + "/aceql";
+    }
+
+    @AfterClass
+    public static void tearDown() throws IOException {
+	if (server != null) {
+	    server.stop(0);
+	}
+	FileUtils.deleteDirectory(directory);
+    }
+
+    private static SSLContext newTrustingContext() throws Exception {
+	TrustManagerFactory trustManagerFactory = TrustManagerFactory
+		.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+	trustManagerFactory.init(keyStore);
+	SSLContext sslContext = SSLContext.getInstance("TLS");
+	sslContext.init(null, trustManagerFactory.getTrustManagers(), null);
+	return sslContext;
+    }
+
+    private static void call(HttpTransport transport, String url, TlsConfiguration tlsConfiguration)
+	    throws IOException {
+	TransportRequest request = new TransportRequest("GET", new URL(url));
+	request.setTlsConfiguration(tlsConfiguration);
+	request.setConnectTimeout(10000);
+	request.setReadTimeout(10000);
+	try (TransportResponse response = transport.execute(request)) {
+	    assertEquals(200, response.getStatusCode());
+	    assertEquals("{\"status\":\"OK\"}", IOUtils.toString(response.getBody(), "UTF-8"));
+	}
+    }
+
+    private static void waitForHandshakes(TlsConfiguration tlsConfiguration, long expected)
+	    throws InterruptedException {
+	// Handshakes are counted by a listener that runs on its own thread
+	for (int i = 0; i < 100 && tlsConfiguration.getHandshakes() < expected; i++) {
+	    Thread.sleep(50);
+	}
+    }
+
+    @Test
+    public void testSessionsAreResumed() throws Exception {
+	TlsConfiguration tlsConfiguration = new TlsConfiguration();
+	tlsConfiguration.setSslContext(newTrustingContext());
+	tlsConfiguration.setSessionCacheSize(100);
+	tlsConfiguration.setSessionTimeout(600);
+
+	// A new pool per call, so that each call opens a new connection
+	for (int i = 0; i < 3; i++) {
+	    PooledHttpTransport transport = new PooledHttpTransport();
+	    call(transport, serverUrl, tlsConfiguration);
+	    transport.close();
+	}
+	call(new UrlConnectionTransport(), serverUrl, tlsConfiguration);
+
+	waitForHandshakes(tlsConfiguration, 4);
+	assertEquals(4, tlsConfiguration.getHandshakes());
+	assertEquals(1, tlsConfiguration.getFullHandshakes());
+	assertEquals(100, tlsConfiguration.getSslContext().getClientSessionContext().getSessionCacheSize());
+    }
+
+    @Test
+    public void testPooledConnectionsAreReused() throws Exception {
+	TlsConfiguration tlsConfiguration = new TlsConfiguration();
+	tlsConfiguration.setSslContext(newTrustingContext());
+
+	PooledHttpTransport transport = new PooledHttpTransport();
+	for (int i = 0; i < 5; i++) {
+	    call(transport, serverUrl, tlsConfiguration);
+	}
+	transport.close();
+
+	waitForHandshakes(tlsConfiguration, 1);
+	Thread.sleep(100);
+	assertEquals(1, tlsConfiguration.getHandshakes());
+    }
+
+    @Test
+    public void testEnabledProtocolsAndFreeze() throws Exception {
+	TlsConfiguration tlsConfiguration = new TlsConfiguration();
+	tlsConfiguration.setEnabledProtocols(new String[] { "TLSv1.2" });
+
+	SSLSocket socket = (SSLSocket) tlsConfiguration.getSslSocketFactory().createSocket();
+	assertArrayEquals(new String[] { "TLSv1.2" }, socket.getEnabledProtocols());
+	socket.close();
+
+	try {
+	    tlsConfiguration.setEnabledProtocols(null);
+	    fail("IllegalStateException expected.");
+	} catch (IllegalStateException e) {
+	    assertTrue(e.getMessage().contains("in use"));
+	}
+    }
+
+    @Test
+    public void testUntrustedCertificateIsRejected() throws Exception {
+	TlsConfiguration tlsConfiguration = new TlsConfiguration();
+	PooledHttpTransport transport = new PooledHttpTransport();
+	try {
+	    call(transport, serverUrl, tlsConfiguration);
+	    fail("SSLException expected.");
+	} catch (IOException e) {
+	    assertTrue(e.toString(), e instanceof javax.net.ssl.SSLException);
+	} finally {
+	    transport.close();
+	}
+    }
+
+}
@@ -0,0 +1,229 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.util.json.RowTokenizer;
+
+/**
+ * Tests the typed getters of the result sets, read from the bytes of the
+ * spooled rows and from the rows of the HTTP response.
+ */
+public class TypedGettersTest {
+
+    private static final long MILLIS = 1589290953123L;
+
+    private static final String RESULT = "{\"status\":\"OK\",\"query_rows\":[{\"row_1\":["
+	    + "{\"big\":\"9007199254740993\"},{\"small\":\" -42 \"},{\"price\":\"-12.50\"},"
+	    + "{\"ratio\":\"6.02214076E23\"},{\"created\":\"" + MILLIS + "\"},{\"active\":\"TRUE\"},"
+	    + "{\"missing\":\"NULL\"},{\"label\":\"caf\\u00e9\"},{\"huge\":\"3000000000\"}]}],\"row_count\":1}";
+
+    private AceQLStubServer server;
+    private AceQLConnection connection;
+
+    @Before
+    public void setUp() throws IOException, SQLException {
+	server = new AceQLStubServer();
+	server.setQueryResult(RESULT);
+	connection = new AceQLConnection(server.getServerUrl(), "stub_db", "user", "password".toCharArray());
+    }
+
+    @After
+    public void tearDown() {
+	connection.close();
+	server.stop();
+    }
+
+    private void checkTypedValues(int resultSetType) throws SQLException {
+	try (Statement statement = connection.createStatement(resultSetType, ResultSet.CONCUR_READ_ONLY);
+		ResultSet rs = statement.executeQuery("select * from typed")) {
+	    assertTrue(rs.next());
+
+	    assertEquals(9007199254740993L, rs.getLong("big"));
+	    assertEquals(-42, rs.getInt("small"));
+	    assertEquals(-42, rs.getShort(2));
+	    assertEquals(-42, rs.getByte(2));
+	    assertEquals(-42L, rs.getLong(2));
+	    assertFalse(rs.wasNull());
+
+	    assertEquals(-12.5, rs.getDouble("price"), 0);
+	    assertEquals(-12.5f, rs.getFloat("price"), 0);
+	    assertEquals(new BigDecimal("-12.50"), rs.getBigDecimal("price"));
+	    assertEquals(6.02214076E23, rs.getDouble("ratio"), 0);
+
+	    assertEquals(new Date(MILLIS), rs.getDate("created"));
+	    assertEquals(new Time(MILLIS), rs.getTime("created"));
+	    assertEquals(new Timestamp(MILLIS), rs.getTimestamp("created"));
+	    assertTrue(rs.getBoolean("active"));
+
+	    assertEquals(0L, rs.getLong("missing"));
+	    assertTrue(rs.wasNull());
+	    assertNull(rs.getTime("missing"));
+	    assertNull(rs.getObject("missing", Long.class));
+	    assertFalse(rs.getBoolean("missing"));
+
+	    assertEquals("caf\u00e9", rs.getObject("label"));
+	    assertEquals(3000000000L, rs.getLong("huge"));
+	    try {
+		rs.getInt("huge");
+		fail("Integer overflow accepted");
+	    } catch (SQLException e) {
+		assertEquals("Not an Integer value: 3000000000", e.getMessage());
+	    }
+	    try {
+		rs.getDouble("label");
+		fail("Text accepted as a double");
+	    } catch (SQLException e) {
+		assertEquals("Not a Double value: caf\u00e9", e.getMessage());
+	    }
+	}
+    }
+
+    @Test
+    public void testTypedGettersOfSpooledRows() throws SQLException {
+	checkTypedValues(ResultSet.TYPE_SCROLL_INSENSITIVE);
+    }
+
+    @Test
+    public void testTypedGettersOfForwardOnlyRows() throws SQLException {
+	checkTypedValues(ResultSet.TYPE_FORWARD_ONLY);
+    }
+
+    @Test
+    public void testObjectsOfJavaTypes() throws SQLException {
+	try (Statement statement = connection.createStatement();
+		ResultSet rs = statement.executeQuery("select * from typed")) {
+	    assertTrue(rs.next());
+
+	    Instant instant = Instant.ofEpochMilli(MILLIS);
+	    assertEquals(instant, rs.getObject("created", Instant.class));
+	    assertEquals(instant.atZone(ZoneId.systemDefault()).toLocalDate(),
+		    rs.getObject("created", LocalDate.class));
+	    assertEquals(new Timestamp(MILLIS).toLocalDateTime(), rs.getObject("created", LocalDateTime.class));
+	    assertEquals(new java.util.Date(MILLIS), rs.getObject("created", java.util.Date.class));
+	    assertEquals(Long.valueOf(9007199254740993L), rs.getObject(1, Long.class));
+	    assertEquals(Integer.valueOf(-42), rs.getObject(2, Integer.class));
+	    assertEquals(Boolean.TRUE, rs.getObject("active", Boolean.class));
+	    assertEquals("-12.50", rs.getObject("price", String.class));
+
+	    try {
+		rs.getObject("price", StringBuilder.class);
+		fail("Unsupported type accepted");
+	    } catch (SQLFeatureNotSupportedException e) {
+		assertTrue(e.getMessage(), e.getMessage().contains("StringBuilder"));
+	    }
+	}
+    }
+
+    private static final String TYPED_RESULT = "{\"status\":\"OK\","
+	    + "\"column_types\":[\"INTEGER\",\"BIGINT\",\"NUMERIC\",\"DOUBLE_PRECISION\",\"TIMESTAMP\",\"BIT\",\"VARCHAR\",\"INTEGER\"],"
+	    + "\"query_rows\":[{\"row_1\":[{\"id\":\"7\"},{\"big\":\"9007199254740993\"},{\"price\":\"-12.50\"},"
+	    + "{\"ratio\":\"0.5\"},{\"created\":\"" + MILLIS + "\"},{\"active\":\"true\"},{\"label\":\"42\"},"
+	    + "{\"missing\":\"NULL\"}]}],\"row_count\":1}";
+
+    @Test
+    public void testObjectsOfColumnTypes() throws SQLException {
+	server.setQueryResult(TYPED_RESULT);
+	for (int resultSetType : new int[] { ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.TYPE_FORWARD_ONLY }) {
+	    try (Statement statement = connection.createStatement(resultSetType, ResultSet.CONCUR_READ_ONLY);
+		    ResultSet rs = statement.executeQuery("select * from typed")) {
+		assertTrue(rs.next());
+		assertEquals(Integer.valueOf(7), rs.getObject("id"));
+		assertEquals(Long.valueOf(9007199254740993L), rs.getObject("big"));
+		assertEquals(new BigDecimal("-12.50"), rs.getObject("price"));
+		assertEquals(Double.valueOf(0.5), rs.getObject("ratio"));
+		assertEquals(new Timestamp(MILLIS), rs.getObject("created"));
+		assertEquals(Boolean.TRUE, rs.getObject("active"));
+		assertEquals("42", rs.getObject("label"));
+		assertNull(rs.getObject("missing"));
+		assertTrue(rs.wasNull());
+	    }
+	}
+    }
+
+    @Test
+    public void testNumbersReadFromBytesAreThoseOfTheParsers() throws SQLException {
+	Random random = new Random(42);
+	RowTokenizer rowTokenizer = new RowTokenizer();
+
+	for (int i = 0; i < 20000; i++) {
+	    String number;
+	    switch (i % 4) {
+	    case 0:
+		number = Long.toString(random.nextLong() >> random.nextInt(64));
+		break;
+	    case 1:
+		number = BigDecimal.valueOf(random.nextLong() % 1000000000000000L, random.nextInt(16))
+			.toPlainString();
+		break;
+	    case 2:
+		number = BigDecimal.valueOf(random.nextInt(10000000) - 5000000, random.nextInt(8)).toPlainString();
+		break;
+	    default:
+		number = Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+		break;
+	    }
+
+	    byte[] row = ("{\"row_1\":[{\"n\":\"" + number + "\"}]}").getBytes(StandardCharsets.UTF_8);
+	    rowTokenizer.tokenize(ByteBuffer.wrap(row), 0, row.length);
+
+	    assertEquals(number, Double.doubleToLongBits(Double.parseDouble(number)),
+		    Double.doubleToLongBits(rowTokenizer.getDouble(1)));
+	    assertEquals(number, Float.floatToIntBits(Float.parseFloat(number)),
+		    Float.floatToIntBits(rowTokenizer.getFloat(1)));
+	    if (i % 4 == 0) {
+		assertEquals(Long.parseLong(number), rowTokenizer.getLong(1));
+	    } else {
+		try {
+		    assertEquals(Long.parseLong(number), rowTokenizer.getLong(1));
+		} catch (NumberFormatException e) {
+		    // As Long.parseLong
+		}
+	    }
+	}
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aceql.client.jdbc.AceQLConnection;
+import com.aceql.client.jdbc.AceQLException;
+import com.aceql.client.jdbc.AceQLRowPublisher;
+import com.aceql.client.jdbc.AceQLRowStream;
+import com.aceql.client.jdbc.Row;
+
+/**
+ * Tests {@link AceQLRowStream} and {@link AceQLRowPublisher} against a local
+ * stub AceQL server.
+ */
+public class AceQLRowPublisherTest {
+
+    private AceQLStubServer server;
+    private AceQLConnection connection;
+
+    @Before
+    public void setUp() throws IOException, SQLException {
+	server = new AceQLStubServer();
+	connection = new AceQLConnection(server.getServerUrl(), "stub_db", "user", "password".toCharArray());
+    }
+
+    @After
+    public void tearDown() {
+	server.stop();
+    }
+
+    @Test
+    public void testRowStream() throws Exception {
+	server.setQueryRowCount(1000);
+	try (AceQLRowStream rowStream = new AceQLRowStream(connection, "select * from stub")) {
+	    int rows = 0;
+	    Row row;
+	    while ((row = rowStream.next()) != null) {
+		rows++;
+		assertEquals(rows, row.getRowNum());
+		assertEquals("" + rows, row.getString(1));
+		assertEquals("name_" + rows, row.getString("name"));
+	    }
+	    assertEquals(1000, rows);
+	    assertEquals(1000, rowStream.getRowCount());
+	    assertTrue(rowStream.isClosed());
+	}
+    }
+
+    @Test
+    public void testDemandIsHonored() throws Exception {
+	server.setQueryRowCount(10);
+	TestSubscriber subscriber = new TestSubscriber();
+	new AceQLRowPublisher(connection, "select * from stub").subscribe(subscriber);
+
+	subscriber.subscription.request(2);
+	subscriber.awaitRows(2);
+	Thread.sleep(200);
+	assertEquals(2, subscriber.rows.size());
+
+	subscriber.subscription.request(3);
+	subscriber.awaitRows(5);
+	Thread.sleep(200);
+	assertEquals(5, subscriber.rows.size());
+	assertFalse(subscriber.completed);
+
+	subscriber.subscription.request(Long.MAX_VALUE);
+	assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+	assertTrue(subscriber.completed);
+	assertNull(subscriber.error);
+	assertEquals(10, subscriber.rows.size());
+	for (int i = 0; i < 10; i++) {
+	    assertEquals("name_" + (i + 1), subscriber.rows.get(i).getString("name"));
+	}
+    }
+
+    @Test
+    public void testCancelAbortsDownload() throws Exception {
+	server.setQueryRowCount(200000);
+	TestSubscriber subscriber = new TestSubscriber();
+	new AceQLRowPublisher(connection, "select * from stub").subscribe(subscriber);
+
+	subscriber.subscription.request(10);
+	subscriber.awaitRows(10);
+	subscriber.subscription.cancel();
+	Thread.sleep(200);
+
+	assertEquals(10, subscriber.rows.size());
+	assertFalse(subscriber.completed);
+	assertNull(subscriber.error);
+
+	// The session is still usable
+	try (Statement statement = connection.createStatement()) {
+	    assertEquals(1, statement.executeUpdate("update stub set name = 'x'"));
+	}
+    }
+
+    @Test
+    public void testErrorIsSignalled() throws Exception {
+	TestSubscriber subscriber = new TestSubscriber();
+	new AceQLRowPublisher(connection, "select fail from stub").subscribe(subscriber);
+	subscriber.subscription.request(1);
+
+	assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+	assertTrue(String.valueOf(subscriber.error), subscriber.error instanceof AceQLException);
+	assertTrue(subscriber.error.getMessage().contains("Stub failure"));
+	assertEquals(0, subscriber.rows.size());
+    }
+
+    @Test
+    public void testInvalidRequestIsSignalled() throws Exception {
+	TestSubscriber subscriber = new TestSubscriber();
+	new AceQLRowPublisher(connection, "select * from stub").subscribe(subscriber);
+	subscriber.subscription.request(0);
+
+	assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+	assertTrue(String.valueOf(subscriber.error), subscriber.error instanceof IllegalArgumentException);
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<Row> {
+
+	private final List<Row> rows = new CopyOnWriteArrayList<Row>();
+	private final CountDownLatch terminated = new CountDownLatch(1);
+	private volatile Flow.Subscription subscription;
+	private volatile boolean completed = false;
+	private volatile Throwable error = null;
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+	    this.subscription = subscription;
+	}
+
+	@Override
+	public void onNext(Row row) {
+	    rows.add(row);
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+	    error = throwable;
+	    terminated.countDown();
+	}
+
+	@Override
+	public void onComplete() {
+	    completed = true;
+	    terminated.countDown();
+	}
+
+	void awaitRows(int count) throws InterruptedException {
+	    long end = System.currentTimeMillis() + 10000;
+	    while (rows.size() < count && System.currentTimeMillis() < end) {
+		Thread.sleep(10);
+	    }
+	    assertEquals(count, rows.size());
+	}
+    }
+
+}
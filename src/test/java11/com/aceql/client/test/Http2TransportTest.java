@@ -0,0 +1,176 @@
+/*
+ * This file is part of AceQL Client SDK.
+ * AceQL Client SDK: Remote JDBC access over HTTP with AceQL HTTP.
+ * Copyright (C) 2020,  KawanSoft SAS
+ * (http://www.kawansoft.com). All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.aceql.client.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aceql.client.jdbc.http.Http2Transport;
+import com.aceql.client.jdbc.http.RequestBody;
+import com.aceql.client.jdbc.http.TransportRequest;
+import com.aceql.client.jdbc.http.TransportResponse;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests {@link Http2Transport} against a local stub server. The stub server
+ * only speaks HTTP/1.1, so the tests check the request and response handling,
+ * not the multiplexing.
+ */
+public class Http2TransportTest {
+
+    private HttpServer server;
+    private Http2Transport transport;
+    private String serverUrl;
+
+    @Before
+    public void setUp() throws IOException {
+	server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+
+	// Echoes the request body length
+	server.createContext("/echo", exchange -> {
+	    byte[] body = IOUtils.toByteArray(exchange.getRequestBody());
+	    byte[] response = ("{\"status\":\"OK\",\"length\":\"" + body.length + "\"}").getBytes("UTF-8");
+	    exchange.sendResponseHeaders(200, response.length);
+	    try (OutputStream out = exchange.getResponseBody()) {
+		out.write(response);
+	    }
+	});
+
+	// Answers after 5 seconds
+	server.createContext("/slow", exchange -> {
+	    try {
+		Thread.sleep(5000);
+	    } catch (InterruptedException e) {
+		// ignore
+	    }
+	    exchange.sendResponseHeaders(200, -1);
+	    exchange.close();
+	});
+
+	server.setExecutor(Executors.newCachedThreadPool());
+	server.start();
+	serverUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+	transport = new Http2Transport();
+    }
+
+    @After
+    public void tearDown() {
+	transport.close();
+	server.stop(0);
+    }
+
+    private String call(TransportRequest request) throws IOException {
+	try (TransportResponse response = transport.execute(request)) {
+	    assertEquals(200, response.getStatusCode());
+	    ByteArrayOutputStream out = new ByteArrayOutputStream();
+	    IOUtils.copy(response.getBody(), out);
+	    return out.toString("UTF-8");
+	}
+    }
+
+    private static RequestBody newBody(final int length, final boolean knownLength) {
+	return new RequestBody() {
+	    @Override
+	    public String getContentType() {
+		return "application/octet-stream";
+	    }
+
+	    @Override
+	    public long getContentLength() {
+		return knownLength ? length : -1;
+	    }
+
+	    @Override
+	    public void writeTo(OutputStream out) throws IOException {
+		out.write(new byte[length]);
+	    }
+	};
+    }
+
+    @Test
+    public void testGetAndPost() throws IOException {
+	TransportRequest request = new TransportRequest("GET", new URL(serverUrl + "/echo"));
+	assertEquals("{\"status\":\"OK\",\"length\":\"0\"}", call(request));
+
+	request = new TransportRequest("POST", new URL(serverUrl + "/echo"));
+	request.setBody(newBody(1000, true));
+	assertEquals("{\"status\":\"OK\",\"length\":\"1000\"}", call(request));
+
+	// Unknown length: streamed through the body pipe
+	request = new TransportRequest("POST", new URL(serverUrl + "/echo"));
+	request.setBody(newBody(500000, false));
+	assertEquals("{\"status\":\"OK\",\"length\":\"500000\"}", call(request));
+    }
+
+    @Test
+    public void testConcurrentRequests() throws Exception {
+	ExecutorService executor = Executors.newFixedThreadPool(8);
+	try {
+	    List<Future<String>> results = new ArrayList<>();
+	    for (int i = 0; i < 32; i++) {
+		final int length = i * 100;
+		results.add(executor.submit(() -> {
+		    TransportRequest request = new TransportRequest("POST", new URL(serverUrl + "/echo"));
+		    request.setBody(newBody(length, length % 200 == 0));
+		    return call(request);
+		}));
+	    }
+
+	    for (int i = 0; i < 32; i++) {
+		assertEquals("{\"status\":\"OK\",\"length\":\"" + (i * 100) + "\"}", results.get(i).get());
+	    }
+	} finally {
+	    executor.shutdown();
+	}
+    }
+
+    @Test
+    public void testRequestTimeout() throws IOException {
+	TransportRequest request = new TransportRequest("GET", new URL(serverUrl + "/slow"));
+	request.setRequestTimeout(300);
+
+	long begin = System.currentTimeMillis();
+	try {
+	    transport.execute(request);
+	    fail("Request timeout expected.");
+	} catch (SocketTimeoutException e) {
+	    long elapsed = System.currentTimeMillis() - begin;
+	    assertTrue("Elapsed: " + elapsed, elapsed < 3000);
+	}
+    }
+
+}